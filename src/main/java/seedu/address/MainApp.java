@@ -3,10 +3,13 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -16,6 +19,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ConcurrentModel;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -45,6 +49,15 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
+
+    // Runs the commands entered in the UI and the changes made through the HTTP API one at a time, so that they never
+    // interleave, away from the JavaFX application thread
+    protected final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Override
     public void init() throws Exception {
@@ -61,10 +74,21 @@ public class MainApp extends Application {
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        if (config.getApiPort() > 0) {
+            // Requests to the API change the model holding its lock, so that they are never seen half done
+            model = new ConcurrentModel(model);
+        }
 
         logic = new LogicManager(model, storage);
+        try {
+            logic.archivePastAppointments();
+        } catch (IOException e) {
+            logger.warning("Past appointments could not be archived or saved: " + e);
+        }
+
+        apiServer = initApiServer(config, logic, model);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, commandExecutor);
     }
 
     /**
@@ -90,7 +114,25 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model initialModel = new ModelManager(initialData, userPrefs);
+        initialModel.setAppointmentArchive(storage.getAppointmentArchive());
+        return initialModel;
+    }
+
+    /**
+     * Returns an {@code ApiServer} for {@code model} listening on the port in {@code config}, or null if the HTTP API
+     * is turned off or the port could not be listened on.
+     */
+    private ApiServer initApiServer(Config config, Logic logic, Model model) {
+        if (config.getApiPort() <= 0) {
+            return null;
+        }
+        try {
+            return new ApiServer(logic, (ConcurrentModel) model, commandExecutor, config.getApiPort());
+        } catch (IOException e) {
+            logger.warning("HTTP API could not listen on port " + config.getApiPort() + ", and is turned off: " + e);
+            return null;
+        }
     }
 
     private void initLogging(Config config) {
@@ -172,11 +214,18 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ClientSquare " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (apiServer != null) {
+            apiServer.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        commandExecutor.shutdownNow();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,21 @@
+package seedu.address.api;
+
+/**
+ * Represents a request to the HTTP API that could not be carried out, and the HTTP status telling the client why.
+ */
+public class ApiException extends Exception {
+
+    private final int status;
+
+    /**
+     * Creates an {@code ApiException} answering the request with {@code status} and {@code message}.
+     */
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,320 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonLookup;
+import seedu.address.storage.JsonAdaptedAppointment;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * Carries out a single request to the HTTP API against the model.
+ * Persons and appointments are sent and received in the same JSON form as in the data file. Persons are identified by
+ * their ID, and appointments by their datetime, seller and buyer.
+ * <ul>
+ *     <li>{@code GET /api/persons[?keywords=...]} lists the persons, or those matching any of the keywords.</li>
+ *     <li>{@code POST /api/persons} adds the person in the body.</li>
+ *     <li>{@code PUT /api/persons/ID} replaces the details of the person with the ID by those in the body.</li>
+ *     <li>{@code DELETE /api/persons/ID} deletes the person with the ID, and their appointments.</li>
+ *     <li>{@code GET /api/appointments[?keywords=...]} lists the appointments, or those matching any of the
+ *     keywords.</li>
+ *     <li>{@code POST /api/appointments} adds the appointment in the body.</li>
+ *     <li>{@code PUT /api/appointments} replaces the appointment {@code target} in the body by
+ *     {@code appointment}.</li>
+ *     <li>{@code DELETE /api/appointments} deletes the appointment in the body.</li>
+ * </ul>
+ */
+public class ApiRequestHandler {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String APPOINTMENTS_PATH = "/api/appointments";
+
+    public static final String MESSAGE_UNKNOWN_PATH = "There is nothing at %1$s";
+    public static final String MESSAGE_UNSUPPORTED_METHOD = "%1$s is not supported on %2$s";
+    public static final String MESSAGE_MISSING_BODY = "The request must have a JSON body";
+    public static final String MESSAGE_INVALID_BODY = "The request body is not valid: %1$s";
+    public static final String MESSAGE_INVALID_PERSON_ID = "%1$s is not a valid person ID";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "There is no person with ID %1$s";
+    public static final String MESSAGE_APPOINTMENT_NOT_FOUND = "There is no such appointment";
+    public static final String MESSAGE_MISSING_SELLER = "An appointment must have a sellerId";
+
+    private final Model model;
+
+    /**
+     * Creates a handler carrying out requests against {@code model}.
+     */
+    public ApiRequestHandler(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Carries out the request with HTTP {@code method} on {@code pathAndQuery}, e.g. {@code /api/persons?keywords=a},
+     * and with JSON {@code body}, which may be null.
+     * Requests listing persons or appointments read them from {@code source}, while changes are made to the model.
+     * The caller must hold whatever lock the model needs for a change while a request that is not a {@code GET} is
+     * carried out, and commit the changes afterwards.
+     */
+    public ApiResponse handle(String method, String pathAndQuery, JsonNode body, ReadOnlyAddressBook source) {
+        requireNonNull(method);
+        requireNonNull(pathAndQuery);
+        requireNonNull(source);
+        try {
+            URI uri = URI.create(pathAndQuery);
+            return route(method, uri.getPath(), parseQuery(uri.getRawQuery()), body, source);
+        } catch (ApiException e) {
+            return ApiResponse.error(e.getStatus(), e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error(ApiResponse.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private ApiResponse route(String method, String path, Map<String, String> query, JsonNode body,
+            ReadOnlyAddressBook source) throws ApiException {
+        if (path.equals(PERSONS_PATH)) {
+            switch (method) {
+            case "GET":
+                return listPersons(query, source);
+            case "POST":
+                return addPerson(body);
+            default:
+                throw unsupported(method, path);
+            }
+        }
+        if (path.startsWith(PERSONS_PATH + "/")) {
+            PersonId id = parsePersonId(path.substring(PERSONS_PATH.length() + 1));
+            switch (method) {
+            case "PUT":
+                return editPerson(id, body);
+            case "DELETE":
+                return deletePerson(id);
+            default:
+                throw unsupported(method, path);
+            }
+        }
+        if (path.equals(APPOINTMENTS_PATH)) {
+            switch (method) {
+            case "GET":
+                return listAppointments(query, source);
+            case "POST":
+                return addAppointment(body);
+            case "PUT":
+                return editAppointment(body);
+            case "DELETE":
+                return deleteAppointment(body);
+            default:
+                throw unsupported(method, path);
+            }
+        }
+        throw new ApiException(ApiResponse.NOT_FOUND, String.format(MESSAGE_UNKNOWN_PATH, path));
+    }
+
+    //=========== Persons ====================================================================================
+
+    private ApiResponse listPersons(Map<String, String> query, ReadOnlyAddressBook source) {
+        Predicate<Person> predicate = getKeywords(query)
+                .<Predicate<Person>>map(PersonContainsKeywordsPredicate::new)
+                .orElse(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return new ApiResponse(ApiResponse.OK, source.getPersonList().stream()
+                .filter(predicate)
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+    }
+
+    private ApiResponse addPerson(JsonNode body) throws ApiException {
+        Person toAdd = toPerson(body);
+        if (model.hasPerson(toAdd) || model.findPerson(toAdd.getId()).isPresent()) {
+            throw new ApiException(ApiResponse.CONFLICT, Messages.MESSAGE_DUPLICATE_PERSON);
+        }
+        model.addPerson(toAdd);
+        return new ApiResponse(ApiResponse.CREATED, new JsonAdaptedPerson(toAdd));
+    }
+
+    private ApiResponse editPerson(PersonId id, JsonNode body) throws ApiException {
+        Person personToEdit = findPerson(id);
+        Person editedPerson = toPerson(body);
+        if (!personToEdit.hasSameIdentifier(editedPerson) && model.hasPerson(editedPerson)) {
+            throw new ApiException(ApiResponse.CONFLICT, Messages.MESSAGE_DUPLICATE_PERSON);
+        }
+        model.setPerson(personToEdit, editedPerson);
+        return new ApiResponse(ApiResponse.OK, new JsonAdaptedPerson(findPerson(id)));
+    }
+
+    private ApiResponse deletePerson(PersonId id) throws ApiException {
+        Person personToDelete = findPerson(id);
+        model.deletePerson(personToDelete);
+        return new ApiResponse(ApiResponse.OK, new JsonAdaptedPerson(personToDelete));
+    }
+
+    private Person findPerson(PersonId id) throws ApiException {
+        return model.findPerson(id).orElseThrow(() ->
+                new ApiException(ApiResponse.NOT_FOUND, String.format(MESSAGE_PERSON_NOT_FOUND, id)));
+    }
+
+    private static Person toPerson(JsonNode body) throws ApiException {
+        try {
+            return read(body, JsonAdaptedPerson.class).toModelType();
+        } catch (IllegalValueException e) {
+            throw new ApiException(ApiResponse.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static PersonId parsePersonId(String value) throws ApiException {
+        try {
+            long id = Long.parseLong(value);
+            if (PersonId.isValidId(id)) {
+                return PersonId.lookup(id);
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new ApiException(ApiResponse.BAD_REQUEST, String.format(MESSAGE_INVALID_PERSON_ID, value));
+    }
+
+    //=========== Appointments ===============================================================================
+
+    private ApiResponse listAppointments(Map<String, String> query, ReadOnlyAddressBook source) {
+        // The appointments are matched against the persons as the snapshot has them, not as the model has them now
+        PersonLookup personLookup = source.getPersonLookup();
+        Predicate<Appointment> predicate = getKeywords(query)
+                .map(AppointmentContainsKeywordsPredicate::new)
+                .<Predicate<Appointment>>map(matcher -> appointment -> matcher.test(appointment, personLookup))
+                .orElse(Model.PREDICATE_SHOW_ALL_APPOINTMENTS);
+        return new ApiResponse(ApiResponse.OK, source.getAppointmentList().stream()
+                .filter(predicate)
+                .map(JsonAdaptedAppointment::new)
+                .collect(Collectors.toList()));
+    }
+
+    private ApiResponse addAppointment(JsonNode body) throws ApiException {
+        Appointment toAdd = toAppointment(requireBody(body));
+        checkCanBeAdded(toAdd, null);
+        model.addAppointment(toAdd);
+        return new ApiResponse(ApiResponse.CREATED, new JsonAdaptedAppointment(toAdd));
+    }
+
+    private ApiResponse editAppointment(JsonNode body) throws ApiException {
+        Appointment target = findAppointment(toAppointment(requireBody(body).get("target")));
+        Appointment editedAppointment = toAppointment(body.get("appointment"));
+        checkCanBeAdded(editedAppointment, target);
+        model.setAppointment(target, editedAppointment);
+        return new ApiResponse(ApiResponse.OK, new JsonAdaptedAppointment(editedAppointment));
+    }
+
+    private ApiResponse deleteAppointment(JsonNode body) throws ApiException {
+        Appointment target = findAppointment(toAppointment(requireBody(body)));
+        model.deleteAppointment(target);
+        return new ApiResponse(ApiResponse.OK, new JsonAdaptedAppointment(target));
+    }
+
+    /**
+     * Checks that {@code appointment} may take the place of {@code replaced}, or be added if {@code replaced} is
+     * null, as the {@code ap} and {@code eap} commands do.
+     */
+    private void checkCanBeAdded(Appointment appointment, Appointment replaced) throws ApiException {
+        if (!appointment.equals(replaced) && model.hasAppointment(appointment)) {
+            throw new ApiException(ApiResponse.CONFLICT, Messages.MESSAGE_DUPLICATE_APPOINTMENT);
+        }
+        Optional<Appointment> conflict = model.findConflictingAppointments(appointment).stream()
+                .filter(other -> !other.equals(replaced))
+                .findFirst();
+        if (conflict.isPresent()) {
+            throw new ApiException(ApiResponse.CONFLICT,
+                    String.format(Messages.MESSAGE_CONFLICTING_APPOINTMENT, Messages.format(conflict.get())));
+        }
+    }
+
+    private Appointment findAppointment(Appointment appointment) throws ApiException {
+        if (!model.hasAppointment(appointment)) {
+            throw new ApiException(ApiResponse.NOT_FOUND, MESSAGE_APPOINTMENT_NOT_FOUND);
+        }
+        return appointment;
+    }
+
+    private Appointment toAppointment(JsonNode body) throws ApiException {
+        JsonAdaptedAppointment adaptedAppointment = read(body, JsonAdaptedAppointment.class);
+        if (adaptedAppointment.getSellerId() == null) {
+            throw new ApiException(ApiResponse.BAD_REQUEST, MESSAGE_MISSING_SELLER);
+        }
+        Person seller = findPerson(parsePersonId(String.valueOf(adaptedAppointment.getSellerId())));
+        Person buyer = adaptedAppointment.getBuyerId() == null
+                ? null
+                : findPerson(parsePersonId(String.valueOf(adaptedAppointment.getBuyerId())));
+        if (buyer != null && seller.hasSameIdentifier(buyer)) {
+            throw new ApiException(ApiResponse.BAD_REQUEST, Messages.MESSAGE_SAME_SELLER_BUYER);
+        }
+        try {
+            return adaptedAppointment.toModelType(seller, buyer);
+        } catch (IllegalValueException e) {
+            throw new ApiException(ApiResponse.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    //=========== Requests ===================================================================================
+
+    private static JsonNode requireBody(JsonNode body) throws ApiException {
+        if (body == null || body.isNull() || body.isMissingNode()) {
+            throw new ApiException(ApiResponse.BAD_REQUEST, MESSAGE_MISSING_BODY);
+        }
+        return body;
+    }
+
+    private static <T> T read(JsonNode body, Class<T> bodyClass) throws ApiException {
+        try {
+            return JsonUtil.fromJsonNode(requireBody(body), bodyClass);
+        } catch (IOException e) {
+            throw new ApiException(ApiResponse.BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, e.getMessage()));
+        }
+    }
+
+    private static ApiException unsupported(String method, String path) {
+        return new ApiException(ApiResponse.METHOD_NOT_ALLOWED, String.format(MESSAGE_UNSUPPORTED_METHOD, method,
+                path));
+    }
+
+    /**
+     * Returns the keywords of the {@code keywords} query parameter, if there are any.
+     */
+    private static Optional<List<String>> getKeywords(Map<String, String> query) {
+        return Optional.ofNullable(query.get("keywords"))
+                .map(String::trim)
+                .filter(keywords -> !keywords.isEmpty())
+                .map(keywords -> Arrays.asList(keywords.split("\\s+")));
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            query.put(URLDecoder.decode(nameAndValue[0], StandardCharsets.UTF_8),
+                    nameAndValue.length == 1 ? "" : URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+}
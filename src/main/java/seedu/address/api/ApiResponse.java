@@ -0,0 +1,82 @@
+package seedu.address.api;
+
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The answer to a request to the HTTP API: an HTTP status, and a body that is written out as JSON.
+ */
+public class ApiResponse {
+
+    public static final int OK = 200;
+    public static final int CREATED = 201;
+    public static final int BAD_REQUEST = 400;
+    public static final int NOT_FOUND = 404;
+    public static final int METHOD_NOT_ALLOWED = 405;
+    public static final int CONFLICT = 409;
+    public static final int INTERNAL_ERROR = 500;
+
+    private final int status;
+    private final Object body;
+
+    /**
+     * Creates a response with {@code status} and {@code body}, which Jackson must be able to write out.
+     */
+    public ApiResponse(int status, Object body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    /**
+     * Returns a response telling the client that its request failed with {@code status} because of {@code message}.
+     */
+    public static ApiResponse error(int status, String message) {
+        return new ApiResponse(status, Map.of("error", message));
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    /**
+     * Returns true if the request was carried out.
+     */
+    public boolean isSuccessful() {
+        return status < BAD_REQUEST;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApiResponse)) {
+            return false;
+        }
+
+        ApiResponse otherResponse = (ApiResponse) other;
+        return status == otherResponse.status
+                && Objects.equals(body, otherResponse.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(status, body);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("status", status)
+                .add("body", body)
+                .toString();
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConflictException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ConcurrentModel;
+
+/**
+ * An HTTP server on the local machine through which other programs can search and change the address book, e.g. to
+ * keep it in step with a CRM, while the app is open.
+ * Requests are described in {@link ApiRequestHandler}. Many of them can also be sent at once by posting to
+ * {@code /api/batch} a JSON array of {@code {"method", "path", "body"}} objects; they are carried out in order as one
+ * change, which is saved once and undone by a single {@code undo}, and a JSON array of their responses is returned.
+ * A request in a batch failing does not stop the others.
+ * Requests are handled by a fixed pool of threads. Connections are kept open between requests, so a client sending
+ * many requests need not connect for each one.
+ * Changes are carried out and saved by an executor given to the server, which must be the one that runs the commands
+ * entered in the UI, so that a change never interleaves with a command; reads stay on the threads of the pool.
+ */
+public class ApiServer {
+
+    public static final String BATCH_PATH = "/api/batch";
+    public static final int THREAD_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final Logic logic;
+    private final ConcurrentModel model;
+    private final Executor changeExecutor;
+    private final ApiRequestHandler requestHandler;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a server for {@code model} that listens on {@code port} of the local machine, or on any free port if
+     * {@code port} is 0, carries out changes with {@code changeExecutor} and saves them through {@code logic}.
+     * The server does not accept requests until it is {@link #start() started}.
+     *
+     * @throws IOException if the port could not be listened on.
+     */
+    public ApiServer(Logic logic, ConcurrentModel model, Executor changeExecutor, int port) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(model);
+        requireNonNull(changeExecutor);
+        this.logic = logic;
+        this.model = model;
+        this.changeExecutor = changeExecutor;
+        requestHandler = new ApiRequestHandler(model);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "api-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/api", this::handleExchange);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("HTTP API listening on " + getAddress());
+    }
+
+    /**
+     * Stops accepting requests, giving those in progress a moment to finish.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private void handleExchange(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String pathAndQuery = exchange.getRequestURI().toString();
+        ApiResponse response;
+        try {
+            JsonNode body = readBody(exchange.getRequestBody());
+            response = handle(method, pathAndQuery, body);
+        } catch (IOException e) {
+            response = ApiResponse.error(ApiResponse.BAD_REQUEST,
+                    String.format(ApiRequestHandler.MESSAGE_INVALID_BODY, e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Unexpected error while handling " + method + " " + pathAndQuery, e);
+            response = ApiResponse.error(ApiResponse.INTERNAL_ERROR, e.toString());
+        }
+        writeResponse(exchange, response);
+    }
+
+    /**
+     * Carries out the request, or the batch of requests, with HTTP {@code method} on {@code pathAndQuery} and with
+     * {@code body}, saving any changes made.
+     */
+    ApiResponse handle(String method, String pathAndQuery, JsonNode body) {
+        boolean isBatch = pathAndQuery.equals(BATCH_PATH);
+        if (isBatch && !method.equals("POST")) {
+            return ApiResponse.error(ApiResponse.METHOD_NOT_ALLOWED,
+                    String.format(ApiRequestHandler.MESSAGE_UNSUPPORTED_METHOD, method, BATCH_PATH));
+        }
+        if (!isBatch && method.equals("GET")) {
+            // Reads the published snapshot, so it neither waits for changes nor holds them up
+            return requestHandler.handle(method, pathAndQuery, body, model.getAddressBookSnapshot());
+        }
+
+        return CompletableFuture.supplyAsync(() -> changeAndSave(isBatch, method, pathAndQuery, body),
+                changeExecutor).join();
+    }
+
+    private ApiResponse changeAndSave(boolean isBatch, String method, String pathAndQuery, JsonNode body) {
+        ApiResponse response = change(isBatch, method, pathAndQuery, body);
+        try {
+            logic.saveAddressBook();
+        } catch (DataConflictException e) {
+            return ApiResponse.error(ApiResponse.CONFLICT, e.getMessage());
+        } catch (IOException e) {
+            logger.warning("Changes made through the HTTP API could not be saved: " + e);
+            return ApiResponse.error(ApiResponse.INTERNAL_ERROR,
+                    String.format(LogicManager.FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+        return response;
+    }
+
+    private ApiResponse change(boolean isBatch, String method, String pathAndQuery, JsonNode body) {
+        Lock writeLock = model.getLock().writeLock();
+        writeLock.lock();
+        try {
+            ApiResponse response = isBatch
+                    ? handleBatch(body)
+                    : requestHandler.handle(method, pathAndQuery, body, model.getAddressBook());
+            model.commitAddressBook();
+            return response;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private ApiResponse handleBatch(JsonNode body) {
+        if (body == null || !body.isArray()) {
+            return ApiResponse.error(ApiResponse.BAD_REQUEST, ApiRequestHandler.MESSAGE_MISSING_BODY);
+        }
+        List<ApiResponse> responses = new ArrayList<>(body.size());
+        for (JsonNode operationNode : body) {
+            responses.add(handleBatchOperation(operationNode));
+        }
+        logger.fine("Carried out a batch of " + responses.size() + " request(s) through the HTTP API");
+        return new ApiResponse(ApiResponse.OK, responses);
+    }
+
+    private ApiResponse handleBatchOperation(JsonNode operationNode) {
+        JsonApiOperation operation;
+        try {
+            operation = JsonUtil.fromJsonNode(operationNode, JsonApiOperation.class);
+        } catch (IOException e) {
+            return ApiResponse.error(ApiResponse.BAD_REQUEST,
+                    String.format(ApiRequestHandler.MESSAGE_INVALID_BODY, e.getMessage()));
+        }
+        if (operation.getMethod() == null || operation.getPath() == null) {
+            return ApiResponse.error(ApiResponse.BAD_REQUEST, String.format(ApiRequestHandler.MESSAGE_INVALID_BODY,
+                    "a batched request must have a method and a path"));
+        }
+        if (operation.getPath().startsWith(BATCH_PATH)) {
+            return ApiResponse.error(ApiResponse.BAD_REQUEST, String.format(ApiRequestHandler.MESSAGE_INVALID_BODY,
+                    "batches cannot be nested"));
+        }
+        // Reads the address book as the earlier requests in the batch left it
+        return requestHandler.handle(operation.getMethod(), operation.getPath(), operation.getBody(),
+                model.getAddressBook());
+    }
+
+    private static JsonNode readBody(InputStream requestBody) throws IOException {
+        try (InputStream in = requestBody) {
+            byte[] bytes = in.readAllBytes();
+            return bytes.length == 0
+                    ? null
+                    : JsonUtil.fromJsonString(new String(bytes, StandardCharsets.UTF_8), JsonNode.class);
+        }
+    }
+
+    private static void writeResponse(HttpExchange exchange, ApiResponse response) throws IOException {
+        byte[] bytes = JsonUtil.toJsonLine(response.getBody()).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        // A known length lets the connection be kept open for the next request
+        exchange.sendResponseHeaders(response.getStatus(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
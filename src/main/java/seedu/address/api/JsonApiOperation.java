@@ -0,0 +1,38 @@
+package seedu.address.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Jackson-friendly version of one of the requests sent together in a batch to the HTTP API.
+ */
+class JsonApiOperation {
+
+    private final String method;
+    private final String path;
+    private final JsonNode body;
+
+    /**
+     * Constructs a {@code JsonApiOperation} with the HTTP method, path and body of the request.
+     */
+    @JsonCreator
+    public JsonApiOperation(@JsonProperty("method") String method, @JsonProperty("path") String path,
+            @JsonProperty("body") JsonNode body) {
+        this.method = method;
+        this.path = path;
+        this.body = body;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public JsonNode getBody() {
+        return body;
+    }
+}
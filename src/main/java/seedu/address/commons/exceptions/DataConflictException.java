@@ -0,0 +1,15 @@
+package seedu.address.commons.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Signals that some changes could not be saved, as others sharing the data file had changed the same data.
+ */
+public class DataConflictException extends IOException {
+    /**
+     * @param message should contain relevant information on the changes that could not be saved
+     */
+    public DataConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,262 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A compressed (radix) trie of words that answers "which words start with this prefix" in time proportional to
+ * the length of the prefix and the number of completions asked for, independent of how many words it holds.
+ * Words are matched case-insensitively and completions are returned in alphabetical order, in the case they were
+ * first added in. A word can be added several times (e.g. a tag used by many persons) and stays in the trie until it
+ * has been removed as many times.
+ */
+public class CompletionTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node("");
+
+    /**
+     * Adds one occurrence of {@code word} to the trie.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        String key = toKey(word);
+        Node node = root;
+        int matched = 0;
+        while (true) {
+            node.wordsBelow++;
+            if (matched == key.length()) {
+                if (node.count++ == 0) {
+                    node.word = word;
+                }
+                return;
+            }
+
+            int childIndex = node.findChild(key.charAt(matched));
+            if (childIndex < 0) {
+                Node leaf = new Node(key.substring(matched));
+                leaf.word = word;
+                leaf.count = 1;
+                leaf.wordsBelow = 1;
+                node.insertChild(-childIndex - 1, leaf);
+                return;
+            }
+
+            Node child = node.children[childIndex];
+            int common = commonPrefixLength(child.label, key, matched);
+            if (common < child.label.length()) {
+                // Split the edge so that the word ends at, or branches off from, the new middle node
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[] {child};
+                middle.wordsBelow = child.wordsBelow;
+                node.children[childIndex] = middle;
+                child = middle;
+            }
+            node = child;
+            matched += common;
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code word} from the trie.
+     *
+     * @return true if the trie contained {@code word}.
+     */
+    public boolean remove(String word) {
+        requireNonNull(word);
+        return remove(root, toKey(word), 0);
+    }
+
+    private boolean remove(Node node, String key, int matched) {
+        if (matched == key.length()) {
+            if (node.count == 0) {
+                return false;
+            }
+            if (--node.count == 0) {
+                node.word = null;
+            }
+            node.wordsBelow--;
+            return true;
+        }
+
+        int childIndex = node.findChild(key.charAt(matched));
+        if (childIndex < 0) {
+            return false;
+        }
+        Node child = node.children[childIndex];
+        if (!key.startsWith(child.label, matched) || !remove(child, key, matched + child.label.length())) {
+            return false;
+        }
+
+        node.wordsBelow--;
+        if (child.wordsBelow == 0) {
+            node.removeChild(childIndex);
+        } else if (child.count == 0 && child.children.length == 1) {
+            // Merge the child with its only child, as no word ends at it any more
+            Node grandchild = child.children[0];
+            grandchild.label = child.label + grandchild.label;
+            node.children[childIndex] = grandchild;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the trie contains {@code word}.
+     */
+    public boolean contains(String word) {
+        requireNonNull(word);
+        String key = toKey(word);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int childIndex = node.findChild(key.charAt(matched));
+            if (childIndex < 0) {
+                return false;
+            }
+            node = node.children[childIndex];
+            if (!key.startsWith(node.label, matched)) {
+                return false;
+            }
+            matched += node.label.length();
+        }
+        return node.count > 0;
+    }
+
+    /**
+     * Returns up to {@code limit} words in the trie that start with {@code prefix} (ignoring case),
+     * in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "Limit should not be negative");
+        List<String> completions = new ArrayList<>(Math.min(limit, 16));
+        Node node = findNode(toKey(prefix));
+        if (node != null) {
+            collectWords(node, limit, completions);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the number of words in the trie, counting each occurrence.
+     */
+    public int size() {
+        return root.wordsBelow;
+    }
+
+    /**
+     * Returns the highest node whose path from the root starts with {@code key}, or null if no word starts with it.
+     */
+    private Node findNode(String key) {
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int childIndex = node.findChild(key.charAt(matched));
+            if (childIndex < 0) {
+                return null;
+            }
+            node = node.children[childIndex];
+            int common = commonPrefixLength(node.label, key, matched);
+            if (matched + common == key.length()) {
+                return node;
+            }
+            if (common < node.label.length()) {
+                return null;
+            }
+            matched += common;
+        }
+        return node;
+    }
+
+    private static void collectWords(Node node, int limit, List<String> completions) {
+        if (completions.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            completions.add(node.word);
+        }
+        for (Node child : node.children) {
+            if (completions.size() >= limit) {
+                return;
+            }
+            collectWords(child, limit, completions);
+        }
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and {@code key} from {@code keyStart}.
+     */
+    private static int commonPrefixLength(String label, String key, int keyStart) {
+        int maxLength = Math.min(label.length(), key.length() - keyStart);
+        int length = 0;
+        while (length < maxLength && label.charAt(length) == key.charAt(keyStart + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A node of the trie, standing for the key spelt by the labels on the path to it.
+     * Children are kept sorted by the first character of their labels, which are all different.
+     */
+    private static class Node {
+        private String label;
+        private Node[] children = NO_CHILDREN;
+
+        // The word ending at this node, as it was first added, and how many times it has been added
+        private String word;
+        private int count;
+
+        // Number of words ending at this node or below it, counting each occurrence
+        private int wordsBelow;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with {@code c}, or {@code -(insertion point) - 1}.
+         */
+        int findChild(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            children = newChildren;
+        }
+
+        void removeChild(int index) {
+            Node[] newChildren = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+    }
+}
@@ -0,0 +1,519 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative integers, compressed in the manner of a Roaring bitmap.
+ * The integers are split into chunks of 65536 by their high 16 bits. A chunk holding few integers keeps their low
+ * 16 bits in a sorted array, and a chunk holding many keeps a bitmap of 65536 bits, so a set takes at most about two
+ * bytes per integer and at most a bit per integer in its range. Intersections, unions and differences work a chunk at
+ * a time, on whole 64-bit words where both chunks are bitmaps.
+ */
+public class CompressedBitmap {
+
+    // A chunk with more integers than this is kept as a bitmap, which then takes less space than an array
+    private static final int MAX_ARRAY_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private int[] keys = new int[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public CompressedBitmap() {}
+
+    /**
+     * Creates a bitmap holding the same integers as {@code toBeCopied}.
+     */
+    public CompressedBitmap(CompressedBitmap toBeCopied) {
+        keys = Arrays.copyOf(toBeCopied.keys, toBeCopied.chunkCount);
+        chunks = new Chunk[toBeCopied.chunkCount];
+        chunkCount = toBeCopied.chunkCount;
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i] = toBeCopied.chunks[i].copy();
+        }
+    }
+
+    /**
+     * Adds {@code value} to the set.
+     */
+    public void add(int value) {
+        checkArgument(value >= 0, "Values should not be negative");
+        int key = value >>> 16;
+        int index = findChunk(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new ArrayChunk());
+        }
+        chunks[index] = chunks[index].add((char) value);
+    }
+
+    /**
+     * Removes {@code value} from the set.
+     */
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int index = findChunk(value >>> 16);
+        if (index < 0) {
+            return;
+        }
+        chunks[index] = chunks[index].remove((char) value);
+        if (chunks[index].cardinality() == 0) {
+            removeChunk(index);
+        }
+    }
+
+    /**
+     * Returns true if the set holds {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = findChunk(value >>> 16);
+        return index >= 0 && chunks[index].contains((char) value);
+    }
+
+    /**
+     * Returns the number of integers in the set.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            cardinality += chunks[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Passes every integer in the set to {@code action}, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the integers in both this set and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendChunk(keys[i], chunks[i].and(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the integers in this set, {@code other} or both.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || i < chunkCount && keys[i] < other.keys[j]) {
+                result.appendChunk(keys[i], chunks[i].copy());
+                i++;
+            } else if (i == chunkCount || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], chunks[i].or(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the integers in this set but not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            while (j < other.chunkCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.chunkCount && other.keys[j] == keys[i]) {
+                result.appendChunk(keys[i], chunks[i].andNot(other.chunks[j]));
+            } else {
+                result.appendChunk(keys[i], chunks[i].copy());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+
+        CompressedBitmap otherBitmap = (CompressedBitmap) other;
+        if (chunkCount != otherBitmap.chunkCount) {
+            return false;
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            if (keys[i] != otherBitmap.keys[i] || !chunks[i].sameValues(otherBitmap.chunks[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {chunkCount};
+        forEach(value -> hash[0] = hash[0] * 31 + value);
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        forEach(value -> builder.append(builder.length() > 1 ? ", " : "").append(value));
+        return builder.append(']').toString();
+    }
+
+    private int findChunk(int key) {
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int index, int key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            int capacity = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunkCount - index);
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        keys[index] = key;
+        chunks[index] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    /**
+     * Adds {@code chunk} after all chunks, unless it is empty. Its key must be greater than all keys.
+     */
+    private void appendChunk(int key, Chunk chunk) {
+        if (chunk.cardinality() > 0) {
+            insertChunk(chunkCount, key, chunk);
+        }
+    }
+
+    /**
+     * The low 16 bits of the integers in a set that share the same high 16 bits.
+     * Operations that change a chunk return the chunk to replace it with, which may take a different form.
+     */
+    private abstract static class Chunk {
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Chunk add(char value);
+
+        abstract Chunk remove(char value);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract Chunk copy();
+
+        abstract Chunk and(Chunk other);
+
+        abstract Chunk or(Chunk other);
+
+        abstract Chunk andNot(Chunk other);
+
+        /**
+         * Returns this chunk as a bitmap, sharing nothing with this chunk.
+         */
+        abstract BitmapChunk toBitmap();
+
+        boolean sameValues(Chunk other) {
+            if (cardinality() != other.cardinality()) {
+                return false;
+            }
+            int[] mismatches = {0};
+            forEach(0, value -> mismatches[0] += other.contains((char) value) ? 0 : 1);
+            return mismatches[0] == 0;
+        }
+    }
+
+    /**
+     * A chunk holding few integers, as a sorted array.
+     */
+    private static class ArrayChunk extends Chunk {
+        private char[] values;
+        private int size;
+
+        ArrayChunk() {
+            this(new char[4], 0);
+        }
+
+        ArrayChunk(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == MAX_ARRAY_SIZE) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_SIZE, size * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, Math.max(size, 1)), size);
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            char[] result = new char[size];
+            int resultSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i])) {
+                    result[resultSize++] = values[i];
+                }
+            }
+            return new ArrayChunk(result, resultSize);
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            if (!(other instanceof ArrayChunk)) {
+                return other.or(this);
+            }
+            if (size + other.cardinality() > MAX_ARRAY_SIZE) {
+                return toBitmap().or(other);
+            }
+            ArrayChunk otherArray = (ArrayChunk) other;
+            char[] result = new char[size + otherArray.size];
+            int resultSize = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < otherArray.size) {
+                if (j == otherArray.size || i < size && values[i] < otherArray.values[j]) {
+                    result[resultSize++] = values[i++];
+                } else if (i == size || values[i] > otherArray.values[j]) {
+                    result[resultSize++] = otherArray.values[j++];
+                } else {
+                    result[resultSize++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayChunk(result, resultSize);
+        }
+
+        @Override
+        Chunk andNot(Chunk other) {
+            char[] result = new char[size];
+            int resultSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (!other.contains(values[i])) {
+                    result[resultSize++] = values[i];
+                }
+            }
+            return new ArrayChunk(result, resultSize);
+        }
+
+        @Override
+        BitmapChunk toBitmap() {
+            BitmapChunk bitmap = new BitmapChunk(new long[BITMAP_WORDS], 0);
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * A chunk holding many integers, as a bitmap of all 65536 possible low 16 bits.
+     */
+    private static class BitmapChunk extends Chunk {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapChunk(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Creates a chunk from {@code words}, as an array if it holds few enough integers.
+         */
+        static Chunk of(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            BitmapChunk bitmap = new BitmapChunk(words, cardinality);
+            return cardinality > MAX_ARRAY_SIZE ? bitmap : bitmap.toArray();
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            if (!contains(value)) {
+                words[value >>> 6] |= 1L << value;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            if (!contains(value)) {
+                return this;
+            }
+            words[value >>> 6] &= ~(1L << value);
+            cardinality--;
+            return cardinality > MAX_ARRAY_SIZE ? this : toArray();
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Chunk copy() {
+            return new BitmapChunk(words.clone(), cardinality);
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            if (!(other instanceof BitmapChunk)) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapChunk) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            long[] result = other.toBitmap().words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] |= words[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        Chunk andNot(Chunk other) {
+            long[] otherWords = other.toBitmap().words;
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & ~otherWords[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        BitmapChunk toBitmap() {
+            return new BitmapChunk(words.clone(), cardinality);
+        }
+
+        private ArrayChunk toArray() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int[] size = {0};
+            forEach(0, value -> values[size[0]++] = (char) value);
+            return new ArrayChunk(values, size[0]);
+        }
+    }
+}
@@ -11,9 +11,13 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
@@ -77,6 +81,37 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the value of the field {@code fieldName} of the JSON object in the given file, reading the file only as
+     * far as that field, or {@code Optional.empty()} if the file is not found or the object has no such field.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be read or does not hold a JSON object.
+     */
+    public static Optional<JsonNode> readJsonField(Path filePath, String fieldName) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(fieldName);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = objectMapper.createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "JSON file " + filePath + " does not hold a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (name.equals(fieldName)) {
+                    return Optional.of(parser.readValueAsTree());
+                }
+                parser.skipChildren();
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -101,6 +136,15 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts a given JSON tree, e.g. part of a larger JSON document, to an instance of a class
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the values in the JSON tree
+     */
+    public static <T> T fromJsonNode(JsonNode node, Class<T> instanceClass) throws IOException {
+        return objectMapper.treeToValue(node, instanceClass);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -111,6 +155,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, so that many
+     * of them can be written one per line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a string without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
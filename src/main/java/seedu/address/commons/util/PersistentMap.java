@@ -0,0 +1,429 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An immutable map that is changed by making a new version of it, kept as a hash array mapped trie.
+ * Keys are placed in the trie by their hash codes, 5 bits at each level, so a map of n entries is about log32(n) levels
+ * deep. Putting or removing an entry copies only the nodes on the path to it and shares every other node with the
+ * version it was made from, so many versions of a large map take little more space than one of them.
+ * Two versions are compared by walking them together and skipping the nodes they share, so finding the differences
+ * between versions made from one another takes time in proportion to the number of differences, not the size of the
+ * map.
+ * Keys and values must not be null.
+ */
+public final class PersistentMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(Branch.EMPTY, 0);
+
+    // A node is a Branch, a Leaf holding one entry, or a Collision holding entries whose keys have the same hash code
+    private final Branch root;
+    private final int size;
+
+    private PersistentMap(Branch root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map does not contain {@code key}.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        requireNonNull(key);
+        int hash = key.hashCode();
+        Object node = root;
+        for (int shift = 0; node instanceof Branch; shift += BITS_PER_LEVEL) {
+            node = ((Branch) node).getChild(hash, shift);
+        }
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            return leaf.hash == hash && leaf.key.equals(key) ? (V) leaf.value : null;
+        }
+        if (node instanceof Collision && ((Collision) node).hash == hash) {
+            Leaf leaf = ((Collision) node).find(key);
+            return leaf == null ? null : (V) leaf.value;
+        }
+        return null;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with the entries of this one, and {@code key} mapped to {@code value}.
+     * Returns this map itself if {@code key} is already mapped to {@code value}.
+     */
+    public PersistentMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Leaf leaf = new Leaf(key.hashCode(), key, value);
+        boolean[] isAdded = new boolean[1];
+        Branch newRoot = (Branch) put(root, leaf, 0, isAdded);
+        return newRoot == root ? this : new PersistentMap<>(newRoot, isAdded[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map with the entries of this one other than the entry of {@code key}.
+     * Returns this map itself if it does not contain {@code key}.
+     */
+    public PersistentMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Object newRoot = remove(root, key, key.hashCode(), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        if (newRoot == null) {
+            return empty();
+        }
+        // The root stays a branch, even if it is left with a single entry
+        Branch rootBranch = newRoot instanceof Branch
+                ? (Branch) newRoot
+                : Branch.EMPTY.insert(bitOf(((Node) newRoot).getHash(), 0), newRoot);
+        return new PersistentMap<>(rootBranch, size - 1);
+    }
+
+    /**
+     * Performs {@code action} on every entry of the map, in no particular order.
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action);
+        forEachLeaf(root, leaf -> action.accept(key(leaf), value(leaf)));
+    }
+
+    /**
+     * Calls {@code visitor} with every key whose value in this map differs from its value in {@code other}, in no
+     * particular order. Values are compared with {@code equals}.
+     */
+    public void forEachDifference(PersistentMap<K, V> other, DifferenceVisitor<K, V> visitor) {
+        requireNonNull(other);
+        requireNonNull(visitor);
+        diff(root, other.root, 0, visitor);
+    }
+
+    /**
+     * Receives the differences between two versions of a map.
+     */
+    @FunctionalInterface
+    public interface DifferenceVisitor<K, V> {
+        /**
+         * Receives a key whose value differs between the two versions.
+         *
+         * @param key The key.
+         * @param thisValue Its value in the map compared, or null if it is not in that map.
+         * @param otherValue Its value in the map compared with, or null if it is not in that map.
+         */
+        void visit(K key, V thisValue, V otherValue);
+    }
+
+    //// trie operations
+
+    private static Object put(Object node, Leaf leaf, int shift, boolean[] isAdded) {
+        if (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int bit = bitOf(leaf.hash, shift);
+            if (!branch.has(bit)) {
+                isAdded[0] = true;
+                return branch.insert(bit, leaf);
+            }
+            Object child = branch.get(bit);
+            Object newChild = put(child, leaf, shift + BITS_PER_LEVEL, isAdded);
+            return newChild == child ? branch : branch.replace(bit, newChild);
+        }
+        if (node instanceof Leaf) {
+            Leaf existing = (Leaf) node;
+            if (existing.hash == leaf.hash && existing.key.equals(leaf.key)) {
+                return existing.value == leaf.value ? existing : leaf;
+            }
+            isAdded[0] = true;
+            return merge(existing, leaf, shift);
+        }
+        Collision collision = (Collision) node;
+        if (collision.hash != leaf.hash) {
+            isAdded[0] = true;
+            return merge(collision, leaf, shift);
+        }
+        Leaf existing = collision.find(leaf.key);
+        if (existing != null && existing.value == leaf.value) {
+            return collision;
+        }
+        isAdded[0] = existing == null;
+        return collision.with(leaf);
+    }
+
+    /**
+     * Returns a node holding both {@code node} and {@code leaf}, which are in the same place at levels above
+     * {@code shift}.
+     */
+    private static Object merge(Object node, Leaf leaf, int shift) {
+        int nodeHash = ((Node) node).getHash();
+        if (nodeHash == leaf.hash) {
+            return new Collision(leaf.hash, new Leaf[] {(Leaf) node, leaf});
+        }
+        int nodeBit = bitOf(nodeHash, shift);
+        int leafBit = bitOf(leaf.hash, shift);
+        if (nodeBit == leafBit) {
+            return Branch.EMPTY.insert(nodeBit, merge(node, leaf, shift + BITS_PER_LEVEL));
+        }
+        return Branch.EMPTY.insert(nodeBit, node).insert(leafBit, leaf);
+    }
+
+    /**
+     * Returns {@code node} without the entry of {@code key}, or null if nothing is left of it.
+     */
+    private static Object remove(Object node, Object key, int hash, int shift) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            return leaf.hash == hash && leaf.key.equals(key) ? null : leaf;
+        }
+        if (node instanceof Collision) {
+            Collision collision = (Collision) node;
+            return collision.hash == hash ? collision.without(key) : collision;
+        }
+        Branch branch = (Branch) node;
+        int bit = bitOf(hash, shift);
+        if (!branch.has(bit)) {
+            return branch;
+        }
+        Object child = branch.get(bit);
+        Object newChild = remove(child, key, hash, shift + BITS_PER_LEVEL);
+        if (newChild == child) {
+            return branch;
+        }
+        if (newChild == null) {
+            Branch newBranch = branch.delete(bit);
+            if (newBranch.children.length == 0) {
+                return null;
+            }
+            // A branch left with a single entry is replaced by that entry, which moves up a level
+            return newBranch.children.length == 1 && !(newBranch.children[0] instanceof Branch)
+                    ? newBranch.children[0]
+                    : newBranch;
+        }
+        if (branch.children.length == 1 && !(newChild instanceof Branch)) {
+            return newChild;
+        }
+        return branch.replace(bit, newChild);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> void diff(Object node, Object otherNode, int shift, DifferenceVisitor<K, V> visitor) {
+        if (node == otherNode) {
+            return;
+        }
+        if (node instanceof Branch && otherNode instanceof Branch) {
+            Branch branch = (Branch) node;
+            Branch otherBranch = (Branch) otherNode;
+            int bits = branch.bitmap | otherBranch.bitmap;
+            while (bits != 0) {
+                int bit = Integer.lowestOneBit(bits);
+                bits &= ~bit;
+                diff(branch.has(bit) ? branch.get(bit) : null,
+                        otherBranch.has(bit) ? otherBranch.get(bit) : null, shift + BITS_PER_LEVEL, visitor);
+            }
+            return;
+        }
+
+        // Nodes of different kinds hold few entries, which are compared one by one
+        Map<Object, Object> otherValues = new HashMap<>();
+        forEachLeaf(otherNode, leaf -> otherValues.put(leaf.key, leaf.value));
+        List<Leaf> leaves = new ArrayList<>();
+        forEachLeaf(node, leaves::add);
+        for (Leaf leaf : leaves) {
+            Object otherValue = otherValues.remove(leaf.key);
+            if (!Objects.equals(leaf.value, otherValue)) {
+                visitor.visit(key(leaf), value(leaf), (V) otherValue);
+            }
+        }
+        otherValues.forEach((key, otherValue) -> visitor.visit((K) key, null, (V) otherValue));
+    }
+
+    private static void forEachLeaf(Object node, Consumer<Leaf> action) {
+        if (node instanceof Leaf) {
+            action.accept((Leaf) node);
+        } else if (node instanceof Collision) {
+            for (Leaf leaf : ((Collision) node).leaves) {
+                action.accept(leaf);
+            }
+        } else if (node instanceof Branch) {
+            for (Object child : ((Branch) node).children) {
+                forEachLeaf(child, action);
+            }
+        }
+    }
+
+    private static int bitOf(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K key(Leaf leaf) {
+        return (K) leaf.key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V value(Leaf leaf) {
+        return (V) leaf.value;
+    }
+
+    //// nodes
+
+    /**
+     * A node holding entries whose keys all have the same hash code.
+     */
+    private interface Node {
+        int getHash();
+    }
+
+    /**
+     * A node with a child for each of the values of the hash bits at its level that its entries have, kept in order
+     * of those values, and a bitmap of which values those are.
+     */
+    private static final class Branch {
+        static final Branch EMPTY = new Branch(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] children;
+
+        Branch(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        boolean has(int bit) {
+            return (bitmap & bit) != 0;
+        }
+
+        Object get(int bit) {
+            return children[indexOf(bit)];
+        }
+
+        Object getChild(int hash, int shift) {
+            int bit = bitOf(hash, shift);
+            return has(bit) ? get(bit) : null;
+        }
+
+        Branch insert(int bit, Object child) {
+            int index = indexOf(bit);
+            Object[] newChildren = new Object[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            return new Branch(bitmap | bit, newChildren);
+        }
+
+        Branch replace(int bit, Object child) {
+            Object[] newChildren = children.clone();
+            newChildren[indexOf(bit)] = child;
+            return new Branch(bitmap, newChildren);
+        }
+
+        Branch delete(int bit) {
+            int index = indexOf(bit);
+            Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new Branch(bitmap & ~bit, newChildren);
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    private static final class Leaf implements Node {
+        final int hash;
+        final Object key;
+        final Object value;
+
+        Leaf(int hash, Object key, Object value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public int getHash() {
+            return hash;
+        }
+    }
+
+    private static final class Collision implements Node {
+        final int hash;
+        final Leaf[] leaves;
+
+        Collision(int hash, Leaf[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        @Override
+        public int getHash() {
+            return hash;
+        }
+
+        Leaf find(Object key) {
+            for (Leaf leaf : leaves) {
+                if (leaf.key.equals(key)) {
+                    return leaf;
+                }
+            }
+            return null;
+        }
+
+        Collision with(Leaf leaf) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].key.equals(leaf.key)) {
+                    Leaf[] newLeaves = leaves.clone();
+                    newLeaves[i] = leaf;
+                    return new Collision(hash, newLeaves);
+                }
+            }
+            Leaf[] newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+            newLeaves[leaves.length] = leaf;
+            return new Collision(hash, newLeaves);
+        }
+
+        /**
+         * Returns this node without the entry of {@code key}, which is a leaf if a single entry is left.
+         */
+        Object without(Object key) {
+            Leaf leaf = find(key);
+            if (leaf == null) {
+                return this;
+            }
+            List<Leaf> remaining = new ArrayList<>(List.of(leaves));
+            remaining.remove(leaf);
+            return remaining.size() == 1 ? remaining.get(0) : new Collision(hash, remaining.toArray(new Leaf[0]));
+        }
+    }
+}
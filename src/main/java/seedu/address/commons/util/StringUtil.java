@@ -38,6 +38,61 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the edit (Levenshtein) distance between {@code first} and {@code second} if it is at most
+     * {@code maxDistance}, or {@code maxDistance + 1} otherwise. Case is significant.
+     * Only the diagonal band of width {@code 2 * maxDistance + 1} is computed, and the computation stops as soon as
+     * the distance is known to exceed {@code maxDistance}, so it takes {@code O(maxDistance * length)} time.
+     *   <br>examples:<pre>
+     *       boundedEditDistance("bishan", "bishn", 2) == 1
+     *       boundedEditDistance("tan", "tanh", 1) == 1
+     *       boundedEditDistance("kitten", "sitting", 2) == 3 // exceeds 2
+     *       </pre>
+     * @param maxDistance cannot be negative
+     */
+    public static int boundedEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance should not be negative");
+
+        int exceeded = maxDistance + 1;
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return exceeded;
+        }
+
+        // previous[j] and current[j] hold the distance between a prefix of first and the first j chars of second,
+        // with distances outside the band treated as exceeded
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = Math.min(j, exceeded);
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(second.length(), i + maxDistance);
+            current[from - 1] = from == 1 ? Math.min(i, exceeded) : exceeded;
+            int rowMin = current[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(exceeded, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = exceeded;
+            }
+            if (rowMin >= exceeded) {
+                return exceeded;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
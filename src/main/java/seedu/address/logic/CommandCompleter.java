@@ -0,0 +1,140 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SELLER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMEFRAME;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Model;
+import seedu.address.model.PersonCompletionIndex.Field;
+
+/**
+ * Suggests completions of a partly typed command, completing the word at the end of the command:
+ * the command word itself, the value after a name, phone or tag prefix, or a keyword of the search command.
+ * Each completion is the whole command text with that word completed, so it can replace the text as typed.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 8;
+
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ROLE, PREFIX_ADDRESS,
+        PREFIX_TAG, PREFIX_DATETIME, PREFIX_PROPERTY_TYPE, PREFIX_BUYER, PREFIX_TIMEFRAME, PREFIX_SELLER};
+
+    private final AddressBookParser parser;
+    private final Model model;
+
+    /**
+     * Creates a {@code CommandCompleter} that completes command words recognized by {@code parser} and person
+     * details from {@code model}.
+     */
+    public CommandCompleter(AddressBookParser parser, Model model) {
+        this.parser = parser;
+        this.model = model;
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} completions of {@code commandText}, or an empty list if the word at
+     * the end of it cannot be completed.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+        String text = commandText.stripLeading();
+        int commandWordEnd = indexOfWhitespace(text, 0);
+        if (text.isEmpty()) {
+            return List.of();
+        }
+        if (commandWordEnd == text.length()) {
+            return withHead("", parser.getCommandWordCompletions(text, MAX_COMPLETIONS));
+        }
+
+        int prefixStart = -1;
+        Prefix lastPrefix = null;
+        for (Prefix prefix : PREFIXES) {
+            int position = text.lastIndexOf(" " + prefix.getPrefix());
+            if (position > prefixStart) {
+                prefixStart = position;
+                lastPrefix = prefix;
+            }
+        }
+
+        if (lastPrefix != null) {
+            int valueStart = prefixStart + 1 + lastPrefix.getPrefix().length();
+            return completePrefixValue(lastPrefix, text.substring(0, valueStart), text.substring(valueStart));
+        }
+        if (text.substring(0, commandWordEnd).equals(FindCommand.COMMAND_WORD)) {
+            return completeSearchKeyword(text);
+        }
+        return List.of();
+    }
+
+    private List<String> completePrefixValue(Prefix prefix, String head, String value) {
+        if (prefix.equals(PREFIX_NAME)) {
+            return withHead(head, model.getPersonCompletions(Field.NAME, value, MAX_COMPLETIONS));
+        }
+        if (indexOfWhitespace(value, 0) < value.length()) {
+            return List.of();
+        }
+        if (prefix.equals(PREFIX_PHONE)) {
+            return withHead(head, model.getPersonCompletions(Field.PHONE, value, MAX_COMPLETIONS));
+        }
+        if (prefix.equals(PREFIX_TAG)) {
+            return withHead(head, model.getPersonCompletions(Field.TAG, value, MAX_COMPLETIONS));
+        }
+        return List.of();
+    }
+
+    /**
+     * Completes the last keyword of a search command with names, tags and phone numbers, in that order.
+     */
+    private List<String> completeSearchKeyword(String text) {
+        int keywordStart = text.length();
+        while (keywordStart > 0 && !Character.isWhitespace(text.charAt(keywordStart - 1))) {
+            keywordStart--;
+        }
+        String keyword = text.substring(keywordStart);
+        if (keyword.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> completions = new LinkedHashSet<>();
+        for (Field field : new Field[] {Field.NAME, Field.TAG, Field.PHONE}) {
+            completions.addAll(model.getPersonCompletions(field, keyword, MAX_COMPLETIONS - completions.size()));
+            if (completions.size() >= MAX_COMPLETIONS) {
+                break;
+            }
+        }
+        return withHead(text.substring(0, keywordStart), new ArrayList<>(completions));
+    }
+
+    private static List<String> withHead(String head, List<String> completions) {
+        List<String> commandTexts = new ArrayList<>(completions.size());
+        for (String completion : completions) {
+            commandTexts.add(head + completion);
+        }
+        return commandTexts;
+    }
+
+    private static int indexOfWhitespace(String text, int fromIndex) {
+        int index = fromIndex;
+        while (index < text.length() && !Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -1,15 +1,22 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConflictException;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarPeriod;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFacets;
 
 /**
  * API of the Logic component
@@ -17,6 +24,8 @@ import seedu.address.model.person.Person;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Commands, and changes made through {@link #saveAddressBook()}, must all be made from one thread, so that a
+     * command that refers to the lists shown (e.g. by index) is never interleaved with another change.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -25,21 +34,70 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
     /**
-     * Returns the AddressBook.
+     * Saves the address book as it was after the last committed change, unless it has been saved since, and takes in
+     * the changes others sharing the data file saved since it was last read or saved.
+     * Saves are made one at a time, and never replace a later version with an earlier one. As changes taken in are
+     * made to the model, this must be called from the thread that executes commands.
      *
-     * @see seedu.address.model.Model#getAddressBook()
+     * @throws DataConflictException if some changes were not saved, as others had changed the same persons or
+     *     appointments; the changes of the others are taken in instead.
+     * @throws IOException if the address book could not be saved.
+     */
+    void saveAddressBook() throws IOException;
+
+    /**
+     * Moves the past appointments from the address book to the archive, and saves the address book at once if any
+     * were moved, so that they are not archived again from the data file. This is done at startup, and again by
+     * {@link #refreshTimeFrames()} on each new day.
+     *
+     * @return the appointments moved.
+     * @throws IOException if the appointments could not be archived or the address book could not be saved.
+     * @see seedu.address.model.Model#archivePastAppointments()
+     */
+    List<Appointment> archivePastAppointments() throws IOException;
+
+    /**
+     * Returns completions of the partly typed command {@code commandText}, each being the whole command text with
+     * the word at its end completed. Returns an empty list if there is nothing to complete.
+     */
+    List<String> getCompletions(String commandText);
+
+    /**
+     * Returns the AddressBook as it was after the last command, which may be read from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
      */
     ReadOnlyAddressBook getAddressBook();
 
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the counts of the persons in the filtered list of persons by property type and role */
+    PersonFacets getFilteredPersonFacets();
+
     /** Returns an unmodifiable view of the appointment list */
     ObservableList<Appointment> getAppointmentList();
 
     /** Returns an unmodifiable view of the filtered appointment list */
     ObservableList<Appointment> getFilteredAppointmentList();
 
+    /**
+     * Returns the number of appointments in each of {@code periodCount} consecutive periods of the given length,
+     * starting from the one that contains {@code from}.
+     *
+     * @see seedu.address.model.Model#countAppointments(CalendarPeriod, LocalDate, int)
+     */
+    int[] countAppointments(CalendarPeriod period, LocalDate from, int periodCount);
+
+    /**
+     * Filters again the appointments that have moved between timeframes since the last refresh, and returns the
+     * time at which this should next be called.
+     * The first time this is called on a new day, the past appointments are archived and the address book saved.
+     *
+     * @see seedu.address.model.Model#refreshTimeFrames()
+     */
+    LocalDateTime refreshTimeFrames();
+
     /**
      * Returns the user prefs' address book file path.
      */
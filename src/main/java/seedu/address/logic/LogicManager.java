@@ -3,20 +3,31 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConflictException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ConcurrentModel;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarPeriod;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFacets;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,11 +39,21 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_CHANGES_REJECTED = "Someone else sharing the data file changed the same clients"
+            + " or appointments, so %1$d of your changes could not be saved and theirs were kept instead.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandCompleter commandCompleter;
+    // Held while a command runs, so that other threads querying a shared model never see a command half done
+    private final Lock commandLock;
+    // The version of the address book last saved, guarded by this
+    private long savedVersion = -1;
+    // The date past appointments were last archived on, guarded by this
+    private LocalDate archiveDate;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,7 +61,12 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(model.getUserPrefs().getCommandAliases());
+        commandCompleter = new CommandCompleter(addressBookParser, model);
+        commandLock = model instanceof ConcurrentModel
+                ? ((ConcurrentModel) model).getLock().writeLock()
+                : new ReentrantLock();
+        archiveDate = LocalDate.now(model.getClock());
     }
 
     @Override
@@ -49,10 +75,18 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        commandLock.lock();
+        try {
+            commandResult = command.execute(model);
+            model.commitAddressBook();
+        } finally {
+            commandLock.unlock();
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveAddressBook();
+        } catch (DataConflictException e) {
+            throw new CommandException(e.getMessage(), e);
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -62,9 +96,35 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public synchronized void saveAddressBook() throws IOException {
+        // Taking the snapshot while holding the lock keeps an older snapshot from being saved over a newer one
+        AddressBookSnapshot snapshot = model.getAddressBookSnapshot();
+        if (snapshot.getVersion() == savedVersion) {
+            return;
+        }
+        AddressBookChanges changes = storage.saveAddressBook(snapshot);
+        savedVersion = snapshot.getVersion();
+
+        if (!changes.isEmpty()) {
+            // The changes are in the data file already, so the model is saved once they are made
+            logger.info("Taking in changes saved to the data file by others: " + changes);
+            model.applyAddressBookChanges(changes);
+            savedVersion = model.getAddressBookSnapshot().getVersion();
+        }
+        if (changes.getRejectedCount() > 0) {
+            throw new DataConflictException(String.format(MESSAGE_CHANGES_REJECTED, changes.getRejectedCount()));
+        }
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return model.getAddressBook();
+        return model.getAddressBookSnapshot();
     }
 
     @Override
@@ -72,6 +132,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public PersonFacets getFilteredPersonFacets() {
+        return model.getFilteredPersonFacets();
+    }
+
     @Override
     public ObservableList<Appointment> getAppointmentList() {
         return model.getAppointmentList();
@@ -82,6 +147,42 @@ public class LogicManager implements Logic {
         return model.getFilteredAppointmentList();
     }
 
+    @Override
+    public int[] countAppointments(CalendarPeriod period, LocalDate from, int periodCount) {
+        return model.countAppointments(period, from, periodCount);
+    }
+
+    @Override
+    public LocalDateTime refreshTimeFrames() {
+        archivePastAppointmentsOnNewDay();
+        return model.refreshTimeFrames();
+    }
+
+    @Override
+    public synchronized List<Appointment> archivePastAppointments() throws IOException {
+        archiveDate = LocalDate.now(model.getClock());
+        List<Appointment> archived = model.archivePastAppointments();
+        if (!archived.isEmpty()) {
+            // Saved at once, so that the appointments are not archived again from the data file next time
+            saveAddressBook();
+        }
+        return archived;
+    }
+
+    /**
+     * Archives the past appointments and saves the address book, if they have not been archived yet today.
+     */
+    private synchronized void archivePastAppointmentsOnNewDay() {
+        if (LocalDate.now(model.getClock()).equals(archiveDate)) {
+            return;
+        }
+        try {
+            archivePastAppointments();
+        } catch (IOException e) {
+            logger.warning("Past appointments could not be archived or saved: " + e);
+        }
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -26,6 +26,8 @@ public class Messages {
             "This client already exists in the address book. Clients must have unique phone numbers.";
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "This appointment already exists in the address book.";
     public static final String MESSAGE_SAME_SELLER_BUYER = "The seller and buyer must not be the same person.";
+    public static final String MESSAGE_CONFLICTING_APPOINTMENT =
+            "This appointment overlaps another appointment of the same client: %1$s";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_CONFLICTING_APPOINTMENT;
 import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_APPOINTMENT;
 import static seedu.address.logic.Messages.MESSAGE_SAME_SELLER_BUYER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BUYER;
@@ -88,6 +89,12 @@ public class AddAppointmentCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_APPOINTMENT);
         }
 
+        List<Appointment> conflicts = model.findConflictingAppointments(appointment);
+        if (!conflicts.isEmpty()) {
+            throw new CommandException(
+                    String.format(MESSAGE_CONFLICTING_APPOINTMENT, Messages.format(conflicts.get(0))));
+        }
+
         model.addAppointment(appointment);
         return new CommandResult(String.format(MESSAGE_ADD_APPOINTMENT_SUCCESS, appointment),
                 false, false, true, false);
@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.CalendarPeriod;
+
+/**
+ * Shows the number of appointments in each day, week or month, starting from the current one.
+ */
+public class CalendarCommand extends Command {
+
+    public static final String COMMAND_WORD = "calendar";
+
+    public static final CalendarPeriod DEFAULT_PERIOD = CalendarPeriod.WEEK;
+    public static final int PERIODS_SHOWN = 7;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of appointments in each of the next " + PERIODS_SHOWN + " days, weeks or months, "
+            + "starting from the current one.\n"
+            + "Parameters: [day|week|month] (default: " + DEFAULT_PERIOD + ")\n"
+            + "Example: " + COMMAND_WORD + " month";
+
+    public static final String MESSAGE_SUCCESS = "Appointments per %1$s:";
+
+    private final CalendarPeriod period;
+
+    /**
+     * Creates a CalendarCommand to show the number of appointments in each period of the given length.
+     */
+    public CalendarCommand(CalendarPeriod period) {
+        requireNonNull(period);
+        this.period = period;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDate start = period.getStart(LocalDate.now(model.getClock()));
+        int[] counts = model.countAppointments(period, start, PERIODS_SHOWN);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, period));
+        for (int count : counts) {
+            message.append("\n").append(formatPeriod(start)).append(": ").append(count);
+            start = period.getNextStart(start);
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Returns a description of the period starting on {@code start}.
+     */
+    private String formatPeriod(LocalDate start) {
+        switch (period) {
+        case WEEK:
+            return "Week of " + start;
+        case MONTH:
+            return YearMonth.from(start).toString();
+        default:
+            return start.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH) + " " + start;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CalendarCommand)) {
+            return false;
+        }
+
+        CalendarCommand otherCalendarCommand = (CalendarCommand) other;
+        return period == otherCalendarCommand.period;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("period", period)
+                .toString();
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
+
+/**
+ * Lists all pairs of appointments that involve the same client and overlap in time.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_NO_CONFLICTS = "No overlapping appointments found";
+    public static final String MESSAGE_CONFLICTS_FOUND = "%1$d pair(s) of overlapping appointments found:";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<AppointmentConflict> conflicts = model.findAppointmentConflicts();
+
+        Set<Appointment> conflictingAppointments = new HashSet<>();
+        StringBuilder message = new StringBuilder(conflicts.isEmpty()
+                ? MESSAGE_NO_CONFLICTS
+                : String.format(MESSAGE_CONFLICTS_FOUND, conflicts.size()));
+        for (AppointmentConflict conflict : conflicts) {
+            conflictingAppointments.add(conflict.getFirst());
+            conflictingAppointments.add(conflict.getSecond());
+            message.append("\n").append(Messages.format(conflict.getFirst()))
+                    .append("\n  overlaps ").append(Messages.format(conflict.getSecond()));
+        }
+
+        model.updateFilteredAppointmentList(conflictingAppointments::contains);
+        return new CommandResult(message.toString(), false, false, true, false);
+    }
+}
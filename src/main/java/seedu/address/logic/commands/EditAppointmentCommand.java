@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_CONFLICTING_APPOINTMENT;
 import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_APPOINTMENT;
 import static seedu.address.logic.Messages.MESSAGE_SAME_SELLER_BUYER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BUYER;
@@ -78,6 +79,13 @@ public class EditAppointmentCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_APPOINTMENT);
         }
 
+        Optional<Appointment> conflict = model.findConflictingAppointments(editedAppointment).stream()
+                .filter(appointment -> !appointment.equals(appointmentToEdit))
+                .findFirst();
+        if (conflict.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_CONFLICTING_APPOINTMENT, Messages.format(conflict.get())));
+        }
+
         model.setAppointment(appointmentToEdit, editedAppointment);
         logger.info("Successfully edited appointment at index " + index.getOneBased());
         return new CommandResult(String.format(MESSAGE_EDIT_APPOINTMENT_SUCCESS,
@@ -109,7 +109,8 @@ public class EditCommand extends Command {
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedRole, updatedAddress, updatedTags);
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedRole, updatedAddress,
+                updatedTags);
     }
 
     @Override
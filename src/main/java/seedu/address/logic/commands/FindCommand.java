@@ -5,11 +5,11 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.query.PersonQuery;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose details match a query, such as containing any of the argument
+ * keywords. Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
@@ -18,22 +18,28 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all clients whose details contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Searches across name, role, address, property type, email, phone, and tags.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: [~]KEYWORD [MORE_KEYWORDS]...\n"
+            + "Start with ~ to match names and addresses with small typos, best match first.\n"
+            + "Otherwise, a keyword can be limited to one detail with n/, p/, r/, pt/, t/ or a/, and keywords can be "
+            + "combined with AND, OR (the default), NOT and parentheses.\n"
             + "Examples:\n"
             + "  " + COMMAND_WORD + " alex bob (finds all clients named alex or bob)\n"
             + "  " + COMMAND_WORD + " buyer alex (finds all buyers and clients named alex)\n"
-            + "  " + COMMAND_WORD + " bishan (finds all clients with their address in bishan)\n";
+            + "  " + COMMAND_WORD + " bishan (finds all clients with their address in bishan)\n"
+            + "  " + COMMAND_WORD + " pt/HDB_4 AND r/seller AND t/vip AND a/bishan (finds HDB_4 sellers tagged vip "
+            + "in bishan)\n"
+            + "  " + COMMAND_WORD + " ~bishn tanh (finds clients with names or addresses close to bishn or tanh)\n";
 
-    private final PersonContainsKeywordsPredicate predicate;
+    private final PersonQuery predicate;
 
-    public FindCommand(PersonContainsKeywordsPredicate predicate) {
+    public FindCommand(PersonQuery predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(model.planPersonQuery(predicate));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
                 false, false, false, true);
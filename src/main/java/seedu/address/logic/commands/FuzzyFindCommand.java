@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds and lists the persons in address book whose name or address contains a word close to any of the argument
+ * keywords, tolerating small typos. Persons are listed best match first.
+ */
+public class FuzzyFindCommand extends Command {
+
+    /** Marks the keywords of a {@code search} command as fuzzy. */
+    public static final String FUZZY_MARKER = "~";
+
+    public static final int MAX_RESULTS = 50;
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a FuzzyFindCommand to find the persons matching any of {@code keywords}.
+     */
+    public FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> matches = model.findPersonsFuzzy(keywords, MAX_RESULTS);
+        Map<Person, Integer> ranks = new HashMap<>();
+        for (Person person : matches) {
+            ranks.put(person, ranks.size());
+        }
+        model.updateFilteredPersonList(ranks::containsKey, (first, second) -> ranks.get(first) - ranks.get(second));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
+                false, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return keywords.equals(otherFuzzyFindCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
+import seedu.address.model.appointment.TimeFrame;
+
+/**
+ * Lists the next upcoming appointments, optionally only those whose details contain any of the keywords given.
+ */
+public class NextCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    public static final int DEFAULT_COUNT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the next N upcoming appointments (default: " + DEFAULT_COUNT + "), earliest first, "
+            + "whose details contain any of the keywords given, if any.\n"
+            + "Parameters: [N] [KEYWORD]...\n"
+            + "Example: " + COMMAND_WORD + " 5 alice";
+
+    public static final String MESSAGE_SUCCESS = "Listed the next %1$d upcoming appointment(s)";
+
+    private final int count;
+    private final List<String> keywords;
+
+    /**
+     * Creates a NextCommand to list the next {@code count} upcoming appointments matching any of {@code keywords},
+     * or all upcoming appointments if there are no keywords.
+     */
+    public NextCommand(int count, List<String> keywords) {
+        requireNonNull(keywords);
+        checkArgument(count > 0, "Count should be positive");
+        this.count = count;
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        AppointmentContainsKeywordsPredicate predicate =
+                new AppointmentContainsKeywordsPredicate(keywords, TimeFrame.UPCOMING);
+        LocalDateTime now = LocalDateTime.now(model.getClock());
+        List<Appointment> nextAppointments =
+                model.findNextAppointments(appointment -> predicate.test(appointment, now), count);
+
+        // Only the appointments found are shown, so that their index numbers are those for eap and dap
+        Set<Appointment> shown = new HashSet<>(nextAppointments);
+        model.updateFilteredAppointmentList(shown::contains);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, nextAppointments.size()),
+                false, false, true, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NextCommand)) {
+            return false;
+        }
+
+        NextCommand otherNextCommand = (NextCommand) other;
+        return count == otherNextCommand.count
+                && keywords.equals(otherNextCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -2,10 +2,17 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
+import seedu.address.model.appointment.TimeFrame;
 
 /**
  * Finds and lists all appointments in address book whose details contain any of the argument keywords.
@@ -28,7 +35,14 @@ public class SearchAppointmentCommand extends Command {
             + "  " + COMMAND_WORD + " 2025-01-01T12:00 (finds all appointments on January 1st, 2025)\n"
             + "  " + COMMAND_WORD + " bishan (finds all appointments at addresses containing bishan)\n"
             + "  " + COMMAND_WORD + " tf/today (finds all appointments scheduled for today)\n"
-            + "  " + COMMAND_WORD + " alice tf/today (finds today's appointments with alice)\n";
+            + "  " + COMMAND_WORD + " alice tf/today (finds today's appointments with alice)\n"
+            + "Archived appointments are searched too, unless the timeframe is today or upcoming.";
+
+    public static final String MESSAGE_ARCHIVED_FOUND = "%1$d archived appointment(s) also match:";
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "Archived appointments could not be searched: %1$s";
+
+    /** The most archived appointments listed in the result, which are not shown in the appointment list. */
+    public static final int MAX_ARCHIVED_SHOWN = 20;
 
     private final AppointmentContainsKeywordsPredicate predicate;
 
@@ -37,12 +51,40 @@ public class SearchAppointmentCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredAppointmentList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, model.getFilteredAppointmentList().size()),
-                false, false, true, false);
+        model.updateFilteredAppointmentList(model.planAppointmentSearch(predicate));
+        StringBuilder message = new StringBuilder(String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW,
+                model.getFilteredAppointmentList().size()));
+
+        List<Appointment> archived = findArchivedAppointments(model);
+        if (!archived.isEmpty()) {
+            message.append("\n").append(String.format(MESSAGE_ARCHIVED_FOUND, archived.size()));
+            archived.stream().limit(MAX_ARCHIVED_SHOWN)
+                    .forEach(appointment -> message.append("\n  ").append(Messages.format(appointment)));
+            if (archived.size() > MAX_ARCHIVED_SHOWN) {
+                message.append("\n  ...");
+            }
+        }
+        return new CommandResult(message.toString(), false, false, true, false);
+    }
+
+    /**
+     * Returns the archived appointments matching the search, reading the archive only if the search can match any.
+     */
+    private List<Appointment> findArchivedAppointments(Model model) throws CommandException {
+        // Appointments are archived at least a day after their datetime, so none is today's or upcoming
+        TimeFrame timeFrame = predicate.getTimeFrame();
+        if (model.getArchiveSummary().isEmpty() || (timeFrame != null && timeFrame != TimeFrame.PAST)) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now(model.getClock());
+        try {
+            return model.findArchivedAppointments(appointment -> predicate.test(appointment, now));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
     }
 
     @Override
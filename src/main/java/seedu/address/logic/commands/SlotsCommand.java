@@ -0,0 +1,143 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_SAME_SELLER_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SELLER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the earliest windows of time in which a seller and an optional buyer, identified by the index numbers used in
+ * the displayed client list, are both free.
+ */
+public class SlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "slots";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the earliest free time slots shared by the "
+            + "seller and optional buyer specified by the index numbers used in the displayed client list.\n"
+            + "Parameters: "
+            + PREFIX_SELLER + "SELLER_INDEX "
+            + "[" + PREFIX_BUYER + "BUYER_INDEX] "
+            + PREFIX_DATETIME + "FROM "
+            + PREFIX_UNTIL + "TO "
+            + "[" + PREFIX_DURATION + "MINUTES] "
+            + "[" + PREFIX_COUNT + "COUNT]\n"
+            + "MINUTES defaults to the length of an appointment, and COUNT to " + DEFAULT_COUNT + ".\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_SELLER + "4 "
+            + PREFIX_BUYER + "2 "
+            + PREFIX_DATETIME + "2025-01-01T09:00 "
+            + PREFIX_UNTIL + "2025-01-03T18:00 "
+            + PREFIX_DURATION + "90";
+
+    public static final String MESSAGE_NO_SLOTS = "No free time slots found";
+    public static final String MESSAGE_SLOTS_FOUND = "%1$d free time slot(s) found:";
+
+    private final Index sellerIndex;
+    private final Index buyerIndex;
+    private final TimeSlot range;
+    private final Duration duration;
+    private final int count;
+
+    /**
+     * Creates a SlotsCommand to find up to {@code count} slots of at least {@code duration} within {@code range}.
+     *
+     * @param sellerIndex index of the seller.
+     * @param buyerIndex index of the buyer, or null to only look at the seller.
+     * @param range the window of time to look for slots in.
+     * @param duration the shortest slot to find, or null for the length of an appointment.
+     * @param count the number of slots to find.
+     */
+    public SlotsCommand(Index sellerIndex, Index buyerIndex, TimeSlot range, Duration duration, int count) {
+        requireNonNull(sellerIndex);
+        requireNonNull(range);
+        this.sellerIndex = sellerIndex;
+        this.buyerIndex = buyerIndex;
+        this.range = range;
+        this.duration = duration;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> persons = new ArrayList<>();
+        persons.add(getPerson(lastShownList, sellerIndex));
+        if (buyerIndex != null) {
+            Person buyer = getPerson(lastShownList, buyerIndex);
+            if (persons.get(0).hasSameIdentifier(buyer)) {
+                throw new CommandException(MESSAGE_SAME_SELLER_BUYER);
+            }
+            persons.add(buyer);
+        }
+
+        Duration slotDuration = duration == null ? model.getUserPrefs().getAppointmentDuration() : duration;
+        List<TimeSlot> slots = model.findFreeSlots(persons, range, slotDuration, count);
+        if (slots.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SLOTS);
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SLOTS_FOUND, slots.size()));
+        for (int i = 0; i < slots.size(); i++) {
+            message.append("\n").append(i + 1).append(". ").append(slots.get(i));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    private static Person getPerson(List<Person> lastShownList, Index index) throws CommandException {
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SlotsCommand)) {
+            return false;
+        }
+
+        SlotsCommand otherSlotsCommand = (SlotsCommand) other;
+        return sellerIndex.equals(otherSlotsCommand.sellerIndex)
+                && Objects.equals(buyerIndex, otherSlotsCommand.buyerIndex)
+                && range.equals(otherSlotsCommand.range)
+                && Objects.equals(duration, otherSlotsCommand.duration)
+                && count == otherSlotsCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sellerIndex", sellerIndex)
+                .add("buyerIndex", buyerIndex)
+                .add("range", range)
+                .add("duration", duration)
+                .add("count", count)
+                .toString();
+    }
+}
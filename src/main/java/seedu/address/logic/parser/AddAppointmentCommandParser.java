@@ -16,6 +16,9 @@ import seedu.address.model.appointment.AppointmentDatetime;
  */
 public class AddAppointmentCommandParser implements Parser<AddAppointmentCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_DATETIME, PREFIX_SELLER, PREFIX_BUYER);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddAppointmentCommand
      * and returns an AddAppointmentCommand object for execution.
@@ -24,7 +27,7 @@ public class AddAppointmentCommandParser implements Parser<AddAppointmentCommand
      */
     public AddAppointmentCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATETIME, PREFIX_SELLER, PREFIX_BUYER);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         Index sellerIndex;
         Index buyerIndex;
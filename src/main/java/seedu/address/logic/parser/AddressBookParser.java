@@ -1,17 +1,21 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddAppointmentCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CalendarCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteAppointmentCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditAppointmentCommand;
@@ -21,8 +25,12 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAppointmentsCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NextCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SearchAppointmentCommand;
+import seedu.address.logic.commands.SlotsCommand;
 import seedu.address.logic.commands.ToggleCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -30,81 +38,103 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final CommandRegistry registry = new CommandRegistry();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} that recognizes the built-in command words.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        registerCommands();
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} that also recognizes the given {@code aliases}, each mapped to the
+     * command word it stands for. Aliases that are invalid, already taken or mapped to an unknown command word
+     * are skipped.
+     */
+    public AddressBookParser(Map<String, String> aliases) {
+        this();
+        requireNonNull(aliases);
+        aliases.forEach((alias, commandWord) -> {
+            try {
+                registry.registerAlias(alias, commandWord);
+            } catch (IllegalArgumentException e) {
+                logger.warning("Skipping command alias " + alias + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Registers the parser of every built-in command. New commands are added here.
+     * Commands without arguments ignore any arguments given, as before.
+     * Commands that delete data can only be run by their full command words or aliases.
+     */
+    private void registerCommands() {
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.registerExactOnly(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.registerExactOnly(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(SearchAppointmentCommand.COMMAND_WORD, new SearchAppointmentCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(ListAppointmentsCommand.COMMAND_WORD, arguments -> new ListAppointmentsCommand());
+        registry.register(ToggleCommand.COMMAND_WORD, arguments -> new ToggleCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(AddAppointmentCommand.COMMAND_WORD, new AddAppointmentCommandParser());
+        registry.registerExactOnly(DeleteAppointmentCommand.COMMAND_WORD, new DeleteAppointmentCommandParser());
+        registry.register(EditAppointmentCommand.COMMAND_WORD, new EditAppointmentCommandParser());
+        registry.register(ConflictsCommand.COMMAND_WORD, arguments -> new ConflictsCommand());
+        registry.register(SlotsCommand.COMMAND_WORD, new SlotsCommandParser());
+        registry.register(CalendarCommand.COMMAND_WORD, new CalendarCommandParser());
+        registry.register(NextCommand.COMMAND_WORD, new NextCommandParser());
+        registry.register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        registry.register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+    }
+
+    /**
+     * Returns up to {@code limit} command words and aliases that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getCommandWordCompletions(String prefix, int limit) {
+        return registry.complete(prefix, limit);
+    }
 
     /**
      * Parses user input into command for execution.
+     * The command word may be given in full, as an alias, or as a prefix that only one command word starts with.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        // Used for initial separation of command word and args
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case SearchAppointmentCommand.COMMAND_WORD:
-            return new SearchAppointmentCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ListAppointmentsCommand.COMMAND_WORD:
-            return new ListAppointmentsCommand();
-
-        case ToggleCommand.COMMAND_WORD:
-            return new ToggleCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case AddAppointmentCommand.COMMAND_WORD:
-            return new AddAppointmentCommandParser().parse(arguments);
-
-        case DeleteAppointmentCommand.COMMAND_WORD:
-            return new DeleteAppointmentCommandParser().parse(arguments);
-
-        case EditAppointmentCommand.COMMAND_WORD:
-            return new EditAppointmentCommandParser().parse(arguments);
-
-        default:
+        Optional<Parser<? extends Command>> parser = registry.find(commandWord);
+        if (parser.isEmpty()) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.get().parse(arguments);
     }
 
 }
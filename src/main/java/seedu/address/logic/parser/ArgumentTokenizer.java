@@ -1,8 +1,12 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -12,9 +16,33 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * A tokenizer is built once for a set of prefixes and finds all of them in a single left-to-right pass over
+ * the arguments string, so parsers should keep one per prefix set rather than tokenizing with
+ * {@link #tokenize(String, Prefix...)} on every call.
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE_PREFIX = new Prefix("");
+
+    // Prefixes that can start with each character, longest first so that the longest matching prefix wins
+    private final Map<Character, Prefix[]> prefixesByFirstCharacter = new HashMap<>();
+
+    /**
+     * Creates a tokenizer that recognizes the given prefixes.
+     *
+     * @param prefixes Prefixes to tokenize arguments strings with
+     */
+    public ArgumentTokenizer(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        Map<Character, List<Prefix>> groupedPrefixes = Arrays.stream(prefixes)
+                .distinct()
+                .filter(prefix -> !prefix.getPrefix().isEmpty())
+                .sorted(Comparator.comparingInt((Prefix prefix) -> prefix.getPrefix().length()).reversed())
+                .collect(Collectors.groupingBy(prefix -> prefix.getPrefix().charAt(0)));
+        groupedPrefixes.forEach((firstCharacter, group) ->
+                prefixesByFirstCharacter.put(firstCharacter, group.toArray(Prefix[]::new)));
+    }
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,125 +52,56 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        return new ArgumentTokenizer(prefixes).tokenize(argsString);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
+     * respective argument values. Only the prefixes given to this tokenizer will be recognized.
+     * A prefix is recognized wherever it directly follows a space; the text between two recognized prefixes is
+     * the value of the first one.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap tokenize(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE_PREFIX;
+        int valueStartPosition = 0;
+
+        int position = 1;
+        while (position < argsString.length()) {
+            Prefix prefix = argsString.charAt(position - 1) == ' ' ? findPrefixAt(argsString, position) : null;
+            if (prefix == null) {
+                position++;
+                continue;
+            }
+
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPosition, position).trim());
+            currentPrefix = prefix;
+            valueStartPosition = position + prefix.getPrefix().length();
+            position = valueStartPosition;
         }
 
+        argMultimap.put(currentPrefix, argsString.substring(valueStartPosition).trim());
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the longest prefix that occurs in {@code argsString} at {@code position}, or null if there is none.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private Prefix findPrefixAt(String argsString, int position) {
+        Prefix[] candidates = prefixesByFirstCharacter.get(argsString.charAt(position));
+        if (candidates == null) {
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        for (Prefix candidate : candidates) {
+            if (argsString.startsWith(candidate.getPrefix(), position)) {
+                return candidate;
+            }
         }
+        return null;
     }
 
 }
@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CalendarCommand object
+ */
+public class CalendarCommandParser implements Parser<CalendarCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CalendarCommand
+     * and returns a CalendarCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CalendarCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new CalendarCommand(CalendarCommand.DEFAULT_PERIOD);
+        }
+        return new CalendarCommand(ParserUtil.parseCalendarPeriod(trimmedArgs));
+    }
+}
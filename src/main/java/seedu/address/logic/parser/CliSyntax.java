@@ -17,4 +17,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_BUYER = new Prefix("b/");
     public static final Prefix PREFIX_TIMEFRAME = new Prefix("tf/");
     public static final Prefix PREFIX_SELLER = new Prefix("s/");
+    public static final Prefix PREFIX_UNTIL = new Prefix("to/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
+    public static final Prefix PREFIX_COUNT = new Prefix("max/");
 }
@@ -0,0 +1,156 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.CompletionTrie;
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * Besides its own command words, a command can be reached through aliases, and through any prefix of its command
+ * words or aliases that no other command shares (e.g. {@code sea} for {@code search}).
+ * Commands whose effects are hard to take back (e.g. {@code clear}) can be registered to be reached only through
+ * their exact command words or aliases, so that a mistyped or shortened word never runs them, and registering a new
+ * command never changes which of them an abbreviation runs.
+ * Words are kept in a trie, so looking up a word takes time proportional to its length and allocates nothing.
+ * Parsers are registered once and reused for every command, so they must be stateless.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_INVALID_WORD = "Command words and aliases should be non-empty and "
+            + "should not contain whitespace";
+    public static final String MESSAGE_DUPLICATE_WORD = "Command word or alias is already registered: %1$s";
+    public static final String MESSAGE_UNKNOWN_COMMAND_WORD = "There is no command with the command word: %1$s";
+
+    private final TrieNode root = new TrieNode();
+    private final CompletionTrie words = new CompletionTrie();
+    private final Set<Parser<? extends Command>> exactOnlyParsers = new HashSet<>();
+
+    /**
+     * Registers {@code parser} as the parser of the command with the given {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is invalid or already registered.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        requireAllNonNull(commandWord, parser);
+        checkArgument(isValidWord(commandWord), MESSAGE_INVALID_WORD);
+        checkArgument(findExact(commandWord) == null, String.format(MESSAGE_DUPLICATE_WORD, commandWord));
+        insert(commandWord, parser);
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the command with the given {@code commandWord}, which can only be
+     * reached through {@code commandWord} or its aliases written out in full, never through a prefix of them.
+     * Prefixes of these words are not taken to refer to any other command either.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is invalid or already registered.
+     */
+    public void registerExactOnly(String commandWord, Parser<? extends Command> parser) {
+        requireAllNonNull(commandWord, parser);
+        exactOnlyParsers.add(parser);
+        register(commandWord, parser);
+    }
+
+    /**
+     * Registers {@code alias} as another word for the command with the given {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code alias} is invalid or already registered, or if there is no command
+     *     with the given {@code commandWord}.
+     */
+    public void registerAlias(String alias, String commandWord) {
+        requireAllNonNull(alias, commandWord);
+        checkArgument(isValidWord(alias), MESSAGE_INVALID_WORD);
+        checkArgument(findExact(alias) == null, String.format(MESSAGE_DUPLICATE_WORD, alias));
+        Parser<? extends Command> parser = findExact(commandWord);
+        checkArgument(parser != null, String.format(MESSAGE_UNKNOWN_COMMAND_WORD, commandWord));
+        insert(alias, parser);
+    }
+
+    /**
+     * Returns the parser of the command that {@code word} refers to, either as one of its command words or aliases,
+     * or as a prefix that no other command shares.
+     * Returns an empty {@code Optional} if {@code word} does not refer to exactly one command.
+     */
+    public Optional<Parser<? extends Command>> find(String word) {
+        requireNonNull(word);
+        TrieNode node = findNode(word);
+        if (node == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(node.parser != null ? node.parser : node.commonParser);
+    }
+
+    /**
+     * Returns up to {@code limit} registered command words and aliases that start with {@code prefix},
+     * in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        return words.complete(prefix, limit);
+    }
+
+    /**
+     * Returns true if {@code test} can be registered as a command word or alias.
+     */
+    public static boolean isValidWord(String test) {
+        return !test.isEmpty() && test.chars().noneMatch(Character::isWhitespace);
+    }
+
+    private Parser<? extends Command> findExact(String word) {
+        TrieNode node = findNode(word);
+        return node == null ? null : node.parser;
+    }
+
+    private TrieNode findNode(String word) {
+        TrieNode node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.children.get(word.charAt(i));
+        }
+        return node;
+    }
+
+    private void insert(String word, Parser<? extends Command> parser) {
+        boolean isExactOnly = exactOnlyParsers.contains(parser);
+        TrieNode node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), unused -> new TrieNode());
+            node.addWordBelow(parser, isExactOnly);
+        }
+        node.parser = parser;
+        words.add(word);
+    }
+
+    /**
+     * A node of the trie of command words and aliases, standing for the word spelt by the path to it.
+     */
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new TreeMap<>();
+
+        // Parser of the command word or alias that ends at this node, if any
+        private Parser<? extends Command> parser;
+
+        // Parser shared by every word that starts with this node's word, or null if they belong to different commands
+        private Parser<? extends Command> commonParser;
+        private boolean hasWordsBelow;
+
+        void addWordBelow(Parser<? extends Command> wordParser, boolean isExactOnly) {
+            if (isExactOnly) {
+                commonParser = null;
+                hasWordsBelow = true;
+            } else if (!hasWordsBelow) {
+                commonParser = wordParser;
+                hasWordsBelow = true;
+            } else if (commonParser != wordParser) {
+                commonParser = null;
+            }
+        }
+    }
+}
@@ -13,6 +13,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class DeleteAppointmentCommandParser implements Parser<DeleteAppointmentCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_DATETIME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteAppointmentCommand
      * and returns an DeleteAppointmentCommand object for execution.
@@ -21,8 +23,7 @@ public class DeleteAppointmentCommandParser implements Parser<DeleteAppointmentC
      */
     public DeleteAppointmentCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATETIME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         Index index;
 
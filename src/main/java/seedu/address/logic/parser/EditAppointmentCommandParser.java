@@ -16,6 +16,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class EditAppointmentCommandParser implements Parser<EditAppointmentCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_DATETIME, PREFIX_SELLER, PREFIX_BUYER);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditAppointmentCommand
      * and returns an EditAppointmentCommand object for execution.
@@ -23,8 +26,7 @@ public class EditAppointmentCommandParser implements Parser<EditAppointmentComma
      */
     public EditAppointmentCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATETIME, PREFIX_SELLER, PREFIX_BUYER);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         Index index;
 
@@ -30,6 +30,9 @@ public class EditCommandParser implements Parser<EditCommand> {
 
     private static final Logger logger = LogsCenter.getLogger(EditCommandParser.class);
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ROLE, PREFIX_ADDRESS, PREFIX_PROPERTY_TYPE, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -37,9 +40,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      */
     public EditCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_ROLE, PREFIX_ADDRESS, PREFIX_PROPERTY_TYPE, PREFIX_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         logger.info("Parsing EditCommand with args: " + args);
         Index index;
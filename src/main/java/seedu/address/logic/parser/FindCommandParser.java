@@ -4,30 +4,42 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object, or a FuzzyFindCommand object if the keywords start
+ * with {@link FuzzyFindCommand#FUZZY_MARKER}.
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand or FuzzyFindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] personKeywords = trimmedArgs.split("\\s+");
+        if (trimmedArgs.startsWith(FuzzyFindCommand.FUZZY_MARKER)) {
+            return parseFuzzy(trimmedArgs.substring(FuzzyFindCommand.FUZZY_MARKER.length()).trim());
+        }
+
+        return new FindCommand(PersonQueryParser.parse(trimmedArgs));
+    }
 
-        return new FindCommand(new PersonContainsKeywordsPredicate(Arrays.asList(personKeywords)));
+    private FuzzyFindCommand parseFuzzy(String keywords) throws ParseException {
+        if (keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FuzzyFindCommand(Arrays.asList(keywords.split("\\s+")));
     }
 
 }
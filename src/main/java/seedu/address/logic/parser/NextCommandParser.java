@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.NextCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new NextCommand object
+ */
+public class NextCommandParser implements Parser<NextCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NextCommand
+     * and returns a NextCommand object for execution.
+     * A first argument made of digits only is taken as the number of appointments to list.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public NextCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        List<String> words = trimmedArgs.isEmpty()
+                ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(trimmedArgs.split("\\s+")));
+
+        int count = NextCommand.DEFAULT_COUNT;
+        if (!words.isEmpty() && words.get(0).matches("\\d+")) {
+            count = ParserUtil.parseCount(words.remove(0));
+        }
+        return new NextCommand(count, words);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -10,6 +11,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.appointment.CalendarPeriod;
 import seedu.address.model.appointment.TimeFrame;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -25,6 +27,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DURATION = "Duration should be a positive number of minutes.";
+    public static final String MESSAGE_INVALID_COUNT = "Count is not a non-zero unsigned integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -81,7 +85,7 @@ public class ParserUtil {
         if (!Role.isValidRole(trimmedRole)) {
             throw new ParseException(Role.MESSAGE_CONSTRAINTS);
         }
-        return new Role(trimmedRole);
+        return Role.of(trimmedRole);
     }
 
     /**
@@ -101,7 +105,7 @@ public class ParserUtil {
             throw new ParseException(AddressType.MESSAGE_CONSTRAINTS);
         }
 
-        return new Address(trimmedAddress, new AddressType(addressType));
+        return new Address(trimmedAddress, AddressType.of(addressType));
     }
 
     /**
@@ -131,7 +135,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -149,6 +153,36 @@ public class ParserUtil {
         return new AppointmentDatetime(trimmedDatetime);
     }
 
+    /**
+     * Parses a {@code String minutes} into a {@code Duration} of that many minutes.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code minutes} is not a positive integer.
+     */
+    public static Duration parseDuration(String minutes) throws ParseException {
+        requireNonNull(minutes);
+        String trimmedMinutes = minutes.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedMinutes)) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return Duration.ofMinutes(Integer.parseInt(trimmedMinutes));
+    }
+
+    /**
+     * Parses a {@code String count} into a positive {@code int}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code count} is not a positive integer.
+     */
+    public static int parseCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
     /**
      * Parses a {@code String timeFrame} into a {@code TimeFrame}.
      * Leading and trailing whitespaces will be trimmed.
@@ -164,6 +198,21 @@ public class ParserUtil {
         return TimeFrame.fromString(trimmedTimeFrame);
     }
 
+    /**
+     * Parses a {@code String calendarPeriod} into a {@code CalendarPeriod}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code calendarPeriod} is invalid.
+     */
+    public static CalendarPeriod parseCalendarPeriod(String calendarPeriod) throws ParseException {
+        requireNonNull(calendarPeriod);
+        String trimmedCalendarPeriod = calendarPeriod.trim();
+        if (!CalendarPeriod.isValidCalendarPeriod(trimmedCalendarPeriod)) {
+            throw new ParseException(CalendarPeriod.MESSAGE_CONSTRAINTS);
+        }
+        return CalendarPeriod.fromString(trimmedCalendarPeriod);
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
      */
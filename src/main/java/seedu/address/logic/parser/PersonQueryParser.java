@@ -0,0 +1,214 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.address.AddressType;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses the keywords of a search into a {@code PersonQuery}.
+ * A search is made of terms, each either a bare keyword matching any detail or a keyword scoped to one detail by its
+ * prefix (e.g. {@code t/vip}), combined with {@code AND}, {@code OR}, {@code NOT} and parentheses.
+ * {@code NOT} binds tightest and {@code OR} loosest, and terms written next to each other are combined with
+ * {@code OR}, so a search of bare keywords finds persons matching any of them, as it always has.
+ */
+public class PersonQueryParser {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private static final Map<Prefix, QueryField> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put(PREFIX_NAME, QueryField.NAME);
+        FIELDS.put(PREFIX_PHONE, QueryField.PHONE);
+        FIELDS.put(PREFIX_ROLE, QueryField.ROLE);
+        FIELDS.put(PREFIX_PROPERTY_TYPE, QueryField.PROPERTY_TYPE);
+        FIELDS.put(PREFIX_TAG, QueryField.TAG);
+        FIELDS.put(PREFIX_ADDRESS, QueryField.ADDRESS);
+    }
+
+    private final List<String> tokens;
+    private int position;
+
+    private PersonQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code args} into a {@code PersonQuery}.
+     * A search of bare keywords only is parsed into a {@code PersonContainsKeywordsPredicate}.
+     *
+     * @throws ParseException if {@code args} is not a valid search.
+     */
+    public static PersonQuery parse(String args) throws ParseException {
+        List<String> tokens = tokenize(args);
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        if (tokens.stream().allMatch(PersonQueryParser::isBareKeyword)) {
+            return new PersonContainsKeywordsPredicate(tokens);
+        }
+
+        PersonQueryParser parser = new PersonQueryParser(tokens);
+        PersonQuery query = parser.parseOr();
+        if (parser.position < tokens.size()) {
+            throw invalidFormat();
+        }
+        return query;
+    }
+
+    /**
+     * Splits {@code args} into words and parentheses.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : args.trim().split("\\s+")) {
+            int start = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                if (c == '(' || c == ')') {
+                    if (i > start) {
+                        tokens.add(word.substring(start, i));
+                    }
+                    tokens.add(String.valueOf(c));
+                    start = i + 1;
+                }
+            }
+            if (start < word.length()) {
+                tokens.add(word.substring(start));
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isBareKeyword(String token) {
+        return !isOperator(token) && !token.equals(OPEN_PARENTHESIS) && !token.equals(CLOSE_PARENTHESIS)
+                && findPrefix(token) == null;
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR) || token.equals(OPERATOR_NOT);
+    }
+
+    private static Prefix findPrefix(String token) {
+        for (Prefix prefix : FIELDS.keySet()) {
+            if (token.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private PersonQuery parseOr() throws ParseException {
+        List<PersonQuery> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (position < tokens.size() && !peek().equals(CLOSE_PARENTHESIS)) {
+            if (peek().equals(OPERATOR_OR)) {
+                position++;
+            }
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private PersonQuery parseAnd() throws ParseException {
+        List<PersonQuery> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (position < tokens.size() && peek().equals(OPERATOR_AND)) {
+            position++;
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private PersonQuery parseNot() throws ParseException {
+        if (position < tokens.size() && peek().equals(OPERATOR_NOT)) {
+            position++;
+            return new NotQuery(parseNot());
+        }
+        return parseTerm();
+    }
+
+    private PersonQuery parseTerm() throws ParseException {
+        if (position == tokens.size()) {
+            throw invalidFormat();
+        }
+        String token = tokens.get(position++);
+        if (token.equals(OPEN_PARENTHESIS)) {
+            PersonQuery query = parseOr();
+            if (position == tokens.size() || !tokens.get(position++).equals(CLOSE_PARENTHESIS)) {
+                throw invalidFormat();
+            }
+            return query;
+        }
+        if (isOperator(token) || token.equals(CLOSE_PARENTHESIS)) {
+            throw invalidFormat();
+        }
+
+        Prefix prefix = findPrefix(token);
+        if (prefix == null) {
+            return new FieldQuery(QueryField.ANY, token);
+        }
+        String value = token.substring(prefix.getPrefix().length());
+        if (value.isEmpty()) {
+            throw invalidFormat();
+        }
+        QueryField field = FIELDS.get(prefix);
+        checkValue(field, value);
+        return new FieldQuery(field, value);
+    }
+
+    /**
+     * Checks that persons can have {@code value} as their {@code field}, so that a mistyped value is reported
+     * instead of silently matching nobody.
+     */
+    private static void checkValue(QueryField field, String value) throws ParseException {
+        if (field == QueryField.PHONE && !Phone.isValidPhone(value)) {
+            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (field == QueryField.ROLE && !Role.isValidRole(value)) {
+            throw new ParseException(Role.MESSAGE_CONSTRAINTS);
+        }
+        if (field == QueryField.PROPERTY_TYPE && !AddressType.isValidType(value)) {
+            throw new ParseException(AddressType.MESSAGE_CONSTRAINTS);
+        }
+        if (field == QueryField.TAG && !Tag.isValidTagName(value)) {
+            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+}
@@ -18,6 +18,8 @@ import seedu.address.model.appointment.TimeFrame;
  */
 public class SearchAppointmentCommandParser implements Parser<SearchAppointmentCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_TIMEFRAME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the SearchAppointmentCommand
      * and returns a SearchAppointmentCommand object for execution.
@@ -25,7 +27,7 @@ public class SearchAppointmentCommandParser implements Parser<SearchAppointmentC
      */
     public SearchAppointmentCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TIMEFRAME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         String preamble;
         TimeFrame timeFrame;
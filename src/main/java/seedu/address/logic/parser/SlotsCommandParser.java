@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SELLER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.SlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.TimeSlot;
+
+/**
+ * Parses input arguments and creates a new SlotsCommand object
+ */
+public class SlotsCommandParser implements Parser<SlotsCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_SELLER, PREFIX_BUYER, PREFIX_DATETIME, PREFIX_UNTIL, PREFIX_DURATION, PREFIX_COUNT);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SlotsCommand
+     * and returns a SlotsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
+
+        if (argMultimap.getValue(PREFIX_SELLER).isEmpty() || argMultimap.getValue(PREFIX_DATETIME).isEmpty()
+                || argMultimap.getValue(PREFIX_UNTIL).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SlotsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(
+                PREFIX_SELLER, PREFIX_BUYER, PREFIX_DATETIME, PREFIX_UNTIL, PREFIX_DURATION, PREFIX_COUNT);
+
+        Index sellerIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_SELLER).get());
+        Index buyerIndex = argMultimap.getValue(PREFIX_BUYER).isPresent()
+                ? ParserUtil.parseIndex(argMultimap.getValue(PREFIX_BUYER).get())
+                : null;
+
+        LocalDateTime from = ParserUtil.parseAppointmentDatetime(argMultimap.getValue(PREFIX_DATETIME).get()).datetime;
+        LocalDateTime until = ParserUtil.parseAppointmentDatetime(argMultimap.getValue(PREFIX_UNTIL).get()).datetime;
+        if (!from.isBefore(until)) {
+            throw new ParseException(TimeSlot.MESSAGE_CONSTRAINTS);
+        }
+
+        Duration duration = argMultimap.getValue(PREFIX_DURATION).isPresent()
+                ? ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get())
+                : null;
+        int count = argMultimap.getValue(PREFIX_COUNT).isPresent()
+                ? ParserUtil.parseCount(argMultimap.getValue(PREFIX_COUNT).get())
+                : SlotsCommand.DEFAULT_COUNT;
+
+        return new SlotsCommand(sellerIndex, buyerIndex, new TimeSlot(from, until), duration, count);
+    }
+}
@@ -2,16 +2,31 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.appointment.CalendarPeriod;
+import seedu.address.model.appointment.TimeSlot;
 import seedu.address.model.appointment.UniqueAppointmentList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBuckets;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonLookup;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -21,6 +36,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueAppointmentList appointments;
+    private final TagIndex tags;
+    private final PersonBuckets buckets;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -31,7 +49,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
-        appointments = new UniqueAppointmentList();
+        appointments = new UniqueAppointmentList(persons);
+        tags = new TagIndex(persons.asUnmodifiableObservableList());
+        buckets = new PersonBuckets(persons.asUnmodifiableObservableList());
+        // Listening before anyone else, so the version has changed by the time others hear of a change
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> version++);
+        appointments.asUnmodifiableObservableList().addListener((ListChangeListener<Appointment>) change -> version++);
     }
 
     public AddressBook() {}
@@ -94,13 +117,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
-     * All appointments involving {@code target} are also updated to involve {@code editedPerson}.
+     * {@code editedPerson} takes over the ID of {@code target}, so all appointments involving {@code target} now
+     * involve {@code editedPerson} without having to be replaced.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
-        appointments.updateAppointmentsWithEditedPerson(target, editedPerson);
+        appointments.refreshAppointmentsWithPerson(target.getId());
     }
 
     /**
@@ -110,12 +134,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
-
-        appointments.asUnmodifiableObservableList().stream()
-                .filter(appointment ->
-                        appointment.getSeller().equals(key) || appointment.getBuyer().equals(Optional.of(key)))
-                .toList()
-                .forEach(appointments::remove);
+        appointments.removeAppointmentsWithPerson(key.getId());
     }
 
     /**
@@ -130,6 +149,16 @@ public class AddressBook implements ReadOnlyAddressBook {
                     .findFirst().orElse(null);
     }
 
+    /**
+     * Returns the Person in the address book with the given ID.
+     *
+     * @param id ID to search for.
+     * @return Person with matching ID, or null if there is no such person.
+     */
+    public Person findPerson(PersonId id) {
+        return persons.findPerson(id);
+    }
+
     //// appointment-level operations
 
     /**
@@ -168,6 +197,88 @@ public class AddressBook implements ReadOnlyAddressBook {
         appointments.setAppointment(target, editedAppointment);
     }
 
+    /**
+     * Returns the appointments, other than {@code appointment} itself, that involve the seller or buyer of
+     * {@code appointment} and overlap it in time, in order of time.
+     */
+    public List<Appointment> findConflictingAppointments(Appointment appointment) {
+        return appointments.findConflicts(appointment);
+    }
+
+    /**
+     * Returns every pair of appointments that involve the same person and overlap in time, earliest first.
+     */
+    public List<AppointmentConflict> findAppointmentConflicts() {
+        return appointments.findAllConflicts();
+    }
+
+    /**
+     * Returns up to {@code limit} windows of at least {@code duration} within {@code range} in which none of
+     * {@code persons} has an appointment, earliest first.
+     */
+    public List<TimeSlot> findFreeSlots(List<Person> persons, TimeSlot range, Duration duration, int limit) {
+        requireNonNull(persons);
+        List<PersonId> ids = persons.stream().map(Person::getId).collect(Collectors.toList());
+        return appointments.findFreeSlots(ids, range, duration, limit);
+    }
+
+    /**
+     * Returns the number of appointments in each of {@code periodCount} consecutive periods of the given length,
+     * starting from the one that contains {@code from}.
+     */
+    public int[] countAppointments(CalendarPeriod period, LocalDate from, int periodCount) {
+        return appointments.countAppointments(period, from, periodCount);
+    }
+
+    /**
+     * Notifies listeners of the appointment list of the appointments that have moved between timeframes since the
+     * last refresh, as of the time {@code now}.
+     *
+     * @return the appointments that have moved.
+     */
+    public List<Appointment> refreshTimeFrames(LocalDateTime now) {
+        return appointments.refreshTimeFrames(now);
+    }
+
+    /**
+     * Returns the earliest time after the last refresh at which any appointment moves between timeframes.
+     */
+    public LocalDateTime getNextTimeFrameChange() {
+        return appointments.getNextTimeFrameChange();
+    }
+
+    /**
+     * Returns up to {@code limit} appointments after the time {@code after} that satisfy {@code predicate}, earliest
+     * first.
+     */
+    public List<Appointment> findNextAppointments(LocalDateTime after, Predicate<Appointment> predicate, int limit) {
+        return appointments.findNextAppointments(after, predicate, limit);
+    }
+
+    /**
+     * Returns the appointments before the time {@code before}, earliest first.
+     */
+    public List<Appointment> findAppointmentsBefore(LocalDateTime before) {
+        return appointments.findAppointmentsBefore(before);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from this {@code AddressBook}, notifying listeners of all removals as a single
+     * change. Appointments of {@code toRemove} that are not in the address book are ignored.
+     */
+    public void removeAppointments(Collection<Appointment> toRemove) {
+        requireNonNull(toRemove);
+        Set<Appointment> removed = new HashSet<>(toRemove);
+        appointments.removeAppointments(removed::contains);
+    }
+
+    /**
+     * Sets how long every appointment is taken to last when looking for conflicts.
+     */
+    public void setAppointmentDuration(Duration appointmentDuration) {
+        appointments.setAppointmentDuration(appointmentDuration);
+    }
+
     //// util methods
 
     @Override
@@ -182,6 +293,33 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public PersonLookup getPersonLookup() {
+        return persons;
+    }
+
+    /**
+     * Returns the index of the tags of the persons in this address book.
+     */
+    public TagIndex getTagIndex() {
+        return tags;
+    }
+
+    /**
+     * Returns the buckets of the persons in this address book by property type and role.
+     */
+    public PersonBuckets getPersonBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Returns the number of changes made to the persons and appointments in this address book so far, which tells
+     * whether anything has changed since it was last looked at.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Appointment> getAppointmentList() {
         return appointments.asUnmodifiableObservableList();
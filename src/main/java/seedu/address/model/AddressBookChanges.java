@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Changes that bring an address book in line with its data file, after changes saved to the file by other users
+ * sharing it were merged with those of the address book.
+ * Persons are matched by their ID. Only the persons and appointments that differ are included, so the address book
+ * can be brought in line without being loaded again.
+ * Changes made to the address book that could not be saved, as another user had changed the same records, are
+ * counted as rejected; the changes also undo them.
+ */
+public final class AddressBookChanges {
+
+    public static final AddressBookChanges NONE = new AddressBookChanges(List.of(), List.of(), List.of(), List.of(), 0);
+
+    private final List<Person> updatedPersons;
+    private final List<PersonId> removedPersonIds;
+    private final List<Appointment> addedAppointments;
+    private final List<Appointment> removedAppointments;
+    private final int rejectedCount;
+
+    /**
+     * Creates changes that add or replace {@code updatedPersons}, remove the persons with {@code removedPersonIds},
+     * add {@code addedAppointments} and remove {@code removedAppointments}, having rejected {@code rejectedCount}
+     * changes.
+     */
+    public AddressBookChanges(List<Person> updatedPersons, List<PersonId> removedPersonIds,
+            List<Appointment> addedAppointments, List<Appointment> removedAppointments, int rejectedCount) {
+        requireAllNonNull(updatedPersons, removedPersonIds, addedAppointments, removedAppointments);
+        this.updatedPersons = List.copyOf(updatedPersons);
+        this.removedPersonIds = List.copyOf(removedPersonIds);
+        this.addedAppointments = List.copyOf(addedAppointments);
+        this.removedAppointments = List.copyOf(removedAppointments);
+        this.rejectedCount = rejectedCount;
+    }
+
+    /**
+     * Returns the persons to add, or to replace the persons with the same ID by.
+     */
+    public List<Person> getUpdatedPersons() {
+        return updatedPersons;
+    }
+
+    public List<PersonId> getRemovedPersonIds() {
+        return removedPersonIds;
+    }
+
+    public List<Appointment> getAddedAppointments() {
+        return addedAppointments;
+    }
+
+    public List<Appointment> getRemovedAppointments() {
+        return removedAppointments;
+    }
+
+    /**
+     * Returns the number of changes to persons and appointments that were not saved, as another user had changed
+     * the same records.
+     */
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Returns true if the address book needs no changes.
+     */
+    public boolean isEmpty() {
+        return updatedPersons.isEmpty() && removedPersonIds.isEmpty() && addedAppointments.isEmpty()
+                && removedAppointments.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChanges)) {
+            return false;
+        }
+
+        AddressBookChanges otherChanges = (AddressBookChanges) other;
+        return updatedPersons.equals(otherChanges.updatedPersons)
+                && removedPersonIds.equals(otherChanges.removedPersonIds)
+                && addedAppointments.equals(otherChanges.addedAppointments)
+                && removedAppointments.equals(otherChanges.removedAppointments)
+                && rejectedCount == otherChanges.rejectedCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(updatedPersons, removedPersonIds, addedAppointments, removedAppointments, rejectedCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("updatedPersons", updatedPersons)
+                .add("removedPersonIds", removedPersonIds)
+                .add("addedAppointments", addedAppointments)
+                .add("removedAppointments", removedAppointments)
+                .add("rejectedCount", rejectedCount)
+                .toString();
+    }
+}
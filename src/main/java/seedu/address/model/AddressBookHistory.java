@@ -0,0 +1,359 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PersistentMap;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Keeps the versions of an address book that changes were committed at, so that the address book can be taken back
+ * to an earlier version and forward again.
+ * Each version holds the persons and appointments of the address book in {@link PersistentMap}s, which are updated as
+ * the address book changes. A version shares everything but the changed entries with the version before it, so a long
+ * history of a large address book only takes space for the changes made in it. Going back or forward a version only
+ * changes in the address book the persons and appointments that differ between the versions, which are found without
+ * looking at the others.
+ * At most {@link #MAX_VERSIONS} versions before the current one are kept.
+ * Changes absorbed into the history are recorded once, and only taken into a kept version when it is restored.
+ */
+public class AddressBookHistory {
+
+    public static final int MAX_VERSIONS = 1000;
+
+    public static final String MESSAGE_NO_UNDO = "There is no change to undo";
+    public static final String MESSAGE_NO_REDO = "There is no undone change to redo";
+
+    private final AddressBook addressBook;
+    private final Deque<Version> undoVersions = new ArrayDeque<>();
+    private final Deque<Version> redoVersions = new ArrayDeque<>();
+    // The absorbed changes not yet taken into every kept version, the first of them being the one numbered
+    // firstAbsorbedChangesNumber
+    private final Deque<Changes> absorbedChanges = new ArrayDeque<>();
+    private long firstAbsorbedChangesNumber;
+
+    // The persons and appointments in the address book now, and when changes were last committed
+    private PersistentMap<PersonId, Person> persons = PersistentMap.empty();
+    private PersistentMap<Appointment, Appointment> appointments = PersistentMap.empty();
+    private Version committed;
+    private boolean isRestoring;
+
+    /**
+     * Creates a history of {@code addressBook} that starts at the version it is at now.
+     */
+    public AddressBookHistory(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        addressBook.getPersonList().forEach(person -> persons = persons.put(person.getId(), person));
+        addressBook.getAppointmentList().forEach(appointment -> appointments = appointments.put(appointment,
+                appointment));
+        committed = new Version(persons, appointments, 0);
+        addressBook.getPersonList().addListener(this::onPersonsChanged);
+        addressBook.getAppointmentList().addListener(this::onAppointmentsChanged);
+    }
+
+    /**
+     * Saves the changes made to the address book since the last commit as a new version, and forgets the versions
+     * that were undone. Does nothing if there are no such changes.
+     *
+     * @return true if a new version was saved.
+     */
+    public boolean commit() {
+        if (!hasUncommittedChanges()) {
+            return false;
+        }
+        undoVersions.push(committed);
+        if (undoVersions.size() > MAX_VERSIONS) {
+            undoVersions.removeLast();
+        }
+        redoVersions.clear();
+        committed = new Version(persons, appointments, getAbsorbedChangesCount());
+        forgetAbsorbedChangesTakenIn();
+        return true;
+    }
+
+    public boolean canUndo() {
+        return !undoVersions.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoVersions.isEmpty();
+    }
+
+    /**
+     * Takes the address book back to the version before the last commit.
+     *
+     * @throws IllegalStateException if there is no earlier version.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException(MESSAGE_NO_UNDO);
+        }
+        redoVersions.push(committed);
+        restore(undoVersions.pop());
+        forgetAbsorbedChangesTakenIn();
+    }
+
+    /**
+     * Takes the address book forward to the version the last undo took it back from.
+     *
+     * @throws IllegalStateException if there is no undone version.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException(MESSAGE_NO_REDO);
+        }
+        undoVersions.push(committed);
+        restore(redoVersions.pop());
+        forgetAbsorbedChangesTakenIn();
+    }
+
+    /**
+     * Takes the changes made to the address book since the last commit into the current version and every version
+     * kept before and after it, without saving a new version, so that undoing and redoing keep them. This is for
+     * changes that are not the user's to undo, e.g. those others saved to a shared data file.
+     * The changes are recorded once and taken into a kept version only when it is restored, so absorbing does not
+     * depend on the number of versions kept.
+     * A kept version does not take in an appointment involving a person it does not have, and loses its appointments
+     * involving the persons removed.
+     */
+    public void absorb() {
+        if (!hasUncommittedChanges()) {
+            return;
+        }
+        List<PersonId> removedPersonIds = new ArrayList<>();
+        List<Person> updatedPersons = new ArrayList<>();
+        committed.persons.forEachDifference(persons, (id, person, changedPerson) -> {
+            if (changedPerson == null) {
+                removedPersonIds.add(id);
+            } else {
+                updatedPersons.add(changedPerson);
+            }
+        });
+        List<Appointment> removedAppointments = new ArrayList<>();
+        List<Appointment> addedAppointments = new ArrayList<>();
+        committed.appointments.forEachDifference(appointments, (appointment, unused, changedAppointment) -> {
+            if (changedAppointment == null) {
+                removedAppointments.add(appointment);
+            } else {
+                addedAppointments.add(changedAppointment);
+            }
+        });
+
+        absorbedChanges.add(new Changes(removedPersonIds, updatedPersons, removedAppointments, addedAppointments));
+        committed = new Version(persons, appointments, getAbsorbedChangesCount());
+        forgetAbsorbedChangesTakenIn();
+    }
+
+    private long getAbsorbedChangesCount() {
+        return firstAbsorbedChangesNumber + absorbedChanges.size();
+    }
+
+    /**
+     * Returns {@code version} with the absorbed changes it has not taken in yet applied to it in order.
+     */
+    private Version takeInAbsorbedChanges(Version version) {
+        Version changedVersion = version;
+        long number = firstAbsorbedChangesNumber;
+        for (Changes changes : absorbedChanges) {
+            if (number++ >= version.absorbedChangesCount) {
+                changedVersion = changes.applyTo(changedVersion);
+            }
+        }
+        return new Version(changedVersion.persons, changedVersion.appointments, getAbsorbedChangesCount());
+    }
+
+    /**
+     * Forgets the absorbed changes that every kept version has taken in.
+     * A version is always pushed onto the undo or redo versions having taken in every absorbed change, so the
+     * versions at the bottom of them have taken in the fewest.
+     */
+    private void forgetAbsorbedChangesTakenIn() {
+        long takenInByAll = getAbsorbedChangesCount();
+        if (!undoVersions.isEmpty()) {
+            takenInByAll = Math.min(takenInByAll, undoVersions.peekLast().absorbedChangesCount);
+        }
+        if (!redoVersions.isEmpty()) {
+            takenInByAll = Math.min(takenInByAll, redoVersions.peekLast().absorbedChangesCount);
+        }
+        while (firstAbsorbedChangesNumber < takenInByAll) {
+            absorbedChanges.removeFirst();
+            firstAbsorbedChangesNumber++;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the address book as it is now, at {@code version}, sharing the persons and appointments
+     * kept for the current version instead of copying them.
+     */
+    public AddressBookSnapshot getSnapshot(long version) {
+        return new AddressBookSnapshot(version, persons, appointments);
+    }
+
+    /**
+     * Forgets all versions, starting the history again at the version the address book is at now.
+     */
+    public void clear() {
+        undoVersions.clear();
+        redoVersions.clear();
+        committed = new Version(persons, appointments, getAbsorbedChangesCount());
+        forgetAbsorbedChangesTakenIn();
+    }
+
+    private boolean hasUncommittedChanges() {
+        return persons != committed.persons || appointments != committed.appointments;
+    }
+
+    /**
+     * Changes the address book to {@code restoredVersion}, with the absorbed changes it has not taken in yet, changing
+     * only the persons and appointments that differ from it.
+     */
+    private void restore(Version restoredVersion) {
+        Version version = takeInAbsorbedChanges(restoredVersion);
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        List<Person[]> editedPersons = new ArrayList<>();
+        persons.forEachDifference(version.persons, (id, person, restoredPerson) -> {
+            if (restoredPerson == null) {
+                removedPersons.add(person);
+            } else if (person == null) {
+                addedPersons.add(restoredPerson);
+            } else {
+                editedPersons.add(new Person[] {person, restoredPerson});
+            }
+        });
+        List<Appointment> removedAppointments = new ArrayList<>();
+        List<Appointment> addedAppointments = new ArrayList<>();
+        appointments.forEachDifference(version.appointments, (appointment, unused, restoredAppointment) -> {
+            if (restoredAppointment == null) {
+                removedAppointments.add(appointment);
+            } else {
+                addedAppointments.add(restoredAppointment);
+            }
+        });
+
+        // Appointments go before the persons they involve, and come back after them
+        isRestoring = true;
+        try {
+            addressBook.removeAppointments(removedAppointments);
+            removedPersons.forEach(addressBook::removePerson);
+            editedPersons.forEach(edit -> addressBook.setPerson(edit[0], edit[1]));
+            addedPersons.forEach(addressBook::addPerson);
+            addedAppointments.forEach(addressBook::addAppointment);
+        } finally {
+            isRestoring = false;
+        }
+        persons = version.persons;
+        appointments = version.appointments;
+        committed = version;
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        if (isRestoring) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Person person : change.getRemoved()) {
+                persons = persons.remove(person.getId());
+            }
+            for (Person person : change.getAddedSubList()) {
+                persons = persons.put(person.getId(), person);
+            }
+        }
+    }
+
+    private void onAppointmentsChanged(ListChangeListener.Change<? extends Appointment> change) {
+        if (isRestoring) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Appointment appointment : change.getRemoved()) {
+                appointments = appointments.remove(appointment);
+            }
+            for (Appointment appointment : change.getAddedSubList()) {
+                appointments = appointments.put(appointment, appointment);
+            }
+        }
+    }
+
+    /**
+     * Changes absorbed by {@link #absorb()}, to be taken into kept versions when they are restored.
+     */
+    private static class Changes {
+        private final List<PersonId> removedPersonIds;
+        private final List<Person> updatedPersons;
+        private final List<Appointment> removedAppointments;
+        private final List<Appointment> addedAppointments;
+
+        Changes(List<PersonId> removedPersonIds, List<Person> updatedPersons, List<Appointment> removedAppointments,
+                List<Appointment> addedAppointments) {
+            this.removedPersonIds = removedPersonIds;
+            this.updatedPersons = updatedPersons;
+            this.removedAppointments = removedAppointments;
+            this.addedAppointments = addedAppointments;
+        }
+
+        Version applyTo(Version version) {
+            PersistentMap<PersonId, Person> changedPersons = version.persons;
+            for (PersonId id : removedPersonIds) {
+                changedPersons = changedPersons.remove(id);
+            }
+            for (Person person : updatedPersons) {
+                changedPersons = changedPersons.put(person.getId(), person);
+            }
+
+            List<Appointment> appointmentsToRemove = new ArrayList<>(removedAppointments);
+            if (!removedPersonIds.isEmpty()) {
+                version.appointments.forEach((appointment, unused) -> {
+                    if (removedPersonIds.stream().anyMatch(appointment::involvesPerson)) {
+                        appointmentsToRemove.add(appointment);
+                    }
+                });
+            }
+            PersistentMap<Appointment, Appointment> changedAppointments = version.appointments;
+            for (Appointment appointment : appointmentsToRemove) {
+                changedAppointments = changedAppointments.remove(appointment);
+            }
+            for (Appointment appointment : addedAppointments) {
+                if (hasPersonsOf(appointment, changedPersons)) {
+                    changedAppointments = changedAppointments.put(appointment, appointment);
+                }
+            }
+            return new Version(changedPersons, changedAppointments, version.absorbedChangesCount);
+        }
+
+        private static boolean hasPersonsOf(Appointment appointment, PersistentMap<PersonId, Person> persons) {
+            return persons.containsKey(appointment.getSellerId())
+                    && appointment.getBuyerId().map(persons::containsKey).orElse(true);
+        }
+    }
+
+    /**
+     * The persons and appointments of the address book at a commit, with the number of absorbed changes taken in.
+     */
+    private static class Version {
+        private final PersistentMap<PersonId, Person> persons;
+        private final PersistentMap<Appointment, Appointment> appointments;
+        private final long absorbedChangesCount;
+
+        Version(PersistentMap<PersonId, Person> persons, PersistentMap<Appointment, Appointment> appointments,
+                long absorbedChangesCount) {
+            this.persons = persons;
+            this.appointments = appointments;
+            this.absorbedChangesCount = absorbedChangesCount;
+        }
+    }
+}
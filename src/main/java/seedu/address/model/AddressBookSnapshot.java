@@ -0,0 +1,149 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentMap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonLookup;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * An unchanging copy of an address book, as it was when a change to it was committed.
+ * A snapshot can be read from any thread without locking while the address book goes on changing on another, so
+ * saving, searching and reporting can work on it away from the thread the address book is changed on.
+ * A snapshot holds the persons and appointments in the {@link PersistentMap}s kept by {@link AddressBookHistory}, so
+ * taking one copies nothing. The lists of persons, in the order of their IDs, and of appointments, earliest first, are
+ * only built when first asked for.
+ * Appointments resolve their sellers and buyers through the live address book, so they must be read through
+ * {@link #getPersonLookup()} to see the persons as they were when the snapshot was taken.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private static final Comparator<Person> PERSON_ORDER = Comparator.comparingLong(person -> person.getId().value);
+    private static final Comparator<Appointment> APPOINTMENT_ORDER = Comparator.<Appointment>naturalOrder()
+            .thenComparingLong(appointment -> appointment.getSellerId().value)
+            .thenComparingLong(appointment -> appointment.getBuyerId().map(id -> id.value).orElse(0L));
+
+    private final long version;
+    private final PersistentMap<PersonId, Person> persons;
+    private final PersistentMap<Appointment, Appointment> appointments;
+    // Built from the maps when first asked for
+    private ObservableList<Person> personList;
+    private ObservableList<Appointment> appointmentList;
+
+    /**
+     * Creates a snapshot of {@code addressBook} as it is now, copying its persons and appointments.
+     */
+    public AddressBookSnapshot(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        version = addressBook.getVersion();
+        PersistentMap<PersonId, Person> persons = PersistentMap.empty();
+        for (Person person : addressBook.getPersonList()) {
+            persons = persons.put(person.getId(), person);
+        }
+        PersistentMap<Appointment, Appointment> appointments = PersistentMap.empty();
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            appointments = appointments.put(appointment, appointment);
+        }
+        this.persons = persons;
+        this.appointments = appointments;
+    }
+
+    /**
+     * Creates a snapshot at {@code version} holding {@code persons} and {@code appointments}, which must not be
+     * changed afterwards.
+     */
+    AddressBookSnapshot(long version, PersistentMap<PersonId, Person> persons,
+            PersistentMap<Appointment, Appointment> appointments) {
+        requireAllNonNull(persons, appointments);
+        this.version = version;
+        this.persons = persons;
+        this.appointments = appointments;
+    }
+
+    /**
+     * Returns the {@link AddressBook#getVersion() version} of the address book the snapshot was taken at.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = toSortedList(persons, PERSON_ORDER);
+        }
+        return personList;
+    }
+
+    @Override
+    public synchronized ObservableList<Appointment> getAppointmentList() {
+        if (appointmentList == null) {
+            appointmentList = toSortedList(appointments, APPOINTMENT_ORDER);
+        }
+        return appointmentList;
+    }
+
+    private static <T> ObservableList<T> toSortedList(PersistentMap<?, T> map, Comparator<? super T> order) {
+        List<T> list = new ArrayList<>(map.size());
+        map.forEach((unused, value) -> list.add(value));
+        list.sort(order);
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(list));
+    }
+
+    /**
+     * Returns a {@code PersonLookup} that resolves IDs to the persons as they were when the snapshot was taken, even if
+     * they have since been edited or deleted.
+     */
+    @Override
+    public PersonLookup getPersonLookup() {
+        return id -> {
+            Person person = persons.get(id);
+            if (person == null) {
+                throw new PersonNotFoundException();
+            }
+            return person;
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return getPersonList().equals(otherSnapshot.getPersonList())
+                && getAppointmentList().equals(otherSnapshot.getAppointmentList());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getPersonList(), getAppointmentList());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", getPersonList())
+                .add("appointments", getAppointmentList())
+                .toString();
+    }
+}
@@ -0,0 +1,365 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
+import seedu.address.model.appointment.ArchiveSummary;
+import seedu.address.model.appointment.CalendarPeriod;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFacets;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.query.PersonQuery;
+
+/**
+ * A {@code Model} that may be used by many threads at once, by guarding another model with a read/write lock.
+ * Any number of threads may query the model together, while a change to it waits for the queries in progress to end
+ * and keeps out all others until it is done. Queries therefore only wait on changes, not on one another, which suits
+ * many threads searching and reporting against a model that changes now and then.
+ * The lists returned by the list accessors are those of the guarded model and are not guarded; threads other than
+ * the one changing the model should read {@link #getAddressBookSnapshot()} instead, which needs no lock.
+ * Completions and appointment counts, which the UI asks for as the user types and as it redraws, are read from
+ * indexes that guard themselves for the moment each of their entries changes, rather than through the lock, so that
+ * the UI never waits for a whole change to end. They may show a change half done.
+ */
+public class ConcurrentModel implements Model {
+
+    private final Model model;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates a {@code ConcurrentModel} guarding {@code model}, which must not be used other than through it.
+     */
+    public ConcurrentModel(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns the lock guarding the model.
+     * Holding its write lock makes several calls one change that no other thread sees half done, e.g. a command
+     * finding a person by index and then editing them. A thread holding the read lock must not change the model,
+     * as it would wait forever for its own read lock to be released.
+     */
+    public ReadWriteLock getLock() {
+        return lock;
+    }
+
+    private <T> T read(Supplier<T> query) {
+        return guard(lock.readLock(), query);
+    }
+
+    private <T> T write(Supplier<T> change) {
+        return guard(lock.writeLock(), change);
+    }
+
+    private void write(Runnable change) {
+        guard(lock.writeLock(), () -> {
+            change.run();
+            return null;
+        });
+    }
+
+    private static <T> T guard(Lock heldLock, Supplier<T> action) {
+        heldLock.lock();
+        try {
+            return action.get();
+        } finally {
+            heldLock.unlock();
+        }
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        write(() -> model.setUserPrefs(userPrefs));
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return read(model::getUserPrefs);
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return read(model::getGuiSettings);
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        write(() -> model.setGuiSettings(guiSettings));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return read(model::getAddressBookFilePath);
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        write(() -> model.setAddressBookFilePath(addressBookFilePath));
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        write(() -> model.setAddressBook(addressBook));
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return model.getAddressBook();
+    }
+
+    @Override
+    public void applyAddressBookChanges(AddressBookChanges changes) {
+        write(() -> model.applyAddressBookChanges(changes));
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        return read(() -> model.hasPerson(person));
+    }
+
+    @Override
+    public boolean hasPersonWithPhone(Phone phone) {
+        return read(() -> model.hasPersonWithPhone(phone));
+    }
+
+    @Override
+    public Optional<Person> findPerson(PersonId id) {
+        return read(() -> model.findPerson(id));
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        write(() -> model.deletePerson(target));
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        write(() -> model.addPerson(person));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        write(() -> model.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public boolean hasAppointment(Appointment appointment) {
+        return read(() -> model.hasAppointment(appointment));
+    }
+
+    @Override
+    public void addAppointment(Appointment appointment) {
+        write(() -> model.addAppointment(appointment));
+    }
+
+    @Override
+    public void deleteAppointment(Appointment target) {
+        write(() -> model.deleteAppointment(target));
+    }
+
+    @Override
+    public void setAppointment(Appointment target, Appointment editedAppointment) {
+        write(() -> model.setAppointment(target, editedAppointment));
+    }
+
+    @Override
+    public List<Appointment> findConflictingAppointments(Appointment appointment) {
+        return read(() -> model.findConflictingAppointments(appointment));
+    }
+
+    @Override
+    public List<AppointmentConflict> findAppointmentConflicts() {
+        return read(model::findAppointmentConflicts);
+    }
+
+    @Override
+    public List<TimeSlot> findFreeSlots(List<Person> persons, TimeSlot range, Duration duration, int limit) {
+        return read(() -> model.findFreeSlots(persons, range, duration, limit));
+    }
+
+    @Override
+    public int[] countAppointments(CalendarPeriod period, LocalDate from, int periodCount) {
+        // Asked for by the UI as it redraws; the calendar guards itself, so this never waits for a change to end
+        return model.countAppointments(period, from, periodCount);
+    }
+
+    @Override
+    public List<Appointment> findNextAppointments(Predicate<Appointment> predicate, int limit) {
+        return read(() -> model.findNextAppointments(predicate, limit));
+    }
+
+    @Override
+    public void setAppointmentArchive(AppointmentArchive archive) {
+        write(() -> model.setAppointmentArchive(archive));
+    }
+
+    @Override
+    public ArchiveSummary getArchiveSummary() {
+        return read(model::getArchiveSummary);
+    }
+
+    @Override
+    public List<Appointment> archivePastAppointments() throws IOException {
+        lock.writeLock().lock();
+        try {
+            return model.archivePastAppointments();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Appointment> findArchivedAppointments(Predicate<Appointment> predicate) throws DataLoadingException {
+        lock.readLock().lock();
+        try {
+            return model.findArchivedAppointments(predicate);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Clock getClock() {
+        return model.getClock();
+    }
+
+    @Override
+    public LocalDateTime refreshTimeFrames() {
+        return write(model::refreshTimeFrames);
+    }
+
+    //=========== Undo/Redo and Snapshots ====================================================================
+
+    @Override
+    public void commitAddressBook() {
+        write(model::commitAddressBook);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return read(model::canUndoAddressBook);
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return read(model::canRedoAddressBook);
+    }
+
+    @Override
+    public void undoAddressBook() {
+        write(model::undoAddressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        write(model::redoAddressBook);
+    }
+
+    //=========== Filtered Person List Accessors =============================================================
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return model.getFilteredPersonList();
+    }
+
+    @Override
+    public PersonFacets getFilteredPersonFacets() {
+        return model.getFilteredPersonFacets();
+    }
+
+    @Override
+    public List<String> getPersonCompletions(PersonCompletionIndex.Field field, String prefix, int limit) {
+        // Asked for by the UI on each keystroke; the index guards itself, so this never waits for a change to end
+        return model.getPersonCompletions(field, prefix, limit);
+    }
+
+    @Override
+    public List<Person> findPersonsFuzzy(List<String> keywords, int limit) {
+        return read(() -> model.findPersonsFuzzy(keywords, limit));
+    }
+
+    @Override
+    public Predicate<Person> planPersonQuery(PersonQuery query) {
+        return read(() -> model.planPersonQuery(query));
+    }
+
+    @Override
+    public Predicate<Appointment> planAppointmentSearch(AppointmentContainsKeywordsPredicate predicate) {
+        return read(() -> model.planAppointmentSearch(predicate));
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        write(() -> model.updateFilteredPersonList(predicate));
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        write(() -> model.updateFilteredPersonList(predicate, comparator));
+    }
+
+    //=========== Appointment List Accessors =============================================================
+
+    @Override
+    public ObservableList<Appointment> getFilteredAppointmentList() {
+        return model.getFilteredAppointmentList();
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return model.getAppointmentList();
+    }
+
+    @Override
+    public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
+        write(() -> model.updateFilteredAppointmentList(predicate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConcurrentModel)) {
+            return false;
+        }
+
+        ConcurrentModel otherModel = (ConcurrentModel) other;
+        return model.equals(otherModel.model);
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the persons in a list whose names or addresses contain words close to some keywords, allowing for typos.
+ * The words of all names and addresses are indexed by their trigrams (runs of three characters, with the start and
+ * end of the word marked), so only words sharing enough trigrams with a keyword are compared with it by edit
+ * distance. The index is updated as persons are added to, removed from or replaced in the list.
+ * The list may be changed on a different thread from the one searching it.
+ */
+public class FuzzyPersonIndex {
+
+    private static final char WORD_BOUNDARY = '$';
+    private static final int GRAM_LENGTH = 3;
+
+    /** Best match first: most keywords matched, then the smallest total edit distance, then by name. */
+    private static final Comparator<Match> BEST_FIRST = Comparator.<Match>comparingInt(match -> -match.matched)
+            .thenComparingInt(match -> match.distance)
+            .thenComparing(match -> match.person.getName().fullName);
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+
+    /**
+     * Creates an index of the persons in {@code persons} that stays up to date with it.
+     */
+    public FuzzyPersonIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        synchronized (this) {
+            persons.forEach(this::addPerson);
+        }
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns up to {@code limit} persons with a word in their name or address within a few edits of any of
+     * {@code keywords} (ignoring case), best match first.
+     * Keywords of up to 2 characters must match a word exactly, keywords of up to 5 characters can be 1 edit away
+     * and longer keywords can be 2 edits away.
+     */
+    public synchronized List<Person> search(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        checkArgument(limit >= 0, "Limit should not be negative");
+
+        Map<Person, Match> matches = new HashMap<>();
+        for (String keyword : keywords) {
+            for (String token : toWords(keyword)) {
+                for (Map.Entry<Person, Integer> closest : findClosestWords(token).entrySet()) {
+                    Match match = matches.computeIfAbsent(closest.getKey(), Match::new);
+                    match.matched++;
+                    match.distance += closest.getValue();
+                }
+            }
+        }
+
+        // Keep the best matches in a heap whose root is the worst of them, to be replaced by any better match
+        PriorityQueue<Match> best = new PriorityQueue<>(BEST_FIRST.reversed());
+        for (Match match : matches.values()) {
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (limit > 0 && BEST_FIRST.compare(match, best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(BEST_FIRST);
+        List<Person> persons = new ArrayList<>(ranked.size());
+        for (Match match : ranked) {
+            persons.add(match.person);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons with a word within the allowed edit distance of {@code token}, each with the edit distance
+     * of their closest word.
+     */
+    private Map<Person, Integer> findClosestWords(String token) {
+        int maxDistance = token.length() <= 2 ? 0 : token.length() <= 5 ? 1 : 2;
+        Set<String> grams = toTrigrams(token);
+
+        // Each edit changes at most GRAM_LENGTH trigrams, so a close enough word shares all but that many per edit
+        int minSharedGrams = Math.max(1, grams.size() - GRAM_LENGTH * maxDistance);
+        Map<String, Integer> sharedGrams = new HashMap<>();
+        for (String gram : grams) {
+            for (String word : wordsByTrigram.getOrDefault(gram, Collections.emptySet())) {
+                sharedGrams.merge(word, 1, Integer::sum);
+            }
+        }
+
+        Map<Person, Integer> closest = new HashMap<>();
+        for (Map.Entry<String, Integer> candidate : sharedGrams.entrySet()) {
+            String word = candidate.getKey();
+            if (candidate.getValue() < minSharedGrams) {
+                continue;
+            }
+            int distance = StringUtil.boundedEditDistance(token, word, maxDistance);
+            if (distance > maxDistance) {
+                continue;
+            }
+            for (Person person : personsByWord.get(word)) {
+                closest.merge(person, distance, Math::min);
+            }
+        }
+        return closest;
+    }
+
+    private synchronized void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removePerson);
+            change.getAddedSubList().forEach(this::addPerson);
+        }
+    }
+
+    private void addPerson(Person person) {
+        for (String word : getSearchableWords(person)) {
+            Set<Person> persons = personsByWord.computeIfAbsent(word, unused -> new HashSet<>());
+            if (persons.isEmpty()) {
+                for (String gram : toTrigrams(word)) {
+                    wordsByTrigram.computeIfAbsent(gram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            persons.add(person);
+        }
+    }
+
+    private void removePerson(Person person) {
+        for (String word : getSearchableWords(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null || !persons.remove(person) || !persons.isEmpty()) {
+                continue;
+            }
+            personsByWord.remove(word);
+            for (String gram : toTrigrams(word)) {
+                Set<String> words = wordsByTrigram.get(gram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> getSearchableWords(Person person) {
+        Set<String> words = new HashSet<>(toWords(person.getName().fullName));
+        words.addAll(toWords(person.getAddress().value));
+        return words;
+    }
+
+    /**
+     * Splits {@code text} into its lower case words, which are runs of letters and digits.
+     */
+    private static List<String> toWords(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static Set<String> toTrigrams(String word) {
+        String padded = WORD_BOUNDARY + word + WORD_BOUNDARY;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * How closely a person matches the keywords searched for.
+     */
+    private static class Match {
+        private final Person person;
+        private int matched;
+        private int distance;
+
+        Match(Person person) {
+            this.person = person;
+        }
+    }
+}
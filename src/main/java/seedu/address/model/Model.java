@@ -1,13 +1,31 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
+import seedu.address.model.appointment.ArchiveSummary;
+import seedu.address.model.appointment.CalendarPeriod;
+import seedu.address.model.appointment.TimeSlot;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFacets;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.query.PersonQuery;
 
 /**
  * The API of the Model component.
@@ -57,6 +75,20 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Makes {@code changes} to the address book, e.g. to take in the changes other users saved to a shared data file.
+     * Only the persons and appointments that differ are changed.
+     * The changes are not the user's to undo: they are taken into every version kept for undo and redo, and published
+     * in the snapshot at once. Changes made before them that were not committed are committed first.
+     */
+    void applyAddressBookChanges(AddressBookChanges changes);
+
+    /**
+     * Returns a snapshot of the address book as it was at the last committed change.
+     * Unlike {@link #getAddressBook()}, the snapshot never changes and may be read from any thread.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -67,6 +99,11 @@ public interface Model {
      */
     boolean hasPersonWithPhone(Phone phone);
 
+    /**
+     * Returns the person in the address book with the ID {@code id}, if there is one.
+     */
+    Optional<Person> findPerson(PersonId id);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -115,6 +152,141 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the counts of the persons in the filtered person list by property type and role, which are kept up to
+     * date as the list changes.
+     */
+    PersonFacets getFilteredPersonFacets();
+
+    /**
+     * Returns up to {@code limit} distinct values of {@code field} among all persons in the address book that start
+     * with {@code prefix} (ignoring case), in alphabetical order.
+     */
+    List<String> getPersonCompletions(PersonCompletionIndex.Field field, String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} persons in the address book with a name or address word close to any of
+     * {@code keywords} (ignoring case and small typos), best match first.
+     */
+    List<Person> findPersonsFuzzy(List<String> keywords, int limit);
+
+    /**
+     * Returns a predicate equivalent to {@code query} that answers it for the persons in the address book from
+     * indexes of their details, rather than by testing each of them. A search made before, if nothing has changed
+     * since, is answered with the same predicate, without searching again.
+     */
+    Predicate<Person> planPersonQuery(PersonQuery query);
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers it for the appointments in the address book
+     * from the keyword matches found once, matching them to its timeframe by the model's {@link #getClock() clock} at
+     * the time each of them is tested. A search made before, if nothing has changed since, is answered with the same
+     * predicate, without searching again.
+     */
+    Predicate<Appointment> planAppointmentSearch(AppointmentContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns the appointments in the address book, other than {@code appointment} itself, that involve the seller
+     * or buyer of {@code appointment} and overlap it in time, in order of time.
+     */
+    List<Appointment> findConflictingAppointments(Appointment appointment);
+
+    /**
+     * Returns every pair of appointments in the address book that involve the same person and overlap in time,
+     * earliest first.
+     */
+    List<AppointmentConflict> findAppointmentConflicts();
+
+    /**
+     * Returns up to {@code limit} windows of at least {@code duration} within {@code range} in which none of
+     * {@code persons} has an appointment, earliest first.
+     */
+    List<TimeSlot> findFreeSlots(List<Person> persons, TimeSlot range, Duration duration, int limit);
+
+    /**
+     * Returns the number of appointments in the address book in each of {@code periodCount} consecutive periods of
+     * the given length, starting from the one that contains {@code from}.
+     */
+    int[] countAppointments(CalendarPeriod period, LocalDate from, int periodCount);
+
+    /**
+     * Returns up to {@code limit} appointments in the address book after the current time that satisfy
+     * {@code predicate}, earliest first.
+     */
+    List<Appointment> findNextAppointments(Predicate<Appointment> predicate, int limit);
+
+    /**
+     * Replaces the archive that past appointments are moved to with {@code archive}.
+     */
+    void setAppointmentArchive(AppointmentArchive archive);
+
+    /**
+     * Returns a summary of the appointments in the archive, which is empty if there is no archive.
+     */
+    ArchiveSummary getArchiveSummary();
+
+    /**
+     * Moves the appointments whose datetime is longer ago than the archive horizon in the user prefs from the
+     * address book to the archive. Does nothing if there is no archive.
+     * Only appointments that were in the address book when this was last called, or when it was loaded, are moved, so
+     * that one just added with a past datetime is left for the user to see and edit. Moving them is not the user's to
+     * undo: they are removed from every version kept for undo and redo, which are otherwise kept.
+     *
+     * @return the appointments moved.
+     * @throws IOException if the appointments could not be archived, in which case they are left in the address
+     *     book.
+     */
+    List<Appointment> archivePastAppointments() throws IOException;
+
+    /**
+     * Returns the archived appointments that satisfy {@code predicate}, earliest first, reading the archive only if
+     * it has any appointments.
+     *
+     * @throws DataLoadingException if the archive could not be read.
+     */
+    List<Appointment> findArchivedAppointments(Predicate<Appointment> predicate) throws DataLoadingException;
+
+    /**
+     * Returns the clock giving the current time, against which appointments are matched to timeframes.
+     */
+    Clock getClock();
+
+    /**
+     * Filters again the appointments that have moved between the past, today and upcoming timeframes since the last
+     * refresh, without filtering the others again.
+     *
+     * @return the earliest time at which appointments move between timeframes again, when this should next be called.
+     */
+    LocalDateTime refreshTimeFrames();
+
+    /**
+     * Saves the changes made to the address book since the last commit as a version that can be undone.
+     * Does nothing if there are no such changes.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Takes the address book back to the version before the last committed change.
+     * There must be such a change.
+     */
+    void undoAddressBook();
+
+    /**
+     * Takes the address book forward to the version the last undo took it back from.
+     * There must be such an undo.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered appointment list */
     ObservableList<Appointment> getFilteredAppointmentList();
 
@@ -127,6 +299,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate},
+     * and orders it by the given {@code comparator} instead of the order of the address book.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
     /**
      * Updates the filter of the filtered appointment list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
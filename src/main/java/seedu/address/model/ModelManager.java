@@ -3,41 +3,100 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
+import seedu.address.model.appointment.ArchiveSummary;
+import seedu.address.model.appointment.CalendarPeriod;
+import seedu.address.model.appointment.TimeFrame;
+import seedu.address.model.appointment.TimeSlot;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonFacets;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.query.PersonQuery;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int SEARCH_CACHE_CAPACITY = 64;
 
     private final AddressBook addressBook;
+    private final Clock clock;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Appointment> filteredAppointments;
+    private final PersonCompletionIndex personCompletions;
+    private final FuzzyPersonIndex personSearchIndex;
+    private final PersonQueryIndex personQueryIndex;
+    private final PersonFacets filteredPersonFacets;
+    private final AddressBookHistory history;
+    private final SearchResultCache<PersonQuery, Predicate<Person>> personSearches =
+            new SearchResultCache<>(SEARCH_CACHE_CAPACITY);
+    private final SearchResultCache<AppointmentContainsKeywordsPredicate, Predicate<Appointment>> appointmentSearches =
+            new SearchResultCache<>(SEARCH_CACHE_CAPACITY);
+    private final AtomicReference<AddressBookSnapshot> snapshot = new AtomicReference<>();
+    private AppointmentArchive appointmentArchive;
+    // The appointments in the address book when past appointments were last archived, or when it was loaded
+    private Set<Appointment> archivableAppointments;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, telling the time by the system clock.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, telling the time by {@code clock}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.clock = clock;
+        this.addressBook.refreshTimeFrames(LocalDateTime.now(clock));
+        this.addressBook.setAppointmentDuration(this.userPrefs.getAppointmentDuration());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
+        personCompletions = new PersonCompletionIndex(this.addressBook.getPersonList());
+        personSearchIndex = new FuzzyPersonIndex(this.addressBook.getPersonList());
+        personQueryIndex = new PersonQueryIndex(this.addressBook);
+        filteredPersonFacets = new PersonFacets(sortedPersons);
+        history = new AddressBookHistory(this.addressBook);
+        snapshot.set(history.getSnapshot(this.addressBook.getVersion()));
+        archivableAppointments = new HashSet<>(this.addressBook.getAppointmentList());
     }
 
     public ModelManager() {
@@ -50,6 +109,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setAppointmentDuration(this.userPrefs.getAppointmentDuration());
     }
 
     @Override
@@ -91,6 +151,35 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void applyAddressBookChanges(AddressBookChanges changes) {
+        requireNonNull(changes);
+        // Changes of the user's own not yet committed stay a change of their own to undo
+        commitAddressBook();
+        addressBook.removeAppointments(changes.getRemovedAppointments());
+        for (PersonId id : changes.getRemovedPersonIds()) {
+            Person person = addressBook.findPerson(id);
+            if (person != null) {
+                addressBook.removePerson(person);
+            }
+        }
+        for (Person person : changes.getUpdatedPersons()) {
+            Person current = addressBook.findPerson(person.getId());
+            if (current == null) {
+                addressBook.addPerson(person);
+            } else if (!current.equals(person)) {
+                addressBook.setPerson(current, person);
+            }
+        }
+        for (Appointment appointment : changes.getAddedAppointments()) {
+            if (!addressBook.hasAppointment(appointment)) {
+                addressBook.addAppointment(appointment);
+            }
+        }
+        history.absorb();
+        publishSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -100,7 +189,13 @@ public class ModelManager implements Model {
     @Override
     public boolean hasPersonWithPhone(Phone phone) {
         requireNonNull(phone);
-        return addressBook.getPersonList().stream().anyMatch(c -> c.getPhone().equals(phone));
+        return personQueryIndex.hasPersonWithPhone(phone);
+    }
+
+    @Override
+    public Optional<Person> findPerson(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(addressBook.findPerson(id));
     }
 
     @Override
@@ -144,6 +239,142 @@ public class ModelManager implements Model {
         addressBook.setAppointment(target, editedAppointment);
     }
 
+    @Override
+    public List<Appointment> findConflictingAppointments(Appointment appointment) {
+        requireNonNull(appointment);
+        return addressBook.findConflictingAppointments(appointment);
+    }
+
+    @Override
+    public List<AppointmentConflict> findAppointmentConflicts() {
+        return addressBook.findAppointmentConflicts();
+    }
+
+    @Override
+    public List<TimeSlot> findFreeSlots(List<Person> persons, TimeSlot range, Duration duration, int limit) {
+        requireAllNonNull(persons, range, duration);
+        return addressBook.findFreeSlots(persons, range, duration, limit);
+    }
+
+    @Override
+    public int[] countAppointments(CalendarPeriod period, LocalDate from, int periodCount) {
+        requireAllNonNull(period, from);
+        return addressBook.countAppointments(period, from, periodCount);
+    }
+
+    @Override
+    public List<Appointment> findNextAppointments(Predicate<Appointment> predicate, int limit) {
+        requireNonNull(predicate);
+        return addressBook.findNextAppointments(LocalDateTime.now(clock), predicate, limit);
+    }
+
+    @Override
+    public void setAppointmentArchive(AppointmentArchive archive) {
+        requireNonNull(archive);
+        this.appointmentArchive = archive;
+    }
+
+    @Override
+    public ArchiveSummary getArchiveSummary() {
+        return appointmentArchive == null ? ArchiveSummary.EMPTY : appointmentArchive.getSummary();
+    }
+
+    @Override
+    public List<Appointment> archivePastAppointments() throws IOException {
+        if (appointmentArchive == null) {
+            return List.of();
+        }
+        LocalDateTime horizon = LocalDateTime.now(clock).minus(userPrefs.getArchiveHorizon());
+        // Appointments added since the last time, e.g. by the command just run, are left for the user to see and edit
+        List<Appointment> pastAppointments = addressBook.findAppointmentsBefore(horizon).stream()
+                .filter(archivableAppointments::contains)
+                .collect(Collectors.toList());
+        if (pastAppointments.isEmpty()) {
+            archivableAppointments = new HashSet<>(addressBook.getAppointmentList());
+            return pastAppointments;
+        }
+
+        // Archived before being removed, so that a failure to archive them loses nothing
+        appointmentArchive.append(pastAppointments);
+        commitAddressBook();
+        addressBook.removeAppointments(pastAppointments);
+        // Archiving is not the user's to undo, and earlier versions must not bring the archived appointments back
+        history.absorb();
+        publishSnapshot();
+        archivableAppointments = new HashSet<>(addressBook.getAppointmentList());
+        logger.info("Archived " + pastAppointments.size() + " appointment(s) before " + horizon);
+        return pastAppointments;
+    }
+
+    @Override
+    public List<Appointment> findArchivedAppointments(Predicate<Appointment> predicate) throws DataLoadingException {
+        requireNonNull(predicate);
+        if (getArchiveSummary().isEmpty()) {
+            return List.of();
+        }
+        return appointmentArchive.find(addressBook::findPerson, predicate);
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public LocalDateTime refreshTimeFrames() {
+        List<Appointment> moved = addressBook.refreshTimeFrames(LocalDateTime.now(clock));
+        LocalDateTime nextChange = addressBook.getNextTimeFrameChange();
+        logger.fine(moved.size() + " appointment(s) moved between timeframes, next move at " + nextChange);
+        return nextChange;
+    }
+
+    //=========== Undo/Redo and Snapshots ====================================================================
+
+    @Override
+    public void commitAddressBook() {
+        if (history.commit()) {
+            logger.fine("Committed a new version of the address book");
+        }
+        publishSnapshot();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo();
+        publishSnapshot();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo();
+        publishSnapshot();
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Replaces the published snapshot with one of the address book as it is now, unless nothing has changed since.
+     * Readers holding the old snapshot keep reading it undisturbed.
+     */
+    private void publishSnapshot() {
+        if (snapshot.get().getVersion() != addressBook.getVersion()) {
+            snapshot.set(history.getSnapshot(addressBook.getVersion()));
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -152,13 +383,124 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
+    }
+
+    @Override
+    public PersonFacets getFilteredPersonFacets() {
+        return filteredPersonFacets;
+    }
+
+    @Override
+    public List<String> getPersonCompletions(PersonCompletionIndex.Field field, String prefix, int limit) {
+        return personCompletions.complete(field, prefix, limit);
+    }
+
+    @Override
+    public List<Person> findPersonsFuzzy(List<String> keywords, int limit) {
+        return personSearchIndex.search(keywords, limit);
+    }
+
+    @Override
+    public Predicate<Person> planPersonQuery(PersonQuery query) {
+        requireNonNull(query);
+        PersonQuery search = query instanceof PersonContainsKeywordsPredicate
+                ? ((PersonContainsKeywordsPredicate) query).normalize()
+                : query;
+        long version = addressBook.getVersion();
+
+        Optional<Predicate<Person>> cached = personSearches.get(search, version);
+        logger.fine("Person search cache: " + personSearches);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Predicate<Person> plan = rememberMatches(addressBook.getPersonList(), personQueryIndex.plan(query), version);
+        personSearches.put(search, version, plan);
+        return plan;
+    }
+
+    @Override
+    public Predicate<Appointment> planAppointmentSearch(AppointmentContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        AppointmentContainsKeywordsPredicate search = predicate.normalize();
+        long version = addressBook.getVersion();
+
+        Optional<Predicate<Appointment>> cached = appointmentSearches.get(search, version);
+        logger.fine("Appointment search cache: " + appointmentSearches);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        // Appointments are matched to the timeframe at the time they are tested, which may be long after now, so
+        // only the keyword matches are remembered
+        TimeFrame timeFrame = predicate.getTimeFrame();
+        Predicate<Appointment> plan;
+        if (predicate.getKeywords().isEmpty()) {
+            plan = appointment -> predicate.test(appointment, LocalDateTime.now(clock));
+        } else {
+            Predicate<Appointment> keywordMatches = rememberMatches(addressBook.getAppointmentList(),
+                    new AppointmentContainsKeywordsPredicate(predicate.getKeywords()), version);
+            plan = timeFrame == null
+                    ? keywordMatches
+                    : appointment -> keywordMatches.test(appointment)
+                            && timeFrame.matches(appointment, LocalDateTime.now(clock));
+        }
+        appointmentSearches.put(search, version, plan);
+        return plan;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code search} that holds the elements of {@code list} it matches, so that
+     * they are told apart without testing them again while the address book is still at {@code version}. Elements
+     * tested after the address book has changed are tested against {@code search}.
+     */
+    private <T> Predicate<T> rememberMatches(List<T> list, Predicate<? super T> search, long version) {
+        Set<T> matches = new HashSet<>();
+        for (T element : list) {
+            if (search.test(element)) {
+                matches.add(element);
+            }
+        }
+        return element -> addressBook.getVersion() == version
+                ? matches.contains(element)
+                : search.test(element);
+    }
+
+    /**
+     * Returns the cache of the results of recent person searches.
+     */
+    public SearchResultCache<PersonQuery, Predicate<Person>> getPersonSearchCache() {
+        return personSearches;
+    }
+
+    /**
+     * Returns the cache of the results of recent appointment searches.
+     */
+    public SearchResultCache<AppointmentContainsKeywordsPredicate, Predicate<Appointment>> getAppointmentSearchCache() {
+        return appointmentSearches;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setPredicate(filteredPersons, predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        setPredicate(filteredPersons, predicate);
+        sortedPersons.setComparator(comparator);
+    }
+
+    /**
+     * Filters {@code list} by {@code predicate}, unless it is filtered by it already, e.g. when a search answered
+     * from the cache is repeated, in which case none of its elements are tested again.
+     */
+    private static <T> void setPredicate(FilteredList<T> list, Predicate<? super T> predicate) {
+        if (list.getPredicate() != predicate) {
+            list.setPredicate(predicate);
+        }
     }
 
     //=========== Appointment List Accessors =============================================================
@@ -185,7 +527,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
         requireNonNull(predicate);
-        filteredAppointments.setPredicate(predicate);
+        setPredicate(filteredAppointments, predicate);
     }
 
     @Override
@@ -202,7 +544,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && filteredAppointments.equals(otherModelManager.filteredAppointments);
     }
 
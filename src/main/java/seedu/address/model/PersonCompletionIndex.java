@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.CompletionTrie;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Keeps the names, phone numbers and tags of the persons in a list in tries, so that they can be completed as
+ * the user types. The tries are updated as persons are added to, removed from or replaced in the list.
+ * The list may be changed on a different thread from the one asking for completions.
+ */
+public class PersonCompletionIndex {
+
+    /**
+     * A field of a person that can be completed.
+     */
+    public enum Field {
+        NAME, PHONE, TAG
+    }
+
+    private final Map<Field, CompletionTrie> tries = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an index of the persons in {@code persons} that stays up to date with it.
+     */
+    public PersonCompletionIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (Field field : Field.values()) {
+            tries.put(field, new CompletionTrie());
+        }
+        synchronized (this) {
+            persons.forEach(this::addPerson);
+        }
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct values of {@code field} among the persons that start with
+     * {@code prefix} (ignoring case), in alphabetical order.
+     */
+    public synchronized List<String> complete(Field field, String prefix, int limit) {
+        requireNonNull(field);
+        return tries.get(field).complete(prefix, limit);
+    }
+
+    private synchronized void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removePerson);
+            change.getAddedSubList().forEach(this::addPerson);
+        }
+    }
+
+    private void addPerson(Person person) {
+        tries.get(Field.NAME).add(person.getName().fullName);
+        tries.get(Field.PHONE).add(person.getPhone().value);
+        for (Tag tag : person.getTags()) {
+            tries.get(Field.TAG).add(tag.tagName);
+        }
+    }
+
+    private void removePerson(Person person) {
+        tries.get(Field.NAME).remove(person.getName().fullName);
+        tries.get(Field.PHONE).remove(person.getPhone().value);
+        for (Tag tag : person.getTags()) {
+            tries.get(Field.TAG).remove(tag.tagName);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBuckets;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.address.PropertyType;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.model.tag.TagIndex;
+
+/**
+ * Answers {@link PersonQuery} queries over the persons in an address book from indexes of their details, instead of
+ * testing every person. Names, addresses, phone numbers and all words for bare keywords are indexed here by their keys,
+ * so such a term is answered by a single lookup. Property types and roles are looked up in the address book's
+ * {@link PersonBuckets}, and parts of a query that only combine tags are answered with bitmap operations by the
+ * address book's {@link TagIndex}.
+ * A conjunction starts from its most selective operand, as estimated from the sizes of the lookups, and narrows it
+ * down by each other operand in turn, either by intersecting with that operand's matches or, when those are expected
+ * to outnumber the persons left, by testing the persons left against it.
+ * The indexes are updated as persons are added to, removed from or replaced in the address book.
+ * The address book may be changed on a different thread from the one querying it.
+ */
+public class PersonQueryIndex {
+
+    private static final Set<QueryField> INDEXED_FIELDS =
+            EnumSet.of(QueryField.NAME, QueryField.PHONE, QueryField.ADDRESS, QueryField.ANY);
+
+    private final Map<QueryField, Map<String, Set<Person>>> postings = new EnumMap<>(QueryField.class);
+    private final TagIndex tagIndex;
+    private final PersonBuckets buckets;
+
+    // The change of the list each person was indexed in, to tell the persons added after a query was planned
+    private final Map<Person, Long> indexedAt = new HashMap<>();
+    private long changeCount;
+
+    /**
+     * Creates an index of the persons in {@code addressBook} that stays up to date with it.
+     */
+    public PersonQueryIndex(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.tagIndex = addressBook.getTagIndex();
+        this.buckets = addressBook.getPersonBuckets();
+        for (QueryField field : INDEXED_FIELDS) {
+            postings.put(field, new HashMap<>());
+        }
+        synchronized (this) {
+            addressBook.getPersonList().forEach(this::addPerson);
+        }
+        addressBook.getPersonList().addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code query}, whose answers for the persons currently in the list are
+     * looked up now from the indexes. Persons added to the list later, including edited persons, are tested against
+     * {@code query} when the predicate is applied to them.
+     */
+    public synchronized Predicate<Person> plan(PersonQuery query) {
+        requireNonNull(query);
+        Set<Person> matches = new HashSet<>(evaluate(query));
+        long plannedAt = changeCount;
+        return person -> {
+            if (matches.contains(person)) {
+                return true;
+            }
+            synchronized (this) {
+                Long personIndexedAt = indexedAt.get(person);
+                if (personIndexedAt != null && personIndexedAt <= plannedAt) {
+                    return false;
+                }
+            }
+            return query.test(person);
+        };
+    }
+
+    /**
+     * Returns true if a person in the list has the phone number {@code phone}, looked up in the phone postings.
+     */
+    public synchronized boolean hasPersonWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return postings.get(QueryField.PHONE).containsKey(QueryField.toKey(phone.value));
+    }
+
+    /**
+     * Returns the persons in the list matching {@code query}.
+     * The returned set may be one of the indexes' own sets, and must not be modified.
+     */
+    private Set<Person> evaluate(PersonQuery query) {
+        if (TagIndex.isTagQuery(query)) {
+            return new HashSet<>(tagIndex.findPersons(query));
+        }
+        if (query instanceof FieldQuery) {
+            return lookUp((FieldQuery) query);
+        }
+        if (query instanceof PersonContainsKeywordsPredicate) {
+            Set<Person> matches = new HashSet<>();
+            for (String keyword : ((PersonContainsKeywordsPredicate) query).getKeywords()) {
+                matches.addAll(postings.get(QueryField.ANY).getOrDefault(QueryField.toKey(keyword), Set.of()));
+            }
+            return matches;
+        }
+        if (query instanceof OrQuery) {
+            Set<Person> matches = new HashSet<>();
+            for (PersonQuery operand : ((OrQuery) query).getQueries()) {
+                matches.addAll(evaluate(operand));
+            }
+            return matches;
+        }
+        if (query instanceof NotQuery) {
+            Set<Person> matches = new HashSet<>(indexedAt.keySet());
+            matches.removeAll(evaluate(((NotQuery) query).getQuery()));
+            return matches;
+        }
+        if (query instanceof AndQuery) {
+            return evaluateAnd((AndQuery) query);
+        }
+
+        // Queries of unknown kinds can only be answered by testing every person
+        Set<Person> matches = new HashSet<>();
+        for (Person person : indexedAt.keySet()) {
+            if (query.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private Set<Person> evaluateAnd(AndQuery query) {
+        List<PersonQuery> operands = new ArrayList<>(query.getQueries());
+        if (operands.isEmpty()) {
+            return indexedAt.keySet();
+        }
+
+        // Operands on tags alone are intersected as bitmaps first
+        List<PersonQuery> tagOperands = new ArrayList<>();
+        for (PersonQuery operand : operands) {
+            if (TagIndex.isTagQuery(operand)) {
+                tagOperands.add(operand);
+            }
+        }
+        if (tagOperands.size() > 1) {
+            operands.removeAll(tagOperands);
+            operands.add(new AndQuery(tagOperands));
+        }
+
+        Map<PersonQuery, Integer> estimates = new HashMap<>();
+        for (PersonQuery operand : operands) {
+            estimates.put(operand, estimate(operand));
+        }
+        operands.sort(Comparator.comparing(estimates::get));
+
+        Set<Person> matches = new HashSet<>(evaluate(operands.get(0)));
+        for (PersonQuery operand : operands.subList(1, operands.size())) {
+            if (matches.isEmpty()) {
+                break;
+            }
+            boolean isLookUp = operand instanceof FieldQuery
+                    && INDEXED_FIELDS.contains(((FieldQuery) operand).getField());
+            if (isLookUp || estimates.get(operand) <= matches.size()) {
+                matches.retainAll(evaluate(operand));
+            } else {
+                matches.removeIf(person -> !operand.test(person));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons matching {@code query}, without looking at any person.
+     */
+    private int estimate(PersonQuery query) {
+        int size = indexedAt.size();
+        if (TagIndex.isTagQuery(query)) {
+            return tagIndex.count(query);
+        }
+        if (query instanceof FieldQuery) {
+            return count((FieldQuery) query);
+        }
+        if (query instanceof PersonContainsKeywordsPredicate) {
+            long total = 0;
+            for (String keyword : ((PersonContainsKeywordsPredicate) query).getKeywords()) {
+                total += postings.get(QueryField.ANY).getOrDefault(QueryField.toKey(keyword), Set.of()).size();
+            }
+            return (int) Math.min(size, total);
+        }
+        if (query instanceof OrQuery) {
+            long total = 0;
+            for (PersonQuery operand : ((OrQuery) query).getQueries()) {
+                total += estimate(operand);
+            }
+            return (int) Math.min(size, total);
+        }
+        if (query instanceof AndQuery) {
+            int smallest = size;
+            for (PersonQuery operand : ((AndQuery) query).getQueries()) {
+                smallest = Math.min(smallest, estimate(operand));
+            }
+            return smallest;
+        }
+        if (query instanceof NotQuery && ((NotQuery) query).getQuery() instanceof FieldQuery) {
+            return size - estimate(((NotQuery) query).getQuery());
+        }
+        return size;
+    }
+
+    private Set<Person> lookUp(FieldQuery query) {
+        String key = query.getKey();
+        switch (query.getField()) {
+        case PROPERTY_TYPE:
+            return PropertyType.contains(key) ? buckets.getPersons(PropertyType.fromString(key)) : Set.of();
+        case ROLE:
+            return Role.isValidRole(key) ? buckets.getPersons(Role.of(key)) : Set.of();
+        default:
+            return postings.get(query.getField()).getOrDefault(key, Collections.emptySet());
+        }
+    }
+
+    private int count(FieldQuery query) {
+        String key = query.getKey();
+        switch (query.getField()) {
+        case PROPERTY_TYPE:
+            return PropertyType.contains(key) ? buckets.count(PropertyType.fromString(key)) : 0;
+        case ROLE:
+            return Role.isValidRole(key) ? buckets.count(Role.of(key)) : 0;
+        default:
+            return lookUp(query).size();
+        }
+    }
+
+    private synchronized void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        changeCount++;
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removePerson);
+            change.getAddedSubList().forEach(this::addPerson);
+        }
+    }
+
+    private void addPerson(Person person) {
+        indexedAt.put(person, changeCount);
+        for (QueryField field : INDEXED_FIELDS) {
+            Map<String, Set<Person>> fieldPostings = postings.get(field);
+            for (String key : field.getKeys(person)) {
+                fieldPostings.computeIfAbsent(key, unused -> new HashSet<>()).add(person);
+            }
+        }
+    }
+
+    private void removePerson(Person person) {
+        indexedAt.remove(person);
+        for (QueryField field : INDEXED_FIELDS) {
+            Map<String, Set<Person>> fieldPostings = postings.get(field);
+            for (String key : field.getKeys(person)) {
+                Set<Person> persons = fieldPostings.get(key);
+                if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                    fieldPostings.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonLookup;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Unmodifiable view of an address book
@@ -21,4 +23,15 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Appointment> getAppointmentList();
 
+    /**
+     * Returns a {@code PersonLookup} that resolves IDs to the persons in this address book, for reading the sellers
+     * and buyers of its appointments as this address book has them.
+     */
+    default PersonLookup getPersonLookup() {
+        return id -> getPersonList().stream()
+                .filter(person -> person.getId().equals(id))
+                .findFirst()
+                .orElseThrow(PersonNotFoundException::new);
+    }
+
 }
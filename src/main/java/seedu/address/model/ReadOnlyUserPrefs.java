@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +15,19 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the user's command aliases, each mapped to the command word it stands for.
+     */
+    Map<String, String> getCommandAliases();
+
+    /**
+     * Returns how long every appointment is taken to last when looking for conflicting appointments.
+     */
+    Duration getAppointmentDuration();
+
+    /**
+     * Returns how long after their datetime appointments are moved out of the address book into the archive.
+     */
+    Duration getArchiveHorizon();
+
 }
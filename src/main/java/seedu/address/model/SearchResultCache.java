@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Remembers the results of recent searches of the address book, so that a repeated search is answered with the same
+ * result, without searching again.
+ * Each result is kept with the version of the address book it was found in and is only used while the address book is
+ * still at that version, so any change to it invalidates the result.
+ * Only the most recently used searches are kept, up to a fixed number, and the numbers of searches answered and not
+ * answered from the cache are counted.
+ *
+ * @param <K> the type of the searches, which must have value-based {@code equals} and {@code hashCode}.
+ * @param <V> the type of the results, which must not change once cached.
+ */
+public class SearchResultCache<K, V> {
+
+    private final Map<K, Result<V>> results;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache keeping the results of up to {@code capacity} searches.
+     */
+    public SearchResultCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity should be positive");
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Result<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of {@code search} in the address book at {@code version}, if it is cached.
+     */
+    public synchronized Optional<V> get(K search, long version) {
+        requireNonNull(search);
+        Result<V> result = results.get(search);
+        if (result == null || result.version != version) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(result.value);
+    }
+
+    /**
+     * Caches {@code value} as the result of {@code search} in the address book at {@code version}.
+     */
+    public synchronized void put(K search, long version, V value) {
+        requireNonNull(search);
+        requireNonNull(value);
+        results.put(search, new Result<>(version, value));
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the fraction of searches looked up so far that were answered from the cache, or 0 if there were none.
+     */
+    public synchronized double getHitRate() {
+        long lookUps = hitCount + missCount;
+        return lookUps == 0 ? 0 : (double) hitCount / lookUps;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new ToStringBuilder(this)
+                .add("size", results.size())
+                .add("hits", hitCount)
+                .add("misses", missCount)
+                .toString();
+    }
+
+    /**
+     * The result of a search, with the version of the address book it was found in.
+     */
+    private static class Result<V> {
+        private final long version;
+        private final V value;
+
+        Result(long version, V value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.model.appointment.Schedule;
 
 /**
  * Represents User's preferences.
@@ -15,6 +22,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "ClientSquare.json");
+    private Map<String, String> commandAliases = new LinkedHashMap<>();
+    private long appointmentDurationMinutes = Schedule.DEFAULT_APPOINTMENT_DURATION.toMinutes();
+    private long archiveHorizonDays = AppointmentArchive.DEFAULT_HORIZON.toDays();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +46,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCommandAliases(newUserPrefs.getCommandAliases());
+        setAppointmentDuration(newUserPrefs.getAppointmentDuration());
+        setArchiveHorizon(newUserPrefs.getArchiveHorizon());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +69,52 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public Map<String, String> getCommandAliases() {
+        return Collections.unmodifiableMap(commandAliases);
+    }
+
+    public void setCommandAliases(Map<String, String> commandAliases) {
+        requireNonNull(commandAliases);
+        this.commandAliases = new LinkedHashMap<>(commandAliases);
+    }
+
+    /**
+     * Returns how long every appointment is taken to last, or the default duration if the saved one is not positive.
+     */
+    public Duration getAppointmentDuration() {
+        return appointmentDurationMinutes > 0
+                ? Duration.ofMinutes(appointmentDurationMinutes)
+                : Schedule.DEFAULT_APPOINTMENT_DURATION;
+    }
+
+    /**
+     * Sets how long every appointment is taken to last, rounded down to whole minutes.
+     */
+    public void setAppointmentDuration(Duration appointmentDuration) {
+        requireNonNull(appointmentDuration);
+        checkArgument(appointmentDuration.toMinutes() > 0, Schedule.MESSAGE_DURATION_CONSTRAINTS);
+        this.appointmentDurationMinutes = appointmentDuration.toMinutes();
+    }
+
+    /**
+     * Returns how long after their datetime appointments are moved to the archive, or the default horizon if the
+     * saved one is not positive.
+     */
+    public Duration getArchiveHorizon() {
+        return archiveHorizonDays > 0
+                ? Duration.ofDays(archiveHorizonDays)
+                : AppointmentArchive.DEFAULT_HORIZON;
+    }
+
+    /**
+     * Sets how long after their datetime appointments are moved to the archive, rounded down to whole days.
+     */
+    public void setArchiveHorizon(Duration archiveHorizon) {
+        requireNonNull(archiveHorizon);
+        checkArgument(archiveHorizon.toDays() > 0, AppointmentArchive.MESSAGE_HORIZON_CONSTRAINTS);
+        this.archiveHorizonDays = archiveHorizon.toDays();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +128,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && commandAliases.equals(otherUserPrefs.commandAliases)
+                && getAppointmentDuration().equals(otherUserPrefs.getAppointmentDuration())
+                && getArchiveHorizon().equals(otherUserPrefs.getArchiveHorizon());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, commandAliases, getAppointmentDuration(),
+                getArchiveHorizon());
     }
 
     @Override
@@ -82,6 +145,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCommand aliases : " + commandAliases);
+        sb.append("\nAppointment duration : " + getAppointmentDuration());
+        sb.append("\nArchive horizon : " + getArchiveHorizon());
         return sb.toString();
     }
 
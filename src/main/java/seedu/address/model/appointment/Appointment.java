@@ -7,17 +7,30 @@ import java.util.Optional;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonLookup;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Represents an appointment in the address book.
- * Guarantees: immutable; details are present not null; field values are validated.
- *
+ * The seller and buyer are referred to by their {@code PersonId}, and resolved through a {@code PersonLookup}
+ * whenever they are needed, so an appointment always shows the latest details of the persons involved.
+ * The datetime and the IDs of an appointment never change, but the persons they resolve to through the address book
+ * it was added to do. Code that reads an appointment away from the thread the address book is changed on, or from a
+ * copy of an earlier state of the address book, must resolve the persons through that copy's
+ * {@link seedu.address.model.ReadOnlyAddressBook#getPersonLookup() lookup} instead, or use
+ * {@link #withCurrentPersons()}.
+ * Guarantees: details are present not null; field values are validated.
  */
 public class Appointment implements Comparable<Appointment> {
 
     public final AppointmentDatetime appointmentDatetime;
-    public final Person seller;
-    public final Person buyer;
+    private final PersonId sellerId;
+    private final PersonId buyerId;
+    private final PersonLookup personLookup;
+
+    // The fields that make up equality never change, so the hash code is only computed once
+    private final int hashCode;
 
     /**
      * Constructs an {@code Appointment} with a buyer.
@@ -27,12 +40,8 @@ public class Appointment implements Comparable<Appointment> {
      * @param buyer A Person object representing the buyer.
      */
     public Appointment(AppointmentDatetime appointmentDatetime, Person seller, Person buyer) {
-        requireNonNull(appointmentDatetime);
-        requireNonNull(seller);
-        requireNonNull(buyer);
-        this.appointmentDatetime = appointmentDatetime;
-        this.seller = seller;
-        this.buyer = buyer;
+        this(appointmentDatetime, requireNonNull(seller).getId(), requireNonNull(buyer).getId(),
+                lookupOf(seller, buyer));
     }
 
     /**
@@ -42,23 +51,109 @@ public class Appointment implements Comparable<Appointment> {
      * @param seller A Person object representing the seller.
      */
     public Appointment(AppointmentDatetime appointmentDatetime, Person seller) {
+        this(appointmentDatetime, requireNonNull(seller).getId(), null, lookupOf(seller, null));
+    }
+
+    /**
+     * Constructs an {@code Appointment} between the persons with the given IDs.
+     *
+     * @param appointmentDatetime An AppointmentDatetime object representing the datetime of the appointment.
+     * @param sellerId The ID of the seller.
+     * @param buyerId The ID of the buyer, or null if the appointment has no buyer.
+     * @param personLookup Resolves {@code sellerId} and {@code buyerId} to persons.
+     */
+    public Appointment(AppointmentDatetime appointmentDatetime, PersonId sellerId, PersonId buyerId,
+            PersonLookup personLookup) {
         requireNonNull(appointmentDatetime);
-        requireNonNull(seller);
+        requireNonNull(sellerId);
+        requireNonNull(personLookup);
         this.appointmentDatetime = appointmentDatetime;
-        this.seller = seller;
-        this.buyer = null;
+        this.sellerId = sellerId;
+        this.buyerId = buyerId;
+        this.personLookup = personLookup;
+        this.hashCode = Objects.hash(appointmentDatetime, sellerId, buyerId);
+    }
+
+    /**
+     * Returns a {@code PersonLookup} that only knows about {@code seller} and {@code buyer}.
+     */
+    private static PersonLookup lookupOf(Person seller, Person buyer) {
+        return id -> {
+            if (id.equals(seller.getId())) {
+                return seller;
+            }
+            if (buyer != null && id.equals(buyer.getId())) {
+                return buyer;
+            }
+            throw new PersonNotFoundException();
+        };
+    }
+
+    /**
+     * Returns a copy of this appointment that resolves its seller and buyer through {@code personLookup}.
+     */
+    Appointment withPersonLookup(PersonLookup personLookup) {
+        requireNonNull(personLookup);
+        return personLookup == this.personLookup
+                ? this
+                : new Appointment(appointmentDatetime, sellerId, buyerId, personLookup);
+    }
+
+    /**
+     * Returns a copy of this appointment that keeps the seller and buyer it has now, however the address book changes
+     * afterwards. The copy can be read from any thread.
+     */
+    public Appointment withCurrentPersons() {
+        Person seller = getSeller();
+        return getBuyer()
+                .map(buyer -> new Appointment(appointmentDatetime, seller, buyer))
+                .orElseGet(() -> new Appointment(appointmentDatetime, seller));
     }
 
     public AppointmentDatetime getAppointmentDatetime() {
         return appointmentDatetime;
     }
 
+    /**
+     * Returns the seller as the address book this appointment was added to has it now.
+     * Must only be called on the thread that changes that address book.
+     */
     public Person getSeller() {
-        return seller;
+        return getSeller(personLookup);
     }
 
+    /**
+     * Returns the seller as {@code personLookup} has it.
+     *
+     * @throws PersonNotFoundException if {@code personLookup} has no seller.
+     */
+    public Person getSeller(PersonLookup personLookup) {
+        return personLookup.getPerson(sellerId);
+    }
+
+    /**
+     * Returns the buyer as the address book this appointment was added to has it now.
+     * Must only be called on the thread that changes that address book.
+     */
     public Optional<Person> getBuyer() {
-        return Optional.ofNullable(buyer);
+        return getBuyer(personLookup);
+    }
+
+    /**
+     * Returns the buyer as {@code personLookup} has it.
+     *
+     * @throws PersonNotFoundException if {@code personLookup} has no buyer.
+     */
+    public Optional<Person> getBuyer(PersonLookup personLookup) {
+        return getBuyerId().map(personLookup::getPerson);
+    }
+
+    public PersonId getSellerId() {
+        return sellerId;
+    }
+
+    public Optional<PersonId> getBuyerId() {
+        return Optional.ofNullable(buyerId);
     }
 
     /**
@@ -68,7 +163,7 @@ public class Appointment implements Comparable<Appointment> {
      * @return true if {@code person} is the seller, otherwise false.
      */
     public boolean isPersonSeller(Person person) {
-        return seller.equals(person);
+        return person != null && sellerId.equals(person.getId());
     }
 
     /**
@@ -79,43 +174,14 @@ public class Appointment implements Comparable<Appointment> {
      * @return true if {@code person} is the buyer, otherwise false. If person is null, also returns false.
      */
     public boolean isPersonBuyer(Person person) {
-        return buyer != null && buyer.equals(person);
+        return person != null && person.getId().equals(buyerId);
     }
 
     /**
-     * Returns a new appointment with the details of this one, but with {code target} replaced by {@code editedPerson}.
-     *
-     * @param target Person object to be replaced.
-     * @param editedPerson Person object to replace with.
-     * @return A new Appointment object which replaces {@code target} with {@code editedPerson}.
-     */
-    public Appointment updatedWithEditedPerson(Person target, Person editedPerson) {
-        Person updatedSeller = isPersonSeller(target) ? editedPerson : seller;
-        Person updatedBuyer = isPersonBuyer(target) ? editedPerson : buyer;
-
-        if (updatedBuyer == null) {
-            return new Appointment(appointmentDatetime, updatedSeller);
-        } else {
-            return new Appointment(appointmentDatetime, updatedSeller, updatedBuyer);
-        }
-    }
-
-    /**
-     * Returns the storage identifier of the seller.
-     *
-     * @return String representing the storage identifier of the seller.
+     * Returns true if the person with the given {@code id} is the seller or the buyer of this appointment.
      */
-    public String getSellerStorageIdentifier() {
-        return seller.getStorageIdentifier();
-    }
-
-    /**
-     * Returns the storage identifier of the buyer, if present.
-     *
-     * @return Optional string representing the storage identifier of the buyer.
-     */
-    public Optional<String> getBuyerStorageIdentifier() {
-        return Optional.ofNullable(buyer).map(Person::getStorageIdentifier);
+    public boolean involvesPerson(PersonId id) {
+        return sellerId.equals(id) || (buyerId != null && buyerId.equals(id));
     }
 
     /**
@@ -124,6 +190,16 @@ public class Appointment implements Comparable<Appointment> {
      * and appointment datetime.
      */
     public boolean containsKeyword(String keyword) {
+        return containsKeyword(keyword, personLookup);
+    }
+
+    /**
+     * Returns true if any field of this appointment, with the seller and buyer as {@code personLookup} has them,
+     * contains the given keyword (case-insensitive).
+     */
+    public boolean containsKeyword(String keyword, PersonLookup personLookup) {
+        Person seller = getSeller(personLookup);
+        Person buyer = getBuyer(personLookup).orElse(null);
         return seller.containsKeywordInName(keyword)
                 || seller.containsKeywordInPhone(keyword)
                 || seller.containsKeywordInAddress(keyword)
@@ -134,8 +210,19 @@ public class Appointment implements Comparable<Appointment> {
 
     @Override
     public String toString() {
-        return appointmentDatetime.toString() + ", Seller: " + seller.getName()
-                + (buyer != null ? ", Buyer: " + buyer.getName() : "");
+        return appointmentDatetime.toString() + ", Seller: " + describe(sellerId)
+                + getBuyerId().map(id -> ", Buyer: " + describe(id)).orElse("");
+    }
+
+    /**
+     * Returns the name of the person with the given {@code id}, or the ID itself if the person has been deleted.
+     */
+    private String describe(PersonId id) {
+        try {
+            return personLookup.getPerson(id).getName().toString();
+        } catch (PersonNotFoundException e) {
+            return "#" + id.value;
+        }
     }
 
     @Override
@@ -150,9 +237,10 @@ public class Appointment implements Comparable<Appointment> {
         }
 
         Appointment otherAppointment = (Appointment) other;
-        return appointmentDatetime.equals(otherAppointment.appointmentDatetime)
-                && seller.equals(otherAppointment.seller)
-                && Objects.equals(buyer, otherAppointment.buyer);
+        return hashCode == otherAppointment.hashCode
+                && appointmentDatetime.equals(otherAppointment.appointmentDatetime)
+                && sellerId.equals(otherAppointment.sellerId)
+                && Objects.equals(buyerId, otherAppointment.buyerId);
     }
 
     @Override
@@ -162,7 +250,7 @@ public class Appointment implements Comparable<Appointment> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(appointmentDatetime, seller, buyer);
+        return hashCode;
     }
 
 }
@@ -0,0 +1,48 @@
+package seedu.address.model.appointment;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * A store of past appointments moved out of the address book, so that they no longer slow down working with the
+ * appointments still in it. Appointments are only ever added to the archive, and are read back only when a search
+ * reaches into the past; only an {@link ArchiveSummary} of them is kept in memory.
+ */
+public interface AppointmentArchive {
+
+    /** How long after their datetime appointments are archived, unless the user prefers otherwise. */
+    Duration DEFAULT_HORIZON = Duration.ofDays(365);
+
+    String MESSAGE_HORIZON_CONSTRAINTS = "Appointments should only be archived at least a day after their datetime";
+
+    /**
+     * Returns a summary of the appointments in the archive.
+     */
+    ArchiveSummary getSummary();
+
+    /**
+     * Adds {@code appointments} to the archive.
+     *
+     * @throws IOException if the appointments could not be written to the archive, in which case the archive is left
+     *     as it was.
+     */
+    void append(List<Appointment> appointments) throws IOException;
+
+    /**
+     * Returns the archived appointments that satisfy {@code predicate}, earliest first.
+     * The archive is read one appointment at a time, and archived appointments whose seller or buyer is no longer
+     * found by {@code findPerson} are skipped.
+     *
+     * @param findPerson Returns the person with the given ID, or null if there is no such person.
+     * @throws DataLoadingException if the archive could not be read.
+     */
+    List<Appointment> find(Function<PersonId, Person> findPerson, Predicate<Appointment> predicate)
+            throws DataLoadingException;
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts appointments by the day, week and month they are on, so that the number of appointments in any period is
+ * looked up instead of counted by going through every appointment.
+ * The counts are updated as each appointment is added or removed, and each period is keyed by its first day, so
+ * counting the appointments in a run of periods takes time proportional to the number of periods, however many
+ * appointments there are.
+ * The counts may be updated on a different thread from the one reading them.
+ */
+public class AppointmentCalendar {
+
+    public static final String MESSAGE_NEGATIVE_PERIOD_COUNT = "Number of periods should not be negative";
+
+    private final Map<CalendarPeriod, Map<LocalDate, Integer>> counts = new EnumMap<>(CalendarPeriod.class);
+
+    /**
+     * Creates a calendar with no appointments.
+     */
+    public AppointmentCalendar() {
+        for (CalendarPeriod period : CalendarPeriod.values()) {
+            counts.put(period, new HashMap<>());
+        }
+    }
+
+    /**
+     * Counts {@code appointment} in the day, week and month it is on.
+     */
+    public synchronized void add(Appointment appointment) {
+        requireNonNull(appointment);
+        addToCount(appointment, 1);
+    }
+
+    /**
+     * Stops counting {@code appointment} in the day, week and month it is on.
+     */
+    public synchronized void remove(Appointment appointment) {
+        requireNonNull(appointment);
+        addToCount(appointment, -1);
+    }
+
+    /**
+     * Removes all appointments from the calendar.
+     */
+    public synchronized void clear() {
+        counts.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns the number of appointments in the {@code period} that contains {@code date}.
+     */
+    public synchronized int count(CalendarPeriod period, LocalDate date) {
+        requireNonNull(period);
+        requireNonNull(date);
+        return counts.get(period).getOrDefault(period.getStart(date), 0);
+    }
+
+    /**
+     * Returns the number of appointments in each of {@code periodCount} consecutive periods of the given length,
+     * starting from the one that contains {@code from}.
+     */
+    public synchronized int[] count(CalendarPeriod period, LocalDate from, int periodCount) {
+        requireNonNull(period);
+        requireNonNull(from);
+        checkArgument(periodCount >= 0, MESSAGE_NEGATIVE_PERIOD_COUNT);
+
+        Map<LocalDate, Integer> periodCounts = counts.get(period);
+        int[] result = new int[periodCount];
+        LocalDate start = period.getStart(from);
+        for (int i = 0; i < periodCount; i++) {
+            result[i] = periodCounts.getOrDefault(start, 0);
+            start = period.getNextStart(start);
+        }
+        return result;
+    }
+
+    private void addToCount(Appointment appointment, int delta) {
+        LocalDate date = appointment.getAppointmentDatetime().datetime.toLocalDate();
+        for (CalendarPeriod period : CalendarPeriod.values()) {
+            Map<LocalDate, Integer> periodCounts = counts.get(period);
+            LocalDate start = period.getStart(date);
+            int count = periodCounts.getOrDefault(start, 0) + delta;
+            assert count >= 0;
+            if (count == 0) {
+                periodCounts.remove(start);
+            } else {
+                periodCounts.put(start, count);
+            }
+        }
+    }
+}
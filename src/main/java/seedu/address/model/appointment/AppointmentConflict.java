@@ -0,0 +1,63 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents two appointments that involve the same person and overlap in time.
+ * Guarantees: immutable; the earlier appointment comes first.
+ */
+public class AppointmentConflict {
+
+    private final Appointment first;
+    private final Appointment second;
+
+    /**
+     * Constructs a conflict between {@code first} and {@code second}, in either order.
+     */
+    public AppointmentConflict(Appointment first, Appointment second) {
+        requireAllNonNull(first, second);
+        boolean isInOrder = first.compareTo(second) <= 0;
+        this.first = isInOrder ? first : second;
+        this.second = isInOrder ? second : first;
+    }
+
+    public Appointment getFirst() {
+        return first;
+    }
+
+    public Appointment getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentConflict)) {
+            return false;
+        }
+
+        AppointmentConflict otherConflict = (AppointmentConflict) other;
+        return Set.of(first, second).equals(Set.of(otherConflict.first, otherConflict.second));
+    }
+
+    @Override
+    public int hashCode() {
+        return first.hashCode() ^ second.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("second", second)
+                .toString();
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.model.appointment;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersonLookup;
 
 /**
  * Tests that an {@code Appointment}'s details match any of the keywords given.
@@ -36,8 +40,52 @@ public class AppointmentContainsKeywordsPredicate implements Predicate<Appointme
         this.timeFrame = timeFrame;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public TimeFrame getTimeFrame() {
+        return timeFrame;
+    }
+
+    /**
+     * Returns an equivalent predicate with its keywords in lower case, sorted and without duplicates, so that searches
+     * for the same keywords and timeframe are equal however they were written.
+     */
+    public AppointmentContainsKeywordsPredicate normalize() {
+        return new AppointmentContainsKeywordsPredicate(keywords.stream()
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList()), timeFrame);
+    }
+
     @Override
     public boolean test(Appointment appointment) {
+        return test(appointment, LocalDateTime.now());
+    }
+
+    /**
+     * Tests the appointment, with its seller and buyer as {@code personLookup} has them, against the keywords and the
+     * current timeframe.
+     */
+    public boolean test(Appointment appointment, PersonLookup personLookup) {
+        return test(appointment, LocalDateTime.now(), personLookup);
+    }
+
+    /**
+     * Tests the appointment against the keywords, and against the timeframe at the time {@code now}.
+     */
+    public boolean test(Appointment appointment, LocalDateTime now) {
+        return test(appointment, now, null);
+    }
+
+    /**
+     * Tests the appointment, with its seller and buyer as {@code personLookup} has them, against the keywords and the
+     * timeframe at the time {@code now}. If {@code personLookup} is null, the persons are read from the address book
+     * the appointment was added to.
+     */
+    private boolean test(Appointment appointment, LocalDateTime now, PersonLookup personLookup) {
         // If both keywords and timeframe are empty/not present, return false (no criteria to match)
         if (keywords.isEmpty() && timeFrame == null) {
             return false;
@@ -45,10 +93,10 @@ public class AppointmentContainsKeywordsPredicate implements Predicate<Appointme
 
         // Check keyword matching (if keywords are provided)
         boolean matchesKeywords = keywords.isEmpty()
-                || keywords.stream().anyMatch(keyword -> matchesAnyField(appointment, keyword));
+                || keywords.stream().anyMatch(keyword -> matchesAnyField(appointment, keyword, personLookup));
 
         // Check timeframe matching (if timeframe is provided)
-        boolean matchesTimeFrame = timeFrame == null || timeFrame.matches(appointment);
+        boolean matchesTimeFrame = timeFrame == null || timeFrame.matches(appointment, now);
 
         // Both conditions must be satisfied
         return matchesKeywords && matchesTimeFrame;
@@ -57,8 +105,10 @@ public class AppointmentContainsKeywordsPredicate implements Predicate<Appointme
     /**
      * Checks if the keyword matches any field of the appointment.
      */
-    private boolean matchesAnyField(Appointment appointment, String keyword) {
-        return appointment.containsKeyword(keyword);
+    private boolean matchesAnyField(Appointment appointment, String keyword, PersonLookup personLookup) {
+        return personLookup == null
+                ? appointment.containsKeyword(keyword)
+                : appointment.containsKeyword(keyword, personLookup);
     }
 
     @Override
@@ -77,6 +127,11 @@ public class AppointmentContainsKeywordsPredicate implements Predicate<Appointme
                 && Objects.equals(timeFrame, otherPredicate.timeFrame);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, timeFrame);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,115 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Summarises the appointments in an {@link AppointmentArchive}: how many there are and the datetimes of the earliest
+ * and latest of them. This is all that is kept in memory of the archived appointments, to tell without reading the
+ * archive whether a search can find any of them.
+ * Guarantees: immutable.
+ */
+public class ArchiveSummary {
+
+    public static final ArchiveSummary EMPTY = new ArchiveSummary(0, null, null);
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "An archive summary should have a count that is not negative, and the earliest and latest datetimes "
+            + "exactly when the count is positive, the earliest not after the latest";
+
+    private final int count;
+    private final LocalDateTime earliest;
+    private final LocalDateTime latest;
+
+    /**
+     * Constructs an {@code ArchiveSummary}.
+     * {@code earliest} and {@code latest} must be null exactly when {@code count} is 0.
+     */
+    public ArchiveSummary(int count, LocalDateTime earliest, LocalDateTime latest) {
+        checkArgument(isValidSummary(count, earliest, latest), MESSAGE_CONSTRAINTS);
+        this.count = count;
+        this.earliest = earliest;
+        this.latest = latest;
+    }
+
+    /**
+     * Returns true if the given values make a valid summary.
+     */
+    public static boolean isValidSummary(int count, LocalDateTime earliest, LocalDateTime latest) {
+        if (count == 0) {
+            return earliest == null && latest == null;
+        }
+        return count > 0 && earliest != null && latest != null && !earliest.isAfter(latest);
+    }
+
+    /**
+     * Returns the summary of an archive holding the appointments of this one together with {@code appointments}.
+     */
+    public ArchiveSummary with(List<Appointment> appointments) {
+        requireNonNull(appointments);
+        int newCount = count;
+        LocalDateTime newEarliest = earliest;
+        LocalDateTime newLatest = latest;
+        for (Appointment appointment : appointments) {
+            LocalDateTime datetime = appointment.getAppointmentDatetime().datetime;
+            newCount++;
+            newEarliest = newEarliest == null || datetime.isBefore(newEarliest) ? datetime : newEarliest;
+            newLatest = newLatest == null || datetime.isAfter(newLatest) ? datetime : newLatest;
+        }
+        return new ArchiveSummary(newCount, newEarliest, newLatest);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public Optional<LocalDateTime> getEarliest() {
+        return Optional.ofNullable(earliest);
+    }
+
+    public Optional<LocalDateTime> getLatest() {
+        return Optional.ofNullable(latest);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveSummary)) {
+            return false;
+        }
+
+        ArchiveSummary otherSummary = (ArchiveSummary) other;
+        return count == otherSummary.count
+                && Objects.equals(earliest, otherSummary.earliest)
+                && Objects.equals(latest, otherSummary.latest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, earliest, latest);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("earliest", earliest)
+                .add("latest", latest)
+                .toString();
+    }
+}
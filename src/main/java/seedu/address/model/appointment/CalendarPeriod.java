@@ -0,0 +1,77 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Represents a period of the calendar over which appointments are counted: a day, a week starting on Monday, or a
+ * month.
+ */
+public enum CalendarPeriod {
+    DAY,
+    WEEK,
+    MONTH;
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Calendar period should be one of: day, week, month (case-insensitive)";
+
+    /**
+     * Returns true if a given string is a valid calendar period.
+     */
+    public static boolean isValidCalendarPeriod(String test) {
+        String normalized = test.trim().toUpperCase();
+        try {
+            CalendarPeriod.valueOf(normalized);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Parses a string into a CalendarPeriod.
+     *
+     * @throws IllegalArgumentException if the string is not a valid calendar period.
+     */
+    public static CalendarPeriod fromString(String calendarPeriodStr) {
+        return CalendarPeriod.valueOf(calendarPeriodStr.trim().toUpperCase());
+    }
+
+    /**
+     * Returns the first day of the period of this length that contains {@code date}.
+     */
+    public LocalDate getStart(LocalDate date) {
+        requireNonNull(date);
+        switch (this) {
+        case WEEK:
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        case MONTH:
+            return date.withDayOfMonth(1);
+        default:
+            return date;
+        }
+    }
+
+    /**
+     * Returns the first day of the period of this length after the one that contains {@code date}.
+     */
+    public LocalDate getNextStart(LocalDate date) {
+        requireNonNull(date);
+        switch (this) {
+        case WEEK:
+            return getStart(date).plusWeeks(1);
+        case MONTH:
+            return getStart(date).plusMonths(1);
+        default:
+            return date.plusDays(1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * Keeps the appointments of every person in order of time, so that the appointments conflicting with one are found
+ * without looking at every appointment.
+ * Every appointment is taken to last the same duration from its datetime, so two appointments conflict if they
+ * involve the same person and start less than that duration apart. The appointments of each person are kept in a
+ * tree ordered by datetime, so those conflicting with an appointment are found in {@code O(log n)} time per person
+ * involved in it.
+ */
+public class Schedule {
+
+    public static final Duration DEFAULT_APPOINTMENT_DURATION = Duration.ofHours(1);
+
+    public static final String MESSAGE_DURATION_CONSTRAINTS = "Appointment duration should be positive";
+
+    private static final Comparator<AppointmentConflict> EARLIEST_FIRST =
+            Comparator.comparing(AppointmentConflict::getFirst).thenComparing(AppointmentConflict::getSecond);
+
+    private final Map<PersonId, NavigableMap<LocalDateTime, List<Appointment>>> schedules = new HashMap<>();
+    private Duration appointmentDuration = DEFAULT_APPOINTMENT_DURATION;
+
+    public Duration getAppointmentDuration() {
+        return appointmentDuration;
+    }
+
+    /**
+     * Sets how long every appointment is taken to last.
+     */
+    public void setAppointmentDuration(Duration appointmentDuration) {
+        requireNonNull(appointmentDuration);
+        checkArgument(!appointmentDuration.isNegative() && !appointmentDuration.isZero(),
+                MESSAGE_DURATION_CONSTRAINTS);
+        this.appointmentDuration = appointmentDuration;
+    }
+
+    /**
+     * Adds {@code appointment} to the schedules of the persons involved in it.
+     */
+    public void add(Appointment appointment) {
+        requireNonNull(appointment);
+        LocalDateTime datetime = appointment.getAppointmentDatetime().datetime;
+        for (PersonId id : getPersonIds(appointment)) {
+            schedules.computeIfAbsent(id, unused -> new TreeMap<>())
+                    .computeIfAbsent(datetime, unused -> new ArrayList<>())
+                    .add(appointment);
+        }
+    }
+
+    /**
+     * Removes {@code appointment} from the schedules of the persons involved in it.
+     */
+    public void remove(Appointment appointment) {
+        requireNonNull(appointment);
+        LocalDateTime datetime = appointment.getAppointmentDatetime().datetime;
+        for (PersonId id : getPersonIds(appointment)) {
+            NavigableMap<LocalDateTime, List<Appointment>> schedule = schedules.get(id);
+            if (schedule == null) {
+                continue;
+            }
+            List<Appointment> appointmentsAtTime = schedule.get(datetime);
+            if (appointmentsAtTime == null || !appointmentsAtTime.remove(appointment)) {
+                continue;
+            }
+            if (appointmentsAtTime.isEmpty()) {
+                schedule.remove(datetime);
+            }
+            if (schedule.isEmpty()) {
+                schedules.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Removes all appointments from the schedules.
+     */
+    public void clear() {
+        schedules.clear();
+    }
+
+    /**
+     * Returns the appointments involving the person with the given {@code id}, in order of time.
+     */
+    public List<Appointment> getAppointments(PersonId id) {
+        requireNonNull(id);
+        NavigableMap<LocalDateTime, List<Appointment>> schedule = schedules.get(id);
+        if (schedule == null) {
+            return List.of();
+        }
+        List<Appointment> appointments = new ArrayList<>();
+        schedule.values().forEach(appointments::addAll);
+        return appointments;
+    }
+
+    /**
+     * Returns the appointments, other than {@code appointment} itself, that conflict with {@code appointment},
+     * in order of time.
+     */
+    public List<Appointment> findConflicts(Appointment appointment) {
+        requireNonNull(appointment);
+        LocalDateTime datetime = appointment.getAppointmentDatetime().datetime;
+        LocalDateTime earliest = datetime.minus(appointmentDuration);
+        LocalDateTime latest = datetime.plus(appointmentDuration);
+
+        Set<Appointment> conflicts = new LinkedHashSet<>();
+        for (PersonId id : getPersonIds(appointment)) {
+            NavigableMap<LocalDateTime, List<Appointment>> schedule = schedules.get(id);
+            if (schedule == null) {
+                continue;
+            }
+            for (List<Appointment> appointmentsAtTime : schedule.subMap(earliest, false, latest, false).values()) {
+                for (Appointment other : appointmentsAtTime) {
+                    if (!other.equals(appointment)) {
+                        conflicts.add(other);
+                    }
+                }
+            }
+        }
+
+        List<Appointment> sortedConflicts = new ArrayList<>(conflicts);
+        sortedConflicts.sort(Comparator.naturalOrder());
+        return sortedConflicts;
+    }
+
+    /**
+     * Returns every pair of conflicting appointments, earliest first.
+     * The appointments of each person are swept once in order of time, keeping those still going on.
+     */
+    public List<AppointmentConflict> findAllConflicts() {
+        Set<AppointmentConflict> conflicts = new LinkedHashSet<>();
+        for (NavigableMap<LocalDateTime, List<Appointment>> schedule : schedules.values()) {
+            Deque<Appointment> ongoing = new ArrayDeque<>();
+            for (Map.Entry<LocalDateTime, List<Appointment>> appointmentsAtTime : schedule.entrySet()) {
+                LocalDateTime datetime = appointmentsAtTime.getKey();
+                while (!ongoing.isEmpty() && !getEnd(ongoing.peekFirst()).isAfter(datetime)) {
+                    ongoing.pollFirst();
+                }
+                for (Appointment appointment : appointmentsAtTime.getValue()) {
+                    for (Appointment other : ongoing) {
+                        conflicts.add(new AppointmentConflict(other, appointment));
+                    }
+                    ongoing.addLast(appointment);
+                }
+            }
+        }
+
+        List<AppointmentConflict> sortedConflicts = new ArrayList<>(conflicts);
+        sortedConflicts.sort(EARLIEST_FIRST);
+        return sortedConflicts;
+    }
+
+    /**
+     * Returns up to {@code limit} windows of at least {@code duration} within {@code range} in which none of the
+     * persons with the given {@code ids} has an appointment, earliest first.
+     * The appointment times of the persons are merged in order of time and swept from the start of the range,
+     * stopping as soon as enough windows are found.
+     */
+    public List<TimeSlot> findFreeSlots(Collection<PersonId> ids, TimeSlot range, Duration duration, int limit) {
+        requireAllNonNull(ids, range, duration);
+        checkArgument(!duration.isNegative() && !duration.isZero(), MESSAGE_DURATION_CONSTRAINTS);
+        checkArgument(limit >= 0, "Limit should not be negative");
+
+        // Appointments starting one duration before the range may still be going on when it starts
+        PriorityQueue<PeekingIterator> busyTimes = new PriorityQueue<>(Comparator.comparing(PeekingIterator::peek));
+        for (PersonId id : ids) {
+            NavigableMap<LocalDateTime, List<Appointment>> schedule = schedules.get(id);
+            if (schedule == null) {
+                continue;
+            }
+            Iterator<LocalDateTime> times = schedule.subMap(range.getStart().minus(appointmentDuration), false,
+                    range.getEnd(), false).keySet().iterator();
+            if (times.hasNext()) {
+                busyTimes.add(new PeekingIterator(times));
+            }
+        }
+
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        LocalDateTime freeFrom = range.getStart();
+        while (freeSlots.size() < limit && !busyTimes.isEmpty()) {
+            PeekingIterator earliest = busyTimes.poll();
+            LocalDateTime busyFrom = earliest.next();
+            if (earliest.hasNext()) {
+                busyTimes.add(earliest);
+            }
+
+            if (!freeFrom.plus(duration).isAfter(busyFrom)) {
+                freeSlots.add(new TimeSlot(freeFrom, busyFrom));
+            }
+            LocalDateTime busyUntil = busyFrom.plus(appointmentDuration);
+            if (busyUntil.isAfter(freeFrom)) {
+                freeFrom = busyUntil;
+            }
+        }
+        if (freeSlots.size() < limit && !freeFrom.plus(duration).isAfter(range.getEnd())) {
+            freeSlots.add(new TimeSlot(freeFrom, range.getEnd()));
+        }
+        return freeSlots;
+    }
+
+    private LocalDateTime getEnd(Appointment appointment) {
+        return appointment.getAppointmentDatetime().datetime.plus(appointmentDuration);
+    }
+
+    private static List<PersonId> getPersonIds(Appointment appointment) {
+        List<PersonId> ids = new ArrayList<>(2);
+        ids.add(appointment.getSellerId());
+        appointment.getBuyerId().ifPresent(ids::add);
+        return ids;
+    }
+
+    /**
+     * An iterator over the appointment times of a person that can look at its next time without moving past it.
+     */
+    private static class PeekingIterator {
+        private final Iterator<LocalDateTime> times;
+        private LocalDateTime next;
+
+        PeekingIterator(Iterator<LocalDateTime> times) {
+            this.times = times;
+            this.next = times.next();
+        }
+
+        LocalDateTime peek() {
+            return next;
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+
+        LocalDateTime next() {
+            LocalDateTime current = next;
+            next = times.hasNext() ? times.next() : null;
+            return current;
+        }
+    }
+}
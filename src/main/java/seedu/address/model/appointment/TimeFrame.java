@@ -43,19 +43,30 @@ public enum TimeFrame {
     }
 
     /**
-     * Tests if an appointment matches this timeframe.
+     * Tests if an appointment matches this timeframe now.
      *
      * @param appointment The appointment to test.
      * @return true if the appointment falls within this timeframe.
      */
     public boolean matches(Appointment appointment) {
+        return matches(appointment, LocalDateTime.now());
+    }
+
+    /**
+     * Tests if an appointment matches this timeframe at the time {@code now}.
+     *
+     * @param appointment The appointment to test.
+     * @param now The current time.
+     * @return true if the appointment falls within this timeframe.
+     */
+    public boolean matches(Appointment appointment, LocalDateTime now) {
         requireNonNull(appointment);
+        requireNonNull(now);
 
         LocalDateTime appointmentDateTime = appointment.getAppointmentDatetime().datetime;
         requireNonNull(appointmentDateTime);
 
-        LocalDate today = LocalDate.now();
-        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
         LocalDateTime startOfToday = today.atStartOfDay();
         LocalDateTime endOfToday = today.atTime(LocalTime.MAX);
 
@@ -0,0 +1,140 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Keeps appointments in order of time, to tell which of them have moved between the {@link TimeFrame}s as time
+ * passed, so that only those need to be tested against a timeframe again.
+ * Appointments move when the current time passes their datetime, from upcoming to past, and at midnight, when the
+ * appointments of the day that ended stop being today's and those of the day that started become today's.
+ * The scheduler remembers the time it was last advanced to, and knows the next time after that at which any of its
+ * appointments move. As it keeps the appointments in order of time, it also finds the next appointments after any
+ * time without sorting them.
+ */
+public class TimeFrameScheduler {
+
+    public static final String MESSAGE_NEGATIVE_LIMIT = "Limit should not be negative";
+
+    private final NavigableMap<LocalDateTime, List<Appointment>> appointmentsByTime = new TreeMap<>();
+    private LocalDateTime lastAdvancedTo;
+
+    /**
+     * Adds {@code appointment} to the appointments kept track of.
+     */
+    public void add(Appointment appointment) {
+        requireNonNull(appointment);
+        appointmentsByTime.computeIfAbsent(appointment.getAppointmentDatetime().datetime, unused -> new ArrayList<>())
+                .add(appointment);
+    }
+
+    /**
+     * Removes {@code appointment} from the appointments kept track of.
+     */
+    public void remove(Appointment appointment) {
+        requireNonNull(appointment);
+        LocalDateTime datetime = appointment.getAppointmentDatetime().datetime;
+        List<Appointment> appointments = appointmentsByTime.get(datetime);
+        if (appointments != null && appointments.remove(appointment) && appointments.isEmpty()) {
+            appointmentsByTime.remove(datetime);
+        }
+    }
+
+    /**
+     * Removes all appointments kept track of.
+     */
+    public void clear() {
+        appointmentsByTime.clear();
+    }
+
+    /**
+     * Returns the earliest time at which any appointment moves between timeframes after the time the scheduler was
+     * last advanced to. Returns {@code LocalDateTime.MIN} if the scheduler has never been advanced.
+     */
+    public LocalDateTime getNextChange() {
+        if (lastAdvancedTo == null) {
+            return LocalDateTime.MIN;
+        }
+        LocalDateTime nextMidnight = lastAdvancedTo.toLocalDate().plusDays(1).atStartOfDay();
+        LocalDateTime nextAppointment = appointmentsByTime.ceilingKey(lastAdvancedTo);
+        if (nextAppointment == null) {
+            return nextMidnight;
+        }
+        // An appointment is past from just after its datetime
+        LocalDateTime nextPast = nextAppointment.plusNanos(1);
+        return nextPast.isBefore(nextMidnight) ? nextPast : nextMidnight;
+    }
+
+    /**
+     * Advances the scheduler to the time {@code now}, and returns the appointments that have moved between
+     * timeframes since the time it was last advanced to. Nothing is returned the first time it is advanced.
+     * If {@code now} is before the time it was last advanced to, e.g. because the system clock was set back, the
+     * appointments that have moved back are returned.
+     */
+    public List<Appointment> advance(LocalDateTime now) {
+        requireNonNull(now);
+        LocalDateTime from = lastAdvancedTo;
+        lastAdvancedTo = now;
+        if (from == null || from.equals(now)) {
+            return new ArrayList<>();
+        }
+
+        LocalDateTime earlier = from.isBefore(now) ? from : now;
+        LocalDateTime later = from.isBefore(now) ? now : from;
+        Set<Appointment> moved = new LinkedHashSet<>();
+        appointmentsByTime.subMap(earlier, true, later, false).values().forEach(moved::addAll);
+        if (!earlier.toLocalDate().equals(later.toLocalDate())) {
+            addAppointmentsOn(earlier.toLocalDate(), moved);
+            addAppointmentsOn(later.toLocalDate(), moved);
+        }
+        return new ArrayList<>(moved);
+    }
+
+    /**
+     * Returns up to {@code limit} appointments after the time {@code after} that satisfy {@code predicate}, earliest
+     * first. Only the appointments up to the last one returned are tested against {@code predicate}.
+     */
+    public List<Appointment> findNext(LocalDateTime after, Predicate<Appointment> predicate, int limit) {
+        requireNonNull(after);
+        requireNonNull(predicate);
+        checkArgument(limit >= 0, MESSAGE_NEGATIVE_LIMIT);
+
+        List<Appointment> next = new ArrayList<>(Math.min(limit, appointmentsByTime.size()));
+        for (List<Appointment> appointments : appointmentsByTime.tailMap(after, false).values()) {
+            for (Appointment appointment : appointments) {
+                if (next.size() == limit) {
+                    return next;
+                }
+                if (predicate.test(appointment)) {
+                    next.add(appointment);
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns the appointments before the time {@code before}, earliest first.
+     */
+    public List<Appointment> findBefore(LocalDateTime before) {
+        requireNonNull(before);
+        List<Appointment> earlier = new ArrayList<>();
+        appointmentsByTime.headMap(before, false).values().forEach(earlier::addAll);
+        return earlier;
+    }
+
+    private void addAppointmentsOn(LocalDate date, Set<Appointment> appointments) {
+        appointmentsByTime.subMap(date.atStartOfDay(), true, date.plusDays(1).atStartOfDay(), false).values()
+                .forEach(appointments::addAll);
+    }
+}
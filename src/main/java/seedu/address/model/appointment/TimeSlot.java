@@ -0,0 +1,67 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Represents a window of time, from its start up to but not including its end.
+ * Guarantees: immutable; the start is before the end.
+ */
+public class TimeSlot {
+
+    public static final String MESSAGE_CONSTRAINTS = "The start of a time slot should be before its end";
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Constructs a {@code TimeSlot} from {@code start} up to {@code end}.
+     */
+    public TimeSlot(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(start.isBefore(end), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public Duration getDuration() {
+        return Duration.between(start, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TimeSlot)) {
+            return false;
+        }
+
+        TimeSlot otherTimeSlot = (TimeSlot) other;
+        return start.equals(otherTimeSlot.start) && end.equals(otherTimeSlot.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return start + " to " + end;
+    }
+}
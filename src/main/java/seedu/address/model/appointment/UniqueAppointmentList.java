@@ -3,14 +3,29 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonLookup;
+import seedu.address.model.util.BatchedObservableList;
 
 /**
  * A list of appointments that enforces uniqueness between its elements and does not allow nulls.
@@ -18,21 +33,48 @@ import seedu.address.model.person.Person;
  * updating of appointments uses Appointment#equals(Appointment) for equality so as to ensure that the appointment
  * being added or updated is unique in terms of identity in the UniqueAppointmentList. The removal of an appointment
  * uses the same Appointment#equals(Appointment).
+ * If the list is given a {@code PersonLookup}, the appointments added to it resolve their seller and buyer through it.
+ * The position of every appointment is kept in a hash map alongside the list, so that checking for, removing and
+ * replacing an appointment take constant time. Removing an appointment moves the last appointment into its place.
+ * The appointments are also kept in a {@code Schedule} of every person's appointments in order of time, to find the
+ * appointments that conflict with one, counted in an {@code AppointmentCalendar} by the day, week and month they
+ * are on, and kept in a {@code TimeFrameScheduler} to tell which of them have moved between timeframes as time passes.
  *
  * Supports a minimal set of list operations.
  */
 public class UniqueAppointmentList implements Iterable<Appointment> {
 
-    private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Appointment> internalList = new BatchedObservableList<>();
     private final ObservableList<Appointment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Appointment, Integer> positions = new HashMap<>();
+    private final Schedule schedule = new Schedule();
+    private final AppointmentCalendar calendar = new AppointmentCalendar();
+    private final TimeFrameScheduler timeFrameScheduler = new TimeFrameScheduler();
+    private final PersonLookup personLookup;
+
+    /**
+     * Creates an empty list whose appointments resolve their seller and buyer through the persons they were
+     * created with.
+     */
+    public UniqueAppointmentList() {
+        this.personLookup = null;
+    }
+
+    /**
+     * Creates an empty list whose appointments resolve their seller and buyer through {@code personLookup}.
+     */
+    public UniqueAppointmentList(PersonLookup personLookup) {
+        requireNonNull(personLookup);
+        this.personLookup = personLookup;
+    }
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return positions.containsKey(toCheck);
     }
 
     /**
@@ -44,18 +86,37 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         if (contains(toAdd)) {
             throw new DuplicateAppointmentException();
         }
-        internalList.add(toAdd);
+        Appointment boundAppointment = bind(toAdd);
+        positions.put(boundAppointment, internalList.size());
+        addToIndexes(boundAppointment);
+        internalList.add(boundAppointment);
     }
 
     /**
      * Removes the equivalent appointment from the list.
      * The appointment must exist in the list.
+     * The last appointment in the list takes the place of the removed appointment.
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positions.remove(toRemove);
+        if (index == null) {
             throw new AppointmentNotFoundException();
         }
+        removeFromIndexes(toRemove);
+
+        int lastIndex = internalList.size() - 1;
+        if (index == lastIndex) {
+            internalList.remove(lastIndex);
+            return;
+        }
+
+        Appointment lastAppointment = internalList.get(lastIndex);
+        positions.put(lastAppointment, index);
+        internalList.runAsSingleChange(() -> {
+            internalList.set(index, lastAppointment);
+            internalList.remove(lastIndex);
+        });
     }
 
     /**
@@ -67,8 +128,8 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positions.get(target);
+        if (index == null) {
             throw new AppointmentNotFoundException();
         }
 
@@ -76,17 +137,23 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
-        internalList.set(index, editedAppointment);
+        Appointment boundAppointment = bind(editedAppointment);
+        positions.remove(target);
+        positions.put(boundAppointment, index);
+        removeFromIndexes(target);
+        addToIndexes(boundAppointment);
+        internalList.set(index, boundAppointment);
     }
 
     public void setAppointments(UniqueAppointmentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setAppointments(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code appointments}.
      * {@code appointments} must not contain duplicate appointments.
+     * Only the appointments removed and added are taken out of and put into the indexes.
      */
     public void setAppointments(List<Appointment> appointments) {
         requireAllNonNull(appointments);
@@ -94,22 +161,204 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
-        internalList.setAll(appointments);
+        List<Appointment> boundAppointments = new ArrayList<>(appointments.size());
+        for (Appointment appointment : appointments) {
+            boundAppointments.add(bind(appointment));
+        }
+        Set<Appointment> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(boundAppointments);
+        Set<Appointment> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Appointment appointment : internalList) {
+            current.add(appointment);
+            if (!kept.contains(appointment)) {
+                removeFromIndexes(appointment);
+            }
+        }
+        for (Appointment appointment : boundAppointments) {
+            if (!current.contains(appointment)) {
+                addToIndexes(appointment);
+            }
+        }
+        internalList.setAll(boundAppointments);
+        positions.clear();
+        updatePositionsFrom(0);
+    }
+
+    /**
+     * Replaces every appointment in the list with the result of applying {@code updater} to it.
+     * Appointments for which {@code updater} returns the same object are left in place, and listeners are notified
+     * of all replacements as a single change.
+     * The updated appointments must not contain duplicate appointments, otherwise the list is left unchanged.
+     */
+    public void updateAppointments(UnaryOperator<Appointment> updater) {
+        requireNonNull(updater);
+
+        List<Appointment> updatedAppointments = new ArrayList<>(internalList.size());
+        for (Appointment appointment : internalList) {
+            updatedAppointments.add(bind(requireNonNull(updater.apply(appointment))));
+        }
+
+        if (!appointmentsAreUnique(updatedAppointments)) {
+            throw new DuplicateAppointmentException();
+        }
+
+        // All replaced appointments leave the indexes before any replacement enters them, as a replacement may be
+        // equal to another appointment replaced
+        List<Integer> changedIndexes = new ArrayList<>();
+        for (int i = 0; i < updatedAppointments.size(); i++) {
+            if (updatedAppointments.get(i) != internalList.get(i)) {
+                changedIndexes.add(i);
+                positions.remove(internalList.get(i));
+                removeFromIndexes(internalList.get(i));
+            }
+        }
+        for (int i : changedIndexes) {
+            positions.put(updatedAppointments.get(i), i);
+            addToIndexes(updatedAppointments.get(i));
+        }
+        internalList.runAsSingleChange(() -> {
+            for (int i : changedIndexes) {
+                internalList.set(i, updatedAppointments.get(i));
+            }
+        });
+    }
+
+    /**
+     * Removes all appointments that satisfy {@code predicate}, keeping the others in order.
+     * Listeners are notified of all removals as a single change.
+     */
+    public void removeAppointments(Predicate<Appointment> predicate) {
+        requireNonNull(predicate);
+        int firstRemoved = -1;
+        for (int i = 0; i < internalList.size(); i++) {
+            Appointment appointment = internalList.get(i);
+            if (predicate.test(appointment)) {
+                firstRemoved = firstRemoved < 0 ? i : firstRemoved;
+                positions.remove(appointment);
+                removeFromIndexes(appointment);
+            }
+        }
+        if (firstRemoved < 0) {
+            return;
+        }
+        internalList.runAsSingleChange(() -> internalList.removeIf(appointment -> !positions.containsKey(appointment)));
+        updatePositionsFrom(firstRemoved);
+    }
+
+    /**
+     * Notifies listeners that the appointments involving the person with the given {@code id} have changed,
+     * e.g. because the person was edited. Listeners are notified of all such appointments as a single change.
+     * The appointments are found through the schedule, without looking at the appointments of other persons.
+     */
+    public void refreshAppointmentsWithPerson(PersonId id) {
+        requireNonNull(id);
+        List<Integer> affectedIndexes = new ArrayList<>();
+        for (Appointment appointment : schedule.getAppointments(id)) {
+            affectedIndexes.add(positions.get(appointment));
+        }
+        if (affectedIndexes.isEmpty()) {
+            return;
+        }
+        affectedIndexes.sort(null);
+        internalList.runAsSingleChange(() -> {
+            for (int i : affectedIndexes) {
+                internalList.update(i);
+            }
+        });
+    }
+
+    /**
+     * Removes all appointments involving the person with the given {@code id}, either as the seller or the buyer.
+     */
+    public void removeAppointmentsWithPerson(PersonId id) {
+        requireNonNull(id);
+        removeAppointments(appointment -> appointment.involvesPerson(id));
+    }
+
+    /**
+     * Returns the appointments in the list, other than {@code appointment} itself, that involve the same person as
+     * {@code appointment} and overlap it in time, in order of time.
+     */
+    public List<Appointment> findConflicts(Appointment appointment) {
+        requireNonNull(appointment);
+        return schedule.findConflicts(appointment);
+    }
+
+    /**
+     * Returns every pair of appointments in the list that involve the same person and overlap in time, earliest first.
+     */
+    public List<AppointmentConflict> findAllConflicts() {
+        return schedule.findAllConflicts();
+    }
+
+    /**
+     * Returns up to {@code limit} windows of at least {@code duration} within {@code range} in which none of the
+     * persons with the given {@code ids} has an appointment in the list, earliest first.
+     */
+    public List<TimeSlot> findFreeSlots(Collection<PersonId> ids, TimeSlot range, Duration duration, int limit) {
+        return schedule.findFreeSlots(ids, range, duration, limit);
+    }
+
+    /**
+     * Returns the number of appointments in the list in each of {@code periodCount} consecutive periods of the given
+     * length, starting from the one that contains {@code from}.
+     */
+    public int[] countAppointments(CalendarPeriod period, LocalDate from, int periodCount) {
+        return calendar.count(period, from, periodCount);
     }
 
     /**
-     * Updates all appointments involving {@code target} to reference {@code editedPerson} instead.
+     * Notifies listeners that the appointments which have moved between timeframes since the last refresh, as of the
+     * time {@code now}, have changed, so that a list filtered by timeframe tests only those appointments again.
+     * Listeners are notified of all such appointments as a single change.
      *
-     * @param target Person object to be replaced.
-     * @param editedPerson Person object to replace with.
+     * @return the appointments that have moved.
      */
-    public void updateAppointmentsWithEditedPerson(Person target, Person editedPerson) {
-        requireAllNonNull(target, editedPerson);
+    public List<Appointment> refreshTimeFrames(LocalDateTime now) {
+        List<Appointment> moved = timeFrameScheduler.advance(now);
+        if (moved.isEmpty()) {
+            return moved;
+        }
+        internalList.runAsSingleChange(() -> {
+            for (Appointment appointment : moved) {
+                internalList.update(positions.get(appointment));
+            }
+        });
+        return moved;
+    }
 
-        internalList.stream()
-                .filter(appointment -> appointment.isPersonSeller(target) || appointment.isPersonBuyer(target))
-                .forEach(appointment ->
-                        setAppointment(appointment, appointment.updatedWithEditedPerson(target, editedPerson)));
+    /**
+     * Returns the earliest time after the last refresh at which any appointment in the list moves between
+     * timeframes.
+     */
+    public LocalDateTime getNextTimeFrameChange() {
+        return timeFrameScheduler.getNextChange();
+    }
+
+    /**
+     * Returns up to {@code limit} appointments in the list after the time {@code after} that satisfy
+     * {@code predicate}, earliest first, without sorting the list.
+     */
+    public List<Appointment> findNextAppointments(LocalDateTime after, Predicate<Appointment> predicate, int limit) {
+        return timeFrameScheduler.findNext(after, predicate, limit);
+    }
+
+    /**
+     * Returns the appointments in the list before the time {@code before}, earliest first, without sorting the list.
+     */
+    public List<Appointment> findAppointmentsBefore(LocalDateTime before) {
+        return timeFrameScheduler.findBefore(before);
+    }
+
+    public Duration getAppointmentDuration() {
+        return schedule.getAppointmentDuration();
+    }
+
+    /**
+     * Sets how long every appointment is taken to last when looking for conflicts.
+     */
+    public void setAppointmentDuration(Duration appointmentDuration) {
+        schedule.setAppointmentDuration(appointmentDuration);
     }
 
     /**
@@ -149,17 +398,45 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         return internalList.toString();
     }
 
+    /**
+     * Returns {@code appointment} resolving its persons through this list's {@code PersonLookup}, if there is one.
+     */
+    private Appointment bind(Appointment appointment) {
+        return personLookup == null ? appointment : appointment.withPersonLookup(personLookup);
+    }
+
+    /**
+     * Adds {@code appointment} to the schedule, the calendar and the timeframe scheduler.
+     */
+    private void addToIndexes(Appointment appointment) {
+        schedule.add(appointment);
+        calendar.add(appointment);
+        timeFrameScheduler.add(appointment);
+    }
+
+    /**
+     * Removes {@code appointment} from the schedule, the calendar and the timeframe scheduler.
+     */
+    private void removeFromIndexes(Appointment appointment) {
+        schedule.remove(appointment);
+        calendar.remove(appointment);
+        timeFrameScheduler.remove(appointment);
+    }
+
+    /**
+     * Records the positions of the appointments in the list from {@code from} on, after those before them have been
+     * removed or the list has been replaced.
+     */
+    private void updatePositionsFrom(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code appointments} contains only unique appointments.
      */
     private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).equals(appointments.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new HashSet<>(appointments).size() == appointments.size();
     }
 }
@@ -1,9 +1,8 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -12,6 +11,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.address.Address;
 import seedu.address.model.person.address.AddressType;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -19,6 +19,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    // Internal ID, kept when the person is edited
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -27,19 +30,36 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // Persons are immutable, so the hash code is only computed once
+    private final int hashCode;
 
     /**
      * Every field must be present and not null.
+     * The person is given a newly generated ID.
      */
     public Person(Name name, Phone phone, Email email, Role role, Address address, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, tags);
+        this(PersonId.generate(), name, phone, email, role, address, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email, Role role, Address address, Set<Tag> tags) {
+        requireAllNonNull(id, name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.role = role;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.hashCode = Objects.hash(name, phone, email, role, address, this.tags);
+    }
+
+    public PersonId getId() {
+        return id;
     }
 
     public Name getName() {
@@ -85,7 +105,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -145,9 +165,18 @@ public class Person {
         return phone.value;
     }
 
+    /**
+     * Returns a copy of this person with the given {@code id}.
+     */
+    public Person withId(PersonId id) {
+        requireNonNull(id);
+        return id.equals(this.id) ? this : new Person(id, name, phone, email, role, address, tags);
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The internal ID is not compared, as it is not part of the person's details.
      */
     @Override
     public boolean equals(Object other) {
@@ -161,7 +190,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -171,8 +201,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, role, address, tags);
+        return hashCode;
     }
 
     @Override
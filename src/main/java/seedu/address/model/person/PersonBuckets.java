@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.address.PropertyType;
+
+/**
+ * Sorts the persons in a list into buckets by property type and role, so that the persons with a given property type,
+ * role or both are found, and counted, without looking at every person.
+ * The buckets are updated as persons are added to, removed from or replaced in the list.
+ * The list may be changed on a different thread from the one reading the buckets.
+ */
+public class PersonBuckets {
+
+    private final Map<PropertyType, Map<Role, Set<Person>>> buckets = new EnumMap<>(PropertyType.class);
+
+    /**
+     * Creates buckets of the persons in {@code persons} that stay up to date with it.
+     */
+    public PersonBuckets(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (PropertyType propertyType : PropertyType.values()) {
+            Map<Role, Set<Person>> roleBuckets = new HashMap<>();
+            roleBuckets.put(Role.of(Role.BUYER), new HashSet<>());
+            roleBuckets.put(Role.of(Role.SELLER), new HashSet<>());
+            buckets.put(propertyType, roleBuckets);
+        }
+        synchronized (this) {
+            persons.forEach(this::addPerson);
+        }
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the persons with the given {@code propertyType} and {@code role}.
+     */
+    public synchronized Set<Person> getPersons(PropertyType propertyType, Role role) {
+        requireAllNonNull(propertyType, role);
+        return new HashSet<>(buckets.get(propertyType).get(role));
+    }
+
+    /**
+     * Returns the persons with the given {@code propertyType}.
+     */
+    public synchronized Set<Person> getPersons(PropertyType propertyType) {
+        requireNonNull(propertyType);
+        Set<Person> persons = new HashSet<>();
+        buckets.get(propertyType).values().forEach(persons::addAll);
+        return persons;
+    }
+
+    /**
+     * Returns the persons with the given {@code role}.
+     */
+    public synchronized Set<Person> getPersons(Role role) {
+        requireNonNull(role);
+        Set<Person> persons = new HashSet<>();
+        for (Map<Role, Set<Person>> roleBuckets : buckets.values()) {
+            persons.addAll(roleBuckets.get(role));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons with the given {@code propertyType} and {@code role}.
+     */
+    public synchronized int count(PropertyType propertyType, Role role) {
+        requireAllNonNull(propertyType, role);
+        return buckets.get(propertyType).get(role).size();
+    }
+
+    /**
+     * Returns the number of persons with the given {@code propertyType}.
+     */
+    public synchronized int count(PropertyType propertyType) {
+        requireNonNull(propertyType);
+        int count = 0;
+        for (Set<Person> bucket : buckets.get(propertyType).values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of persons with the given {@code role}.
+     */
+    public synchronized int count(Role role) {
+        requireNonNull(role);
+        int count = 0;
+        for (Map<Role, Set<Person>> roleBuckets : buckets.values()) {
+            count += roleBuckets.get(role).size();
+        }
+        return count;
+    }
+
+    private synchronized void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removePerson);
+            change.getAddedSubList().forEach(this::addPerson);
+        }
+    }
+
+    private void addPerson(Person person) {
+        buckets.get(person.getAddressType().type).get(person.getRole()).add(person);
+    }
+
+    private void removePerson(Person person) {
+        buckets.get(person.getAddressType().type).get(person.getRole()).remove(person);
+    }
+}
@@ -1,21 +1,41 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryField;
 
 /**
  * Tests that a {@code Person}'s details match any of the keywords given.
  * Searches across name, role, address, email, phone, and tags.
+ * Equivalent to an {@code OrQuery} of {@link QueryField#ANY} terms.
  */
-public class PersonContainsKeywordsPredicate implements Predicate<Person> {
+public class PersonContainsKeywordsPredicate implements PersonQuery {
     private final List<String> keywords;
 
     public PersonContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns an equivalent predicate with its keywords in lower case, sorted and without duplicates, so that searches
+     * for the same keywords are equal however they were written.
+     */
+    public PersonContainsKeywordsPredicate normalize() {
+        return new PersonContainsKeywordsPredicate(keywords.stream()
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
@@ -44,6 +64,11 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherPersonContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.address.PropertyType;
+
+/**
+ * Counts the persons in a list, such as the persons currently shown, by property type and role.
+ * The counts are updated from each change to the list, by the persons added and removed in it, rather than recounted,
+ * and listeners are notified after every change so that the counts can be shown as they change.
+ */
+public class PersonFacets implements Observable {
+
+    private final Map<PropertyType, int[]> counts = new EnumMap<>(PropertyType.class);
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+
+    /**
+     * Creates counts of the persons in {@code persons} that stay up to date with it.
+     */
+    public PersonFacets(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (PropertyType propertyType : PropertyType.values()) {
+            counts.put(propertyType, new int[2]);
+        }
+        synchronized (this) {
+            persons.forEach(person -> addToCount(person, 1));
+        }
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the number of persons with the given {@code propertyType} and {@code role}.
+     */
+    public synchronized int count(PropertyType propertyType, Role role) {
+        requireAllNonNull(propertyType, role);
+        return counts.get(propertyType)[toIndex(role)];
+    }
+
+    /**
+     * Returns the number of persons with the given {@code propertyType}.
+     */
+    public synchronized int count(PropertyType propertyType) {
+        requireNonNull(propertyType);
+        int[] roleCounts = counts.get(propertyType);
+        return roleCounts[0] + roleCounts[1];
+    }
+
+    /**
+     * Returns the number of persons with the given {@code role}.
+     */
+    public synchronized int count(Role role) {
+        requireNonNull(role);
+        int count = 0;
+        for (int[] roleCounts : counts.values()) {
+            count += roleCounts[toIndex(role)];
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public synchronized void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        List<InvalidationListener> listenersToNotify;
+        synchronized (this) {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(person -> addToCount(person, -1));
+                change.getAddedSubList().forEach(person -> addToCount(person, 1));
+            }
+            listenersToNotify = new ArrayList<>(listeners);
+        }
+        listenersToNotify.forEach(listener -> listener.invalidated(this));
+    }
+
+    private void addToCount(Person person, int delta) {
+        counts.get(person.getAddressType().type)[toIndex(person.getRole())] += delta;
+    }
+
+    private static int toIndex(Role role) {
+        return role.isBuyer() ? 0 : 1;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the internal ID of a Person in the address book.
+ * Unlike the phone number, the ID stays the same when the person's details are edited,
+ * so other records (e.g. appointments) can refer to the person by it.
+ * Several users may add persons to a shared data file at the same time, each from their own copy of it, so a new ID is
+ * not simply the next one after those loaded. It holds the time it was made, in milliseconds, followed by
+ * {@link #RANDOM_BITS} random bits, so that IDs made by different users differ, while IDs made later are still larger.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(long)}
+ */
+public final class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person IDs should be positive integers";
+    public static final String MESSAGE_IDS_EXHAUSTED = "There are no more person IDs to hand out";
+
+    static final int RANDOM_BITS = 22;
+    // 2024-01-01T00:00Z, from which the time in an ID is counted
+    static final long EPOCH_MILLIS = 1704067200000L;
+
+    private static final Random random = new SecureRandom();
+    // Smallest ID that may be handed out next; kept above every ID generated or loaded so far so that generated IDs
+    // never clash with them. Long.MAX_VALUE is never handed out, and marks that there are no IDs left.
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    public final long value;
+
+    private PersonId(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a new {@code PersonId} that is different from every other ID created so far, and, but for a chance of
+     * one in millions, from those created at the same time by others sharing the data file.
+     *
+     * @throws IllegalStateException if every ID up to the largest one has been handed out or loaded.
+     */
+    public static PersonId generate() {
+        long timeBits = Math.max(0, System.currentTimeMillis() - EPOCH_MILLIS) << RANDOM_BITS;
+        long candidate = timeBits | random.nextInt(1 << RANDOM_BITS);
+        long next = nextId.getAndUpdate(smallest -> smallest == Long.MAX_VALUE
+                ? smallest
+                : Math.max(smallest, candidate) + 1);
+        if (next == Long.MAX_VALUE) {
+            throw new IllegalStateException(MESSAGE_IDS_EXHAUSTED);
+        }
+        return new PersonId(Math.max(next, candidate));
+    }
+
+    /**
+     * Returns the {@code PersonId} of a person being loaded with the given value, e.g. one that was read from
+     * storage. IDs generated afterwards are all larger than it.
+     *
+     * @param value A valid person ID.
+     */
+    public static PersonId of(long value) {
+        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        long after = value == Long.MAX_VALUE ? value : value + 1;
+        nextId.accumulateAndGet(after, Math::max);
+        return new PersonId(value);
+    }
+
+    /**
+     * Returns the {@code PersonId} with the given value for looking up a person that may or may not exist, e.g. one
+     * named in a request or referred to by an appointment. Unlike {@link #of(long)}, it does not affect the IDs
+     * generated afterwards.
+     *
+     * @param value A valid person ID.
+     */
+    public static PersonId lookup(long value) {
+        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        return new PersonId(value);
+    }
+
+    /**
+     * Returns true if a given value is a valid person ID.
+     */
+    public static boolean isValidId(long test) {
+        return test > 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherPersonId = (PersonId) other;
+        return value == otherPersonId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+}
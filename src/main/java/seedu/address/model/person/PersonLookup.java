@@ -0,0 +1,17 @@
+package seedu.address.model.person;
+
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Resolves a {@code PersonId} to the person that currently has that ID.
+ */
+@FunctionalInterface
+public interface PersonLookup {
+
+    /**
+     * Returns the person with the given {@code id}.
+     *
+     * @throws PersonNotFoundException if there is no person with the given {@code id}.
+     */
+    Person getPerson(PersonId id);
+}
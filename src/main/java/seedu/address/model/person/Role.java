@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+
 /**
  * Represents a Person's role in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRole(String)}
@@ -15,6 +17,9 @@ public class Role {
     public static final String MESSAGE_CONSTRAINTS = "Role must be either '%s' or '%s'.".formatted(BUYER, SELLER);
     public static final String VALIDATION_REGEX = "(?i)(%s|%s)".formatted(BUYER, SELLER);
 
+    // Canonical instances, as every person is either a buyer or a seller
+    private static final Map<String, Role> INTERNED_ROLES = Map.of(BUYER, new Role(BUYER), SELLER, new Role(SELLER));
+
     public final String value;
 
     /**
@@ -28,6 +33,17 @@ public class Role {
         value = role.toLowerCase();
     }
 
+    /**
+     * Returns the canonical {@code Role} for the given role.
+     *
+     * @param role A valid role for the clients.
+     */
+    public static Role of(String role) {
+        requireNonNull(role);
+        checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
+        return INTERNED_ROLES.get(role.toLowerCase());
+    }
+
     /**
      * Returns if a given string is a valid role.
      */
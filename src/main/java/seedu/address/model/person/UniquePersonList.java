@@ -3,13 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -17,16 +24,19 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * persons uses Person#isSamePerson(Person) for equality so as to ensure that the person being added or updated is
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
+ * Every person in the list also has a distinct {@code PersonId}, which is kept when the person is replaced, and by
+ * which the person can be looked up.
  *
  * Supports a minimal set of list operations.
  *
  * @see Person#hasSameIdentifier(Person)
  */
-public class UniquePersonList implements Iterable<Person> {
+public class UniquePersonList implements Iterable<Person>, PersonLookup {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonId, Person> personsById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -36,22 +46,42 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.stream().anyMatch(toCheck::hasSameIdentifier);
     }
 
+    /**
+     * Returns the person in the list with the given {@code id}, or null if there is no such person.
+     */
+    public Person findPerson(PersonId id) {
+        requireNonNull(id);
+        return personsById.get(id);
+    }
+
+    @Override
+    public Person getPerson(PersonId id) {
+        Person person = findPerson(id);
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
+    }
+
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list, and its ID must not be used by another person in the list.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || personsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsById.put(toAdd.getId(), toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The replacement keeps the ID of {@code target}, so anything referring to {@code target} by its ID
+     * now refers to the edited person.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -65,7 +95,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replacement = editedPerson.withId(internalList.get(index).getId());
+        internalList.set(index, replacement);
+        personsById.put(replacement.getId(), replacement);
     }
 
     /**
@@ -74,14 +106,18 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        personsById.remove(internalList.remove(index).getId());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
     }
 
     /**
@@ -95,6 +131,36 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        personsById.clear();
+        persons.forEach(person -> personsById.put(person.getId(), person));
+    }
+
+    /**
+     * Replaces every person in the list with the result of applying {@code updater} to them.
+     * Persons for which {@code updater} returns the same object are left in place, and listeners are notified
+     * of all replacements as a single change. Each replacement keeps the ID of the person it replaces.
+     * The updated persons must not contain duplicate persons, otherwise the list is left unchanged.
+     */
+    public void updatePersons(UnaryOperator<Person> updater) {
+        requireNonNull(updater);
+
+        List<Person> updatedPersons = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            updatedPersons.add(requireNonNull(updater.apply(person)).withId(person.getId()));
+        }
+
+        if (!personsAreUnique(updatedPersons)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.runAsSingleChange(() -> {
+            for (int i = 0; i < updatedPersons.size(); i++) {
+                if (updatedPersons.get(i) != internalList.get(i)) {
+                    internalList.set(i, updatedPersons.get(i));
+                    personsById.put(updatedPersons.get(i).getId(), updatedPersons.get(i));
+                }
+            }
+        });
     }
 
     /**
@@ -138,11 +204,11 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).hasSameIdentifier(persons.get(j))) {
-                    return false;
-                }
+        Set<String> identifiers = new HashSet<>();
+        Set<PersonId> ids = new HashSet<>();
+        for (Person person : persons) {
+            if (!identifiers.add(person.getStorageIdentifier()) || !ids.add(person.getId())) {
+                return false;
             }
         }
         return true;
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -16,6 +18,15 @@ public class AddressType {
             "Property type should strictly follow any one of these given types: \n"
                     + Arrays.stream(PropertyType.values()).map(Enum::name).collect(Collectors.joining("\n"));
 
+    // Canonical instances, one for each property type
+    private static final Map<PropertyType, AddressType> INTERNED_TYPES = new EnumMap<>(PropertyType.class);
+
+    static {
+        for (PropertyType propertyType : PropertyType.values()) {
+            INTERNED_TYPES.put(propertyType, new AddressType(propertyType.name()));
+        }
+    }
+
     public final PropertyType type;
 
     /**
@@ -29,6 +40,17 @@ public class AddressType {
         this.type = PropertyType.valueOf(type.toUpperCase()); // Set the type to all uppercase to match enum constant
     }
 
+    /**
+     * Returns the canonical {@code AddressType} for the given type.
+     *
+     * @param type A valid address type.
+     */
+    public static AddressType of(String type) {
+        requireNonNull(type);
+        checkArgument(isValidType(type), MESSAGE_CONSTRAINTS);
+        return INTERNED_TYPES.get(PropertyType.valueOf(type.toUpperCase()));
+    }
+
     /**
      * Returns true if a given string is a valid address type.
      */
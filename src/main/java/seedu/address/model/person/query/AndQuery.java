@@ -0,0 +1,58 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} matches all of the given queries.
+ */
+public class AndQuery implements PersonQuery {
+
+    private final List<PersonQuery> queries;
+
+    /**
+     * Creates a query for persons matching all of {@code queries}.
+     */
+    public AndQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        this.queries = List.copyOf(queries);
+    }
+
+    public List<PersonQuery> getQueries() {
+        return queries;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return queries.stream().allMatch(query -> query.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherAndQuery = (AndQuery) other;
+        return queries.equals(otherAndQuery.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("queries", queries).toString();
+    }
+}
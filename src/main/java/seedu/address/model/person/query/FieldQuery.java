@@ -0,0 +1,79 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a detail of a {@code Person} matches a value, ignoring case.
+ * Names and addresses match any of their words, other details match as a whole.
+ */
+public class FieldQuery implements PersonQuery {
+
+    public static final String MESSAGE_CONSTRAINTS = "Search values should be non-empty single words";
+
+    private final QueryField field;
+    private final String value;
+
+    /**
+     * Creates a query for persons whose {@code field} matches {@code value}.
+     */
+    public FieldQuery(QueryField field, String value) {
+        requireAllNonNull(field, value);
+        checkArgument(isValidValue(value), MESSAGE_CONSTRAINTS);
+        this.field = field;
+        this.value = value;
+    }
+
+    /**
+     * Returns true if {@code test} can be matched against a detail of a person.
+     */
+    public static boolean isValidValue(String test) {
+        return !test.isEmpty() && test.chars().noneMatch(Character::isWhitespace);
+    }
+
+    public QueryField getField() {
+        return field;
+    }
+
+    /**
+     * Returns the key of the persons matching this query, as indexed by {@link QueryField#getKeys(Person)}.
+     */
+    public String getKey() {
+        return QueryField.toKey(value);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return field.getKeys(person).contains(getKey());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldQuery)) {
+            return false;
+        }
+
+        FieldQuery otherFieldQuery = (FieldQuery) other;
+        return field.equals(otherFieldQuery.field) && value.equals(otherFieldQuery.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, value);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("value", value).toString();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not match the given query.
+ */
+public class NotQuery implements PersonQuery {
+
+    private final PersonQuery query;
+
+    /**
+     * Creates a query for persons not matching {@code query}.
+     */
+    public NotQuery(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    public PersonQuery getQuery() {
+        return query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !query.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherNotQuery = (NotQuery) other;
+        return query.equals(otherNotQuery.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
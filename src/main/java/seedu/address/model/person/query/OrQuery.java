@@ -0,0 +1,58 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} matches any of the given queries.
+ */
+public class OrQuery implements PersonQuery {
+
+    private final List<PersonQuery> queries;
+
+    /**
+     * Creates a query for persons matching any of {@code queries}.
+     */
+    public OrQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        this.queries = List.copyOf(queries);
+    }
+
+    public List<PersonQuery> getQueries() {
+        return queries;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return queries.stream().anyMatch(query -> query.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherOrQuery = (OrQuery) other;
+        return queries.equals(otherOrQuery.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("queries", queries).toString();
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.address.model.person.query;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A condition on the details of a person, built from {@link FieldQuery} terms combined with {@link AndQuery},
+ * {@link OrQuery} and {@link NotQuery}.
+ * Besides testing persons one at a time, a query can be answered from indexes of the persons' details, by looking up
+ * the persons matching each term and combining the results.
+ */
+public interface PersonQuery extends Predicate<Person> {
+}
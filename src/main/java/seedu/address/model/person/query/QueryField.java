@@ -0,0 +1,72 @@
+package seedu.address.model.person.query;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A detail of a person that a {@link FieldQuery} can match, with the keys that the detail is matched by.
+ * Keys are in lower case, so that matching ignores case.
+ */
+public enum QueryField {
+    NAME(person -> toWords(person.getName().fullName)),
+    PHONE(person -> Set.of(toKey(person.getPhone().value))),
+    ROLE(person -> Set.of(toKey(person.getRole().value))),
+    PROPERTY_TYPE(person -> Set.of(toKey(person.getAddressType().toString()))),
+    TAG(person -> {
+        Set<String> keys = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            keys.add(toKey(tag.tagName));
+        }
+        return keys;
+    }),
+    ADDRESS(person -> toWords(person.getAddress().value)),
+
+    /** Any word of the name, role, address, property type, email, phone or tags, as matched by bare keywords. */
+    ANY(person -> {
+        Set<String> keys = toWords(person.getName().fullName);
+        keys.add(toKey(person.getRole().value));
+        keys.addAll(toWords(person.getAddress().value));
+        keys.add(toKey(person.getAddressType().toString()));
+        keys.addAll(toWords(person.getEmail().value));
+        keys.addAll(toWords(person.getPhone().value));
+        for (Tag tag : person.getTags()) {
+            keys.addAll(toWords(tag.tagName));
+        }
+        return keys;
+    });
+
+    private final Function<Person, Set<String>> keysOf;
+
+    QueryField(Function<Person, Set<String>> keysOf) {
+        this.keysOf = keysOf;
+    }
+
+    /**
+     * Returns the keys that this detail of {@code person} is matched by.
+     */
+    public Set<String> getKeys(Person person) {
+        return keysOf.apply(person);
+    }
+
+    /**
+     * Returns the key that {@code value} matches.
+     */
+    public static String toKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> toWords(String text) {
+        Set<String> words = new HashSet<>();
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(toKey(word));
+            }
+        }
+        return words;
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +15,9 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    // Canonical instances, as the same few tags are shared by many persons
+    private static final Map<String, Tag> INTERNED_TAGS = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +31,22 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given name.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = INTERNED_TAGS.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        return INTERNED_TAGS.computeIfAbsent(tagName, Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
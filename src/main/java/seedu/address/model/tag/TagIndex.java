@@ -0,0 +1,179 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryField;
+
+/**
+ * Keeps, for every tag, a compressed bitmap of the persons in a list that have it, so that queries combining tags
+ * with {@code AND}, {@code OR} and {@code NOT} are answered with bitmap operations instead of by looking at every
+ * person. Each person is numbered by an ordinal, and ordinals freed by removed persons are given to the next persons
+ * added, so the ordinals stay dense and the bitmaps small.
+ * Tags are matched ignoring case, like a {@link QueryField#TAG} query.
+ * The bitmaps are updated as persons are added to, removed from or replaced in the list.
+ * The list may be changed on a different thread from the one querying it.
+ */
+public class TagIndex {
+
+    public static final String MESSAGE_NOT_TAG_QUERY = "Query should only combine tags: %1$s";
+
+    private final Map<String, CompressedBitmap> bitmaps = new HashMap<>();
+    private final CompressedBitmap allPersons = new CompressedBitmap();
+    private final Map<Person, Integer> ordinals = new HashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    /**
+     * Creates an index of the tags of the persons in {@code persons} that stays up to date with it.
+     */
+    public TagIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        synchronized (this) {
+            persons.forEach(this::addPerson);
+        }
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns true if {@code query} only combines {@link QueryField#TAG} terms, so that it can be answered by this
+     * index.
+     */
+    public static boolean isTagQuery(PersonQuery query) {
+        if (query instanceof FieldQuery) {
+            return ((FieldQuery) query).getField() == QueryField.TAG;
+        }
+        if (query instanceof AndQuery) {
+            return ((AndQuery) query).getQueries().stream().allMatch(TagIndex::isTagQuery);
+        }
+        if (query instanceof OrQuery) {
+            return ((OrQuery) query).getQueries().stream().allMatch(TagIndex::isTagQuery);
+        }
+        if (query instanceof NotQuery) {
+            return isTagQuery(((NotQuery) query).getQuery());
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of persons with the given tag.
+     */
+    public synchronized int count(Tag tag) {
+        requireNonNull(tag);
+        CompressedBitmap bitmap = bitmaps.get(QueryField.toKey(tag.tagName));
+        return bitmap == null ? 0 : bitmap.getCardinality();
+    }
+
+    /**
+     * Returns the number of persons matching {@code query}.
+     *
+     * @throws IllegalArgumentException if {@code query} is not a tag query as defined by {@link #isTagQuery}.
+     */
+    public synchronized int count(PersonQuery query) {
+        requireNonNull(query);
+        checkArgument(isTagQuery(query), String.format(MESSAGE_NOT_TAG_QUERY, query));
+        return evaluate(query).getCardinality();
+    }
+
+    /**
+     * Returns the persons matching {@code query}, in no particular order.
+     *
+     * @throws IllegalArgumentException if {@code query} is not a tag query as defined by {@link #isTagQuery}.
+     */
+    public synchronized List<Person> findPersons(PersonQuery query) {
+        requireNonNull(query);
+        checkArgument(isTagQuery(query), String.format(MESSAGE_NOT_TAG_QUERY, query));
+        CompressedBitmap matches = evaluate(query);
+        List<Person> persons = new ArrayList<>(matches.getCardinality());
+        matches.forEach(ordinal -> persons.add(personsByOrdinal.get(ordinal)));
+        return persons;
+    }
+
+    /**
+     * Returns the ordinals of the persons matching {@code query}.
+     * The returned bitmap may be one of this index's own bitmaps, and must not be modified.
+     */
+    private CompressedBitmap evaluate(PersonQuery query) {
+        if (query instanceof FieldQuery) {
+            return bitmaps.getOrDefault(((FieldQuery) query).getKey(), new CompressedBitmap());
+        }
+        if (query instanceof AndQuery) {
+            CompressedBitmap matches = allPersons;
+            for (PersonQuery operand : ((AndQuery) query).getQueries()) {
+                matches = matches.and(evaluate(operand));
+            }
+            return matches;
+        }
+        if (query instanceof OrQuery) {
+            CompressedBitmap matches = new CompressedBitmap();
+            for (PersonQuery operand : ((OrQuery) query).getQueries()) {
+                matches = matches.or(evaluate(operand));
+            }
+            return matches;
+        }
+        return allPersons.andNot(evaluate(((NotQuery) query).getQuery()));
+    }
+
+    private synchronized void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removePerson);
+            change.getAddedSubList().forEach(this::addPerson);
+        }
+    }
+
+    private void addPerson(Person person) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinals.put(person, ordinal);
+        allPersons.add(ordinal);
+        for (Tag tag : person.getTags()) {
+            bitmaps.computeIfAbsent(QueryField.toKey(tag.tagName), unused -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    private void removePerson(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+        allPersons.remove(ordinal);
+        for (Tag tag : person.getTags()) {
+            String key = QueryField.toKey(tag.tagName);
+            CompressedBitmap bitmap = bitmaps.get(key);
+            if (bitmap == null) {
+                continue;
+            }
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
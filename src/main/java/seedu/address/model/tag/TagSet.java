@@ -0,0 +1,98 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, backed by an array sorted by tag name.
+ * A person only has a handful of tags, so this takes far less memory than a {@code HashSet} while still allowing
+ * {@code contains} to be answered by a binary search. Iteration is in tag name order.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a {@code TagSet} containing the distinct tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+
+        Tag[] sortedTags = tags.stream()
+                .map(tag -> Tag.of(requireNonNull(tag).tagName))
+                .distinct()
+                .sorted(TAG_NAME_ORDER)
+                .toArray(Tag[]::new);
+        return sortedTags.length == 0 ? EMPTY : new TagSet(sortedTags);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+
+        return Arrays.binarySearch(tags, (Tag) other, TAG_NAME_ORDER) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
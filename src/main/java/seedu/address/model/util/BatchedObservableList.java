@@ -0,0 +1,68 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} that can apply a group of modifications
+ * as a single change, so that listeners such as {@code FilteredList}, {@code SortedList} and list views
+ * are only notified once for the whole group.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Runs {@code modifications} against this list, firing a single change event for all of them.
+     */
+    public void runAsSingleChange(Runnable modifications) {
+        requireNonNull(modifications);
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Notifies listeners that the element at {@code index} has changed in a way that may affect how it is filtered,
+     * sorted or displayed, without the element itself being replaced.
+     */
+    public void update(int index) {
+        Objects.checkIndex(index, size());
+        beginChange();
+        nextUpdate(index);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
@@ -25,25 +25,25 @@ public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
-                new Role("buyer"), new Address("Blk 30 Geylang Street 29, #06-40",
-                    new AddressType("HDB_4")),
+                Role.of("buyer"), new Address("Blk 30 Geylang Street 29, #06-40",
+                    AddressType.of("HDB_4")),
                 getTagSet("friends")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new Role("buyer"), new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18",
-                    new AddressType("CONDO_5")),
+                Role.of("buyer"), new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18",
+                    AddressType.of("CONDO_5")),
                 getTagSet("colleagues", "friends")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
-                new Role("buyer"), new Address("Blk 11 Ang Mo Kio Street 74, #11-04", new AddressType("LANDED_FH")),
+                Role.of("buyer"), new Address("Blk 11 Ang Mo Kio Street 74, #11-04", AddressType.of("LANDED_FH")),
                 getTagSet("neighbours")),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                new Role("seller"), new Address("Blk 436 Serangoon Gardens Street 26, #16-43",
-                    new AddressType("COMMERCIAL_LH")),
+                Role.of("seller"), new Address("Blk 436 Serangoon Gardens Street 26, #16-43",
+                    AddressType.of("COMMERCIAL_LH")),
                 getTagSet("family")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
-                new Role("seller"), new Address("Blk 47 Tampines Street 20, #17-35", new AddressType("HDB_5")),
+                Role.of("seller"), new Address("Blk 47 Tampines Street 20, #17-35", AddressType.of("HDB_5")),
                 getTagSet("classmates")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new Role("seller"), new Address("Blk 45 Aljunied Street 85, #11-31", new AddressType("EC")),
+                Role.of("seller"), new Address("Blk 45 Aljunied Street 85, #11-31", AddressType.of("EC")),
                 getTagSet("colleagues"))
         };
     }
@@ -101,7 +101,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 }
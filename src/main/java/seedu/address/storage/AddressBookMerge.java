@@ -0,0 +1,273 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+
+/**
+ * Merges the changes made to an address book since its data file was last read or saved with the changes other users
+ * have saved to the file since.
+ * Records the others changed are taken as they are in the file, and all other records as they are in the address
+ * book. Only the records stamped with a version later than the one the file was at are converted, as the rest are
+ * already known. A change made to the address book is rejected, and the record taken as it is in the file instead, if
+ * another user changed the same record differently, added a person with the same phone number, or added an
+ * appointment for a person that was deleted; appointments added for persons another user deleted are rejected too.
+ */
+class AddressBookMerge {
+
+    private final ReadOnlyAddressBook merged;
+    private final AddressBookChanges changes;
+
+    /**
+     * Merges {@code addressBook} with the changes saved to the file since it was as described by {@code versions},
+     * the file now holding {@code saved}. Afterwards, {@code versions} describes the file as it is now.
+     *
+     * @throws IllegalValueException if a changed record in the file is not valid.
+     */
+    AddressBookMerge(ReadOnlyAddressBook addressBook, JsonSerializableAddressBook saved, RecordVersions versions)
+            throws IllegalValueException {
+        long baseVersion = versions.getFileVersion();
+
+        // Persons in the file, converting only those changed since
+        Map<PersonId, Person> savedPersons = new LinkedHashMap<>();
+        Map<PersonId, Long> savedPersonVersions = new HashMap<>();
+        Set<PersonId> changedInFile = new HashSet<>();
+        for (JsonAdaptedPerson jsonPerson : saved.getPersons()) {
+            Person known = jsonPerson.getId() != null && PersonId.isValidId(jsonPerson.getId())
+                    ? versions.getPerson(PersonId.lookup(jsonPerson.getId()))
+                    : null;
+            Person person = jsonPerson.getVersion() > baseVersion || known == null ? jsonPerson.toModelType() : known;
+            if (person != known) {
+                changedInFile.add(person.getId());
+            }
+            savedPersons.put(person.getId(), person);
+            savedPersonVersions.put(person.getId(), jsonPerson.getVersion());
+        }
+        for (PersonId id : versions.getPersonIds()) {
+            if (!savedPersons.containsKey(id)) {
+                changedInFile.add(id);
+            }
+        }
+
+        // Appointments in the file, converting only those added since
+        Map<String, Appointment> savedAppointments = new LinkedHashMap<>();
+        Map<String, Long> savedAppointmentVersions = new HashMap<>();
+        Set<String> addedToFile = new HashSet<>();
+        for (JsonAdaptedAppointment jsonAppointment : saved.getAppointments()) {
+            String key = RecordVersions.keyOf(jsonAppointment.getAppointmentDateTime(), jsonAppointment.getSellerId(),
+                    jsonAppointment.getBuyerId());
+            Appointment appointment = versions.getAppointment(key);
+            if (jsonAppointment.getVersion() > baseVersion || appointment == null) {
+                appointment = jsonAppointment.toModelType(findSavedPerson(jsonAppointment.getSellerId(),
+                        savedPersons), findSavedPerson(jsonAppointment.getBuyerId(), savedPersons));
+                addedToFile.add(key);
+            }
+            savedAppointments.put(key, appointment);
+            savedAppointmentVersions.put(key, jsonAppointment.getVersion());
+        }
+        Set<String> removedFromFile = new HashSet<>();
+        for (String key : versions.getAppointmentKeys()) {
+            if (!savedAppointments.containsKey(key)) {
+                removedFromFile.add(key);
+            }
+        }
+
+        // Persons changed in the address book
+        Map<PersonId, Person> persons = new LinkedHashMap<>();
+        Set<PersonId> changedInAddressBook = new HashSet<>();
+        for (Person person : addressBook.getPersonList()) {
+            persons.put(person.getId(), person);
+            if (versions.isChanged(person)) {
+                changedInAddressBook.add(person.getId());
+            }
+        }
+        for (PersonId id : versions.getPersonIds()) {
+            if (!persons.containsKey(id)) {
+                changedInAddressBook.add(id);
+            }
+        }
+
+        // Persons to take as they are in the file, rejecting the changes made to them in the address book
+        Set<PersonId> takenFromFile = new HashSet<>(changedInFile);
+        int rejectedCount = 0;
+        for (PersonId id : changedInFile) {
+            if (changedInAddressBook.contains(id) && !Objects.equals(persons.get(id), savedPersons.get(id))) {
+                rejectedCount++;
+            }
+        }
+        Map<Phone, PersonId> phonesChangedInFile = new HashMap<>();
+        for (PersonId id : changedInFile) {
+            Person person = savedPersons.get(id);
+            if (person != null) {
+                phonesChangedInFile.put(person.getPhone(), id);
+            }
+        }
+        for (PersonId id : changedInAddressBook) {
+            Person person = persons.get(id);
+            PersonId idInFile = person == null ? null : phonesChangedInFile.get(person.getPhone());
+            if (idInFile != null && !idInFile.equals(id) && takenFromFile.add(id)) {
+                rejectedCount++;
+            }
+        }
+        for (String key : addedToFile) {
+            Appointment appointment = savedAppointments.get(key);
+            for (PersonId id : involvedPersons(appointment)) {
+                boolean isDeletedInAddressBook = !persons.containsKey(id) && versions.getPerson(id) != null;
+                if (isDeletedInAddressBook && takenFromFile.add(id)) {
+                    rejectedCount++;
+                }
+            }
+        }
+
+        List<Person> mergedPersons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            PersonId id = person.getId();
+            if (!takenFromFile.contains(id)) {
+                mergedPersons.add(person);
+            } else if (savedPersons.containsKey(id)) {
+                mergedPersons.add(savedPersons.get(id));
+            }
+        }
+        for (PersonId id : savedPersons.keySet()) {
+            if (takenFromFile.contains(id) && !persons.containsKey(id)) {
+                mergedPersons.add(savedPersons.get(id));
+            }
+        }
+
+        // Persons whose deletion from the address book was rejected, or who were added to the file, have the
+        // appointments they have in the file; other appointments are kept unless removed from the file, and those added
+        // to the file are added
+        Set<PersonId> restoredPersons = new HashSet<>();
+        for (PersonId id : takenFromFile) {
+            if (!persons.containsKey(id) && savedPersons.containsKey(id)) {
+                restoredPersons.add(id);
+            }
+        }
+        Set<PersonId> mergedPersonIds = new HashSet<>();
+        mergedPersons.forEach(person -> mergedPersonIds.add(person.getId()));
+        Map<String, Appointment> appointments = new LinkedHashMap<>();
+        addressBook.getAppointmentList().forEach(appointment -> appointments.put(RecordVersions.keyOf(appointment),
+                appointment));
+        Map<String, Appointment> candidates = new LinkedHashMap<>(appointments);
+        savedAppointments.forEach(candidates::putIfAbsent);
+        List<Appointment> mergedAppointments = new ArrayList<>();
+        for (Map.Entry<String, Appointment> entry : candidates.entrySet()) {
+            String key = entry.getKey();
+            Appointment appointment = entry.getValue();
+            List<PersonId> involvedPersons = involvedPersons(appointment);
+            boolean isInAddressBook = appointments.containsKey(key);
+            boolean isKept = involvedPersons.stream().anyMatch(restoredPersons::contains)
+                    ? savedAppointments.containsKey(key)
+                    : (isInAddressBook && !removedFromFile.contains(key)) || addedToFile.contains(key);
+            if (isKept && mergedPersonIds.containsAll(involvedPersons)) {
+                mergedAppointments.add(appointment);
+            } else if (isInAddressBook && versions.isChanged(appointment)) {
+                rejectedCount++;
+            }
+        }
+
+        merged = new MergedAddressBook(mergedPersons, mergedAppointments);
+        changes = changesFrom(addressBook, persons, appointments, savedPersons, takenFromFile, mergedAppointments,
+                rejectedCount);
+
+        versions.reset(saved.getVersion());
+        savedPersons.forEach((id, person) -> versions.putPerson(person, savedPersonVersions.get(id)));
+        savedAppointments.forEach((key, appointment) -> versions.putAppointment(appointment,
+                savedAppointmentVersions.get(key)));
+    }
+
+    /**
+     * Returns the address book with the changes saved to the file merged in.
+     */
+    public ReadOnlyAddressBook getMerged() {
+        return merged;
+    }
+
+    /**
+     * Returns the changes that bring the address book in line with {@link #getMerged()}.
+     */
+    public AddressBookChanges getChanges() {
+        return changes;
+    }
+
+    private static AddressBookChanges changesFrom(ReadOnlyAddressBook addressBook, Map<PersonId, Person> persons,
+            Map<String, Appointment> appointments, Map<PersonId, Person> savedPersons, Set<PersonId> takenFromFile,
+            List<Appointment> mergedAppointments, int rejectedCount) {
+        List<PersonId> removedPersonIds = new ArrayList<>();
+        for (PersonId id : persons.keySet()) {
+            if (takenFromFile.contains(id) && !savedPersons.containsKey(id)) {
+                removedPersonIds.add(id);
+            }
+        }
+        List<Person> updatedPersons = new ArrayList<>();
+        for (Person person : savedPersons.values()) {
+            if (takenFromFile.contains(person.getId()) && !person.equals(persons.get(person.getId()))) {
+                updatedPersons.add(person);
+            }
+        }
+
+        Set<Appointment> mergedAppointmentSet = new HashSet<>(mergedAppointments);
+        List<Appointment> removedAppointments = new ArrayList<>();
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            if (!mergedAppointmentSet.contains(appointment)) {
+                removedAppointments.add(appointment);
+            }
+        }
+        List<Appointment> addedAppointments = new ArrayList<>();
+        for (Appointment appointment : mergedAppointments) {
+            if (!appointments.containsKey(RecordVersions.keyOf(appointment))) {
+                addedAppointments.add(appointment);
+            }
+        }
+        return new AddressBookChanges(updatedPersons, removedPersonIds, addedAppointments, removedAppointments,
+                rejectedCount);
+    }
+
+    private static Person findSavedPerson(Long id, Map<PersonId, Person> savedPersons) {
+        return id == null || !PersonId.isValidId(id) ? null : savedPersons.get(PersonId.lookup(id));
+    }
+
+    private static List<PersonId> involvedPersons(Appointment appointment) {
+        return appointment.getBuyerId()
+                .map(buyerId -> List.of(appointment.getSellerId(), buyerId))
+                .orElse(List.of(appointment.getSellerId()));
+    }
+
+    /**
+     * The persons and appointments of a merged address book, in a form that can be saved.
+     */
+    private static class MergedAddressBook implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Appointment> appointments;
+
+        MergedAddressBook(List<Person> persons, List<Appointment> appointments) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+            this.appointments = FXCollections.unmodifiableObservableList(FXCollections.observableList(appointments));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Appointment> getAppointmentList() {
+            return appointments;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -31,11 +32,13 @@ public interface AddressBookStorage {
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
     /**
-     * Saves the given {@link ReadOnlyAddressBook} to the storage.
+     * Saves the given {@link ReadOnlyAddressBook} to the storage, merging in the changes others saved to it since it
+     * was last read or saved.
      * @param addressBook cannot be null.
+     * @return the changes that bring {@code addressBook} in line with what was saved.
      * @throws IOException if there was any problem writing to the file.
      */
-    void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+    AddressBookChanges saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
      * @see #saveAddressBook(ReadOnlyAddressBook)
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,34 +14,85 @@ import seedu.address.model.person.Person;
 
 /**
  * Json-friendly version of {@link Appointment}.
+ * The seller and buyer are stored as person IDs. Data files written before persons had IDs store their phone numbers
+ * instead, which are still accepted when reading.
+ * An appointment may be stamped with the version of the data file it was added in, so that users sharing the file can
+ * tell which appointments others have added.
  */
-class JsonAdaptedAppointment {
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JsonAdaptedAppointment {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Appointment's %s field is missing!";
     private static final Logger logger = LogsCenter.getLogger(JsonAdaptedAppointment.class);
 
     private final String appointmentDateTime;
+    private final Long sellerId;
+    private final Long buyerId;
     private final String seller;
     private final String buyer;
+    private final Long version;
 
     /**
-     * Constructs a {@code JsonAdaptedTag} with the given {@code appointmentDateTime}.
+     * Constructs a {@code JsonAdaptedAppointment} with the given appointment details.
      */
     @JsonCreator
     public JsonAdaptedAppointment(@JsonProperty("datetime") String appointmentDateTime,
-            @JsonProperty("seller") String seller, @JsonProperty("buyer") String buyer) {
+            @JsonProperty("sellerId") Long sellerId, @JsonProperty("buyerId") Long buyerId,
+            @JsonProperty("seller") String seller, @JsonProperty("buyer") String buyer,
+            @JsonProperty("version") Long version) {
         this.appointmentDateTime = appointmentDateTime;
+        this.sellerId = sellerId;
+        this.buyerId = buyerId;
         this.seller = seller;
         this.buyer = buyer;
+        this.version = version;
+    }
+
+    /**
+     * Constructs an unstamped {@code JsonAdaptedAppointment} with the given appointment details.
+     */
+    public JsonAdaptedAppointment(String appointmentDateTime, Long sellerId, Long buyerId, String seller,
+            String buyer) {
+        this(appointmentDateTime, sellerId, buyerId, seller, buyer, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedAppointment} that refers to the seller and buyer by their phone numbers.
+     */
+    public JsonAdaptedAppointment(String appointmentDateTime, String seller, String buyer) {
+        this(appointmentDateTime, null, null, seller, buyer);
     }
 
     /**
      * Converts a given {@code Appointment} into this class for Json use.
      */
     public JsonAdaptedAppointment(Appointment source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Appointment} into this class for Json use, stamped with the data file {@code version}
+     * it was added in.
+     */
+    public JsonAdaptedAppointment(Appointment source, Long version) {
         appointmentDateTime = source.getAppointmentDatetime().toString();
-        seller = source.getSellerStorageIdentifier();
-        buyer = source.getBuyerStorageIdentifier().orElse(null);
+        sellerId = source.getSellerId().value;
+        buyerId = source.getBuyerId().map(id -> id.value).orElse(null);
+        seller = null;
+        buyer = null;
+        this.version = version;
+    }
+
+    public String getAppointmentDateTime() {
+        return appointmentDateTime;
+    }
+
+    public Long getSellerId() {
+        return sellerId;
+    }
+
+    public Long getBuyerId() {
+        return buyerId;
     }
 
     public String getSeller() {
@@ -51,6 +103,13 @@ class JsonAdaptedAppointment {
         return buyer;
     }
 
+    /**
+     * Returns the version of the data file the appointment was added in, or 0 if it is not stamped.
+     */
+    public long getVersion() {
+        return version == null ? 0 : version;
+    }
+
     /**
      * Converts this Json-friendly adapted appointment object into the model's {@code Appointment} object, given
      * references to the buyer and seller objects.
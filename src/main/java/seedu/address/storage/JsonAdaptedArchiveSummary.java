@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.ArchiveSummary;
+
+/**
+ * Json-friendly version of {@link ArchiveSummary}.
+ * Also records the size of the archive file the summary was written for, so that a summary left behind by an archive
+ * file that has changed since is not trusted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedArchiveSummary {
+
+    private final int count;
+    private final String earliest;
+    private final String latest;
+    private final long archiveSize;
+
+    /**
+     * Constructs a {@code JsonAdaptedArchiveSummary} with the given summary details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchiveSummary(@JsonProperty("count") int count, @JsonProperty("earliest") String earliest,
+            @JsonProperty("latest") String latest, @JsonProperty("archiveSize") long archiveSize) {
+        this.count = count;
+        this.earliest = earliest;
+        this.latest = latest;
+        this.archiveSize = archiveSize;
+    }
+
+    /**
+     * Converts a given {@code ArchiveSummary} of an archive file of {@code archiveSize} bytes into this class for
+     * Json use.
+     */
+    public JsonAdaptedArchiveSummary(ArchiveSummary source, long archiveSize) {
+        count = source.getCount();
+        earliest = source.getEarliest().map(LocalDateTime::toString).orElse(null);
+        latest = source.getLatest().map(LocalDateTime::toString).orElse(null);
+        this.archiveSize = archiveSize;
+    }
+
+    public long getArchiveSize() {
+        return archiveSize;
+    }
+
+    /**
+     * Converts this Json-friendly adapted summary into the model's {@code ArchiveSummary} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted summary.
+     */
+    public ArchiveSummary toModelType() throws IllegalValueException {
+        try {
+            LocalDateTime modelEarliest = earliest == null ? null : LocalDateTime.parse(earliest);
+            LocalDateTime modelLatest = latest == null ? null : LocalDateTime.parse(latest);
+            if (!ArchiveSummary.isValidSummary(count, modelEarliest, modelLatest)) {
+                throw new IllegalValueException(ArchiveSummary.MESSAGE_CONSTRAINTS);
+            }
+            return new ArchiveSummary(count, modelEarliest, modelLatest);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(ArchiveSummary.MESSAGE_CONSTRAINTS);
+        }
+    }
+}
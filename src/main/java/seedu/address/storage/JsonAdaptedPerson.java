@@ -7,12 +7,14 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Role;
 import seedu.address.model.person.address.Address;
@@ -21,11 +23,14 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * A person may be stamped with the version of the data file they were last changed in, so that users sharing the file
+ * can tell which persons others have changed.
  */
-class JsonAdaptedPerson {
+public class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -33,15 +38,21 @@ class JsonAdaptedPerson {
     private final String address;
     private final String addressType;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long version;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * Data files written before persons had IDs have no {@code id}; such persons are given a new ID. Data files
+     * written before persons were stamped with versions have no {@code version}.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("role") String role,
-            @JsonProperty("address") String address, @JsonProperty("addressType") String addressType,
-            @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("role") String role, @JsonProperty("address") String address,
+            @JsonProperty("addressType") String addressType, @JsonProperty("tags") List<JsonAdaptedTag> tags,
+            @JsonProperty("version") Long version) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -52,12 +63,30 @@ class JsonAdaptedPerson {
         if (tags != null) {
             this.tags.addAll(tags);
         }
+        this.version = version;
+    }
+
+    /**
+     * Constructs an unstamped {@code JsonAdaptedPerson} with the given person details.
+     */
+    public JsonAdaptedPerson(Long id, String name, String phone, String email, String role, String address,
+            String addressType, List<JsonAdaptedTag> tags) {
+        this(id, name, phone, email, role, address, addressType, tags, null);
     }
 
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use, stamped with the data file {@code version}
+     * they were last changed in.
+     */
+    public JsonAdaptedPerson(Person source, Long version) {
+        id = source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -67,6 +96,18 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the version of the data file the person was last changed in, or 0 if they are not stamped.
+     */
+    public long getVersion() {
+        return version == null ? 0 : version;
     }
 
     /**
@@ -88,6 +129,11 @@ class JsonAdaptedPerson {
         }
         final Name modelName = new Name(name);
 
+        if (id != null && !PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        final PersonId modelId = id == null ? PersonId.generate() : PersonId.of(id);
+
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
@@ -110,7 +156,7 @@ class JsonAdaptedPerson {
         if (!Role.isValidRole(role)) {
             throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
         }
-        final Role modelRole = new Role(role);
+        final Role modelRole = Role.of(role);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -126,10 +172,10 @@ class JsonAdaptedPerson {
         if (!AddressType.isValidType(addressType)) {
             throw new IllegalValueException(AddressType.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address, new AddressType(addressType));
+        final Address modelAddress = new Address(address, AddressType.of(addressType));
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelRole, modelAddress, modelTags);
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelRole, modelAddress, modelTags);
     }
 
 }
@@ -3,25 +3,44 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file may be shared by several users, e.g. on a shared drive. Reading or saving it holds a lock on a file next to
+ * it, so that no one reads it half saved or saves it at the same time as another. Saving first checks whether others
+ * saved the file since it was last read or saved here, reading only the version at the start of the file, and if so,
+ * merges their changes in as described in {@link AddressBookMerge} instead of saving over them. A data file that cannot
+ * be read is never saved over, so that the data in it can still be recovered.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String LOCK_FILE_SUFFIX = ".lock";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final String VERSION_FIELD = "version";
+    private static final String MESSAGE_UNREADABLE_FILE = "The data file %1$s could not be read, so it was not saved"
+            + " over. Fix or move the file to save again: %2$s";
 
     private Path filePath;
+    // The data file as it was last read or saved here
+    private final RecordVersions versions = new RecordVersions();
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -31,6 +50,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         return filePath;
     }
 
+    /**
+     * Returns the path of the file locked while the data file is read or saved.
+     */
+    public Path getLockFilePath() {
+        String fileName = filePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        String baseName = extension > 0 ? fileName.substring(0, extension) : fileName;
+        return filePath.resolveSibling(baseName + LOCK_FILE_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,6 +74,25 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        if (!filePath.equals(this.filePath)) {
+            return readAddressBook(filePath, new RecordVersions());
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        synchronized (this) {
+            try (FileChannel lockFile = openLockFile(); FileLock lock = lockFile.lock()) {
+                return readAddressBook(filePath, versions);
+            } catch (IOException e) {
+                logger.warning("Could not lock " + getLockFilePath() + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, RecordVersions versions)
+            throws DataLoadingException {
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (!jsonAddressBook.isPresent()) {
@@ -52,7 +100,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(jsonAddressBook.get().toModelType(versions));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -60,21 +108,91 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+    public synchronized AddressBookChanges saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel lockFile = openLockFile(); FileLock lock = lockFile.lock()) {
+            boolean isFileMissing = !FileUtil.isFileExists(filePath);
+            if (isFileMissing || readFileVersion() == versions.getFileVersion()) {
+                if (isFileMissing || versions.differsFrom(addressBook)) {
+                    saveAddressBook(addressBook, filePath);
+                }
+                return AddressBookChanges.NONE;
+            }
+
+            AddressBookMerge merge = mergeWithFile(addressBook);
+            ReadOnlyAddressBook merged = merge.getMerged();
+            if (versions.differsFrom(merged)) {
+                saveAddressBook(merged, filePath);
+            }
+            return merge.getChanges();
+        }
     }
 
     /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but saves over the file without merging in the changes
+     * others saved to it.
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook, versions), filePath);
+        if (filePath.equals(this.filePath)) {
+            versions.recordSaved(addressBook);
+        }
+    }
+
+    /**
+     * Merges {@code addressBook} with the changes others saved to the data file.
+     *
+     * @throws IOException if the data file could not be read, in which case it must not be saved over.
+     */
+    private AddressBookMerge mergeWithFile(ReadOnlyAddressBook addressBook) throws IOException {
+        Optional<JsonSerializableAddressBook> saved;
+        try {
+            saved = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class);
+        } catch (DataLoadingException e) {
+            throw unreadableFile(e);
+        }
+        if (!saved.isPresent()) {
+            throw unreadableFile(new IOException("The file was removed while it was locked"));
+        }
+
+        try {
+            AddressBookMerge merge = new AddressBookMerge(addressBook, saved.get(), versions);
+            logger.info("Merged changes saved to " + filePath + " by others: " + merge.getChanges());
+            return merge;
+        } catch (IllegalValueException e) {
+            throw unreadableFile(e);
+        }
+    }
+
+    /**
+     * Returns the version of the data file.
+     *
+     * @throws IOException if the version could not be read, in which case the file must not be saved over.
+     */
+    private long readFileVersion() throws IOException {
+        try {
+            return JsonUtil.readJsonField(filePath, VERSION_FIELD).map(JsonNode::asLong).orElse(0L);
+        } catch (IOException e) {
+            throw unreadableFile(e);
+        }
+    }
+
+    private IOException unreadableFile(Exception cause) {
+        logger.warning("Could not read the changes saved to " + filePath + " by others, not saving over them: "
+                + cause);
+        return new IOException(String.format(MESSAGE_UNREADABLE_FILE, filePath, cause.getMessage()), cause);
+    }
+
+    private FileChannel openLockFile() throws IOException {
+        return FileChannel.open(getLockFilePath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
     }
 
 }
@@ -0,0 +1,238 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.appointment.ArchiveSummary;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * An {@link AppointmentArchive} kept in a gzip-compressed file next to the address book data file, holding one
+ * {@link JsonAdaptedAppointment} per line.
+ * Each batch of appointments archived is compressed on its own and appended to the file as a gzip member, so archiving
+ * never rewrites what was archived before, and the members read back as one stream.
+ * The summary of the archive is saved to a small json file of its own, so that it is known without reading the
+ * archive. If the summary file is missing or was written for a different archive file, the summary is worked out
+ * again by reading the archive once.
+ */
+public class JsonAppointmentArchive implements AppointmentArchive {
+
+    public static final String ARCHIVE_FILE_SUFFIX = ".archive.gz";
+    public static final String SUMMARY_FILE_SUFFIX = ".archive.json";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAppointmentArchive.class);
+
+    private final Path archiveFilePath;
+    private final Path summaryFilePath;
+    private ArchiveSummary summary;
+
+    /**
+     * Creates an archive for the address book stored at {@code addressBookFilePath}, kept in files next to it.
+     */
+    public JsonAppointmentArchive(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        String baseName = extension > 0 ? fileName.substring(0, extension) : fileName;
+        archiveFilePath = addressBookFilePath.resolveSibling(baseName + ARCHIVE_FILE_SUFFIX);
+        summaryFilePath = addressBookFilePath.resolveSibling(baseName + SUMMARY_FILE_SUFFIX);
+    }
+
+    public Path getArchiveFilePath() {
+        return archiveFilePath;
+    }
+
+    public Path getSummaryFilePath() {
+        return summaryFilePath;
+    }
+
+    @Override
+    public synchronized ArchiveSummary getSummary() {
+        if (summary == null) {
+            summary = readSummary();
+        }
+        return summary;
+    }
+
+    @Override
+    public synchronized void append(List<Appointment> appointments) throws IOException {
+        requireNonNull(appointments);
+        if (appointments.isEmpty()) {
+            return;
+        }
+        ArchiveSummary updatedSummary = getSummary().with(appointments);
+
+        // Compressed in full before anything is written, so that a failure leaves the archive as it was
+        ByteArrayOutputStream member = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(member), StandardCharsets.UTF_8)) {
+            for (Appointment appointment : appointments) {
+                writer.write(JsonUtil.toJsonLine(new JsonAdaptedAppointment(appointment)));
+                writer.write('\n');
+            }
+        }
+        FileUtil.createParentDirsOfFile(archiveFilePath);
+        Files.write(archiveFilePath, member.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        summary = updatedSummary;
+        try {
+            saveSummary();
+        } catch (IOException e) {
+            // The appointments are archived all the same, and the summary is worked out again when next needed
+            logger.warning("Failed to save summary file " + summaryFilePath + ": " + e);
+        }
+    }
+
+    @Override
+    public synchronized List<Appointment> find(Function<PersonId, Person> findPerson, Predicate<Appointment> predicate)
+            throws DataLoadingException {
+        requireNonNull(findPerson);
+        requireNonNull(predicate);
+        if (!Files.exists(archiveFilePath)) {
+            return List.of();
+        }
+
+        List<Appointment> found = new ArrayList<>();
+        try (BufferedReader reader = openArchive()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Optional<Appointment> appointment =
+                        toModelType(JsonUtil.fromJsonString(line, JsonAdaptedAppointment.class), findPerson);
+                if (appointment.isPresent() && predicate.test(appointment.get())) {
+                    found.add(appointment.get());
+                }
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from archive file " + archiveFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        // Appointments added in the past after others were archived are archived later, so the file is not in order
+        Collections.sort(found);
+        return found;
+    }
+
+    /**
+     * Returns the appointment archived as {@code jsonAdaptedAppointment}, or an empty optional if its seller or buyer
+     * is no longer found by {@code findPerson}.
+     */
+    private static Optional<Appointment> toModelType(JsonAdaptedAppointment jsonAdaptedAppointment,
+            Function<PersonId, Person> findPerson) throws IllegalValueException {
+        Person seller = findPerson(jsonAdaptedAppointment.getSellerId(), findPerson);
+        if (seller == null) {
+            return Optional.empty();
+        }
+        Person buyer = null;
+        if (jsonAdaptedAppointment.getBuyerId() != null) {
+            buyer = findPerson(jsonAdaptedAppointment.getBuyerId(), findPerson);
+            if (buyer == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(jsonAdaptedAppointment.toModelType(seller, buyer));
+    }
+
+    private static Person findPerson(Long id, Function<PersonId, Person> findPerson) throws IllegalValueException {
+        if (id == null) {
+            return null;
+        }
+        if (!PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        return findPerson.apply(PersonId.lookup(id));
+    }
+
+    private BufferedReader openArchive() throws IOException {
+        return new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(archiveFilePath)), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the summary saved for the archive file, or works it out from the archive file if there is no usable
+     * saved summary. Returns an empty summary if there is no archive file, or it cannot be read.
+     */
+    private ArchiveSummary readSummary() {
+        if (!Files.exists(archiveFilePath)) {
+            return ArchiveSummary.EMPTY;
+        }
+        try {
+            Optional<JsonAdaptedArchiveSummary> savedSummary =
+                    JsonUtil.readJsonFile(summaryFilePath, JsonAdaptedArchiveSummary.class);
+            if (savedSummary.isPresent() && savedSummary.get().getArchiveSize() == Files.size(archiveFilePath)) {
+                return savedSummary.get().toModelType();
+            }
+        } catch (DataLoadingException | IllegalValueException | IOException e) {
+            logger.warning("Summary file " + summaryFilePath + " could not be loaded: " + e);
+        }
+
+        logger.info("Summarising archive file " + archiveFilePath);
+        try (BufferedReader reader = openArchive()) {
+            summary = scanSummary(reader);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Archive file " + archiveFilePath + " could not be read, and will not be searched: " + e);
+            return ArchiveSummary.EMPTY;
+        }
+        try {
+            saveSummary();
+        } catch (IOException e) {
+            logger.warning("Failed to save summary file " + summaryFilePath + ": " + e);
+        }
+        return summary;
+    }
+
+    private static ArchiveSummary scanSummary(BufferedReader reader) throws IOException, IllegalValueException {
+        int count = 0;
+        AppointmentDatetime earliest = null;
+        AppointmentDatetime latest = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String datetime = JsonUtil.fromJsonString(line, JsonAdaptedAppointment.class).getAppointmentDateTime();
+            if (datetime == null || !AppointmentDatetime.isValidDatetime(datetime)) {
+                throw new IllegalValueException(AppointmentDatetime.MESSAGE_CONSTRAINTS);
+            }
+            AppointmentDatetime appointmentDatetime = new AppointmentDatetime(datetime);
+            count++;
+            earliest = earliest == null || appointmentDatetime.compareTo(earliest) < 0 ? appointmentDatetime : earliest;
+            latest = latest == null || appointmentDatetime.compareTo(latest) > 0 ? appointmentDatetime : latest;
+        }
+        return count == 0
+                ? ArchiveSummary.EMPTY
+                : new ArchiveSummary(count, earliest.datetime, latest.datetime);
+    }
+
+    private void saveSummary() throws IOException {
+        JsonUtil.saveJsonFile(new JsonAdaptedArchiveSummary(summary, Files.size(archiveFilePath)), summaryFilePath);
+    }
+}
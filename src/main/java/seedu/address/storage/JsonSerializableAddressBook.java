@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -13,11 +14,14 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * The version of the file is written first, so that it can be read without reading the rest of the file.
  */
 @JsonRootName(value = "clientsquare")
+@JsonPropertyOrder({"version", "persons", "appointments"})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
@@ -25,13 +29,17 @@ class JsonSerializableAddressBook {
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedAppointment> appointments = new ArrayList<>();
+    private final long version;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons and appointments;
+     * Constructs a {@code JsonSerializableAddressBook} with the given version, persons and appointments.
+     * Data files written before they had versions are taken to be at version 0.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+    public JsonSerializableAddressBook(@JsonProperty("version") Long version,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("appointments") List<JsonAdaptedAppointment> appointments) {
+        this.version = version == null ? 0 : version;
         if (persons != null) {
             this.persons.addAll(persons);
         }
@@ -41,30 +49,60 @@ class JsonSerializableAddressBook {
     }
 
     /**
-     * Converts a given {@code ReadOnlyAddressBook} into this class for Json use.
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Json use, as the next version of the file
+     * described by {@code versions}.
+     * Persons and appointments are stamped with their versions in the file, or with the next version if they are not
+     * in the file as they are.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
-    public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, RecordVersions versions) {
+        version = versions.getNextVersion();
+        persons.addAll(source.getPersonList().stream()
+                .map(person -> new JsonAdaptedPerson(person, versions.versionOf(person)))
+                .collect(Collectors.toList()));
         appointments.addAll(source.getAppointmentList().stream()
-                .map(JsonAdaptedAppointment::new)
+                .map(appointment -> new JsonAdaptedAppointment(appointment, versions.versionOf(appointment)))
                 .collect(Collectors.toList()));
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    public List<JsonAdaptedAppointment> getAppointments() {
+        return appointments;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(new RecordVersions());
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object, recording in {@code versions} the
+     * versions of the file and of the persons and appointments in it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType(RecordVersions versions) throws IllegalValueException {
+        versions.reset(version);
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            if (addressBook.hasPerson(person) || addressBook.findPerson(person.getId()) != null) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
+            versions.putPerson(person, jsonAdaptedPerson.getVersion());
         }
         for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
             Appointment appointment = toModelAppointment(jsonAdaptedAppointment, addressBook);
@@ -72,6 +110,7 @@ class JsonSerializableAddressBook {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
             }
             addressBook.addAppointment(appointment);
+            versions.putAppointment(appointment, jsonAdaptedAppointment.getVersion());
         }
         return addressBook;
     }
@@ -87,10 +126,29 @@ class JsonSerializableAddressBook {
      */
     public Appointment toModelAppointment(JsonAdaptedAppointment jsonAdaptedAppointment, AddressBook addressBook)
             throws IllegalValueException {
-        Person seller = addressBook.findPerson(jsonAdaptedAppointment.getSeller());
-        Person buyer = addressBook.findPerson(jsonAdaptedAppointment.getBuyer());
+        Person seller = findPerson(jsonAdaptedAppointment.getSellerId(), jsonAdaptedAppointment.getSeller(),
+                addressBook);
+        Person buyer = findPerson(jsonAdaptedAppointment.getBuyerId(), jsonAdaptedAppointment.getBuyer(),
+                addressBook);
 
         return jsonAdaptedAppointment.toModelType(seller, buyer);
     }
 
+    /**
+     * Returns the person in {@code addressBook} with the given {@code id}, or with the given {@code phone} if there is
+     * no {@code id}. Returns null if there is no such person.
+     *
+     * @throws IllegalValueException if {@code id} is not a valid person ID.
+     */
+    private static Person findPerson(Long id, String phone, AddressBook addressBook) throws IllegalValueException {
+        if (id == null) {
+            return phone == null ? null : addressBook.findPerson(phone);
+        }
+
+        if (!PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        return addressBook.findPerson(PersonId.lookup(id));
+    }
+
 }
@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * The versions of the records in a data file, as the file was when it was last read or saved.
+ * The file as a whole has a version, which goes up by one each time the file is saved, and each person is stamped
+ * with the version of the file they were last changed in, and each appointment with the version it was added in.
+ * Comparing an address book with the records kept here tells which of its persons and appointments changed since,
+ * and comparing the file with them tells which records others changed in the file since.
+ */
+class RecordVersions {
+
+    private long fileVersion;
+    private final Map<PersonId, Stamped<Person>> persons = new HashMap<>();
+    private final Map<String, Stamped<Appointment>> appointments = new HashMap<>();
+
+    public long getFileVersion() {
+        return fileVersion;
+    }
+
+    /**
+     * Returns the version the file will have when it is next saved.
+     */
+    public long getNextVersion() {
+        return fileVersion + 1;
+    }
+
+    /**
+     * Returns the person in the file with the given {@code id}, or null if there is no such person.
+     */
+    public Person getPerson(PersonId id) {
+        Stamped<Person> stamped = persons.get(id);
+        return stamped == null ? null : stamped.record;
+    }
+
+    /**
+     * Returns the appointment in the file with the given {@link #keyOf(String, Long, Long) key}, or null if there is
+     * no such appointment.
+     */
+    public Appointment getAppointment(String key) {
+        Stamped<Appointment> stamped = appointments.get(key);
+        return stamped == null ? null : stamped.record;
+    }
+
+    public Iterable<PersonId> getPersonIds() {
+        return persons.keySet();
+    }
+
+    public Iterable<String> getAppointmentKeys() {
+        return appointments.keySet();
+    }
+
+    /**
+     * Returns the version {@code person} is stamped with in the file, or the next version if they are not in the file
+     * as they are.
+     */
+    public long versionOf(Person person) {
+        Stamped<Person> stamped = persons.get(person.getId());
+        return stamped != null && isSame(stamped.record, person) ? stamped.version : getNextVersion();
+    }
+
+    /**
+     * Returns the version {@code appointment} is stamped with in the file, or the next version if it is not in the
+     * file.
+     */
+    public long versionOf(Appointment appointment) {
+        Stamped<Appointment> stamped = appointments.get(keyOf(appointment));
+        return stamped != null ? stamped.version : getNextVersion();
+    }
+
+    /**
+     * Returns true if {@code person} is not in the file as they are.
+     */
+    public boolean isChanged(Person person) {
+        return versionOf(person) == getNextVersion();
+    }
+
+    /**
+     * Returns true if {@code appointment} is not in the file.
+     */
+    public boolean isChanged(Appointment appointment) {
+        return versionOf(appointment) == getNextVersion();
+    }
+
+    /**
+     * Records that {@code person} is in the file, stamped with {@code version}.
+     */
+    public void putPerson(Person person, long version) {
+        requireNonNull(person);
+        persons.put(person.getId(), new Stamped<>(person, version));
+    }
+
+    /**
+     * Records that {@code appointment} is in the file, stamped with {@code version}.
+     */
+    public void putAppointment(Appointment appointment, long version) {
+        requireNonNull(appointment);
+        appointments.put(keyOf(appointment), new Stamped<>(appointment, version));
+    }
+
+    /**
+     * Records that the file has {@code fileVersion} and holds nothing yet.
+     */
+    public void reset(long fileVersion) {
+        this.fileVersion = fileVersion;
+        persons.clear();
+        appointments.clear();
+    }
+
+    /**
+     * Records that {@code addressBook} was saved to the file as its next version, stamping the persons and
+     * appointments that were not in the file with that version.
+     */
+    public void recordSaved(ReadOnlyAddressBook addressBook) {
+        Map<PersonId, Stamped<Person>> savedPersons = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            savedPersons.put(person.getId(), new Stamped<>(person, versionOf(person)));
+        }
+        Map<String, Stamped<Appointment>> savedAppointments = new HashMap<>();
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            savedAppointments.put(keyOf(appointment), new Stamped<>(appointment, versionOf(appointment)));
+        }
+        reset(getNextVersion());
+        persons.putAll(savedPersons);
+        appointments.putAll(savedAppointments);
+    }
+
+    /**
+     * Returns true if {@code addressBook} differs from what is in the file.
+     */
+    public boolean differsFrom(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().size() != persons.size()
+                || addressBook.getAppointmentList().size() != appointments.size()
+                || addressBook.getPersonList().stream().anyMatch(this::isChanged)
+                || addressBook.getAppointmentList().stream().anyMatch(this::isChanged);
+    }
+
+    /**
+     * Returns the key an appointment with the given datetime, seller and buyer is kept under, which can be worked out
+     * from the appointment as it is in the file without converting it.
+     */
+    public static String keyOf(String datetime, Long sellerId, Long buyerId) {
+        return datetime + "/" + sellerId + "/" + buyerId;
+    }
+
+    /**
+     * Returns the key {@code appointment} is kept under.
+     */
+    public static String keyOf(Appointment appointment) {
+        return keyOf(appointment.getAppointmentDatetime().toString(), appointment.getSellerId().value,
+                appointment.getBuyerId().map(id -> id.value).orElse(null));
+    }
+
+    private static boolean isSame(Person filePerson, Person person) {
+        // Persons are immutable, so an unchanged person is usually the very object that was read or saved
+        return filePerson == person || filePerson.equals(person);
+    }
+
+    /**
+     * A record of the file and the version it is stamped with.
+     */
+    private static class Stamped<T> {
+        private final T record;
+        private final long version;
+
+        Stamped(T record, long version) {
+            this.record = record;
+            this.version = version;
+        }
+    }
+}
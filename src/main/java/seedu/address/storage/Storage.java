@@ -5,9 +5,11 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.AppointmentArchive;
 
 /**
  * API of the Storage component
@@ -27,6 +29,11 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
     @Override
-    void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+    AddressBookChanges saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Returns the archive that past appointments of the address book are moved to.
+     */
+    AppointmentArchive getAppointmentArchive();
 
 }
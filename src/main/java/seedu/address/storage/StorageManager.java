@@ -7,9 +7,11 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.AppointmentArchive;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,13 +21,16 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AppointmentArchive appointmentArchive;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Past appointments are archived next to the address book data file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.appointmentArchive = new JsonAppointmentArchive(addressBookStorage.getAddressBookFilePath());
     }
 
     // ================ UserPrefs methods ==============================
@@ -65,8 +70,9 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+    public AddressBookChanges saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.saveAddressBook(addressBook);
     }
 
     @Override
@@ -75,4 +81,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public AppointmentArchive getAppointmentArchive() {
+        return appointmentArchive;
+    }
+
 }
@@ -0,0 +1,101 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+import javafx.beans.Observable;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * A strip of cells, one for each of the coming days starting from today, shaded by how many appointments are on
+ * each day relative to the busiest of them.
+ */
+public class AppointmentHeatStrip extends UiPart<Region> {
+
+    public static final int DAYS_SHOWN = 28;
+    public static final int HEAT_LEVELS = 4;
+
+    private static final String FXML = "AppointmentHeatStrip.fxml";
+    private static final String CELL_STYLE_CLASS = "heat-cell";
+    private static final String LEVEL_STYLE_CLASS_PREFIX = "heat-";
+
+    private final AppointmentCounter appointmentCounter;
+
+    @FXML
+    private HBox cells;
+
+    /**
+     * Creates a {@code AppointmentHeatStrip} that looks up the number of appointments on each day through
+     * {@code appointmentCounter}, and does so again whenever {@code appointments} changes.
+     */
+    public AppointmentHeatStrip(ObservableList<Appointment> appointments, AppointmentCounter appointmentCounter) {
+        super(FXML);
+        requireNonNull(appointments);
+        requireNonNull(appointmentCounter);
+        this.appointmentCounter = appointmentCounter;
+        for (int i = 0; i < DAYS_SHOWN; i++) {
+            Region cell = new Region();
+            cell.getStyleClass().add(CELL_STYLE_CLASS);
+            HBox.setHgrow(cell, Priority.ALWAYS);
+            cells.getChildren().add(cell);
+        }
+        appointments.addListener((Observable unused) -> refresh());
+        refresh();
+    }
+
+    /**
+     * Shades each day by its number of appointments, as looked up now.
+     */
+    public void refresh() {
+        LocalDate today = LocalDate.now();
+        int[] counts = appointmentCounter.countAppointments(today, DAYS_SHOWN);
+        int busiest = 0;
+        for (int count : counts) {
+            busiest = Math.max(busiest, count);
+        }
+
+        for (int i = 0; i < DAYS_SHOWN; i++) {
+            Region cell = (Region) cells.getChildren().get(i);
+            cell.getStyleClass().removeIf(styleClass -> styleClass.startsWith(LEVEL_STYLE_CLASS_PREFIX));
+            cell.getStyleClass().add(LEVEL_STYLE_CLASS_PREFIX + getHeatLevel(counts[i], busiest));
+
+            LocalDate date = today.plusDays(i);
+            Tooltip.install(cell, new Tooltip(date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH)
+                    + " " + date + ": " + counts[i] + " appointment(s)"));
+        }
+    }
+
+    /**
+     * Returns how hot a day with {@code count} appointments is, from 0 for a day without appointments to
+     * {@link #HEAT_LEVELS} for a day as busy as the busiest day, which has {@code busiest} appointments.
+     */
+    static int getHeatLevel(int count, int busiest) {
+        assert count >= 0 && count <= busiest;
+        if (count == 0) {
+            return 0;
+        }
+        return (count * HEAT_LEVELS + busiest - 1) / busiest;
+    }
+
+    /**
+     * Represents a function that can count appointments by day.
+     */
+    @FunctionalInterface
+    public interface AppointmentCounter {
+        /**
+         * Returns the number of appointments on each of {@code days} consecutive days, starting on {@code from}.
+         *
+         * @see seedu.address.logic.Logic#countAppointments
+         */
+        int[] countAppointments(LocalDate from, int days);
+    }
+}
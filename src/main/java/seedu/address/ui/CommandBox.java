@@ -1,15 +1,23 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Completions of the command being typed are listed below the box; pressing Tab takes the first one.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -17,22 +25,75 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final SuggestionProvider suggestionProvider;
+    private final ContextMenu suggestionMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code SuggestionProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, SuggestionProvider suggestionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.suggestionProvider = suggestionProvider;
+        // calls #setStyleToDefault() and #updateSuggestions() whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            updateSuggestions();
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+    }
+
+    /**
+     * Takes the first suggestion when Tab is pressed while suggestions are shown.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB || !suggestionMenu.isShowing()
+                || suggestionMenu.getItems().isEmpty()) {
+            return;
+        }
+
+        suggestionMenu.getItems().get(0).fire();
+        event.consume();
+    }
+
+    /**
+     * Lists the completions of the command being typed below the command box, or hides the list if there are none.
+     */
+    private void updateSuggestions() {
+        String commandText = commandTextField.getText();
+        List<String> suggestions = suggestionProvider.getSuggestions(commandText);
+        if (suggestions.isEmpty() || suggestions.equals(List.of(commandText))) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>(suggestions.size());
+        for (String suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion);
+            item.setMnemonicParsing(false);
+            item.setOnAction(unused -> takeSuggestion(suggestion));
+            items.add(item);
+        }
+        suggestionMenu.getItems().setAll(items);
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the text in the command box with {@code suggestion}, leaving the caret at its end.
+     */
+    private void takeSuggestion(String suggestion) {
+        commandTextField.setText(suggestion);
+        commandTextField.positionCaret(suggestion.length());
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command box is cleared straight away so that further commands can be entered while this one runs.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,12 +102,26 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        suggestionMenu.hide();
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            if (error != null) {
+                restoreFailedCommand(commandText);
+            }
+        });
+    }
+
+    /**
+     * Puts {@code commandText} back into the command box and marks it as failed,
+     * unless the user has already started typing another command.
+     */
+    private void restoreFailedCommand(String commandText) {
+        if (!commandTextField.getText().equals("")) {
+            return;
         }
+
+        commandTextField.setText(commandText);
+        setStyleToIndicateCommandFailure();
     }
 
     /**
@@ -75,11 +150,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns a future of its result.
+         * The future completes on the JavaFX application thread, exceptionally if the command failed.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that can suggest completions of a partly typed command.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Returns completions of {@code commandText}, each being the whole command text to replace it with.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getSuggestions(String commandText);
     }
 
 }
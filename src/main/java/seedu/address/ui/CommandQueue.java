@@ -0,0 +1,101 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the commands entered one at a time, in the order they were entered, away from the JavaFX application thread,
+ * and keeps count of the commands whose results have not been shown yet.
+ * The result of a command is shown, and the count brought down, on the JavaFX application thread, whether the command
+ * succeeded or failed.
+ */
+public class CommandQueue {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final CommandRunner commandRunner;
+    private final Executor commandExecutor;
+    private final Executor fxThreadExecutor;
+    private final IntConsumer pendingCountListener;
+    // Only read and changed on the JavaFX application thread
+    private int pendingCount;
+
+    /**
+     * Creates a {@code CommandQueue} that runs commands with {@code commandRunner} on {@code commandExecutor}, shows
+     * their results on {@code fxThreadExecutor}, and tells {@code pendingCountListener} of each change to the number
+     * of commands whose results have not been shown yet.
+     */
+    public CommandQueue(CommandRunner commandRunner, Executor commandExecutor, Executor fxThreadExecutor,
+            IntConsumer pendingCountListener) {
+        requireAllNonNull(commandRunner, commandExecutor, fxThreadExecutor, pendingCountListener);
+        this.commandRunner = commandRunner;
+        this.commandExecutor = commandExecutor;
+        this.fxThreadExecutor = fxThreadExecutor;
+        this.pendingCountListener = pendingCountListener;
+    }
+
+    /**
+     * Queues the command for execution and returns a future of its result. Must be called on the JavaFX application
+     * thread.
+     * Once the command has run, {@code resultHandler} or {@code failureHandler} is called with its result or the error
+     * it raised, and the future completed, on the JavaFX application thread.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText, Consumer<CommandResult> resultHandler,
+            Consumer<Exception> failureHandler) {
+        requireAllNonNull(commandText, resultHandler, failureHandler);
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        pendingCountListener.accept(++pendingCount);
+
+        commandExecutor.execute(() -> {
+            try {
+                CommandResult commandResult = commandRunner.execute(commandText);
+                fxThreadExecutor.execute(() -> {
+                    pendingCountListener.accept(--pendingCount);
+                    resultHandler.accept(commandResult);
+                    future.complete(commandResult);
+                });
+            } catch (CommandException | ParseException | RuntimeException e) {
+                if (e instanceof RuntimeException) {
+                    logger.log(Level.SEVERE, "Unexpected error while executing command: " + commandText, e);
+                }
+                fxThreadExecutor.execute(() -> {
+                    pendingCountListener.accept(--pendingCount);
+                    failureHandler.accept(e);
+                    future.completeExceptionally(e);
+                });
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the number of commands entered whose results have not been shown yet.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Represents a function that runs a command.
+     */
+    @FunctionalInterface
+    public interface CommandRunner {
+        /**
+         * Runs the command and returns the result.
+         *
+         * @see seedu.address.logic.Logic#execute(String)
+         */
+        CommandResult execute(String commandText) throws CommandException, ParseException;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A read-only copy of an {@code ObservableList} that is modified outside the JavaFX application thread.
+ * Each change to the source list is captured on the thread that made it and replayed on the JavaFX application
+ * thread, so that UI controls bound to {@link #asUnmodifiableObservableList()} are only ever updated from there.
+ * Elements can be mapped as they are captured, e.g. to copies that can be read safely on the JavaFX application
+ * thread. The source list must not be modified while this list is being constructed.
+ */
+public class FxThreadList<E> {
+
+    private final ObservableList<E> internalList;
+    private final ObservableList<E> internalUnmodifiableList;
+    private final Executor fxThreadExecutor;
+
+    /**
+     * Creates a {@code FxThreadList} that follows the contents of {@code source}.
+     */
+    public FxThreadList(ObservableList<E> source) {
+        this(source, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code FxThreadList} that follows the contents of {@code source}, replaying its changes with
+     * {@code fxThreadExecutor}.
+     */
+    public FxThreadList(ObservableList<E> source, Executor fxThreadExecutor) {
+        this(source, element -> element, fxThreadExecutor);
+    }
+
+    /**
+     * Creates a {@code FxThreadList} that follows the contents of {@code source}, with each element mapped by
+     * {@code mapper} on the thread that changed the source list, replaying its changes with {@code fxThreadExecutor}.
+     */
+    public <S> FxThreadList(ObservableList<S> source, Function<? super S, ? extends E> mapper,
+            Executor fxThreadExecutor) {
+        requireAllNonNull(source, mapper, fxThreadExecutor);
+        this.fxThreadExecutor = fxThreadExecutor;
+        internalList = FXCollections.observableArrayList(map(source, mapper));
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        source.addListener((ListChangeListener<S>) change -> onSourceChanged(change, mapper));
+    }
+
+    /**
+     * Returns the copy as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<E> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    /**
+     * Captures {@code change} on the calling thread and schedules it to be applied on the JavaFX application thread.
+     * Permutations and in-place updates are captured as a full copy of the source list.
+     */
+    private <S> void onSourceChanged(ListChangeListener.Change<? extends S> change,
+            Function<? super S, ? extends E> mapper) {
+        List<Runnable> edits = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<E> snapshot = map(change.getList(), mapper);
+                edits.clear();
+                edits.add(() -> internalList.setAll(snapshot));
+                break;
+            }
+
+            int from = change.getFrom();
+            int removedSize = change.getRemovedSize();
+            List<E> added = map(change.getAddedSubList(), mapper);
+            edits.add(() -> {
+                internalList.remove(from, from + removedSize);
+                internalList.addAll(from, added);
+            });
+        }
+        fxThreadExecutor.execute(() -> edits.forEach(Runnable::run));
+    }
+
+    private static <S, E> List<E> map(List<? extends S> elements, Function<? super S, ? extends E> mapper) {
+        List<E> mapped = new ArrayList<>(elements.size());
+        elements.forEach(element -> mapped.add(mapper.apply(element)));
+        return mapped;
+    }
+}
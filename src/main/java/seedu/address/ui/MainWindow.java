@@ -1,7 +1,18 @@
 package seedu.address.ui;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -15,8 +26,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarPeriod;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -28,13 +39,29 @@ public class MainWindow extends UiPart<Stage> {
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    // Refreshes the appointments shown as time passes, by queueing the refresh behind the commands entered
+    private final ScheduledExecutorService timeFrameRefresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "time-frame-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> nextTimeFrameRefresh;
+
     private Stage primaryStage;
     private Logic logic;
+    // Runs commands one at a time, in the order they were entered, away from the JavaFX application thread
+    private Executor commandExecutor;
+
+    // Copies of the model's lists that are only updated on the JavaFX application thread
+    private ObservableList<Appointment> appointmentList;
+    private CommandQueue commandQueue;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private AppointmentListPanel appointmentListPanel;
     private ResultDisplay resultDisplay;
+    private AppointmentHeatStrip appointmentHeatStrip;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     private boolean isDarkTheme;
@@ -51,6 +78,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
+    @FXML
+    private StackPane heatStripPlaceholder;
+
     @FXML
     private StackPane statusbarPlaceholder;
 
@@ -61,14 +91,16 @@ public class MainWindow extends UiPart<Stage> {
     private MenuItem themeMenuItem;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, that runs the commands entered with
+     * {@code commandExecutor}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, Executor commandExecutor) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -121,22 +153,37 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(
+                new FxThreadList<>(logic.getFilteredPersonList()).asUnmodifiableObservableList(),
+                logic.getFilteredPersonFacets());
+        // The cards show the sellers and buyers as they were when each change was made, since the persons cannot be
+        // looked up in the address book from the JavaFX application thread while commands change it
+        appointmentList = new FxThreadList<Appointment>(logic.getFilteredAppointmentList(),
+                Appointment::withCurrentPersons, Platform::runLater).asUnmodifiableObservableList();
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        appointmentHeatStrip = new AppointmentHeatStrip(
+                new FxThreadList<>(logic.getAppointmentList()).asUnmodifiableObservableList(),
+                (from, days) -> logic.countAppointments(CalendarPeriod.DAY, from, days));
+        heatStripPlaceholder.getChildren().add(appointmentHeatStrip.getRoot());
+
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        commandQueue = new CommandQueue(logic::execute, commandExecutor, Platform::runLater,
+                statusBarFooter::setPendingCommandCount);
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         this.scene = getPrimaryStage().getScene();
 
         this.isDarkTheme = logic.getGuiSettings().getTheme();
         applyTheme(isDarkTheme);
+
+        refreshTimeFrames();
     }
 
     /**
@@ -145,7 +192,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void showAppointmentList() {
         personListPanelPlaceholder.getChildren().clear();
-        appointmentListPanel = new AppointmentListPanel(logic.getFilteredAppointmentList());
+        appointmentListPanel = new AppointmentListPanel(appointmentList);
         personListPanelPlaceholder.getChildren().add(appointmentListPanel.getRoot());
     }
 
@@ -194,6 +241,7 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY(), isDarkTheme);
         logic.setGuiSettings(guiSettings);
+        timeFrameRefresher.shutdownNow();
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -229,41 +277,87 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Queues the command for execution and returns a future of its result.
+     * The result is shown, and the future completed, on the JavaFX application thread.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandQueue.submit(commandText, this::handleCommandResult,
+                e -> handleCommandFailure(commandText, e));
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    /**
+     * Shows the result of a successfully executed command.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            if (commandResult.isToggleTheme()) {
-                handleToggleTheme();
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            if (commandResult.isShowAppointmentList()) {
-                showAppointmentList();
-            }
+        if (commandResult.isToggleTheme()) {
+            handleToggleTheme();
+        }
 
-            if (commandResult.isShowPersonList()) {
-                showPersonList();
-            }
+        if (commandResult.isShowAppointmentList()) {
+            showAppointmentList();
+        }
+
+        if (commandResult.isShowPersonList()) {
+            showPersonList();
+        }
+
+        // The command may have added an appointment that moves between timeframes before the next refresh
+        refreshTimeFrames();
+    }
+
+    /**
+     * Queues a refresh of the appointments that have moved between timeframes, and schedules the next refresh for
+     * when appointments next move. Nothing more is refreshed or scheduled once the window is closing.
+     *
+     * @see seedu.address.logic.Logic#refreshTimeFrames()
+     */
+    private void refreshTimeFrames() {
+        if (timeFrameRefresher.isShutdown()) {
+            return;
+        }
+        try {
+            commandExecutor.execute(this::refreshTimeFramesNow);
+        } catch (RejectedExecutionException e) {
+            logger.fine("Timeframes not refreshed, as commands are no longer run: " + e);
+        }
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+    private void refreshTimeFramesNow() {
+        // The window may have closed while the refresh was queued
+        if (timeFrameRefresher.isShutdown()) {
+            return;
+        }
+        LocalDateTime nextChange = logic.refreshTimeFrames();
+        if (nextTimeFrameRefresh != null) {
+            nextTimeFrameRefresh.cancel(false);
+        }
+        long delay = Math.max(0, ChronoUnit.MILLIS.between(LocalDateTime.now(), nextChange)) + 1;
+        try {
+            nextTimeFrameRefresh = timeFrameRefresher.schedule(this::refreshTimeFrames, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The window closed while the timeframes were being refreshed
+            logger.fine("Next timeframe refresh not scheduled, as the window has closed: " + e);
         }
     }
+
+    /**
+     * Shows the error raised by a failed command.
+     */
+    private void handleCommandFailure(String commandText, Exception e) {
+        logger.info("An error occurred while executing command: " + commandText);
+        resultDisplay.setFeedbackToUser(e.getMessage());
+    }
 }
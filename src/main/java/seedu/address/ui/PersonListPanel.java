@@ -1,32 +1,64 @@
 package seedu.address.ui;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFacets;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.address.PropertyType;
 
 /**
- * Panel containing the list of persons.
+ * Panel containing the list of persons, headed by how many of them are sellers and buyers of each property type.
  */
 public class PersonListPanel extends UiPart<Region> {
+    static final String FACETS_SUMMARY_FORMAT = "%1$d sellers, %2$d buyers";
+
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
+    @FXML
+    private Label personFacetsSummary;
     @FXML
     private ListView<Person> personListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, and the counts of the persons in it.
+     * The counts may be changed outside the JavaFX application thread.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, PersonFacets personFacets) {
         super(FXML);
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+        personFacetsSummary.setText(getFacetsSummary(personFacets));
+        personFacets.addListener(unused -> {
+            // The counts are read on the thread that changed them, so that each summary shown is consistent
+            String summary = getFacetsSummary(personFacets);
+            Platform.runLater(() -> personFacetsSummary.setText(summary));
+        });
+    }
+
+    /**
+     * Returns the summary shown above the list of the persons counted by {@code personFacets}, e.g.
+     * {@code 2 sellers, 1 buyers | HDB_4: 2, CONDO_3: 1}. Property types that no person has are left out.
+     */
+    static String getFacetsSummary(PersonFacets personFacets) {
+        String summary = String.format(FACETS_SUMMARY_FORMAT, personFacets.count(Role.of(Role.SELLER)),
+                personFacets.count(Role.of(Role.BUYER)));
+        String propertyTypeCounts = Arrays.stream(PropertyType.values())
+                .filter(propertyType -> personFacets.count(propertyType) > 0)
+                .map(propertyType -> propertyType + ": " + personFacets.count(propertyType))
+                .collect(Collectors.joining(", "));
+        return propertyTypeCounts.isEmpty() ? summary : summary + " | " + propertyTypeCounts;
     }
 
     /**
@@ -12,17 +12,50 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String IDLE_STATUS = "";
+    public static final String BUSY_STATUS = "Running command...";
+    public static final String BUSY_WITH_QUEUE_STATUS_FORMAT = "Running command... (%1$d queued)";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label commandStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        commandStatus.setText(IDLE_STATUS);
+    }
+
+    /**
+     * Shows whether a command is running, and how many more are waiting behind it.
+     *
+     * @param pendingCommandCount Number of commands entered whose results have not been shown yet.
+     */
+    public void setPendingCommandCount(int pendingCommandCount) {
+        commandStatus.setText(getCommandStatus(pendingCommandCount));
+    }
+
+    /**
+     * Returns the status shown when {@code pendingCommandCount} commands have been entered whose results have not
+     * been shown yet.
+     */
+    static String getCommandStatus(int pendingCommandCount) {
+        assert pendingCommandCount >= 0;
+
+        if (pendingCommandCount == 0) {
+            return IDLE_STATUS;
+        } else if (pendingCommandCount == 1) {
+            return BUSY_STATUS;
+        } else {
+            return String.format(BUSY_WITH_QUEUE_STATUS_FORMAT, pendingCommandCount - 1);
+        }
     }
 
 }
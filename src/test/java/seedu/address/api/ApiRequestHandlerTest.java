@@ -0,0 +1,160 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAppointments.CARL_ELLE_UPCOMING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+public class ApiRequestHandlerTest {
+
+    private static final String HOON_JSON = "{\"name\": \"Hoon Meier\", \"phone\": \"8482424\","
+            + " \"email\": \"stefan@example.com\", \"role\": \"seller\", \"address\": \"little india\","
+            + " \"addressType\": \"EM\", \"tags\": [\"vip\"]}";
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ApiRequestHandler handler = new ApiRequestHandler(model);
+
+    @Test
+    public void handle_listPersons_returnsPersons() {
+        ApiResponse response = handle("GET", "/api/persons", null);
+        assertEquals(ApiResponse.OK, response.getStatus());
+        assertEquals(model.getAddressBook().getPersonList().size(), ((List<?>) response.getBody()).size());
+
+        response = handle("GET", "/api/persons?keywords=alice%20carl", null);
+        assertEquals(2, ((List<?>) response.getBody()).size());
+    }
+
+    @Test
+    public void handle_addPerson_addsPerson() throws Exception {
+        ApiResponse response = handle("POST", "/api/persons", HOON_JSON);
+        assertEquals(ApiResponse.CREATED, response.getStatus());
+        assertTrue(model.getAddressBook().getPersonList().stream()
+                .anyMatch(person -> person.getName().fullName.equals("Hoon Meier")));
+
+        // same person again
+        assertEquals(ApiResponse.CONFLICT, handle("POST", "/api/persons", HOON_JSON).getStatus());
+    }
+
+    @Test
+    public void handle_invalidPerson_badRequest() {
+        ApiResponse response = handle("POST", "/api/persons", "{\"name\": \"Hoon\"}");
+        assertEquals(ApiResponse.BAD_REQUEST, response.getStatus());
+        assertFalse(response.isSuccessful());
+
+        assertEquals(ApiResponse.BAD_REQUEST, handle("POST", "/api/persons", null).getStatus());
+    }
+
+    @Test
+    public void handle_editPerson_keepsId() {
+        String path = "/api/persons/" + ALICE.getId();
+        ApiResponse response = handle("PUT", path, HOON_JSON);
+
+        assertEquals(ApiResponse.OK, response.getStatus());
+        Person edited = model.findPerson(ALICE.getId()).get();
+        assertEquals("Hoon Meier", edited.getName().fullName);
+    }
+
+    @Test
+    public void handle_deletePerson_deletesPerson() {
+        ApiResponse response = handle("DELETE", "/api/persons/" + ALICE.getId(), null);
+
+        assertEquals(ApiResponse.OK, response.getStatus());
+        assertFalse(model.hasPerson(ALICE));
+        assertEquals(ApiResponse.NOT_FOUND, handle("DELETE", "/api/persons/" + ALICE.getId(), null).getStatus());
+    }
+
+    @Test
+    public void handle_invalidPersonPath_badRequestOrNotFound() {
+        assertEquals(ApiResponse.BAD_REQUEST, handle("DELETE", "/api/persons/abc", null).getStatus());
+        assertEquals(ApiResponse.BAD_REQUEST, handle("DELETE", "/api/persons/-1", null).getStatus());
+        assertEquals(ApiResponse.NOT_FOUND, handle("GET", "/api/clients", null).getStatus());
+        assertEquals(ApiResponse.METHOD_NOT_ALLOWED, handle("PATCH", "/api/persons", null).getStatus());
+    }
+
+    @Test
+    public void handle_unknownLargePersonId_notFoundAndIdsStillGenerated() {
+        assertEquals(ApiResponse.NOT_FOUND, handle("DELETE", "/api/persons/" + (Long.MAX_VALUE - 1), null).getStatus());
+        assertTrue(PersonId.generate().value < Long.MAX_VALUE - 1);
+    }
+
+    @Test
+    public void handle_appointments_addEditDelete() {
+        String added = appointmentJson("2031-05-01T10:00", CARL, ALICE);
+        assertEquals(ApiResponse.CREATED, handle("POST", "/api/appointments", added).getStatus());
+        Appointment appointment = new Appointment(new AppointmentDatetime("2031-05-01T10:00"), CARL, ALICE);
+        assertTrue(model.hasAppointment(appointment));
+
+        // same appointment again
+        assertEquals(ApiResponse.CONFLICT, handle("POST", "/api/appointments", added).getStatus());
+
+        String moved = appointmentJson("2031-05-02T10:00", GEORGE, null);
+        ApiResponse response = handle("PUT", "/api/appointments",
+                "{\"target\": " + added + ", \"appointment\": " + moved + "}");
+        assertEquals(ApiResponse.OK, response.getStatus());
+        Appointment movedAppointment = new Appointment(new AppointmentDatetime("2031-05-02T10:00"), GEORGE);
+        assertFalse(model.hasAppointment(appointment));
+        assertTrue(model.hasAppointment(movedAppointment));
+
+        assertEquals(ApiResponse.OK, handle("DELETE", "/api/appointments", moved).getStatus());
+        assertFalse(model.hasAppointment(movedAppointment));
+        assertEquals(ApiResponse.NOT_FOUND, handle("DELETE", "/api/appointments", moved).getStatus());
+    }
+
+    @Test
+    public void handle_invalidAppointment_rejected() {
+        assertEquals(ApiResponse.BAD_REQUEST, handle("POST", "/api/appointments",
+                appointmentJson("2031-05-01T10:00", CARL, CARL)).getStatus());
+        assertEquals(ApiResponse.BAD_REQUEST, handle("POST", "/api/appointments",
+                "{\"datetime\": \"2031-05-01T10:00\"}").getStatus());
+        assertEquals(ApiResponse.BAD_REQUEST, handle("POST", "/api/appointments",
+                appointmentJson("not a datetime", CARL, null)).getStatus());
+
+        ApiResponse response = handle("POST", "/api/appointments",
+                appointmentJson(CARL_ELLE_UPCOMING.getAppointmentDatetime().toString(), CARL, ELLE));
+        assertEquals(ApiResponse.error(ApiResponse.CONFLICT, Messages.MESSAGE_DUPLICATE_APPOINTMENT), response);
+    }
+
+    @Test
+    public void handle_listAppointments_returnsAppointments() {
+        ApiResponse response = handle("GET", "/api/appointments", null);
+        assertEquals(model.getAppointmentList().size(), ((List<?>) response.getBody()).size());
+
+        response = handle("GET", "/api/appointments?keywords=george", null);
+        assertEquals(1, ((List<?>) response.getBody()).size());
+    }
+
+    private ApiResponse handle(String method, String path, String body) {
+        try {
+            JsonNode bodyNode = body == null ? null : JsonUtil.fromJsonString(body, JsonNode.class);
+            return handler.handle(method, path, bodyNode, model.getAddressBook());
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String appointmentJson(String datetime, Person seller, Person buyer) {
+        return "{\"datetime\": \"" + datetime + "\", \"sellerId\": " + seller.getId()
+                + (buyer == null ? "" : ", \"buyerId\": " + buyer.getId()) + "}";
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ConcurrentModel;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ConcurrentModel model;
+    private JsonAddressBookStorage addressBookStorage;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ConcurrentModel(new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), model, Runnable::run, 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void listPersons_returnsJsonArray() throws Exception {
+        HttpResponse<String> response = send("GET", "/api/persons?keywords=alice", null);
+
+        assertEquals(ApiResponse.OK, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").get().startsWith("application/json"));
+        JsonNode persons = JsonUtil.fromJsonString(response.body(), JsonNode.class);
+        assertEquals(1, persons.size());
+        assertEquals(ALICE.getId().value, persons.get(0).get("id").asLong());
+    }
+
+    @Test
+    public void deletePerson_savesAndPublishesChange() throws Exception {
+        HttpResponse<String> response = send("DELETE", "/api/persons/" + ALICE.getId(), null);
+
+        assertEquals(ApiResponse.OK, response.statusCode());
+        assertFalse(model.hasPerson(ALICE));
+        assertFalse(addressBookStorage.readAddressBook().get().getPersonList().contains(ALICE));
+        JsonNode persons = JsonUtil.fromJsonString(send("GET", "/api/persons", null).body(), JsonNode.class);
+        assertEquals(model.getAddressBook().getPersonList().size(), persons.size());
+
+        // one change, undone at once
+        assertTrue(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void batch_carriesOutRequestsInOrderAsOneChange() throws Exception {
+        String batch = "[{\"method\": \"POST\", \"path\": \"/api/persons\", \"body\": {\"name\": \"Hoon Meier\","
+                + " \"phone\": \"8482424\", \"email\": \"stefan@example.com\", \"role\": \"seller\","
+                + " \"address\": \"little india\", \"addressType\": \"EM\"}},"
+                + " {\"method\": \"DELETE\", \"path\": \"/api/persons/" + ALICE.getId() + "\"},"
+                + " {\"method\": \"DELETE\", \"path\": \"/api/persons/" + ALICE.getId() + "\"},"
+                + " {\"method\": \"GET\", \"path\": \"/api/persons?keywords=hoon\"},"
+                + " {\"method\": \"POST\", \"path\": \"/api/batch\", \"body\": []}]";
+        int personCount = model.getAddressBook().getPersonList().size();
+
+        HttpResponse<String> response = send("POST", "/api/batch", batch);
+
+        assertEquals(ApiResponse.OK, response.statusCode());
+        JsonNode responses = JsonUtil.fromJsonString(response.body(), JsonNode.class);
+        assertEquals(5, responses.size());
+        assertEquals(ApiResponse.CREATED, responses.get(0).get("status").asInt());
+        assertEquals(ApiResponse.OK, responses.get(1).get("status").asInt());
+        assertEquals(ApiResponse.NOT_FOUND, responses.get(2).get("status").asInt());
+        // reads see the earlier changes of the batch
+        assertEquals(1, responses.get(3).get("body").size());
+        assertEquals(ApiResponse.BAD_REQUEST, responses.get(4).get("status").asInt());
+        assertEquals(personCount, model.getAddressBook().getPersonList().size());
+
+        model.undoAddressBook();
+        assertFalse(model.canUndoAddressBook());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void batch_notPost_methodNotAllowed() throws Exception {
+        assertEquals(ApiResponse.METHOD_NOT_ALLOWED, send("GET", "/api/batch", null).statusCode());
+    }
+
+    @Test
+    public void invalidJson_badRequest() throws Exception {
+        assertEquals(ApiResponse.BAD_REQUEST, send("POST", "/api/persons", "{not json").statusCode());
+    }
+
+    @Test
+    public void manyRequests_sameClient_allAnswered() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            assertEquals(ApiResponse.OK, send("GET", "/api/appointments", null).statusCode());
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getAddress().getPort()
+                        + path))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
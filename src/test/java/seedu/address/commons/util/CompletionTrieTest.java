@@ -0,0 +1,132 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CompletionTrieTest {
+
+    private final CompletionTrie trie = new CompletionTrie();
+
+    @Test
+    public void add_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void complete_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.complete("a", -1));
+    }
+
+    @Test
+    public void complete_emptyTrie_returnsEmptyList() {
+        assertEquals(List.of(), trie.complete("", 5));
+        assertEquals(List.of(), trie.complete("a", 5));
+    }
+
+    @Test
+    public void complete_wordsSharingPrefixes_returnsMatchingWordsInOrder() {
+        addAll("Alex Yeoh", "Alice Pauline", "Al", "Bernice Yu", "Alexandra");
+        assertEquals(List.of("Al", "Alex Yeoh", "Alexandra", "Alice Pauline"), trie.complete("al", 10));
+        assertEquals(List.of("Alex Yeoh", "Alexandra"), trie.complete("ALEX", 10));
+        assertEquals(List.of("Alex Yeoh"), trie.complete("alex y", 10));
+        assertEquals(List.of("Bernice Yu"), trie.complete("b", 10));
+        assertEquals(List.of(), trie.complete("alexb", 10));
+        assertEquals(List.of(), trie.complete("c", 10));
+    }
+
+    @Test
+    public void complete_limit_returnsAtMostLimitWords() {
+        addAll("a1", "a2", "a3", "a4");
+        assertEquals(List.of("a1", "a2"), trie.complete("a", 2));
+        assertEquals(List.of(), trie.complete("a", 0));
+    }
+
+    @Test
+    public void add_sameWordInDifferentCase_keepsFirstCase() {
+        addAll("John Doe", "john doe");
+        assertEquals(List.of("John Doe"), trie.complete("j", 10));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    public void remove_wordAddedTwice_keptUntilRemovedTwice() {
+        addAll("friends", "friends", "family");
+        assertTrue(trie.remove("friends"));
+        assertEquals(List.of("family", "friends"), trie.complete("f", 10));
+        assertTrue(trie.remove("friends"));
+        assertEquals(List.of("family"), trie.complete("f", 10));
+        assertFalse(trie.remove("friends"));
+        assertFalse(trie.contains("friends"));
+    }
+
+    @Test
+    public void remove_wordsNotInTrie_returnsFalse() {
+        addAll("alexandra");
+        assertFalse(trie.remove("alex"));
+        assertFalse(trie.remove("alexandras"));
+        assertFalse(trie.remove("b"));
+        assertTrue(trie.contains("alexandra"));
+    }
+
+    @Test
+    public void remove_wordsInBranches_trieStaysConsistent() {
+        addAll("alex", "alexandra", "alice", "al");
+        assertTrue(trie.remove("al"));
+        assertTrue(trie.remove("alex"));
+        assertEquals(List.of("alexandra", "alice"), trie.complete("a", 10));
+        assertTrue(trie.remove("alice"));
+        assertEquals(List.of("alexandra"), trie.complete("alexa", 10));
+        assertFalse(trie.contains("alex"));
+        assertTrue(trie.contains("Alexandra"));
+
+        trie.add("alex");
+        assertEquals(List.of("alex", "alexandra"), trie.complete("al", 10));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    public void contains() {
+        addAll("alex", "alexandra");
+        assertTrue(trie.contains("alex"));
+        assertTrue(trie.contains("ALEXANDRA"));
+        assertFalse(trie.contains("ale"));
+        assertFalse(trie.contains("alexa"));
+        assertFalse(trie.contains(""));
+    }
+
+    @Test
+    public void complete_manyWords_matchesSortedScan() {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String word = Integer.toString(i * 7919 % 10_007, 3);
+            words.add(word);
+            trie.add(word);
+        }
+        for (int i = 0; i < words.size(); i += 2) {
+            trie.remove(words.get(i));
+        }
+
+        List<String> remaining = new ArrayList<>();
+        for (int i = 1; i < words.size(); i += 2) {
+            remaining.add(words.get(i));
+        }
+        remaining.sort(null);
+        for (String prefix : List.of("", "1", "12", "120", "2", "21", "2222")) {
+            List<String> expected = remaining.stream().filter(word -> word.startsWith(prefix)).limit(20).toList();
+            assertEquals(expected, trie.complete(prefix, 20));
+        }
+    }
+
+    private void addAll(String... words) {
+        for (String word : words) {
+            trie.add(word);
+        }
+    }
+}
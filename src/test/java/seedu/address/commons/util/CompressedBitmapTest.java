@@ -0,0 +1,124 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void addRemoveContains() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        assertTrue(bitmap.isEmpty());
+        bitmap.add(3);
+        bitmap.add(70_000);
+        bitmap.add(3);
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(4));
+        assertFalse(bitmap.contains(-3));
+        assertEquals(2, bitmap.getCardinality());
+        assertEquals("[3, 70000]", bitmap.toString());
+
+        bitmap.remove(3);
+        bitmap.remove(5);
+        bitmap.remove(-5);
+        assertFalse(bitmap.contains(3));
+        assertEquals(1, bitmap.getCardinality());
+        bitmap.remove(70_000);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void add_denseValues_convertsBetweenArrayAndBitmap() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i * 3);
+        }
+        assertEquals(10_000, bitmap.getCardinality());
+        assertTrue(bitmap.contains(29_997));
+        assertFalse(bitmap.contains(29_998));
+        for (int i = 0; i < 10_000; i += 2) {
+            bitmap.remove(i * 3);
+        }
+        assertEquals(5_000, bitmap.getCardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(3));
+    }
+
+    @Test
+    public void setOperations_randomSets_matchBitSet() {
+        Random random = new Random(7);
+        for (int[] sizes : new int[][] {{50, 60}, {5_000, 100}, {20_000, 30_000}, {0, 1_000}}) {
+            BitSet first = new BitSet();
+            BitSet second = new BitSet();
+            CompressedBitmap firstBitmap = randomBitmap(random, sizes[0], first);
+            CompressedBitmap secondBitmap = randomBitmap(random, sizes[1], second);
+
+            BitSet and = (BitSet) first.clone();
+            and.and(second);
+            assertSameValues(and, firstBitmap.and(secondBitmap));
+            assertSameValues(and, secondBitmap.and(firstBitmap));
+
+            BitSet or = (BitSet) first.clone();
+            or.or(second);
+            assertSameValues(or, firstBitmap.or(secondBitmap));
+            assertSameValues(or, secondBitmap.or(firstBitmap));
+
+            BitSet andNot = (BitSet) first.clone();
+            andNot.andNot(second);
+            assertSameValues(andNot, firstBitmap.andNot(secondBitmap));
+        }
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(1);
+        bitmap.add(100_000);
+        CompressedBitmap copy = new CompressedBitmap(bitmap);
+        assertTrue(bitmap.equals(copy));
+        assertEquals(bitmap.hashCode(), copy.hashCode());
+
+        copy.add(2);
+        assertFalse(bitmap.equals(copy));
+        assertTrue(bitmap.contains(1) && !bitmap.contains(2)); // copies share nothing
+        assertFalse(bitmap.equals(null));
+        assertFalse(bitmap.equals(1));
+    }
+
+    /**
+     * Returns a bitmap of {@code size} random values spread over two chunks, also adding them to {@code values}.
+     */
+    private static CompressedBitmap randomBitmap(Random random, int size, BitSet values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt(1 << 17);
+            bitmap.add(value);
+            values.set(value);
+        }
+        return bitmap;
+    }
+
+    private static void assertSameValues(BitSet expected, CompressedBitmap actual) {
+        List<Integer> expectedValues = new ArrayList<>();
+        expected.stream().forEach(expectedValues::add);
+        List<Integer> actualValues = new ArrayList<>();
+        actual.forEach(actualValues::add);
+        assertEquals(expectedValues, actualValues);
+        assertEquals(expected.cardinality(), actual.getCardinality());
+    }
+}
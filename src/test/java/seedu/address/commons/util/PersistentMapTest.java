@@ -0,0 +1,149 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentMapTest {
+
+    @Test
+    public void put_nullKeyOrValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentMap.empty().put(null, "a"));
+        assertThrows(NullPointerException.class, () -> PersistentMap.empty().put("a", null));
+    }
+
+    @Test
+    public void putGetRemove() {
+        PersistentMap<String, Integer> empty = PersistentMap.empty();
+        assertTrue(empty.isEmpty());
+
+        PersistentMap<String, Integer> one = empty.put("a", 1);
+        PersistentMap<String, Integer> two = one.put("b", 2);
+        assertEquals(1, one.size());
+        assertEquals(2, two.size());
+        assertEquals(Integer.valueOf(2), two.get("b"));
+        assertNull(one.get("b"));
+        assertFalse(one.containsKey("b"));
+
+        // earlier versions are unchanged
+        PersistentMap<String, Integer> replaced = two.put("a", 10);
+        assertEquals(Integer.valueOf(10), replaced.get("a"));
+        assertEquals(Integer.valueOf(1), two.get("a"));
+        assertEquals(2, replaced.size());
+
+        PersistentMap<String, Integer> removed = replaced.remove("a");
+        assertEquals(1, removed.size());
+        assertNull(removed.get("a"));
+        assertEquals(Integer.valueOf(10), replaced.get("a"));
+        assertTrue(removed.remove("b").isEmpty());
+    }
+
+    @Test
+    public void putRemove_noChange_returnsSameMap() {
+        Integer value = 1;
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().put("a", value);
+        assertSame(map, map.put("a", value));
+        assertSame(map, map.remove("b"));
+    }
+
+    @Test
+    public void manyEntries_matchesHashMap() {
+        Random random = new Random(46);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void collidingKeys_keptApart() {
+        CollidingKey first = new CollidingKey("first");
+        CollidingKey second = new CollidingKey("second");
+        CollidingKey third = new CollidingKey("third");
+        PersistentMap<CollidingKey, Integer> map = PersistentMap.<CollidingKey, Integer>empty()
+                .put(first, 1).put(second, 2).put(third, 3);
+
+        assertEquals(3, map.size());
+        assertEquals(Integer.valueOf(2), map.get(second));
+        PersistentMap<CollidingKey, Integer> removed = map.remove(second);
+        assertEquals(2, removed.size());
+        assertNull(removed.get(second));
+        assertEquals(Integer.valueOf(3), removed.get(third));
+        assertTrue(removed.remove(first).remove(third).isEmpty());
+    }
+
+    @Test
+    public void forEachDifference_reportsChangedKeysOnly() {
+        PersistentMap<Integer, String> base = PersistentMap.empty();
+        for (int i = 0; i < 1_000; i++) {
+            base = base.put(i, "v" + i);
+        }
+        PersistentMap<Integer, String> changed = base.put(5, "changed").remove(7).put(2_000, "added");
+
+        Map<Integer, String[]> differences = new HashMap<>();
+        base.forEachDifference(changed, (key, value, otherValue) ->
+                differences.put(key, new String[] {value, otherValue}));
+
+        assertEquals(3, differences.size());
+        assertEquals("v5", differences.get(5)[0]);
+        assertEquals("changed", differences.get(5)[1]);
+        assertEquals("v7", differences.get(7)[0]);
+        assertNull(differences.get(7)[1]);
+        assertNull(differences.get(2_000)[0]);
+        assertEquals("added", differences.get(2_000)[1]);
+    }
+
+    @Test
+    public void forEachDifference_sameMap_reportsNothing() {
+        PersistentMap<String, String> map = PersistentMap.<String, String>empty().put("a", "b");
+        map.forEachDifference(map, (key, value, otherValue) -> {
+            throw new AssertionError("No difference expected");
+        });
+        map.forEachDifference(PersistentMap.<String, String>empty().put("a", "b"), (key, value, otherValue) -> {
+            throw new AssertionError("No difference expected");
+        });
+    }
+
+    /**
+     * A key whose hash code is the same as that of every other such key.
+     */
+    private static class CollidingKey {
+        private final String name;
+
+        CollidingKey(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey && name.equals(((CollidingKey) other).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,40 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for boundedEditDistance --------------------------------------
+
+    /*
+     * Invalid equivalence partitions: null strings, negative maximum distance
+     * Valid equivalence partitions for the distance: zero, within the maximum, exceeding the maximum
+     */
+
+    @Test
+    public void boundedEditDistance_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.boundedEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.boundedEditDistance("abc", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.boundedEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void boundedEditDistance_withinMaximum_returnsDistance() {
+        assertEquals(0, StringUtil.boundedEditDistance("", "", 0));
+        assertEquals(0, StringUtil.boundedEditDistance("bishan", "bishan", 0));
+        assertEquals(1, StringUtil.boundedEditDistance("bishan", "bishn", 2)); // deletion
+        assertEquals(1, StringUtil.boundedEditDistance("tan", "tanh", 1)); // insertion
+        assertEquals(1, StringUtil.boundedEditDistance("alex", "alox", 1)); // substitution
+        assertEquals(2, StringUtil.boundedEditDistance("yeoh", "yoeh", 2)); // transposition counts as two edits
+        assertEquals(2, StringUtil.boundedEditDistance("", "ab", 2));
+        assertEquals(3, StringUtil.boundedEditDistance("kitten", "sitting", 3));
+    }
+
+    @Test
+    public void boundedEditDistance_exceedsMaximum_returnsMaximumPlusOne() {
+        assertEquals(1, StringUtil.boundedEditDistance("Tan", "tan", 0)); // case is significant
+        assertEquals(3, StringUtil.boundedEditDistance("kitten", "sitting", 2));
+        assertEquals(2, StringUtil.boundedEditDistance("bishan", "bish", 1)); // lengths differ too much
+        assertEquals(3, StringUtil.boundedEditDistance("abcdef", "ghijkl", 2));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,64 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer = new CommandCompleter(new AddressBookParser(),
+            new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+
+    @Test
+    public void complete_emptyText_returnsEmptyList() {
+        assertEquals(List.of(), completer.complete(""));
+        assertEquals(List.of(), completer.complete("   "));
+    }
+
+    @Test
+    public void complete_partialCommandWord_returnsCommandWords() {
+        assertEquals(List.of("search"), completer.complete("se"));
+        assertEquals(List.of("eap", "edit", "exit"), completer.complete(" e"));
+        assertEquals(List.of(), completer.complete("unknown"));
+    }
+
+    @Test
+    public void complete_partialName_returnsCommandsWithNames() {
+        assertEquals(List.of("add n/Alice Pauline"), completer.complete("add n/Al"));
+        assertEquals(List.of("edit 2 r/buyer n/Benson Meier"), completer.complete("edit 2 r/buyer n/benson m"));
+    }
+
+    @Test
+    public void complete_partialPhoneOrTag_returnsCommandsWithValues() {
+        assertEquals(List.of("edit 1 p/9482224", "edit 1 p/9482427", "edit 1 p/9482442"),
+                completer.complete("edit 1 p/948"));
+        assertEquals(List.of("edit 1 n/Amy t/friends"), completer.complete("edit 1 n/Amy t/fr"));
+        assertEquals(List.of(), completer.complete("edit 1 t/fr x"));
+    }
+
+    @Test
+    public void complete_valueOfOtherPrefix_returnsEmptyList() {
+        assertEquals(List.of(), completer.complete("edit 1 n/Alice a/Al"));
+        assertEquals(List.of(), completer.complete("edit 1 e/al"));
+    }
+
+    @Test
+    public void complete_searchKeyword_returnsNamesTagsAndPhones() {
+        assertEquals(List.of("search Meier Daniel Meier"), completer.complete("search Meier da"));
+        assertEquals(List.of("search owesMoney"), completer.complete("search owe"));
+        assertEquals(List.of("search 94351253"), completer.complete("search 9435"));
+        assertEquals(List.of(), completer.complete("search "));
+    }
+
+    @Test
+    public void complete_argumentsOfOtherCommand_returnsEmptyList() {
+        assertEquals(List.of(), completer.complete("list al"));
+    }
+}
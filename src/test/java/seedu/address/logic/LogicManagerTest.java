@@ -1,19 +1,27 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,17 +29,25 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.InMemoryAppointmentArchive;
+import seedu.address.testutil.ManualClock;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -83,6 +99,92 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_sameClientChangedByOthers_throwsCommandException() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY
+                + ADDRESS_DESC_AMY);
+
+        // Another user sharing the data file changes the same client
+        JsonAddressBookStorage otherStorage = new JsonAddressBookStorage(addressBookPath);
+        AddressBook otherAddressBook = new AddressBook(otherStorage.readAddressBook().get());
+        Person amyByOthers = new PersonBuilder(AMY).withTags().withEmail(VALID_EMAIL_BOB).build();
+        otherAddressBook.setPerson(otherAddressBook.getPersonList().get(0), amyByOthers);
+        otherStorage.saveAddressBook(otherAddressBook);
+
+        assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_CHANGES_REJECTED, 1), () ->
+                logic.execute(EditCommand.COMMAND_WORD + " 1" + NAME_DESC_BOB));
+        assertEquals(List.of(amyByOthers), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_undoAfterChangesByOthersTakenIn_undoesOnlyOwnCommand() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        Person amy = model.getAddressBook().getPersonList().get(0);
+
+        // Another user sharing the data file adds a client, which is taken in when the edit below is saved
+        JsonAddressBookStorage otherStorage = new JsonAddressBookStorage(addressBookPath);
+        AddressBook otherAddressBook = new AddressBook(otherStorage.readAddressBook().get());
+        otherAddressBook.addPerson(HOON);
+        otherStorage.saveAddressBook(otherAddressBook);
+        logic.execute(EditCommand.COMMAND_WORD + " 1" + NAME_DESC_BOB);
+        assertTrue(model.getAddressBook().getPersonList().contains(HOON));
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(List.of(amy, HOON), model.getAddressBook().getPersonList());
+        // The data file holds persons in the order of their IDs, and HOON was given an ID before amy
+        assertEquals(List.of(HOON, amy), otherStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void refreshTimeFrames_newDay_archivesPastAppointmentsAndSaves() throws Exception {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2025, 3, 10, 9, 0));
+        Appointment old = new Appointment(new AppointmentDatetime("2024-02-01T10:00"), ALICE);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        addressBook.addAppointment(old);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setArchiveHorizon(Duration.ofDays(30));
+        model = new ModelManager(addressBook, userPrefs, clock);
+        model.setAppointmentArchive(new InMemoryAppointmentArchive());
+        setUp();
+
+        // Commands and refreshes on the day the app started do not archive
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.refreshTimeFrames();
+        assertEquals(List.of(old), model.getAppointmentList());
+
+        clock.advance(Duration.ofDays(1));
+        logic.refreshTimeFrames();
+        assertEquals(List.of(), model.getAppointmentList());
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        assertEquals(List.of(), new JsonAddressBookStorage(addressBookPath).readAddressBook().get()
+                .getAppointmentList());
+    }
+
+    @Test
+    public void archivePastAppointments_restartedTwiceWithoutCommands_archivedOnce() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        Appointment old = new Appointment(new AppointmentDatetime("2020-02-01T10:00"), ALICE);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        addressBook.addAppointment(old);
+        new JsonAddressBookStorage(addressBookPath).saveAddressBook(addressBook);
+
+        for (int start = 0; start < 2; start++) {
+            StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                    new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+            model = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+            model.setAppointmentArchive(storage.getAppointmentArchive());
+            new LogicManager(model, storage).archivePastAppointments();
+        }
+
+        assertEquals(1, model.getArchiveSummary().getCount());
+        assertEquals(List.of(old), model.findArchivedAppointments(unused -> true));
+        assertEquals(List.of(), new JsonAddressBookStorage(addressBookPath).readAddressBook().get()
+                .getAppointmentList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_APPOINTMENT_DAT
 import static seedu.address.logic.commands.CommandTestUtil.VALID_APPOINTMENT_DATETIME_JAN_1;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAppointments.CARL_ELLE_UPCOMING;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SIXTH_PERSON;
@@ -24,7 +25,6 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentDatetime;
 import seedu.address.model.person.Person;
-import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for AddAppointmentCommand.
@@ -35,8 +35,8 @@ public class AddAppointmentCommandTest {
 
     @Test
     public void execute_appointmentWithBuyerAcceptedByModel_success() {
-        Person seller = new PersonBuilder(model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased())).build();
-        Person buyer = new PersonBuilder(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased())).build();
+        Person seller = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        Person buyer = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         AddAppointmentCommand addAppointmentCommand = new AddAppointmentCommand(
                 new AppointmentDatetime(VALID_APPOINTMENT_DATETIME_JAN_1), INDEX_THIRD_PERSON, INDEX_FIRST_PERSON);
 
@@ -56,7 +56,7 @@ public class AddAppointmentCommandTest {
 
     @Test
     public void execute_appointmentWithoutBuyerAcceptedByModel_success() {
-        Person seller = new PersonBuilder(model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased())).build();
+        Person seller = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
         AddAppointmentCommand addAppointmentCommand = new AddAppointmentCommand(
                 new AppointmentDatetime(VALID_APPOINTMENT_DATETIME_JAN_1), INDEX_THIRD_PERSON);
 
@@ -74,6 +74,27 @@ public class AddAppointmentCommandTest {
         assertCommandSuccess(addAppointmentCommand, model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    public void execute_overlapsAppointmentOfSamePerson_failure() {
+        // Carl is the third person, and the seller of an upcoming appointment
+        Appointment otherAppointment = CARL_ELLE_UPCOMING;
+        AddAppointmentCommand addAppointmentCommand = new AddAppointmentCommand(new AppointmentDatetime(
+                otherAppointment.getAppointmentDatetime().datetime.minusMinutes(59).toString()), INDEX_THIRD_PERSON);
+
+        assertCommandFailure(addAppointmentCommand, model,
+                String.format(Messages.MESSAGE_CONFLICTING_APPOINTMENT, Messages.format(otherAppointment)));
+    }
+
+    @Test
+    public void execute_adjacentToAppointmentOfSamePerson_success() throws Exception {
+        AddAppointmentCommand addAppointmentCommand = new AddAppointmentCommand(new AppointmentDatetime(
+                CARL_ELLE_UPCOMING.getAppointmentDatetime().datetime.plusHours(1).toString()), INDEX_THIRD_PERSON);
+
+        addAppointmentCommand.execute(model);
+
+        assertEquals(getTypicalAddressBook().getAppointmentList().size() + 1, model.getAppointmentList().size());
+    }
+
     @Test
     public void execute_invalidSellerIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -94,9 +115,8 @@ public class AddAppointmentCommandTest {
 
     @Test
     public void execute_sellerHasBuyerRole_success() {
-        Person sellerWithBuyerRole =
-                new PersonBuilder(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased())).build();
-        Person buyer = new PersonBuilder(model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased())).build();
+        Person sellerWithBuyerRole = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person buyer = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
 
         AddAppointmentCommand addAppointmentCommand = new AddAppointmentCommand(
                 new AppointmentDatetime(VALID_APPOINTMENT_DATETIME_JAN_1), INDEX_FIRST_PERSON, INDEX_THIRD_PERSON);
@@ -116,9 +136,8 @@ public class AddAppointmentCommandTest {
 
     @Test
     public void execute_buyerHasSellerRole_success() {
-        Person seller = new PersonBuilder(model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased())).build();
-        Person buyerWithSellerRole =
-                new PersonBuilder(model.getFilteredPersonList().get(INDEX_SIXTH_PERSON.getZeroBased())).build();
+        Person seller = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        Person buyerWithSellerRole = model.getFilteredPersonList().get(INDEX_SIXTH_PERSON.getZeroBased());
         AddAppointmentCommand addAppointmentCommand = new AddAppointmentCommand(
                 new AppointmentDatetime(VALID_APPOINTMENT_DATETIME_JAN_1), INDEX_THIRD_PERSON, INDEX_SIXTH_PERSON);
 
@@ -145,8 +164,8 @@ public class AddAppointmentCommandTest {
 
     @Test
     public void execute_appointmentAlreadyExists_failure() {
-        Person seller = new PersonBuilder(model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased())).build();
-        Person buyer = new PersonBuilder(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased())).build();
+        Person seller = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        Person buyer = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         model.addAppointment(new Appointment(
                 new AppointmentDatetime(VALID_APPOINTMENT_DATETIME_JAN_1), seller, buyer));
 
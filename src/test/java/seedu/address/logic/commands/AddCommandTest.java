@@ -8,8 +8,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,12 +26,24 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
+import seedu.address.model.PersonCompletionIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
+import seedu.address.model.appointment.ArchiveSummary;
+import seedu.address.model.appointment.CalendarPeriod;
+import seedu.address.model.appointment.TimeSlot;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFacets;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.query.PersonQuery;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -135,6 +154,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void applyAddressBookChanges(AddressBookChanges changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -145,6 +169,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findPerson(PersonId id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -160,11 +189,126 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonFacets getFilteredPersonFacets() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getPersonCompletions(PersonCompletionIndex.Field field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsFuzzy(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> planPersonQuery(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Appointment> planAppointmentSearch(AppointmentContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> findConflictingAppointments(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AppointmentConflict> findAppointmentConflicts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimeSlot> findFreeSlots(List<Person> persons, TimeSlot range, Duration duration, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int[] countAppointments(CalendarPeriod period, LocalDate from, int periodCount) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> findNextAppointments(Predicate<Appointment> predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAppointmentArchive(AppointmentArchive archive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ArchiveSummary getArchiveSummary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> archivePastAppointments() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> findArchivedAppointments(Predicate<Appointment> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Clock getClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LocalDateTime refreshTimeFrames() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Appointment> getAppointmentList() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.appointment.CalendarPeriod;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CalendarCommand}.
+ */
+public class CalendarCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_month_showsAppointmentsPerMonth() {
+        YearMonth thisMonth = YearMonth.now();
+        Appointment nextMonth = new Appointment(
+                new AppointmentDatetime(thisMonth.plusMonths(1).atDay(1).atTime(10, 0).toString()), CARL);
+        model.addAppointment(nextMonth);
+        expectedModel.addAppointment(nextMonth);
+
+        int[] counts = model.countAppointments(CalendarPeriod.MONTH, thisMonth.atDay(1), CalendarCommand.PERIODS_SHOWN);
+        assertEquals(1, counts[1]);
+        StringBuilder expectedMessage = new StringBuilder(String.format(CalendarCommand.MESSAGE_SUCCESS, "month"));
+        for (int i = 0; i < CalendarCommand.PERIODS_SHOWN; i++) {
+            expectedMessage.append("\n").append(thisMonth.plusMonths(i)).append(": ").append(counts[i]);
+        }
+        assertCommandSuccess(new CalendarCommand(CalendarPeriod.MONTH), model, expectedMessage.toString(),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_week_showsWeeksStartingFromThisWeek() {
+        LocalDate thisWeek = CalendarPeriod.WEEK.getStart(LocalDate.now());
+        int[] counts = model.countAppointments(CalendarPeriod.WEEK, thisWeek, CalendarCommand.PERIODS_SHOWN);
+        StringBuilder expectedMessage = new StringBuilder(String.format(CalendarCommand.MESSAGE_SUCCESS, "week"));
+        for (int i = 0; i < CalendarCommand.PERIODS_SHOWN; i++) {
+            expectedMessage.append("\nWeek of ").append(thisWeek.plusWeeks(i)).append(": ").append(counts[i]);
+        }
+        assertCommandSuccess(new CalendarCommand(CalendarPeriod.WEEK), model, expectedMessage.toString(),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_day_countsTodaysAppointment() {
+        // FIONA_BENSON_TODAY is the only typical appointment today
+        String message = new CalendarCommand(CalendarPeriod.DAY).execute(model).getFeedbackToUser();
+        assertTrue(message.contains(LocalDate.now() + ": 1"));
+    }
+
+    @Test
+    public void equals() {
+        CalendarCommand dayCommand = new CalendarCommand(CalendarPeriod.DAY);
+
+        // same object -> returns true
+        assertTrue(dayCommand.equals(dayCommand));
+
+        // same values -> returns true
+        assertTrue(dayCommand.equals(new CalendarCommand(CalendarPeriod.DAY)));
+
+        // different types -> returns false
+        assertFalse(dayCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(dayCommand.equals(null));
+
+        // different period -> returns false
+        assertFalse(dayCommand.equals(new CalendarCommand(CalendarPeriod.MONTH)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        CalendarCommand command = new CalendarCommand(CalendarPeriod.WEEK);
+        assertEquals(CalendarCommand.class.getCanonicalName() + "{period=week}", command.toString());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalAppointments.CARL_ELLE_UPCOMING;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ConflictsCommand}.
+ */
+public class ConflictsCommandTest {
+
+    @Test
+    public void execute_noConflicts_showsNoAppointments() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult result = new ConflictsCommand().execute(model);
+
+        assertEquals(new CommandResult(ConflictsCommand.MESSAGE_NO_CONFLICTS, false, false, true, false), result);
+        assertEquals(0, model.getFilteredAppointmentList().size());
+    }
+
+    @Test
+    public void execute_conflicts_showsConflictingAppointments() {
+        // Appointments loaded from a file are not checked for conflicts
+        AddressBook addressBook = getTypicalAddressBook();
+        Appointment overlapping = new Appointment(new AppointmentDatetime(
+                CARL_ELLE_UPCOMING.getAppointmentDatetime().datetime.plusMinutes(30).toString()), DANIEL, ELLE);
+        addressBook.addAppointment(overlapping);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new ConflictsCommand().execute(model);
+
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_CONFLICTS_FOUND, 1)
+                + "\n" + Messages.format(CARL_ELLE_UPCOMING) + "\n  overlaps " + Messages.format(overlapping);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(List.of(CARL_ELLE_UPCOMING, overlapping), model.getFilteredAppointmentList());
+    }
+}
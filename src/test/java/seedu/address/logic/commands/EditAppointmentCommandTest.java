@@ -28,6 +28,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentDatetime;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalAppointments;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for EditAppointmentCommand.
@@ -181,6 +182,32 @@ public class EditAppointmentCommandTest {
         assertCommandFailure(editAppointmentCommand, model, Messages.MESSAGE_INVALID_APPOINTMENT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_overlapsAppointmentOfSamePerson_failure() {
+        // The earliest appointment is the one added in setUp, whose seller is Carl
+        Appointment otherAppointment = TypicalAppointments.CARL_ELLE_UPCOMING;
+        EditAppointmentDescriptor descriptor = new EditAppointmentDescriptor();
+        descriptor.setAppointmentDatetime(new AppointmentDatetime(
+                otherAppointment.getAppointmentDatetime().datetime.plusMinutes(30).toString()));
+
+        EditAppointmentCommand editAppointmentCommand = new EditAppointmentCommand(INDEX_FIRST_APPOINTMENT, descriptor);
+
+        assertCommandFailure(editAppointmentCommand, model,
+                String.format(Messages.MESSAGE_CONFLICTING_APPOINTMENT, Messages.format(otherAppointment)));
+    }
+
+    @Test
+    public void execute_overlapsOwnOldTime_success() throws CommandException {
+        Appointment appointmentToEdit = model.getFilteredAppointmentList().get(INDEX_FIRST_APPOINTMENT.getZeroBased());
+        EditAppointmentDescriptor descriptor = new EditAppointmentDescriptor();
+        descriptor.setAppointmentDatetime(new AppointmentDatetime(
+                appointmentToEdit.getAppointmentDatetime().datetime.plusMinutes(30).toString()));
+
+        new EditAppointmentCommand(INDEX_FIRST_APPOINTMENT, descriptor).execute(model);
+
+        assertFalse(model.hasAppointment(appointmentToEdit));
+    }
+
     @Test
     public void execute_invalidSellerIndex_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
@@ -19,6 +21,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryField;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -98,6 +105,19 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_scopedQuery_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonQuery query = new AndQuery(Arrays.asList(new FieldQuery(QueryField.TAG, "friends"),
+                new FieldQuery(QueryField.PROPERTY_TYPE, "HDB_2"), new NotQuery(new FieldQuery(QueryField.ROLE,
+                "seller"))));
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredPersonList(query);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, false, true);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand findFirstCommand = new FuzzyFindCommand(Collections.singletonList("first"));
+        FuzzyFindCommand findSecondCommand = new FuzzyFindCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FuzzyFindCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_misspeltKeywords_personsListedBestMatchFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FuzzyFindCommand command = new FuzzyFindCommand(Arrays.asList("streat", "danial"));
+        List<Person> expectedPersons = Arrays.asList(DANIEL, CARL, GEORGE);
+        expectedModel.updateFilteredPersonList(expectedPersons::contains, (first, second) ->
+                expectedPersons.indexOf(first) - expectedPersons.indexOf(second));
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, false, true);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noCloseMatch_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FuzzyFindCommand command = new FuzzyFindCommand(Collections.singletonList("zzzzzz"));
+        expectedModel.updateFilteredPersonList(unused -> false);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, false, true);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FuzzyFindCommand command = new FuzzyFindCommand(Arrays.asList("keyword"));
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{keywords=[keyword]}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.testutil.ManualClock;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code NextCommand}.
+ */
+public class NextCommandTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    private static final Appointment YESTERDAY = new Appointment(new AppointmentDatetime("2025-03-09T12:00"), CARL);
+    private static final Appointment NOON = new Appointment(new AppointmentDatetime("2025-03-10T12:00"), CARL, ALICE);
+    private static final Appointment TOMORROW = new Appointment(new AppointmentDatetime("2025-03-11T10:00"), BENSON);
+    private static final Appointment NEXT_WEEK = new Appointment(new AppointmentDatetime("2025-03-17T10:00"), CARL);
+
+    private final Model model = new ModelManager(getAddressBook(), new UserPrefs(), new ManualClock(NOW));
+    private final Model expectedModel = new ModelManager(getAddressBook(), new UserPrefs(), new ManualClock(NOW));
+
+    private static AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(addressBook::addPerson);
+        List.of(NEXT_WEEK, YESTERDAY, TOMORROW, NOON).forEach(addressBook::addAppointment);
+        return addressBook;
+    }
+
+    private static CommandResult getExpectedResult(int count) {
+        return new CommandResult(String.format(NextCommand.MESSAGE_SUCCESS, count), false, false, true, false);
+    }
+
+    @Test
+    public void execute_noKeywords_listsNextUpcomingAppointments() {
+        expectedModel.updateFilteredAppointmentList(List.of(NOON, TOMORROW)::contains);
+        assertCommandSuccess(new NextCommand(2, List.of()), model, getExpectedResult(2), expectedModel);
+        assertEquals(List.of(NOON, TOMORROW), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void execute_keywords_listsNextMatchingAppointments() {
+        expectedModel.updateFilteredAppointmentList(List.of(NOON, NEXT_WEEK)::contains);
+        assertCommandSuccess(new NextCommand(NextCommand.DEFAULT_COUNT, List.of("carl")), model, getExpectedResult(2),
+                expectedModel);
+        assertEquals(List.of(NOON, NEXT_WEEK), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void execute_noMatches_listsNothing() {
+        expectedModel.updateFilteredAppointmentList(unused -> false);
+        assertCommandSuccess(new NextCommand(3, List.of("nobody")), model, getExpectedResult(0), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        NextCommand nextCommand = new NextCommand(3, List.of("alice"));
+
+        // same object -> returns true
+        assertTrue(nextCommand.equals(nextCommand));
+
+        // same values -> returns true
+        assertTrue(nextCommand.equals(new NextCommand(3, List.of("alice"))));
+
+        // different types -> returns false
+        assertFalse(nextCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(nextCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(nextCommand.equals(new NextCommand(4, List.of("alice"))));
+
+        // different keywords -> returns false
+        assertFalse(nextCommand.equals(new NextCommand(3, List.of("bob"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NextCommand nextCommand = new NextCommand(3, List.of("alice"));
+        String expected = NextCommand.class.getCanonicalName() + "{count=3, keywords=[alice]}";
+        assertEquals(expected, nextCommand.toString());
+    }
+}
@@ -5,18 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
+import seedu.address.model.appointment.AppointmentDatetime;
 import seedu.address.model.appointment.TimeFrame;
+import seedu.address.testutil.InMemoryAppointmentArchive;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code SearchAppointmentCommand}.
@@ -166,6 +174,30 @@ public class SearchAppointmentCommandTest {
         assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    public void execute_archivedAppointmentsMatch_listsArchivedAppointments() throws Exception {
+        Appointment archivedFiona = new Appointment(new AppointmentDatetime("2019-05-02T14:00"), FIONA, ELLE);
+        Appointment archivedGeorge = new Appointment(new AppointmentDatetime("2019-06-10T09:00"), GEORGE);
+        InMemoryAppointmentArchive archive = new InMemoryAppointmentArchive();
+        archive.append(List.of(archivedGeorge, archivedFiona));
+        model.setAppointmentArchive(archive);
+
+        String expectedMessage = String.format(MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, 4) + "\n"
+                + String.format(SearchAppointmentCommand.MESSAGE_ARCHIVED_FOUND, 1) + "\n  "
+                + Messages.format(archivedFiona);
+        AppointmentContainsKeywordsPredicate predicate = preparePredicate("Fiona");
+        expectedModel.updateFilteredAppointmentList(predicate);
+        assertCommandSuccess(new SearchAppointmentCommand(predicate), model,
+                new CommandResult(expectedMessage, false, false, true, false), expectedModel);
+
+        // archived appointments are never upcoming
+        expectedMessage = String.format(MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, 1);
+        predicate = new AppointmentContainsKeywordsPredicate(Collections.singletonList("George"), TimeFrame.UPCOMING);
+        expectedModel.updateFilteredAppointmentList(predicate);
+        assertCommandSuccess(new SearchAppointmentCommand(predicate), model,
+                new CommandResult(expectedMessage, false, false, true, false), expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         AppointmentContainsKeywordsPredicate predicate = new AppointmentContainsKeywordsPredicate(
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.appointment.TimeSlot;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SlotsCommand}.
+ */
+public class SlotsCommandTest {
+
+    private static final TimeSlot MORNING =
+            new TimeSlot(LocalDateTime.of(2025, 1, 1, 9, 0), LocalDateTime.of(2025, 1, 1, 12, 0));
+
+    private final Model model = new ModelManager(getAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getAddressBook(), new UserPrefs());
+
+    /**
+     * Returns the typical persons, with Carl busy from 9:30 to 10:30 and Alice busy from 10:30 to 11:30.
+     */
+    private static AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(addressBook::addPerson);
+        addressBook.addAppointment(new Appointment(new AppointmentDatetime("2025-01-01T09:30"), CARL));
+        addressBook.addAppointment(new Appointment(new AppointmentDatetime("2025-01-01T10:30"), ALICE));
+        return addressBook;
+    }
+
+    @Test
+    public void execute_sellerAndBuyer_findsSharedSlots() {
+        SlotsCommand command = new SlotsCommand(INDEX_THIRD_PERSON, INDEX_FIRST_PERSON, MORNING,
+                Duration.ofMinutes(30), SlotsCommand.DEFAULT_COUNT);
+        String expectedMessage = String.format(SlotsCommand.MESSAGE_SLOTS_FOUND, 2)
+                + "\n1. 2025-01-01T09:00 to 2025-01-01T09:30"
+                + "\n2. 2025-01-01T11:30 to 2025-01-01T12:00";
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_defaultDurationAndCount_usesAppointmentDuration() {
+        SlotsCommand command = new SlotsCommand(INDEX_FIRST_PERSON, null, MORNING, null, 1);
+        String expectedMessage = String.format(SlotsCommand.MESSAGE_SLOTS_FOUND, 1)
+                + "\n1. 2025-01-01T09:00 to 2025-01-01T10:30";
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noSlots_showsNoSlots() {
+        SlotsCommand command = new SlotsCommand(INDEX_THIRD_PERSON, INDEX_FIRST_PERSON, MORNING,
+                Duration.ofMinutes(90), SlotsCommand.DEFAULT_COUNT);
+        assertCommandSuccess(command, model, SlotsCommand.MESSAGE_NO_SLOTS, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        SlotsCommand command = new SlotsCommand(INDEX_FIRST_PERSON, outOfBoundIndex, MORNING, null, 1);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_sameSellerAndBuyer_failure() {
+        SlotsCommand command = new SlotsCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, MORNING, null, 1);
+        assertCommandFailure(command, model, Messages.MESSAGE_SAME_SELLER_BUYER);
+    }
+}
@@ -13,15 +13,19 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddAppointmentCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CalendarCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditAppointmentCommand;
 import seedu.address.logic.commands.EditAppointmentCommand.EditAppointmentDescriptor;
@@ -32,11 +36,17 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAppointmentsCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NextCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SearchAppointmentCommand;
+import seedu.address.logic.commands.SlotsCommand;
 import seedu.address.logic.commands.ToggleCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
 import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.appointment.CalendarPeriod;
+import seedu.address.model.appointment.TimeSlot;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -113,6 +123,42 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_conflicts() throws Exception {
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD) instanceof ConflictsCommand);
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD + " 3") instanceof ConflictsCommand);
+    }
+
+    @Test
+    public void parseCommand_calendar() throws Exception {
+        assertEquals(new CalendarCommand(CalendarCommand.DEFAULT_PERIOD),
+                parser.parseCommand(CalendarCommand.COMMAND_WORD));
+        assertEquals(new CalendarCommand(CalendarPeriod.MONTH),
+                parser.parseCommand(CalendarCommand.COMMAND_WORD + " month"));
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_next() throws Exception {
+        assertEquals(new NextCommand(NextCommand.DEFAULT_COUNT, List.of()),
+                parser.parseCommand(NextCommand.COMMAND_WORD));
+        assertEquals(new NextCommand(5, List.of("alice")), parser.parseCommand(NextCommand.COMMAND_WORD + " 5 alice"));
+    }
+
+    @Test
+    public void parseCommand_slots() throws Exception {
+        SlotsCommand command = (SlotsCommand) parser.parseCommand(SlotsCommand.COMMAND_WORD
+                + " s/1 d/2025-01-01T09:00 to/2025-01-01T18:00");
+        assertEquals(new SlotsCommand(INDEX_FIRST_PERSON, null, new TimeSlot(
+                LocalDateTime.of(2025, 1, 1, 9, 0), LocalDateTime.of(2025, 1, 1, 18, 0)),
+                null, SlotsCommand.DEFAULT_COUNT), command);
+    }
+
     @Test
     public void parseCommand_lap() throws Exception {
         assertTrue(parser.parseCommand(ListAppointmentsCommand.COMMAND_WORD) instanceof ListAppointmentsCommand);
@@ -173,4 +219,38 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_uniquePrefixOfCommandWord_parsesCommand() throws Exception {
+        assertTrue(parser.parseCommand("sea foo") instanceof FindCommand);
+        assertTrue(parser.parseCommand("tog") instanceof ToggleCommand);
+    }
+
+    @Test
+    public void parseCommand_prefixSharedByCommandWords_throwsParseException() {
+        // edit, eap and exit
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("e 1"));
+    }
+
+    @Test
+    public void parseCommand_prefixOfCommandThatDeletesData_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("cl"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("del 1"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("da 1"));
+    }
+
+    @Test
+    public void parseCommand_alias_parsesCommand() throws Exception {
+        AddressBookParser parserWithAliases = new AddressBookParser(Map.of("ls", ListCommand.COMMAND_WORD));
+        assertTrue(parserWithAliases.parseCommand("ls") instanceof ListCommand);
+        assertTrue(parserWithAliases.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_invalidAliases_aliasesSkipped() throws Exception {
+        AddressBookParser parserWithAliases = new AddressBookParser(Map.of(
+                "ls", "unknownCommand", ListCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD));
+        assertTrue(parserWithAliases.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parserWithAliases.parseCommand("ls"));
+    }
 }
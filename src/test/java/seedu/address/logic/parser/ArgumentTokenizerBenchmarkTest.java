@@ -0,0 +1,136 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Times tokenizing long {@code add} command arguments with a reusable {@code ArgumentTokenizer}, comparing it
+ * against the previous implementation that searched the arguments string once per prefix.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class ArgumentTokenizerBenchmarkTest {
+
+    private static final Logger logger = LogsCenter.getLogger(ArgumentTokenizerBenchmarkTest.class);
+
+    private static final int COMMAND_COUNT = 20_000;
+    private static final int TAGS_PER_COMMAND = 30;
+    private static final int ROUNDS = 5;
+    private static final Prefix[] PREFIXES =
+            {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ROLE, PREFIX_ADDRESS, PREFIX_PROPERTY_TYPE, PREFIX_TAG};
+
+    @Test
+    public void tokenize_longAddCommands() {
+        List<String> commands = createAddCommandArguments();
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(PREFIXES);
+
+        for (String command : commands.subList(0, 100)) {
+            assertSameArguments(PerPrefixSearchTokenizer.tokenize(command, PREFIXES), tokenizer.tokenize(command));
+        }
+
+        long singlePassNanos = Long.MAX_VALUE;
+        long perPrefixNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            singlePassNanos = Math.min(singlePassNanos, timeTokenizing(commands, tokenizer::tokenize));
+            perPrefixNanos = Math.min(perPrefixNanos, timeTokenizing(commands,
+                    command -> PerPrefixSearchTokenizer.tokenize(command, PREFIXES)));
+        }
+
+        logger.info(String.format("Tokenizing %d add commands: single pass %.1f ns/op, per-prefix search %.1f ns/op",
+                COMMAND_COUNT, (double) singlePassNanos / COMMAND_COUNT, (double) perPrefixNanos / COMMAND_COUNT));
+    }
+
+    /**
+     * Tokenizes every command, returning the time taken in nanoseconds.
+     */
+    private static long timeTokenizing(List<String> commands, Function<String, ArgumentMultimap> tokenize) {
+        int tagCount = 0;
+        long start = System.nanoTime();
+        for (String command : commands) {
+            tagCount += tokenize.apply(command).getAllValues(PREFIX_TAG).size();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(COMMAND_COUNT * TAGS_PER_COMMAND, tagCount);
+        return elapsed;
+    }
+
+    private static void assertSameArguments(ArgumentMultimap expected, ArgumentMultimap actual) {
+        assertEquals(expected.getPreamble(), actual.getPreamble());
+        for (Prefix prefix : PREFIXES) {
+            assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix));
+        }
+    }
+
+    private static List<String> createAddCommandArguments() {
+        List<String> commands = new ArrayList<>(COMMAND_COUNT);
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            StringBuilder command = new StringBuilder()
+                    .append(" n/Client Number ").append(i)
+                    .append(" p/").append(80000000 + i)
+                    .append(" e/client").append(i).append("@example.com")
+                    .append(" r/").append(i % 2 == 0 ? "buyer" : "seller")
+                    .append(" a/Blk ").append(i % 1000).append(" Clementi Ave 2, #02-").append(i % 100)
+                    .append(" pt/HDB_").append(2 + i % 4);
+            for (int j = 0; j < TAGS_PER_COMMAND; j++) {
+                command.append(" t/campaign").append(j);
+            }
+            commands.add(command.toString());
+        }
+        return commands;
+    }
+
+    /**
+     * The previous tokenizer, which searched the arguments string once for each prefix and then sorted
+     * the positions found.
+     */
+    private static class PerPrefixSearchTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<int[]> positions = Arrays.stream(prefixes)
+                    .flatMap(prefix -> findPrefixPositions(argsString, prefixes, prefix).stream())
+                    .collect(Collectors.toList());
+            positions.sort((position1, position2) -> position1[1] - position2[1]);
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix currentPrefix = new Prefix("");
+            int valueStartPosition = 0;
+            for (int[] position : positions) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStartPosition, position[1]).trim());
+                currentPrefix = prefixes[position[0]];
+                valueStartPosition = position[1] + currentPrefix.getPrefix().length();
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPosition).trim());
+            return argMultimap;
+        }
+
+        private static List<int[]> findPrefixPositions(String argsString, Prefix[] prefixes, Prefix prefix) {
+            int prefixIndex = Arrays.asList(prefixes).indexOf(prefix);
+            List<int[]> positions = new ArrayList<>();
+            int position = argsString.indexOf(" " + prefix.getPrefix());
+            while (position != -1) {
+                positions.add(new int[] {prefixIndex, position + 1});
+                position = argsString.indexOf(" " + prefix.getPrefix(), position + 1);
+            }
+            return positions;
+        }
+    }
+}
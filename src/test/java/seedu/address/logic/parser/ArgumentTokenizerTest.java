@@ -56,7 +56,7 @@ public class ArgumentTokenizerTest {
     @Test
     public void tokenize_noPrefixes_allTakenAsPreamble() {
         String argsString = "  some random string /t tag with leading and trailing spaces ";
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString);
+        ArgumentMultimap argMultimap = new ArgumentTokenizer().tokenize(argsString);
 
         // Same string expected as preamble, but leading/trailing spaces should be trimmed
         assertPreamblePresent(argMultimap, argsString.trim());
@@ -136,6 +136,42 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingFirstCharacter() {
+        Prefix pTSlash = new Prefix("pt/");
+        String argsString = "SomePreambleString pt/HDB_3 p/pSlash value pt/ condo";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pTSlash);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, pTSlash, "HDB_3", "condo");
+    }
+
+    @Test
+    public void tokenize_onePrefixStartsWithAnother_longestPrefixMatched() {
+        Prefix dashTT = new Prefix("-tt");
+        String argsString = "-t preamble -tt dashTT-Value -t dashT-Value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTT);
+        assertPreamblePresent(argMultimap, "-t preamble");
+        assertArgumentPresent(argMultimap, dashTT, "dashTT-Value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+    }
+
+    @Test
+    public void tokenize_reusedTokenizer_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenize("SomePreambleString -t dashT-Value p/pSlash value");
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+
+        argMultimap = tokenizer.tokenize(" ^Q111");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, hatQ, "111");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
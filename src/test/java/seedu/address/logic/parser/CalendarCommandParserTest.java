@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.model.appointment.CalendarPeriod;
+
+public class CalendarCommandParserTest {
+
+    private CalendarCommandParser parser = new CalendarCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsDefaultPeriod() {
+        assertParseSuccess(parser, "  ", new CalendarCommand(CalendarCommand.DEFAULT_PERIOD));
+    }
+
+    @Test
+    public void parse_validArgs_returnsCalendarCommand() {
+        assertParseSuccess(parser, " day", new CalendarCommand(CalendarPeriod.DAY));
+        assertParseSuccess(parser, " MONTH ", new CalendarCommand(CalendarPeriod.MONTH));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " year", CalendarPeriod.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " week month", CalendarPeriod.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final Parser<Command> listParser = arguments -> new ListCommand();
+    private final Parser<Command> lapParser = arguments -> new ListCommand();
+    private final Parser<Command> exitParser = arguments -> new ExitCommand();
+
+    private CommandRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry();
+        registry.register("list", listParser);
+        registry.register("lap", lapParser);
+        registry.register("exit", exitParser);
+    }
+
+    @Test
+    public void register_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.register(null, listParser));
+        assertThrows(NullPointerException.class, () -> registry.register("clear", null));
+    }
+
+    @Test
+    public void register_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CommandRegistry.MESSAGE_INVALID_WORD, () ->
+                registry.register("", arguments -> new ClearCommand()));
+        assertThrows(IllegalArgumentException.class, CommandRegistry.MESSAGE_INVALID_WORD, () ->
+                registry.register("clear all", arguments -> new ClearCommand()));
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_DUPLICATE_WORD, "list"), ()
+                -> registry.register("list", arguments -> new ClearCommand()));
+    }
+
+    @Test
+    public void registerAlias_unknownCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                String.format(CommandRegistry.MESSAGE_UNKNOWN_COMMAND_WORD, "clear"), () ->
+                registry.registerAlias("c", "clear"));
+    }
+
+    @Test
+    public void registerAlias_aliasTakenByCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_DUPLICATE_WORD, "exit"), ()
+                -> registry.registerAlias("exit", "list"));
+    }
+
+    @Test
+    public void find_exactWord_returnsParser() {
+        assertSame(listParser, registry.find("list").get());
+        assertSame(lapParser, registry.find("lap").get());
+        assertSame(exitParser, registry.find("exit").get());
+    }
+
+    @Test
+    public void find_uniquePrefix_returnsParser() {
+        assertSame(listParser, registry.find("lis").get());
+        assertSame(lapParser, registry.find("la").get());
+        assertSame(exitParser, registry.find("e").get());
+    }
+
+    @Test
+    public void find_sharedPrefix_returnsEmpty() {
+        assertFalse(registry.find("l").isPresent());
+    }
+
+    @Test
+    public void find_unknownWord_returnsEmpty() {
+        assertFalse(registry.find("").isPresent());
+        assertFalse(registry.find("lists").isPresent());
+        assertFalse(registry.find("clear").isPresent());
+    }
+
+    @Test
+    public void find_alias_returnsParserOfCommand() {
+        registry.registerAlias("ls", "list");
+        registry.registerAlias("quit", "exit");
+        assertSame(listParser, registry.find("ls").get());
+        assertSame(exitParser, registry.find("quit").get());
+
+        // prefixes of a command word and its alias still refer to the same command
+        registry.registerAlias("lst", "list");
+        assertSame(listParser, registry.find("ls").get());
+        assertFalse(registry.find("l").isPresent());
+    }
+
+    @Test
+    public void find_prefixOfAliasAndCommandWordOfSameCommand_returnsParser() {
+        registry.registerAlias("listall", "list");
+        assertSame(listParser, registry.find("lis").get());
+        assertEquals(registry.find("list"), registry.find("lista"));
+    }
+
+    @Test
+    public void find_prefixOfExactOnlyCommand_returnsEmpty() {
+        Parser<ClearCommand> clearParser = arguments -> new ClearCommand();
+        registry.registerExactOnly("clear", clearParser);
+        registry.registerAlias("wipe", "clear");
+
+        assertSame(clearParser, registry.find("clear").get());
+        assertSame(clearParser, registry.find("wipe").get());
+        assertFalse(registry.find("c").isPresent());
+        assertFalse(registry.find("cl").isPresent());
+        assertFalse(registry.find("wip").isPresent());
+    }
+
+    @Test
+    public void find_prefixSharedWithExactOnlyCommand_returnsEmpty() {
+        registry.registerExactOnly("lapdelete", arguments -> new ClearCommand());
+
+        // "la" and "lap" could now also mean lapdelete, so they no longer stand for lap alone
+        assertFalse(registry.find("la").isPresent());
+        assertSame(lapParser, registry.find("lap").get());
+        assertSame(listParser, registry.find("lis").get());
+    }
+}
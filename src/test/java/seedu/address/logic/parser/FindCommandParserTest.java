@@ -9,7 +9,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.QueryField;
 
 public class FindCommandParserTest {
 
@@ -31,4 +35,25 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_scopedArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new AndQuery(Arrays.asList(
+                new FieldQuery(QueryField.ROLE, "seller"), new FieldQuery(QueryField.TAG, "vip"))));
+        assertParseSuccess(parser, "r/seller AND t/vip", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyMarkerOnly_throwsParseException() {
+        assertParseFailure(parser, " ~  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedCommand = new FuzzyFindCommand(Arrays.asList("bishn", "tanh"));
+        assertParseSuccess(parser, "~bishn tanh", expectedCommand);
+
+        // whitespace after the marker and between keywords
+        assertParseSuccess(parser, " ~ bishn \t tanh ", expectedCommand);
+    }
+
 }
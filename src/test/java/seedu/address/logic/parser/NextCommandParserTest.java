@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.NextCommand;
+
+public class NextCommandParserTest {
+
+    private NextCommandParser parser = new NextCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsDefaultCount() {
+        assertParseSuccess(parser, "  ", new NextCommand(NextCommand.DEFAULT_COUNT, List.of()));
+    }
+
+    @Test
+    public void parse_countAndKeywords_returnsNextCommand() {
+        assertParseSuccess(parser, " 3", new NextCommand(3, List.of()));
+        assertParseSuccess(parser, " 3 alice \n bob ", new NextCommand(3, List.of("alice", "bob")));
+        assertParseSuccess(parser, " alice 3", new NextCommand(NextCommand.DEFAULT_COUNT, List.of("alice", "3")));
+    }
+
+    @Test
+    public void parse_zeroCount_throwsParseException() {
+        assertParseFailure(parser, " 0 alice", ParserUtil.MESSAGE_INVALID_COUNT);
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -14,6 +15,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.CalendarPeriod;
 import seedu.address.model.appointment.TimeFrame;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -221,4 +223,35 @@ public class ParserUtilTest {
         TimeFrame expectedTimeFrame = TimeFrame.TODAY;
         assertEquals(expectedTimeFrame, ParserUtil.parseTimeFrame(timeFrameWithWhitespace));
     }
+
+    @Test
+    public void parseCalendarPeriod_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseCalendarPeriod("year"));
+    }
+
+    @Test
+    public void parseCalendarPeriod_validValueWithWhitespace_returnsTrimmedCalendarPeriod() throws Exception {
+        assertEquals(CalendarPeriod.DAY, ParserUtil.parseCalendarPeriod(WHITESPACE + "Day" + WHITESPACE));
+    }
+
+    @Test
+    public void parseDuration_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("1h"));
+    }
+
+    @Test
+    public void parseDuration_validValueWithWhitespace_returnsMinutes() throws Exception {
+        assertEquals(Duration.ofMinutes(90), ParserUtil.parseDuration(WHITESPACE + "90" + WHITESPACE));
+    }
+
+    @Test
+    public void parseCount_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseCount("-1"));
+    }
+
+    @Test
+    public void parseCount_validValueWithWhitespace_returnsCount() throws Exception {
+        assertEquals(3, ParserUtil.parseCount(WHITESPACE + "3" + WHITESPACE));
+    }
 }
@@ -0,0 +1,86 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.address.AddressType;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.model.tag.Tag;
+
+public class PersonQueryParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+    private static final FieldQuery NAME_ALEX = new FieldQuery(QueryField.NAME, "alex");
+    private static final FieldQuery TAG_VIP = new FieldQuery(QueryField.TAG, "vip");
+    private static final FieldQuery ROLE_SELLER = new FieldQuery(QueryField.ROLE, "seller");
+    private static final FieldQuery ADDRESS_BISHAN = new FieldQuery(QueryField.ADDRESS, "bishan");
+
+    @Test
+    public void parse_bareKeywords_returnsKeywordsPredicate() throws Exception {
+        assertEquals(new PersonContainsKeywordsPredicate(List.of("alex", "and", "e/alex@example.com")),
+                PersonQueryParser.parse(" alex \t and e/alex@example.com "));
+    }
+
+    @Test
+    public void parse_scopedTerms_returnsFieldQueries() throws Exception {
+        assertEquals(NAME_ALEX, PersonQueryParser.parse("n/alex"));
+        assertEquals(new AndQuery(List.of(new FieldQuery(QueryField.PROPERTY_TYPE, "HDB_4"), ROLE_SELLER, TAG_VIP,
+                ADDRESS_BISHAN)), PersonQueryParser.parse("pt/HDB_4 AND r/seller AND t/vip AND a/bishan"));
+        assertEquals(new OrQuery(List.of(new FieldQuery(QueryField.PHONE, "91234567"),
+                new FieldQuery(QueryField.ANY, "alex"))), PersonQueryParser.parse("p/91234567 alex"));
+    }
+
+    @Test
+    public void parse_operators_followPrecedence() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertEquals(new OrQuery(List.of(NAME_ALEX, new AndQuery(List.of(TAG_VIP, new NotQuery(ROLE_SELLER))))),
+                PersonQueryParser.parse("n/alex OR t/vip AND NOT r/seller"));
+
+        // parentheses override precedence, with or without spaces around them
+        assertEquals(new AndQuery(List.of(new OrQuery(List.of(NAME_ALEX, TAG_VIP)), ADDRESS_BISHAN)),
+                PersonQueryParser.parse("(n/alex t/vip) AND a/bishan"));
+        assertEquals(new NotQuery(new NotQuery(new OrQuery(List.of(NAME_ALEX, TAG_VIP)))),
+                PersonQueryParser.parse("NOT NOT ( n/alex OR t/vip )"));
+    }
+
+    @Test
+    public void parse_invalidStructure_throwsParseException() {
+        for (String args : new String[] {"", "  ", "AND n/alex", "n/alex AND", "n/alex OR", "NOT",
+                "(n/alex", "n/alex)", "()", "n/", "t/vip AND a/"}) {
+            assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> PersonQueryParser.parse(args));
+        }
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertThrows(ParseException.class, Role.MESSAGE_CONSTRAINTS, () -> PersonQueryParser.parse("r/agent"));
+        assertThrows(ParseException.class, AddressType.MESSAGE_CONSTRAINTS, () -> PersonQueryParser.parse(
+                "pt/HDB_9"));
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () -> PersonQueryParser.parse("t/vip!"));
+        assertThrows(ParseException.class, Phone.MESSAGE_CONSTRAINTS, () -> PersonQueryParser.parse("p/call"));
+    }
+
+    @Test
+    public void parse_validValues_acceptedIgnoringCase() throws Exception {
+        PersonQuery query = PersonQueryParser.parse("r/SELLER AND pt/hdb_4");
+        assertEquals(new AndQuery(List.of(new FieldQuery(QueryField.ROLE, "SELLER"),
+                new FieldQuery(QueryField.PROPERTY_TYPE, "hdb_4"))), query);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SlotsCommand;
+import seedu.address.model.appointment.TimeSlot;
+
+public class SlotsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SlotsCommand.MESSAGE_USAGE);
+    private static final String RANGE_DESC = " d/2025-01-01T09:00 to/2025-01-02T18:00";
+    private static final TimeSlot RANGE =
+            new TimeSlot(LocalDateTime.of(2025, 1, 1, 9, 0), LocalDateTime.of(2025, 1, 2, 18, 0));
+
+    private SlotsCommandParser parser = new SlotsCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " s/1 b/2" + RANGE_DESC + " dur/90 max/3",
+                new SlotsCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, RANGE, Duration.ofMinutes(90), 3));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissing_success() {
+        assertParseSuccess(parser, " s/1" + RANGE_DESC,
+                new SlotsCommand(INDEX_FIRST_PERSON, null, RANGE, null, SlotsCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, " b/2" + RANGE_DESC, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " s/1 d/2025-01-01T09:00", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " s/1 to/2025-01-01T09:00", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 s/1" + RANGE_DESC, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " s/1 d/2025-01-02T09:00 to/2025-01-01T09:00", TimeSlot.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " s/1" + RANGE_DESC + " dur/0", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " s/1" + RANGE_DESC + " max/none", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " s/0" + RANGE_DESC, ParserUtil.MESSAGE_INVALID_INDEX);
+    }
+}
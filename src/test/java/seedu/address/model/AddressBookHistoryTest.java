@@ -0,0 +1,202 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.CARL_ALICE_PAST;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final AddressBookHistory history = new AddressBookHistory(addressBook);
+
+    @Test
+    public void commit_noChanges_returnsFalse() {
+        assertFalse(history.commit());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_nothingToUndoOrRedo_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, AddressBookHistory.MESSAGE_NO_UNDO, history::undo);
+        assertThrows(IllegalStateException.class, AddressBookHistory.MESSAGE_NO_REDO, history::redo);
+    }
+
+    @Test
+    public void undoRedo_addedPerson() {
+        AddressBook original = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        assertTrue(history.commit());
+        AddressBook withHoon = new AddressBook(addressBook);
+
+        history.undo();
+        assertEquals(original, addressBook);
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+
+        history.redo();
+        assertEquals(withHoon, addressBook);
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void getSnapshot_holdsAddressBookAsItIsNow() {
+        AddressBookSnapshot before = history.getSnapshot(addressBook.getVersion());
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        history.commit();
+
+        AddressBookSnapshot after = history.getSnapshot(addressBook.getVersion());
+        assertEquals(new AddressBookSnapshot(addressBook), after);
+        assertEquals(addressBook.getVersion(), after.getVersion());
+        assertEquals(new AddressBookSnapshot(getTypicalAddressBook()), before);
+        assertEquals(HOON, after.getPersonLookup().getPerson(HOON.getId()));
+        assertEquals(ALICE, before.getPersonLookup().getPerson(ALICE.getId()));
+    }
+
+    @Test
+    public void undo_removedPerson_restoresPersonAndAppointments() {
+        addressBook.removePerson(ALICE);
+        history.commit();
+        assertFalse(addressBook.getAppointmentList().contains(CARL_ALICE_PAST));
+
+        history.undo();
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertTrue(addressBook.getAppointmentList().contains(CARL_ALICE_PAST));
+        assertEquals(getTypicalAddressBook().getAppointmentList().size(), addressBook.getAppointmentList().size());
+    }
+
+    @Test
+    public void undo_editedPerson_restoresPerson() {
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        history.commit();
+
+        history.undo();
+        assertEquals(BENSON, addressBook.findPerson(BENSON.getId()));
+        history.redo();
+        assertEquals(editedBenson, addressBook.findPerson(BENSON.getId()));
+    }
+
+    @Test
+    public void absorb_changesAfterCommit_keptWhenUndoingAndRedoing() {
+        addressBook.addPerson(HOON);
+        history.commit();
+        addressBook.addPerson(IDA);
+        history.absorb();
+
+        history.undo();
+        assertFalse(addressBook.hasPerson(HOON));
+        assertTrue(addressBook.hasPerson(IDA));
+        assertFalse(history.canUndo());
+
+        history.redo();
+        assertTrue(addressBook.hasPerson(HOON));
+        assertTrue(addressBook.hasPerson(IDA));
+    }
+
+    @Test
+    public void absorb_personRemoved_removedWithAppointmentsFromEarlierVersions() {
+        addressBook.addPerson(HOON);
+        history.commit();
+        addressBook.removePerson(ALICE);
+        history.absorb();
+        assertFalse(history.commit());
+
+        history.undo();
+        assertFalse(addressBook.hasPerson(HOON));
+        assertFalse(addressBook.hasPerson(ALICE));
+        assertFalse(addressBook.getAppointmentList().contains(CARL_ALICE_PAST));
+    }
+
+    @Test
+    public void absorb_severalTimesBetweenUndoAndRedo_keptByEveryVersion() {
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        addressBook.addPerson(HOON);
+        history.commit();
+        history.undo();
+        addressBook.addPerson(IDA);
+        history.absorb();
+
+        history.redo();
+        assertTrue(addressBook.hasPerson(HOON));
+        assertTrue(addressBook.hasPerson(IDA));
+
+        addressBook.setPerson(BENSON, editedBenson);
+        history.absorb();
+        history.undo();
+        assertFalse(addressBook.hasPerson(HOON));
+        assertTrue(addressBook.hasPerson(IDA));
+        assertEquals(editedBenson, addressBook.findPerson(BENSON.getId()));
+
+        history.redo();
+        assertTrue(addressBook.hasPerson(HOON));
+        assertTrue(addressBook.hasPerson(IDA));
+        assertEquals(editedBenson, addressBook.findPerson(BENSON.getId()));
+    }
+
+    @Test
+    public void undo_severalCommits_goesBackOneCommitAtATime() {
+        AddressBook original = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        history.commit();
+        AddressBook withHoon = new AddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        history.commit();
+
+        history.undo();
+        assertEquals(withHoon, addressBook);
+        history.undo();
+        assertEquals(original, addressBook);
+    }
+
+    @Test
+    public void commit_afterUndo_forgetsUndoneVersions() {
+        addressBook.addPerson(HOON);
+        history.commit();
+        history.undo();
+
+        addressBook.removePerson(ALICE);
+        history.commit();
+        assertFalse(history.canRedo());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void commit_moreThanMaxVersions_forgetsOldestVersions() {
+        for (int i = 0; i <= AddressBookHistory.MAX_VERSIONS; i++) {
+            Person current = addressBook.findPerson(BENSON.getId());
+            addressBook.setPerson(current, new PersonBuilder(BENSON).withEmail("benson" + i + "@example.com").build());
+            history.commit();
+        }
+
+        for (int i = 0; i < AddressBookHistory.MAX_VERSIONS; i++) {
+            history.undo();
+        }
+        assertFalse(history.canUndo());
+        assertEquals("benson0@example.com", addressBook.findPerson(BENSON.getId()).getEmail().value);
+    }
+
+    @Test
+    public void clear_forgetsAllVersions() {
+        addressBook.addPerson(HOON);
+        history.commit();
+        history.undo();
+
+        history.clear();
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.FIONA_DANIEL_PAST;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.FIONA_EDITED;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.person.PersonLookup;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+public class AddressBookSnapshotTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(null));
+    }
+
+    @Test
+    public void constructor_copiesAddressBook() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getAppointmentList().sorted(), snapshot.getAppointmentList());
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+    }
+
+    @Test
+    public void getLists_personsAddedOutOfOrder_sortedByIdAndDatetime() {
+        AddressBook outOfOrder = new AddressBook();
+        outOfOrder.addPerson(BENSON);
+        outOfOrder.addPerson(ALICE);
+        Appointment later = new Appointment(new AppointmentDatetime("2030-01-02T10:00"), ALICE, BENSON);
+        Appointment earlier = new Appointment(new AppointmentDatetime("2030-01-01T10:00"), BENSON, ALICE);
+        outOfOrder.addAppointment(later);
+        outOfOrder.addAppointment(earlier);
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(outOfOrder);
+        assertEquals(List.of(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(List.of(earlier, later), snapshot.getAppointmentList());
+    }
+
+    @Test
+    public void addressBookChanged_snapshotUnchanged() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        int appointmentCount = snapshot.getAppointmentList().size();
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+
+        assertFalse(snapshot.getPersonList().contains(HOON));
+        assertTrue(snapshot.getPersonList().contains(ALICE));
+        assertEquals(appointmentCount, snapshot.getAppointmentList().size());
+        assertNotEquals(addressBook.getVersion(), snapshot.getVersion());
+    }
+
+    @Test
+    public void getPersonLookup_personsEditedAndDeletedAfterwards_resolvesPersonsAsTheyWere() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        Appointment appointment = snapshot.getAppointmentList().get(
+                snapshot.getAppointmentList().indexOf(FIONA_DANIEL_PAST));
+
+        addressBook.removeAppointment(FIONA_DANIEL_PAST);
+        addressBook.removePerson(DANIEL);
+        addressBook.setPerson(FIONA, FIONA_EDITED);
+
+        PersonLookup personLookup = snapshot.getPersonLookup();
+        assertEquals(FIONA, appointment.getSeller(personLookup));
+        assertEquals(DANIEL, appointment.getBuyer(personLookup).get());
+        assertTrue(appointment.containsKeyword("Meier", personLookup));
+        assertThrows(PersonNotFoundException.class, () -> personLookup.getPerson(HOON.getId()));
+    }
+
+    @Test
+    public void modifyLists_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().add(HOON));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getAppointmentList().clear());
+    }
+
+    @Test
+    public void equals() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        assertTrue(snapshot.equals(snapshot));
+        assertTrue(snapshot.equals(new AddressBookSnapshot(getTypicalAddressBook())));
+        assertFalse(snapshot.equals(null));
+        assertFalse(snapshot.equals(addressBook));
+
+        addressBook.addPerson(HOON);
+        assertFalse(snapshot.equals(new AddressBookSnapshot(addressBook)));
+    }
+}
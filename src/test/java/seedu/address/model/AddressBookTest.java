@@ -7,7 +7,11 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PROPERTY_TYPE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.FIONA_DANIEL_PAST;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.DANIEL_EDITED;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -82,6 +86,20 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void setPerson_personWithAppointments_appointmentsShowEditedPerson() {
+        addressBook.addPerson(FIONA);
+        addressBook.addPerson(DANIEL);
+        addressBook.addAppointment(FIONA_DANIEL_PAST);
+
+        addressBook.setPerson(DANIEL, DANIEL_EDITED);
+
+        Appointment appointment = addressBook.getAppointmentList().get(0);
+        assertEquals(FIONA_DANIEL_PAST, appointment);
+        assertEquals(DANIEL_EDITED, appointment.getBuyer().get());
+        assertEquals(DANIEL.getId(), addressBook.getPersonList().get(1).getId());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
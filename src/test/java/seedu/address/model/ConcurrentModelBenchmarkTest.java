@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Times queries by a growing number of threads against a model of twenty thousand persons that another thread keeps
+ * editing, to compare query throughput under the read/write lock as readers are added.
+ * Run with {@code gradlew benchmark}; how throughput scales depends on the machine, so it is reported rather than
+ * checked. {@code ConcurrentModelTest} checks that readers and writers are kept apart.
+ */
+@Tag("benchmark")
+public class ConcurrentModelBenchmarkTest {
+
+    private static final Logger logger = LogsCenter.getLogger(ConcurrentModelBenchmarkTest.class);
+
+    private static final int PERSON_COUNT = 20_000;
+    private static final long RUN_MILLIS = 200;
+    private static final long WRITE_INTERVAL_MILLIS = 1;
+
+    @Test
+    public void query_whileEditing() throws Exception {
+        List<Person> persons = createPersons();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        ConcurrentModel model = new ConcurrentModel(new ModelManager(addressBook, new UserPrefs()));
+        int maxReaders = Runtime.getRuntime().availableProcessors();
+
+        for (int readers = 1; readers <= maxReaders; readers *= 2) {
+            long[] counts = run(model, persons, readers);
+            logger.info(String.format("%d reader(s), 1 writer over %d persons: %.0f queries/s, %.0f edits/s",
+                    readers, PERSON_COUNT, counts[0] * 1000.0 / RUN_MILLIS, counts[1] * 1000.0 / RUN_MILLIS));
+        }
+        assertEquals(PERSON_COUNT, model.getAddressBook().getPersonList().size());
+    }
+
+    /**
+     * Runs {@code readerCount} threads querying {@code model} and one editing it for {@link #RUN_MILLIS}, returning
+     * the number of queries and of edits made.
+     */
+    private static long[] run(ConcurrentModel model, List<Person> persons, int readerCount) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(readerCount + 1);
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        List<Future<Long>> readers = new ArrayList<>();
+        for (int r = 0; r < readerCount; r++) {
+            int reader = r;
+            readers.add(executor.submit(() -> {
+                long queries = 0;
+                while (isRunning.get()) {
+                    // A phone number near the end of the list, so every query scans most of it
+                    Phone phone = persons.get(PERSON_COUNT - 1 - (int) (queries + reader) % 100).getPhone();
+                    model.hasPersonWithPhone(phone);
+                    queries++;
+                }
+                return queries;
+            }));
+        }
+        Future<Long> writer = executor.submit(() -> {
+            long edits = 0;
+            while (isRunning.get()) {
+                Person target = model.getAddressBook().getPersonList().get((int) (edits % 100));
+                model.setPerson(target, new PersonBuilder(target).withEmail("edit" + edits + "@example.com").build());
+                edits++;
+                Thread.sleep(WRITE_INTERVAL_MILLIS);
+            }
+            return edits;
+        });
+
+        Thread.sleep(RUN_MILLIS);
+        isRunning.set(false);
+        long queries = 0;
+        for (Future<Long> reader : readers) {
+            queries += reader.get(10, TimeUnit.SECONDS);
+        }
+        long edits = writer.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        return new long[] {queries, edits};
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Client " + i)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .build());
+        }
+        return persons;
+    }
+}
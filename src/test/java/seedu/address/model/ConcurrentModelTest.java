@@ -0,0 +1,199 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.CalendarPeriod;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ConcurrentModelTest {
+
+    private final ConcurrentModel model = new ConcurrentModel(new ModelManager(getTypicalAddressBook(),
+            new UserPrefs()));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ConcurrentModel(null));
+    }
+
+    @Test
+    public void changesAndQueries_passedToGuardedModel() {
+        ModelManager expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        model.addPerson(HOON);
+        model.deletePerson(ALICE);
+        expectedModel.addPerson(HOON);
+        expectedModel.deletePerson(ALICE);
+
+        assertTrue(model.hasPerson(HOON));
+        assertFalse(model.hasPerson(ALICE));
+        assertEquals(new ConcurrentModel(expectedModel), model);
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_manyThreads_addsEveryPerson() throws Exception {
+        int threadCount = 8;
+        int personsPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < personsPerThread; i++) {
+                    model.addPerson(createPerson(thread * personsPerThread + i));
+                    model.hasPersonWithPhone(HOON.getPhone());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(getTypicalAddressBook().getPersonList().size() + threadCount * personsPerThread,
+                model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void getLock_writeLockHeld_keepsOutQueries() throws Exception {
+        AtomicBoolean queried = new AtomicBoolean();
+        Thread reader = new Thread(() -> queried.set(model.hasPerson(HOON)));
+
+        model.getLock().writeLock().lock();
+        try {
+            reader.start();
+            model.addPerson(HOON);
+            reader.join(100);
+            assertTrue(reader.isAlive());
+            model.deletePerson(HOON);
+        } finally {
+            model.getLock().writeLock().unlock();
+        }
+        reader.join(10_000);
+
+        // the query only ran once both changes were done
+        assertFalse(queried.get());
+    }
+
+    @Test
+    public void uiQueries_writeLockHeld_answeredWithoutWaiting() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        model.getLock().writeLock().lock();
+        try {
+            model.addPerson(HOON);
+            Future<List<String>> completions = executor.submit(() ->
+                    model.getPersonCompletions(PersonCompletionIndex.Field.NAME, "Hoo", 5));
+            Future<int[]> counts = executor.submit(() ->
+                    model.countAppointments(CalendarPeriod.DAY, LocalDate.of(2026, 1, 1), 7));
+
+            assertEquals(List.of(HOON.getName().fullName), completions.get(10, TimeUnit.SECONDS));
+            assertEquals(7, counts.get(10, TimeUnit.SECONDS).length);
+        } finally {
+            model.getLock().writeLock().unlock();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void queries_whileAnotherThreadChangesModel_neverSeeChangeHalfDone() throws Exception {
+        int editCount = 500;
+        int readerCount = 2;
+        int personCount = model.getAddressBook().getPersonList().size();
+        ExecutorService executor = Executors.newFixedThreadPool(readerCount + 1);
+        AtomicBoolean isEditing = new AtomicBoolean(true);
+        AtomicInteger halfDoneChangesSeen = new AtomicInteger();
+
+        Future<?> writer = executor.submit(() -> {
+            try {
+                for (int i = 0; i < editCount; i++) {
+                    // Replaces Alice by deleting and adding her again, as one change
+                    Lock writeLock = model.getLock().writeLock();
+                    writeLock.lock();
+                    try {
+                        Person alice = model.getAddressBook().getPersonList().stream()
+                                .filter(person -> person.getPhone().equals(ALICE.getPhone()))
+                                .findFirst().get();
+                        model.deletePerson(alice);
+                        model.addPerson(new PersonBuilder(ALICE).withEmail("alice" + i + "@example.com").build());
+                    } finally {
+                        writeLock.unlock();
+                    }
+                }
+            } finally {
+                isEditing.set(false);
+            }
+            return null;
+        });
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < readerCount; r++) {
+            readers.add(executor.submit(() -> {
+                do {
+                    if (!model.hasPersonWithPhone(ALICE.getPhone())) {
+                        halfDoneChangesSeen.incrementAndGet();
+                    }
+                } while (isEditing.get());
+                return null;
+            }));
+        }
+
+        writer.get(10, TimeUnit.SECONDS);
+        for (Future<?> reader : readers) {
+            reader.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(0, halfDoneChangesSeen.get());
+        assertEquals(personCount, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void getLock_readLockHeld_changeWaitsForQuery() throws Exception {
+        ReentrantReadWriteLock lock = (ReentrantReadWriteLock) model.getLock();
+        Thread writer = new Thread(() -> model.addPerson(HOON));
+
+        lock.readLock().lock();
+        try {
+            writer.start();
+            while (!lock.hasQueuedThread(writer)) {
+                Thread.yield();
+            }
+            // the change waits until the query in progress ends
+            assertFalse(model.hasPerson(HOON));
+        } finally {
+            lock.readLock().unlock();
+        }
+        writer.join(10_000);
+
+        assertTrue(model.hasPerson(HOON));
+    }
+
+    private static Person createPerson(int i) {
+        return new PersonBuilder().withName("Client " + i).withPhone(String.valueOf(80_000_000 + i)).build();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.DANIEL_EDITED;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyPersonIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final FuzzyPersonIndex index = new FuzzyPersonIndex(addressBook.getPersonList());
+
+    @Test
+    public void search_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.search(List.of("meier"), -1));
+    }
+
+    @Test
+    public void search_misspeltKeyword_returnsCloseMatches() {
+        // names, one edit away
+        assertEquals(List.of(BENSON, DANIEL), index.search(List.of("Meir"), 10));
+
+        // addresses, two edits away
+        assertEquals(List.of(CARL, DANIEL, GEORGE), index.search(List.of("strete"), 10));
+
+        // too many edits for a short keyword
+        assertEquals(List.of(), index.search(List.of("mayr"), 10));
+
+        // short keywords must match exactly
+        assertEquals(List.of(), index.search(List.of("ae"), 10));
+        assertEquals(List.of(BENSON), index.search(List.of("2"), 10));
+    }
+
+    @Test
+    public void search_multipleKeywords_ranksPersonsMatchingMoreKeywordsFirst() {
+        assertEquals(List.of(DANIEL, CARL, GEORGE), index.search(List.of("streat", "danial"), 10));
+    }
+
+    @Test
+    public void search_limit_returnsBestMatchesOnly() {
+        assertEquals(List.of(DANIEL, CARL), index.search(List.of("streat", "danial"), 2));
+        assertEquals(List.of(), index.search(List.of("streat"), 0));
+    }
+
+    @Test
+    public void search_personAdded_includesPerson() {
+        Person person = new PersonBuilder().withName("Tan Ah Kow").withPhone("61234567")
+                .withAddress("Bishan Street 22", "HDB_3").build();
+        addressBook.addPerson(person);
+        assertEquals(List.of(person), index.search(List.of("tanh"), 10));
+        assertEquals(List.of(person), index.search(List.of("bishn"), 10));
+    }
+
+    @Test
+    public void search_personRemoved_excludesPerson() {
+        addressBook.removePerson(BENSON);
+        assertEquals(List.of(DANIEL), index.search(List.of("meir"), 10));
+        assertEquals(List.of(), index.search(List.of("bensen"), 10));
+    }
+
+    @Test
+    public void search_personEdited_returnsEditedPerson() {
+        addressBook.setPerson(DANIEL, DANIEL_EDITED);
+        assertEquals(List.of(DANIEL_EDITED), index.search(List.of("editd"), 10));
+    }
+}
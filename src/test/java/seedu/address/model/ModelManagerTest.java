@@ -2,25 +2,40 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
 import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.appointment.ArchiveSummary;
+import seedu.address.model.appointment.TimeFrame;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.model.person.Role;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.InMemoryAppointmentArchive;
+import seedu.address.testutil.ManualClock;
 import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
@@ -77,6 +92,22 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void applyAddressBookChanges_changes_onlyChangedRecordsUpdated() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Appointment appointment = new Appointment(new AppointmentDatetime("2030-01-01T10:00"), ALICE, BENSON);
+        modelManager.addAppointment(appointment);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build().withId(ALICE.getId());
+
+        modelManager.applyAddressBookChanges(new AddressBookChanges(List.of(editedAlice, HOON),
+                List.of(BENSON.getId()), List.of(), List.of(appointment), 0));
+
+        assertEquals(List.of(editedAlice, HOON), modelManager.getAddressBook().getPersonList());
+        assertSame(HOON, modelManager.findPerson(HOON.getId()).get());
+        assertTrue(modelManager.getAddressBook().getAppointmentList().isEmpty());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
@@ -151,6 +182,254 @@ public class ModelManagerTest {
         assertTrue(appointmentList.contains(appointment3));
     }
 
+    @Test
+    public void planPersonQuery_repeatedSearch_answeredFromCache() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Predicate<Person> plan = model.planPersonQuery(
+                new PersonContainsKeywordsPredicate(Arrays.asList("Alice", "Benson")));
+        model.updateFilteredPersonList(plan);
+        Predicate<Person> repeated = model.planPersonQuery(
+                new PersonContainsKeywordsPredicate(Arrays.asList("benson", "ALICE", "alice")));
+        model.updateFilteredPersonList(repeated);
+
+        assertSame(plan, repeated);
+        assertEquals(1, model.getPersonSearchCache().getHitCount());
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void planPersonQuery_addressBookChanged_searchesAgain() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(Arrays.asList("Alice"));
+        model.planPersonQuery(predicate);
+        Person otherAlice = new PersonBuilder().withName("Alice Tan").withPhone("61234567").build();
+        model.addPerson(otherAlice);
+        model.updateFilteredPersonList(model.planPersonQuery(predicate));
+
+        assertEquals(0, model.getPersonSearchCache().getHitCount());
+        assertEquals(Arrays.asList(ALICE, otherAlice), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void planPersonQuery_personEditedAfterCachedSearch_testsEditedPerson() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(Arrays.asList("Alice"));
+        model.planPersonQuery(predicate);
+        model.updateFilteredPersonList(model.planPersonQuery(predicate));
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Alice").build();
+        model.setPerson(BENSON, editedBenson);
+
+        assertEquals(1, model.getPersonSearchCache().getHitCount());
+        assertEquals(Arrays.asList(ALICE, editedBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void planAppointmentSearch_repeatedSearch_answeredFromCache() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AppointmentContainsKeywordsPredicate predicate =
+                new AppointmentContainsKeywordsPredicate(Arrays.asList("Fiona"), TimeFrame.PAST);
+        model.updateFilteredAppointmentList(model.planAppointmentSearch(predicate));
+        List<Appointment> expected = new ArrayList<>(model.getFilteredAppointmentList());
+        model.updateFilteredAppointmentList(model.planAppointmentSearch(
+                new AppointmentContainsKeywordsPredicate(Arrays.asList("FIONA"), TimeFrame.PAST)));
+
+        assertEquals(1, model.getAppointmentSearchCache().getHitCount());
+        assertEquals(expected, model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void planAppointmentSearch_cachedSearchAsTimePasses_matchesTimeFrameWhenTested() {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2025, 3, 10, 9, 0));
+        Appointment noon = new Appointment(new AppointmentDatetime("2025-03-10T12:00"), ALICE);
+        Appointment evening = new Appointment(new AppointmentDatetime("2025-03-10T18:00"), BENSON);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        addressBook.addAppointment(noon);
+        addressBook.addAppointment(evening);
+        ModelManager model = new ModelManager(addressBook, new UserPrefs(), clock);
+        AppointmentContainsKeywordsPredicate search =
+                new AppointmentContainsKeywordsPredicate(List.of("Alice"), TimeFrame.PAST);
+
+        model.updateFilteredAppointmentList(model.planAppointmentSearch(search));
+        assertEquals(List.of(), model.getFilteredAppointmentList());
+
+        clock.set(LocalDateTime.of(2025, 3, 10, 13, 0));
+        model.refreshTimeFrames();
+        assertEquals(List.of(noon), model.getFilteredAppointmentList());
+        model.updateFilteredAppointmentList(model.planAppointmentSearch(search));
+        assertEquals(List.of(noon), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void refreshTimeFrames_timePasses_movesAppointmentsBetweenTimeFrames() {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2025, 3, 10, 9, 0));
+        Appointment noon = new Appointment(new AppointmentDatetime("2025-03-10T12:00"), ALICE);
+        Appointment tomorrow = new Appointment(new AppointmentDatetime("2025-03-11T10:00"), BENSON);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        addressBook.addAppointment(noon);
+        addressBook.addAppointment(tomorrow);
+        ModelManager model = new ModelManager(addressBook, new UserPrefs(), clock);
+
+        AppointmentContainsKeywordsPredicate today =
+                new AppointmentContainsKeywordsPredicate(List.of(), TimeFrame.TODAY);
+        AppointmentContainsKeywordsPredicate upcoming =
+                new AppointmentContainsKeywordsPredicate(List.of(), TimeFrame.UPCOMING);
+        model.updateFilteredAppointmentList(model.planAppointmentSearch(upcoming));
+        assertEquals(List.of(noon, tomorrow), model.getFilteredAppointmentList());
+        assertEquals(LocalDateTime.of(2025, 3, 10, 12, 0).plusNanos(1), model.refreshTimeFrames());
+
+        // the noon appointment has passed
+        clock.set(LocalDateTime.of(2025, 3, 10, 13, 0));
+        assertEquals(LocalDateTime.of(2025, 3, 11, 0, 0), model.refreshTimeFrames());
+        assertEquals(List.of(tomorrow), model.getFilteredAppointmentList());
+
+        // a search is matched at the time it is tested
+        model.updateFilteredAppointmentList(model.planAppointmentSearch(today));
+        assertEquals(List.of(noon), model.getFilteredAppointmentList());
+
+        // past midnight
+        clock.set(LocalDateTime.of(2025, 3, 11, 9, 0));
+        model.refreshTimeFrames();
+        assertEquals(List.of(tomorrow), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void archivePastAppointments_noArchive_keepsAppointments() throws Exception {
+        Appointment old = new Appointment(new AppointmentDatetime("2020-01-06T10:00"), ALICE);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        addressBook.addAppointment(old);
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+        assertEquals(List.of(), model.archivePastAppointments());
+        assertEquals(List.of(old), model.getAppointmentList());
+        assertEquals(ArchiveSummary.EMPTY, model.getArchiveSummary());
+        assertEquals(List.of(), model.findArchivedAppointments(unused -> true));
+    }
+
+    @Test
+    public void archivePastAppointments_beyondHorizon_movesAppointmentsToArchive() throws Exception {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2025, 3, 10, 9, 0));
+        Appointment lastYear = new Appointment(new AppointmentDatetime("2024-02-01T10:00"), ALICE);
+        Appointment lastMonth = new Appointment(new AppointmentDatetime("2025-02-10T10:00"), BENSON);
+        Appointment upcoming = new Appointment(new AppointmentDatetime("2025-03-12T10:00"), ALICE, BENSON);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        addressBook.addAppointment(upcoming);
+        addressBook.addAppointment(lastMonth);
+        addressBook.addAppointment(lastYear);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setArchiveHorizon(Duration.ofDays(30));
+        ModelManager model = new ModelManager(addressBook, userPrefs, clock);
+        InMemoryAppointmentArchive archive = new InMemoryAppointmentArchive();
+        model.setAppointmentArchive(archive);
+
+        assertEquals(List.of(lastYear), model.archivePastAppointments());
+        assertEquals(List.of(upcoming, lastMonth), model.getAppointmentList());
+        assertEquals(List.of(lastYear), archive.getAppointments());
+        assertEquals(1, model.getArchiveSummary().getCount());
+
+        // nothing more to archive until the horizon passes another appointment
+        assertEquals(List.of(), model.archivePastAppointments());
+        clock.advance(Duration.ofDays(3));
+        assertEquals(List.of(lastMonth), model.archivePastAppointments());
+        assertEquals(List.of(lastYear, lastMonth), model.findArchivedAppointments(unused -> true));
+        assertEquals(List.of(lastMonth), model.findArchivedAppointments(a -> a.isPersonSeller(BENSON)));
+    }
+
+    @Test
+    public void archivePastAppointments_addedSinceLastArchived_keptUntilNextTime() throws Exception {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2025, 3, 10, 9, 0));
+        Appointment loaded = new Appointment(new AppointmentDatetime("2024-02-01T10:00"), ALICE);
+        Appointment added = new Appointment(new AppointmentDatetime("2024-02-02T10:00"), BENSON);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        addressBook.addAppointment(loaded);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setArchiveHorizon(Duration.ofDays(30));
+        ModelManager model = new ModelManager(addressBook, userPrefs, clock);
+        model.setAppointmentArchive(new InMemoryAppointmentArchive());
+
+        model.addAppointment(added);
+        model.commitAddressBook();
+        assertEquals(List.of(loaded), model.archivePastAppointments());
+        assertEquals(List.of(added), model.getAppointmentList());
+        assertEquals(List.of(added), model.archivePastAppointments());
+    }
+
+    @Test
+    public void archivePastAppointments_undoKept_archivedAppointmentsNotBroughtBack() throws Exception {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2025, 3, 10, 9, 0));
+        Appointment old = new Appointment(new AppointmentDatetime("2024-02-01T10:00"), ALICE);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        addressBook.addAppointment(old);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setArchiveHorizon(Duration.ofDays(30));
+        ModelManager model = new ModelManager(addressBook, userPrefs, clock);
+        model.setAppointmentArchive(new InMemoryAppointmentArchive());
+        model.addPerson(HOON);
+        model.commitAddressBook();
+
+        assertEquals(List.of(old), model.archivePastAppointments());
+        assertTrue(model.canUndoAddressBook());
+        model.undoAddressBook();
+        assertFalse(model.hasPerson(HOON));
+        assertEquals(List.of(), model.getAppointmentList());
+        assertEquals(List.of(), model.getAddressBookSnapshot().getAppointmentList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_publishedOnlyWhenCommitted() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBookSnapshot initial = model.getAddressBookSnapshot();
+        assertEquals(model.getAddressBook().getPersonList(), initial.getPersonList());
+
+        model.addPerson(HOON);
+        assertSame(initial, model.getAddressBookSnapshot());
+
+        model.commitAddressBook();
+        AddressBookSnapshot committed = model.getAddressBookSnapshot();
+        assertTrue(committed.getPersonList().contains(HOON));
+        assertFalse(initial.getPersonList().contains(HOON));
+
+        // nothing changed since the last snapshot
+        model.commitAddressBook();
+        assertSame(committed, model.getAddressBookSnapshot());
+
+        model.undoAddressBook();
+        assertEquals(initial, model.getAddressBookSnapshot());
+        model.redoAddressBook();
+        assertEquals(committed, model.getAddressBookSnapshot());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_readWhileChanging_neverSeesPartialChanges() throws Exception {
+        ModelManager model = new ModelManager();
+        int personCount = 500;
+        AtomicReference<Throwable> readerFailure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                int lastSize = 0;
+                while (lastSize < personCount) {
+                    AddressBookSnapshot snapshot = model.getAddressBookSnapshot();
+                    List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+                    assertTrue(persons.size() >= lastSize);
+                    assertEquals(persons.size(), snapshot.getPersonList().size());
+                    lastSize = persons.size();
+                }
+            } catch (Throwable e) {
+                readerFailure.set(e);
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < personCount; i++) {
+            model.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .build());
+            model.commitAddressBook();
+        }
+        reader.join(10_000);
+
+        assertFalse(reader.isAlive());
+        assertNull(readerFailure.get());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
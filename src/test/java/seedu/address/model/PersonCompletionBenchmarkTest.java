@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.PersonCompletionIndex.Field;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Times completing names, phone numbers and tags as they are typed, one keystroke at a time, in an address book
+ * of half a million persons.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class PersonCompletionBenchmarkTest {
+
+    private static final Logger logger = LogsCenter.getLogger(PersonCompletionBenchmarkTest.class);
+
+    private static final int PERSON_COUNT = 500_000;
+    private static final int TYPED_VALUE_COUNT = 2_000;
+    private static final int LIMIT = 8;
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Tan",
+        "Lim", "Wei", "Siti", "Kumar", "Nur"};
+    private static final String[] TAGS = {"friends", "family", "investor", "vip", "hdb", "condo", "landed",
+        "upgrader", "firstTimer", "urgent"};
+
+    @Test
+    public void complete_halfMillionPersons() {
+        List<Person> persons = createPersons();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        PersonCompletionIndex index = new PersonCompletionIndex(addressBook.getPersonList());
+
+        Random random = new Random(42);
+        int keystrokes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < TYPED_VALUE_COUNT; i++) {
+            Person person = persons.get(random.nextInt(PERSON_COUNT));
+            keystrokes += typeValue(index, Field.NAME, person.getName().fullName);
+            keystrokes += typeValue(index, Field.PHONE, person.getPhone().value);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        logger.info(String.format("Completing over %d persons: %.1f us per keystroke",
+                PERSON_COUNT, elapsed / 1000.0 / keystrokes));
+
+        addressBook.removePerson(persons.get(0));
+        assertEquals(List.of(), index.complete(Field.PHONE, persons.get(0).getPhone().value, LIMIT));
+    }
+
+    /**
+     * Completes every prefix of {@code value} as if it were typed one character at a time,
+     * returning the number of keystrokes.
+     */
+    private static int typeValue(PersonCompletionIndex index, Field field, String value) {
+        for (int length = 1; length <= value.length(); length++) {
+            List<String> completions = index.complete(field, value.substring(0, length), LIMIT);
+            assertTrue(completions.size() <= LIMIT);
+            assertTrue(length < value.length() || completions.contains(value));
+        }
+        return value.length();
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder()
+                    .withName(FIRST_NAMES[i % FIRST_NAMES.length] + " Client " + i)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withTags(TAGS[i % TAGS.length], TAGS[i / TAGS.length % TAGS.length])
+                    .build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.DANIEL_EDITED;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.PersonCompletionIndex.Field;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCompletionIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonCompletionIndex index = new PersonCompletionIndex(addressBook.getPersonList());
+
+    @Test
+    public void complete_existingPersons_returnsMatchingValues() {
+        assertEquals(List.of("Daniel Meier"), index.complete(Field.NAME, "d", 10));
+        assertEquals(List.of("9482224", "9482427", "9482442"), index.complete(Field.PHONE, "948", 10));
+        assertEquals(List.of("friends", "owesMoney"), index.complete(Field.TAG, "", 10));
+        assertEquals(List.of("9482224"), index.complete(Field.PHONE, "948", 1));
+    }
+
+    @Test
+    public void complete_personAdded_includesPerson() {
+        addressBook.addPerson(new PersonBuilder().withName("Dana Lim").withPhone("61234567")
+                .withTags("investor").build());
+        assertEquals(List.of("Dana Lim", "Daniel Meier"), index.complete(Field.NAME, "da", 10));
+        assertEquals(List.of("61234567"), index.complete(Field.PHONE, "6", 10));
+        assertEquals(List.of("investor"), index.complete(Field.TAG, "i", 10));
+    }
+
+    @Test
+    public void complete_personRemoved_excludesPersonButKeepsSharedTags() {
+        addressBook.removePerson(BENSON);
+        assertEquals(List.of(), index.complete(Field.NAME, "benson", 10));
+        assertEquals(List.of(), index.complete(Field.TAG, "owes", 10));
+        assertEquals(List.of("friends"), index.complete(Field.TAG, "fr", 10));
+    }
+
+    @Test
+    public void complete_personEdited_returnsEditedValues() {
+        addressBook.setPerson(DANIEL, DANIEL_EDITED);
+        assertEquals(List.of(DANIEL_EDITED.getName().fullName),
+                index.complete(Field.NAME, DANIEL_EDITED.getName().fullName.substring(0, 3), 10));
+        assertEquals(List.of(), index.complete(Field.NAME, "daniel m", 10));
+    }
+
+    @Test
+    public void complete_addressBookReset_returnsNewValues() {
+        AddressBook newData = new AddressBook();
+        newData.addPerson(ALICE);
+        addressBook.resetData(newData);
+        assertEquals(List.of("Alice Pauline"), index.complete(Field.NAME, "", 10));
+        assertEquals(List.of("friends"), index.complete(Field.TAG, "", 10));
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonQueryIndex index = new PersonQueryIndex(addressBook);
+
+    @Test
+    public void plan_queries_matchSamePersonsAsTestingEachPerson() {
+        // r/buyer AND t/friends
+        assertMatches(and(field(QueryField.ROLE, "buyer"), field(QueryField.TAG, "friends")), ALICE, BENSON, DANIEL);
+
+        // t/friends AND NOT n/meier
+        assertMatches(and(field(QueryField.TAG, "friends"), not(field(QueryField.NAME, "meier"))), ALICE);
+
+        // a/street AND (r/seller OR pt/HDB_4)
+        assertMatches(and(field(QueryField.ADDRESS, "street"),
+                or(field(QueryField.ROLE, "seller"), field(QueryField.PROPERTY_TYPE, "HDB_4"))), CARL, DANIEL, GEORGE);
+
+        // NOT r/buyer
+        assertMatches(not(field(QueryField.ROLE, "buyer")), CARL, FIONA, GEORGE);
+
+        // p/9482224 OR meier
+        assertMatches(or(field(QueryField.PHONE, "9482224"), field(QueryField.ANY, "meier")), BENSON, DANIEL, ELLE);
+
+        // pt/hdb_2 AND r/seller
+        assertMatches(and(field(QueryField.PROPERTY_TYPE, "hdb_2"), field(QueryField.ROLE, "seller")));
+
+        // NOT t/friends AND NOT r/seller AND NOT a/street
+        assertMatches(and(not(field(QueryField.TAG, "friends")), not(field(QueryField.ROLE, "seller")),
+                not(field(QueryField.ADDRESS, "street"))), ELLE);
+
+        // (a/ave OR a/street) AND NOT (t/friends OR pt/EC)
+        assertMatches(and(or(field(QueryField.ADDRESS, "ave"), field(QueryField.ADDRESS, "street")),
+                not(or(field(QueryField.TAG, "friends"), field(QueryField.PROPERTY_TYPE, "EC")))), CARL, ELLE);
+
+        // friends meyer
+        assertMatches(new PersonContainsKeywordsPredicate(List.of("friends", "meyer")), ALICE, BENSON, DANIEL, ELLE);
+    }
+
+    @Test
+    public void plan_personAddedAfterPlanning_testsPerson() {
+        Predicate<Person> predicate = index.plan(
+                and(field(QueryField.TAG, "vip"), field(QueryField.ADDRESS, "bishan")));
+        Person vip = new PersonBuilder().withPhone("61234567").withAddress("Bishan Street 22", "HDB_3")
+                .withTags("vip").build();
+        assertTrue(predicate.test(vip));
+        addressBook.addPerson(vip);
+        assertTrue(predicate.test(vip));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void plan_personEditedAfterPlanning_testsEditedPerson() {
+        Predicate<Person> predicate = index.plan(
+                and(field(QueryField.ROLE, "buyer"), field(QueryField.TAG, "friends")));
+        Person editedDaniel = new PersonBuilder(DANIEL).withTags().build();
+        addressBook.setPerson(DANIEL, editedDaniel);
+        assertFalse(predicate.test(editedDaniel));
+
+        Person editedElle = new PersonBuilder(ELLE).withTags("friends").build();
+        addressBook.setPerson(ELLE, editedElle);
+        assertTrue(predicate.test(editedElle));
+    }
+
+    @Test
+    public void plan_afterChanges_usesUpdatedIndex() {
+        addressBook.removePerson(BENSON);
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        addressBook.setPerson(CARL, editedCarl);
+        assertMatches(field(QueryField.TAG, "friends"), ALICE, editedCarl, DANIEL);
+    }
+
+    @Test
+    public void hasPersonWithPhone_afterChanges_findsCurrentPhones() {
+        assertTrue(index.hasPersonWithPhone(BENSON.getPhone()));
+        assertFalse(index.hasPersonWithPhone(new Phone("99999999")));
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.removePerson(BENSON);
+        assertTrue(index.hasPersonWithPhone(new Phone("99999999")));
+        assertFalse(index.hasPersonWithPhone(CARL.getPhone()));
+        assertFalse(index.hasPersonWithPhone(BENSON.getPhone()));
+    }
+
+    /**
+     * Asserts that the plan of {@code query} matches exactly the {@code expectedPersons} in the address book,
+     * as does testing each person against the query.
+     */
+    private void assertMatches(PersonQuery query, Person... expectedPersons) {
+        Predicate<Person> plan = index.plan(query);
+        assertEquals(List.of(expectedPersons),
+                addressBook.getPersonList().stream().filter(plan).collect(Collectors.toList()));
+        assertEquals(List.of(expectedPersons),
+                addressBook.getPersonList().stream().filter(query).collect(Collectors.toList()));
+    }
+
+    private static FieldQuery field(QueryField field, String value) {
+        return new FieldQuery(field, value);
+    }
+
+    private static AndQuery and(PersonQuery... queries) {
+        return new AndQuery(List.of(queries));
+    }
+
+    private static OrQuery or(PersonQuery... queries) {
+        return new OrQuery(List.of(queries));
+    }
+
+    private static NotQuery not(PersonQuery query) {
+        return new NotQuery(query);
+    }
+}
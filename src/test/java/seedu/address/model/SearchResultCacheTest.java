@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchResultCacheTest {
+
+    private final SearchResultCache<String, String> cache = new SearchResultCache<>(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchResultCache<String, String>(0));
+    }
+
+    @Test
+    public void get_sameVersion_returnsResult() {
+        cache.put("alice", 3, "Alice Pauline");
+        assertEquals("Alice Pauline", cache.get("alice", 3).get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(1, cache.getHitRate());
+    }
+
+    @Test
+    public void get_otherVersionOrSearch_misses() {
+        cache.put("alice", 3, "Alice Pauline");
+        assertTrue(cache.get("alice", 4).isEmpty());
+        assertTrue(cache.get("bob", 3).isEmpty());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getHitRate());
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        cache.put("alice", 0, "Alice Pauline");
+        cache.put("bob", 0, "Bob Choo");
+        cache.get("alice", 0);
+        cache.put("carl", 0, "Carl Kurz");
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("alice", 0).isPresent());
+        assertTrue(cache.get("bob", 0).isEmpty());
+        assertTrue(cache.get("carl", 0).isPresent());
+    }
+}
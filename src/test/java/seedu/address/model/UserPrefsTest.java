@@ -1,9 +1,16 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.model.appointment.Schedule;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +25,46 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setCommandAliases_nullAliases_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setCommandAliases(null));
+    }
+
+    @Test
+    public void getCommandAliases_modifyAliases_throwsUnsupportedOperationException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCommandAliases(Map.of("ls", "list"));
+        assertThrows(UnsupportedOperationException.class, () -> userPrefs.getCommandAliases().put("c", "clear"));
+        assertEquals(Map.of("ls", "list"), userPrefs.getCommandAliases());
+    }
+
+
+    @Test
+    public void setAppointmentDuration_lessThanAMinute_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setAppointmentDuration(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    public void constructor_copiesAppointmentDuration() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(Schedule.DEFAULT_APPOINTMENT_DURATION, userPrefs.getAppointmentDuration());
+        userPrefs.setAppointmentDuration(Duration.ofMinutes(30));
+        assertEquals(Duration.ofMinutes(30), new UserPrefs(userPrefs).getAppointmentDuration());
+    }
+
+    @Test
+    public void setArchiveHorizon_lessThanADay_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setArchiveHorizon(Duration.ofHours(12)));
+    }
+
+    @Test
+    public void constructor_copiesArchiveHorizon() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(AppointmentArchive.DEFAULT_HORIZON, userPrefs.getArchiveHorizon());
+        userPrefs.setArchiveHorizon(Duration.ofDays(90));
+        assertEquals(Duration.ofDays(90), new UserPrefs(userPrefs).getArchiveHorizon());
+    }
 }
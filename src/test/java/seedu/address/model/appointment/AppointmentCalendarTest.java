@@ -0,0 +1,91 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class AppointmentCalendarTest {
+
+    // 2025-03-10 is a Monday
+    private static final Appointment MONDAY_NOON = new Appointment(new AppointmentDatetime("2025-03-10T12:00"), CARL);
+    private static final Appointment MONDAY_EVENING =
+            new Appointment(new AppointmentDatetime("2025-03-10T18:00"), FIONA, ALICE);
+    private static final Appointment SUNDAY = new Appointment(new AppointmentDatetime("2025-03-16T09:00"), CARL);
+    private static final Appointment NEXT_MONDAY = new Appointment(new AppointmentDatetime("2025-03-17T09:00"), CARL);
+    private static final Appointment APRIL = new Appointment(new AppointmentDatetime("2025-04-01T09:00"), FIONA);
+
+    private final AppointmentCalendar calendar = new AppointmentCalendar();
+
+    @Test
+    public void count_appointmentsAdded_countsByDayWeekAndMonth() {
+        calendar.add(MONDAY_NOON);
+        calendar.add(MONDAY_EVENING);
+        calendar.add(SUNDAY);
+        calendar.add(NEXT_MONDAY);
+        calendar.add(APRIL);
+
+        LocalDate wednesday = LocalDate.of(2025, 3, 12);
+        assertEquals(2, calendar.count(CalendarPeriod.DAY, LocalDate.of(2025, 3, 10)));
+        assertEquals(0, calendar.count(CalendarPeriod.DAY, wednesday));
+        assertEquals(3, calendar.count(CalendarPeriod.WEEK, wednesday));
+        assertEquals(4, calendar.count(CalendarPeriod.MONTH, wednesday));
+        assertEquals(1, calendar.count(CalendarPeriod.MONTH, LocalDate.of(2025, 4, 30)));
+    }
+
+    @Test
+    public void count_appointmentsRemoved_countsRemainingAppointments() {
+        calendar.add(MONDAY_NOON);
+        calendar.add(MONDAY_EVENING);
+        calendar.remove(MONDAY_NOON);
+        assertEquals(1, calendar.count(CalendarPeriod.DAY, LocalDate.of(2025, 3, 10)));
+
+        calendar.remove(MONDAY_EVENING);
+        assertEquals(0, calendar.count(CalendarPeriod.WEEK, LocalDate.of(2025, 3, 10)));
+
+        calendar.add(APRIL);
+        calendar.clear();
+        assertEquals(0, calendar.count(CalendarPeriod.MONTH, LocalDate.of(2025, 4, 1)));
+    }
+
+    @Test
+    public void count_consecutivePeriods_countsEachPeriodFromTheOneContainingStart() {
+        calendar.add(MONDAY_NOON);
+        calendar.add(MONDAY_EVENING);
+        calendar.add(SUNDAY);
+        calendar.add(NEXT_MONDAY);
+        calendar.add(APRIL);
+
+        assertArrayEquals(new int[] {2, 0, 0, 0, 0, 0, 1, 1},
+                calendar.count(CalendarPeriod.DAY, LocalDate.of(2025, 3, 10), 8));
+        assertArrayEquals(new int[] {3, 1, 0, 1},
+                calendar.count(CalendarPeriod.WEEK, LocalDate.of(2025, 3, 14), 4));
+        assertArrayEquals(new int[] {0, 4, 1},
+                calendar.count(CalendarPeriod.MONTH, LocalDate.of(2025, 2, 20), 3));
+        assertArrayEquals(new int[0], calendar.count(CalendarPeriod.DAY, LocalDate.of(2025, 3, 10), 0));
+    }
+
+    @Test
+    public void count_negativePeriodCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                calendar.count(CalendarPeriod.DAY, LocalDate.of(2025, 3, 10), -1));
+    }
+
+    @Test
+    public void count_manyAppointments_countsMatchAppointments() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int hour = 0; hour < 365 * 24; hour++) {
+            calendar.add(new Appointment(new AppointmentDatetime(start.plusHours(hour).toString()), CARL));
+        }
+        assertEquals(24, calendar.count(CalendarPeriod.DAY, LocalDate.of(2025, 6, 1)));
+        assertEquals(7 * 24, calendar.count(CalendarPeriod.WEEK, LocalDate.of(2025, 6, 4)));
+        assertEquals(28 * 24, calendar.count(CalendarPeriod.MONTH, LocalDate.of(2025, 2, 1)));
+    }
+}
@@ -162,4 +162,14 @@ public class AppointmentContainsKeywordsPredicateTest {
                 + "{keywords=" + keywords + ", timeFrame=today}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void normalize() {
+        AppointmentContainsKeywordsPredicate predicate =
+                new AppointmentContainsKeywordsPredicate(Arrays.asList("Fiona", "alice", "FIONA"), TimeFrame.TODAY);
+        AppointmentContainsKeywordsPredicate expected =
+                new AppointmentContainsKeywordsPredicate(Arrays.asList("alice", "fiona"), TimeFrame.TODAY);
+        assertEquals(expected, predicate.normalize());
+        assertEquals(expected.hashCode(), predicate.normalize().hashCode());
+    }
 }
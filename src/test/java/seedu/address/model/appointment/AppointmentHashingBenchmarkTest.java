@@ -0,0 +1,122 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Times {@code HashSet} and {@code HashMap} operations over a million appointments, comparing the cached
+ * {@code Appointment#hashCode()} against recomputing the hash from the appointment's fields on every call.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class AppointmentHashingBenchmarkTest {
+
+    private static final Logger logger = LogsCenter.getLogger(AppointmentHashingBenchmarkTest.class);
+
+    private static final int APPOINTMENT_COUNT = 1_000_000;
+    private static final int PERSON_COUNT = 1_000;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    public void hashOperations_millionAppointments() {
+        List<Appointment> appointments = createAppointments();
+
+        long cachedNanos = timeHashOperations(appointments, appointment -> appointment);
+        long recomputedNanos = timeHashOperations(appointments, RecomputedHashKey::new);
+
+        logger.info(String.format("Hash operations over %d appointments: cached %.1f ns/op, recomputed %.1f ns/op",
+                APPOINTMENT_COUNT, (double) cachedNanos / APPOINTMENT_COUNT,
+                (double) recomputedNanos / APPOINTMENT_COUNT));
+    }
+
+    /**
+     * Adds every appointment to a {@code HashSet} and a {@code HashMap}, then looks each one up again,
+     * returning the time taken in nanoseconds.
+     */
+    private static <K> long timeHashOperations(List<Appointment> appointments, Function<Appointment, K> toKey) {
+        List<K> keys = new ArrayList<>(appointments.size());
+        for (Appointment appointment : appointments) {
+            keys.add(toKey.apply(appointment));
+        }
+
+        long start = System.nanoTime();
+        Set<K> set = new HashSet<>();
+        Map<K, Integer> map = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            set.add(keys.get(i));
+            map.put(keys.get(i), i);
+        }
+        int found = 0;
+        for (K key : keys) {
+            if (set.contains(key) && map.get(key) != null) {
+                found++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(keys.size(), set.size());
+        assertEquals(keys.size(), found);
+        return elapsed;
+    }
+
+    private static List<Appointment> createAppointments() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i)).build());
+        }
+
+        List<Appointment> appointments = new ArrayList<>(APPOINTMENT_COUNT);
+        for (int i = 0; i < APPOINTMENT_COUNT; i++) {
+            AppointmentDatetime datetime = new AppointmentDatetime(START.plusMinutes(i).toString());
+            appointments.add(new Appointment(datetime, persons.get(i % PERSON_COUNT),
+                    persons.get((i + 1) % PERSON_COUNT)));
+        }
+        return appointments;
+    }
+
+    /**
+     * Wraps an appointment with the hashing behaviour it had before hash codes were cached.
+     */
+    private static class RecomputedHashKey {
+        private final Appointment appointment;
+
+        RecomputedHashKey(Appointment appointment) {
+            this.appointment = appointment;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof RecomputedHashKey
+                    && appointment.equals(((RecomputedHashKey) other).appointment);
+        }
+
+        @Override
+        public int hashCode() {
+            Person seller = appointment.getSeller();
+            Person buyer = appointment.getBuyer().get();
+            return Objects.hash(appointment.appointmentDatetime, personHash(seller), personHash(buyer));
+        }
+
+        private static int personHash(Person person) {
+            return Objects.hash(person.getName(), person.getPhone(), person.getEmail(), person.getRole(),
+                    person.getAddress(), person.getTags());
+        }
+    }
+}
@@ -17,8 +17,17 @@ import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.FIONA_EDITED;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
 public class AppointmentTest {
 
     @Test
@@ -57,45 +66,108 @@ public class AppointmentTest {
     }
 
     @Test
-    public void updatedWithEditedPerson_personIsSeller_returnsAppointment() {
-        // Test with buyer - use FIONA_DANIEL_PAST
-        Appointment appointment = FIONA_DANIEL_PAST;
-        Appointment newAppointment = appointment.updatedWithEditedPerson(FIONA, FIONA_EDITED);
-        // Check that seller was updated
-        assertTrue(newAppointment.isPersonSeller(FIONA_EDITED));
-        assertTrue(newAppointment.isPersonBuyer(DANIEL));
-        // Original should remain unchanged
-        assertTrue(appointment.isPersonSeller(FIONA));
-        assertTrue(appointment.isPersonBuyer(DANIEL));
-
-        // Test without buyer - use FIONA_NOBUYER_PAST
-        appointment = FIONA_NOBUYER_PAST;
-        newAppointment = appointment.updatedWithEditedPerson(FIONA, FIONA_EDITED);
-        // Check that seller was updated
-        assertTrue(newAppointment.isPersonSeller(FIONA_EDITED));
-        assertFalse(newAppointment.isPersonBuyer(DANIEL));
-        // Original should remain unchanged
-        assertTrue(appointment.isPersonSeller(FIONA));
+    public void involvesPerson() {
+        assertTrue(FIONA_DANIEL_PAST.involvesPerson(FIONA.getId()));
+        assertTrue(FIONA_DANIEL_PAST.involvesPerson(DANIEL.getId()));
+        assertFalse(FIONA_DANIEL_PAST.involvesPerson(GEORGE.getId()));
+        assertFalse(FIONA_NOBUYER_PAST.involvesPerson(DANIEL.getId()));
     }
 
     @Test
-    public void updatedWithEditedPerson_personIsBuyer_returnsAppointment() {
-        Appointment appointment = FIONA_DANIEL_PAST;
-        Appointment newAppointment = appointment.updatedWithEditedPerson(DANIEL, DANIEL_EDITED);
-        // Check that buyer was updated
-        assertTrue(newAppointment.isPersonSeller(FIONA));
-        assertTrue(newAppointment.isPersonBuyer(DANIEL_EDITED));
-        // Original should remain unchanged
-        assertTrue(appointment.isPersonSeller(FIONA));
-        assertTrue(appointment.isPersonBuyer(DANIEL));
+    public void getSellerAndBuyer_personEditedInLookup_returnsEditedPerson() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(FIONA, DANIEL));
+        Appointment appointment = new Appointment(FIONA_DANIEL_PAST.appointmentDatetime, FIONA.getId(),
+                DANIEL.getId(), persons);
+
+        persons.setPerson(FIONA, FIONA_EDITED);
+        persons.setPerson(DANIEL, DANIEL_EDITED);
+
+        assertEquals(FIONA_EDITED, appointment.getSeller());
+        assertEquals(DANIEL_EDITED, appointment.getBuyer().get());
+        assertTrue(appointment.isPersonSeller(appointment.getSeller()));
+
+        // still the same appointment, as it involves the same persons
+        assertEquals(FIONA_DANIEL_PAST, appointment);
+        assertEquals(FIONA_DANIEL_PAST.hashCode(), appointment.hashCode());
     }
 
     @Test
-    public void updatedWithEditedPerson_personIsNotParticipant_returnsSameAppointment() {
-        Appointment appointment = FIONA_ELLE_PAST;
-        Appointment newAppointment = appointment.updatedWithEditedPerson(DANIEL, DANIEL_EDITED);
-        // Should return same appointment since DANIEL is not a participant
-        assertEquals(appointment, newAppointment);
+    public void hashCode_consistentWithEquals() {
+        Person seller = new PersonBuilder().withPhone("80000001").build();
+        Person buyer = new PersonBuilder().withPhone("80000002").build();
+        Appointment appointment = new Appointment(FIONA_DANIEL_PAST.appointmentDatetime, seller, buyer);
+
+        // same datetime and persons, looked up elsewhere -> equal, same hash code
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(seller, buyer));
+        Appointment copy = new Appointment(appointment.appointmentDatetime, seller.getId(), buyer.getId(), persons);
+        assertEquals(appointment, copy);
+        assertEquals(appointment.hashCode(), copy.hashCode());
+        assertTrue(new HashSet<>(List.of(appointment)).contains(copy));
+
+        // hash code unchanged by editing the persons involved
+        int hashCode = copy.hashCode();
+        persons.setPerson(seller, new PersonBuilder(seller).withName("Edited Seller").build());
+        assertEquals(hashCode, copy.hashCode());
+
+        // different buyer or no buyer -> not equal
+        Appointment noBuyer = new Appointment(appointment.appointmentDatetime, seller);
+        assertFalse(appointment.equals(noBuyer));
+        assertFalse(new HashSet<>(List.of(appointment)).contains(noBuyer));
+    }
+
+    @Test
+    public void getSeller_personNotInLookup_throwsPersonNotFoundException() {
+        Appointment appointment = new Appointment(FIONA_DANIEL_PAST.appointmentDatetime, FIONA.getId(),
+                DANIEL.getId(), new UniquePersonList());
+        assertThrows(PersonNotFoundException.class, appointment::getSeller);
+    }
+
+    @Test
+    public void getSellerAndBuyer_givenLookup_resolvedThroughGivenLookup() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(FIONA, DANIEL));
+        Appointment appointment = new Appointment(FIONA_DANIEL_PAST.appointmentDatetime, FIONA.getId(),
+                DANIEL.getId(), persons);
+        UniquePersonList otherPersons = new UniquePersonList();
+        otherPersons.setPersons(Arrays.asList(FIONA, DANIEL));
+        otherPersons.setPerson(FIONA, FIONA_EDITED);
+        otherPersons.setPerson(DANIEL, DANIEL_EDITED);
+
+        assertEquals(FIONA_EDITED, appointment.getSeller(otherPersons));
+        assertEquals(DANIEL_EDITED, appointment.getBuyer(otherPersons).get());
+        assertEquals(FIONA, appointment.getSeller());
+        assertThrows(PersonNotFoundException.class, () -> appointment.getSeller(new UniquePersonList()));
+    }
+
+    @Test
+    public void withCurrentPersons_personsEditedAndDeletedAfterwards_keepsPersons() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(FIONA, DANIEL));
+        Appointment appointment = new Appointment(FIONA_DANIEL_PAST.appointmentDatetime, FIONA.getId(),
+                DANIEL.getId(), persons);
+        Appointment copy = appointment.withCurrentPersons();
+
+        persons.setPerson(FIONA, FIONA_EDITED);
+        persons.remove(DANIEL);
+
+        assertEquals(appointment, copy);
+        assertEquals(FIONA, copy.getSeller());
+        assertEquals(DANIEL, copy.getBuyer().get());
+    }
+
+    @Test
+    public void toString_personDeleted_showsId() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(FIONA, DANIEL));
+        Appointment appointment = new Appointment(FIONA_DANIEL_PAST.appointmentDatetime, FIONA.getId(),
+                DANIEL.getId(), persons);
+
+        persons.remove(DANIEL);
+
+        assertEquals(FIONA_DANIEL_PAST.appointmentDatetime + ", Seller: " + FIONA.getName() + ", Buyer: #"
+                + DANIEL.getId().value, appointment.toString());
     }
 
     @Test
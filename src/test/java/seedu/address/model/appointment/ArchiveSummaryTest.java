@@ -0,0 +1,65 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ArchiveSummaryTest {
+
+    private static final LocalDateTime EARLIER = LocalDateTime.of(2023, 1, 5, 10, 0);
+    private static final LocalDateTime LATER = LocalDateTime.of(2023, 6, 1, 15, 30);
+
+    @Test
+    public void constructor_invalidSummary_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ArchiveSummary(-1, null, null));
+        assertThrows(IllegalArgumentException.class, () -> new ArchiveSummary(0, EARLIER, LATER));
+        assertThrows(IllegalArgumentException.class, () -> new ArchiveSummary(2, null, LATER));
+        assertThrows(IllegalArgumentException.class, () -> new ArchiveSummary(2, LATER, EARLIER));
+    }
+
+    @Test
+    public void isValidSummary() {
+        assertTrue(ArchiveSummary.isValidSummary(0, null, null));
+        assertTrue(ArchiveSummary.isValidSummary(1, EARLIER, EARLIER));
+        assertTrue(ArchiveSummary.isValidSummary(5, EARLIER, LATER));
+        assertFalse(ArchiveSummary.isValidSummary(1, EARLIER, null));
+        assertFalse(ArchiveSummary.isValidSummary(3, LATER, EARLIER));
+    }
+
+    @Test
+    public void with_appointments_widensSummary() {
+        Appointment later = new Appointment(new AppointmentDatetime("2023-06-01T15:30"), ALICE);
+        Appointment earlier = new Appointment(new AppointmentDatetime("2023-01-05T10:00"), BENSON);
+
+        ArchiveSummary summary = ArchiveSummary.EMPTY.with(List.of(later));
+        assertEquals(new ArchiveSummary(1, LATER, LATER), summary);
+        assertEquals(new ArchiveSummary(2, EARLIER, LATER), summary.with(List.of(earlier)));
+        assertEquals(summary, summary.with(List.of()));
+    }
+
+    @Test
+    public void isEmpty() {
+        assertTrue(ArchiveSummary.EMPTY.isEmpty());
+        assertFalse(new ArchiveSummary(1, EARLIER, EARLIER).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ArchiveSummary summary = new ArchiveSummary(2, EARLIER, LATER);
+
+        assertTrue(summary.equals(summary));
+        assertTrue(summary.equals(new ArchiveSummary(2, EARLIER, LATER)));
+        assertFalse(summary.equals(null));
+        assertFalse(summary.equals(5));
+        assertFalse(summary.equals(new ArchiveSummary(3, EARLIER, LATER)));
+        assertFalse(summary.equals(ArchiveSummary.EMPTY));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class CalendarPeriodTest {
+
+    // 2025-03-12 is a Wednesday
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 3, 12);
+
+    @Test
+    public void isValidCalendarPeriod() {
+        assertTrue(CalendarPeriod.isValidCalendarPeriod("day"));
+        assertTrue(CalendarPeriod.isValidCalendarPeriod(" WEEK "));
+        assertTrue(CalendarPeriod.isValidCalendarPeriod("Month"));
+        assertFalse(CalendarPeriod.isValidCalendarPeriod(""));
+        assertFalse(CalendarPeriod.isValidCalendarPeriod("year"));
+    }
+
+    @Test
+    public void fromString_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CalendarPeriod.fromString("fortnight"));
+    }
+
+    @Test
+    public void getStart() {
+        assertEquals(WEDNESDAY, CalendarPeriod.DAY.getStart(WEDNESDAY));
+        assertEquals(LocalDate.of(2025, 3, 10), CalendarPeriod.WEEK.getStart(WEDNESDAY));
+        assertEquals(LocalDate.of(2025, 3, 10), CalendarPeriod.WEEK.getStart(LocalDate.of(2025, 3, 10)));
+        assertEquals(LocalDate.of(2025, 3, 1), CalendarPeriod.MONTH.getStart(WEDNESDAY));
+    }
+
+    @Test
+    public void getNextStart() {
+        assertEquals(LocalDate.of(2025, 3, 13), CalendarPeriod.DAY.getNextStart(WEDNESDAY));
+        assertEquals(LocalDate.of(2025, 3, 17), CalendarPeriod.WEEK.getNextStart(WEDNESDAY));
+        assertEquals(LocalDate.of(2025, 4, 1), CalendarPeriod.MONTH.getNextStart(WEDNESDAY));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("week", CalendarPeriod.WEEK.toString());
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ScheduleTest {
+
+    private static final Appointment CARL_ALICE_NOON =
+            new Appointment(new AppointmentDatetime("2025-03-10T12:00"), CARL, ALICE);
+    private static final Appointment CARL_BENSON_HALF_PAST_TWELVE =
+            new Appointment(new AppointmentDatetime("2025-03-10T12:30"), CARL, BENSON);
+    private static final Appointment FIONA_ALICE_HALF_PAST_TWELVE =
+            new Appointment(new AppointmentDatetime("2025-03-10T12:30"), FIONA, ALICE);
+    private static final Appointment CARL_ONE = new Appointment(new AppointmentDatetime("2025-03-10T13:00"), CARL);
+    private static final Appointment FIONA_BENSON_NOON =
+            new Appointment(new AppointmentDatetime("2025-03-10T12:00"), FIONA, BENSON);
+
+    private final Schedule schedule = new Schedule();
+
+    @Test
+    public void setAppointmentDuration_notPositive_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> schedule.setAppointmentDuration(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> schedule.setAppointmentDuration(Duration.ofMinutes(-5)));
+    }
+
+    @Test
+    public void getAppointments_returnsAppointmentsOfPersonInOrder() {
+        schedule.add(CARL_ONE);
+        schedule.add(FIONA_BENSON_NOON);
+        schedule.add(CARL_BENSON_HALF_PAST_TWELVE);
+
+        assertEquals(List.of(CARL_BENSON_HALF_PAST_TWELVE, CARL_ONE), schedule.getAppointments(CARL.getId()));
+        assertEquals(List.of(FIONA_BENSON_NOON, CARL_BENSON_HALF_PAST_TWELVE),
+                schedule.getAppointments(BENSON.getId()));
+
+        schedule.remove(FIONA_BENSON_NOON);
+        assertEquals(List.of(), schedule.getAppointments(FIONA.getId()));
+    }
+
+    @Test
+    public void findConflicts_overlappingAppointmentsOfSamePersons_returnsThemInOrder() {
+        schedule.add(CARL_BENSON_HALF_PAST_TWELVE);
+        schedule.add(FIONA_ALICE_HALF_PAST_TWELVE);
+        schedule.add(CARL_ONE);
+        schedule.add(FIONA_BENSON_NOON);
+
+        // Carl at 12:30 and Alice at 12:30 overlap; Carl at 13:00 only starts as the appointment ends
+        assertEquals(List.of(CARL_BENSON_HALF_PAST_TWELVE, FIONA_ALICE_HALF_PAST_TWELVE),
+                schedule.findConflicts(CARL_ALICE_NOON));
+    }
+
+    @Test
+    public void findConflicts_excludesAppointmentItself() {
+        schedule.add(CARL_ALICE_NOON);
+        assertEquals(List.of(), schedule.findConflicts(CARL_ALICE_NOON));
+    }
+
+    @Test
+    public void findConflicts_longerDuration_findsMoreConflicts() {
+        schedule.add(CARL_ONE);
+        schedule.setAppointmentDuration(Duration.ofMinutes(90));
+        assertEquals(List.of(CARL_ONE), schedule.findConflicts(CARL_ALICE_NOON));
+    }
+
+    @Test
+    public void findConflicts_removedAppointment_notFound() {
+        schedule.add(CARL_BENSON_HALF_PAST_TWELVE);
+        schedule.remove(CARL_BENSON_HALF_PAST_TWELVE);
+        assertEquals(List.of(), schedule.findConflicts(CARL_ALICE_NOON));
+    }
+
+    @Test
+    public void findAllConflicts_returnsEveryPairOnce() {
+        schedule.add(CARL_ALICE_NOON);
+        schedule.add(CARL_BENSON_HALF_PAST_TWELVE);
+        schedule.add(FIONA_ALICE_HALF_PAST_TWELVE);
+        schedule.add(CARL_ONE);
+        schedule.add(FIONA_BENSON_NOON);
+
+        // Appointments at the same time may come in any order
+        assertEquals(Set.of(
+                new AppointmentConflict(CARL_ALICE_NOON, CARL_BENSON_HALF_PAST_TWELVE),
+                new AppointmentConflict(CARL_ALICE_NOON, FIONA_ALICE_HALF_PAST_TWELVE),
+                new AppointmentConflict(FIONA_BENSON_NOON, CARL_BENSON_HALF_PAST_TWELVE),
+                new AppointmentConflict(FIONA_BENSON_NOON, FIONA_ALICE_HALF_PAST_TWELVE),
+                new AppointmentConflict(CARL_BENSON_HALF_PAST_TWELVE, CARL_ONE)),
+                new HashSet<>(schedule.findAllConflicts()));
+        assertEquals(new AppointmentConflict(CARL_BENSON_HALF_PAST_TWELVE, CARL_ONE),
+                schedule.findAllConflicts().get(4));
+    }
+
+    @Test
+    public void findFreeSlots_busyPersons_returnsGapsBetweenTheirAppointments() {
+        schedule.add(CARL_ALICE_NOON);
+        schedule.add(FIONA_ALICE_HALF_PAST_TWELVE);
+        schedule.add(CARL_ONE);
+        TimeSlot afternoon = new TimeSlot(LocalDateTime.of(2025, 3, 10, 11, 0), LocalDateTime.of(2025, 3, 10, 17, 0));
+
+        // Carl and Alice are busy from 12:00 until 14:00
+        assertEquals(List.of(
+                new TimeSlot(LocalDateTime.of(2025, 3, 10, 11, 0), LocalDateTime.of(2025, 3, 10, 12, 0)),
+                new TimeSlot(LocalDateTime.of(2025, 3, 10, 14, 0), LocalDateTime.of(2025, 3, 10, 17, 0))),
+                schedule.findFreeSlots(List.of(CARL.getId(), ALICE.getId()), afternoon, Duration.ofMinutes(30), 5));
+
+        // Only slots long enough are returned, up to the limit
+        assertEquals(List.of(
+                new TimeSlot(LocalDateTime.of(2025, 3, 10, 14, 0), LocalDateTime.of(2025, 3, 10, 17, 0))),
+                schedule.findFreeSlots(List.of(CARL.getId(), ALICE.getId()), afternoon, Duration.ofMinutes(90), 5));
+        assertEquals(1,
+                schedule.findFreeSlots(List.of(CARL.getId(), ALICE.getId()), afternoon, Duration.ofMinutes(30), 1)
+                        .size());
+    }
+
+    @Test
+    public void findFreeSlots_appointmentBeforeRangeStillGoingOn_startsAfterIt() {
+        schedule.add(CARL_ALICE_NOON);
+        TimeSlot range = new TimeSlot(LocalDateTime.of(2025, 3, 10, 12, 30), LocalDateTime.of(2025, 3, 10, 14, 0));
+        assertEquals(List.of(new TimeSlot(LocalDateTime.of(2025, 3, 10, 13, 0), LocalDateTime.of(2025, 3, 10, 14, 0))),
+                schedule.findFreeSlots(List.of(ALICE.getId()), range, Duration.ofMinutes(60), 5));
+    }
+
+    @Test
+    public void findFreeSlots_manyAppointments_returnsEarliestSlotsOnly() {
+        // A full year of back-to-back appointments, with one free hour every day at 17:00
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int hour = 0; hour < 365 * 24; hour++) {
+            LocalDateTime datetime = start.plusHours(hour);
+            if (datetime.getHour() != 17) {
+                schedule.add(new Appointment(new AppointmentDatetime(datetime.toString()), CARL));
+            }
+        }
+        TimeSlot year = new TimeSlot(start, start.plusYears(1));
+        assertEquals(List.of(
+                new TimeSlot(start.withHour(17), start.withHour(18)),
+                new TimeSlot(start.plusDays(1).withHour(17), start.plusDays(1).withHour(18))),
+                schedule.findFreeSlots(List.of(CARL.getId()), year, Duration.ofHours(1), 2));
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeFrameSchedulerTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    private static final Appointment YESTERDAY = new Appointment(new AppointmentDatetime("2025-03-09T12:00"), CARL);
+    private static final Appointment NOON = new Appointment(new AppointmentDatetime("2025-03-10T12:00"), CARL, ALICE);
+    private static final Appointment AFTERNOON = new Appointment(new AppointmentDatetime("2025-03-10T15:30"), FIONA);
+    private static final Appointment TOMORROW = new Appointment(new AppointmentDatetime("2025-03-11T10:00"), FIONA);
+    private static final Appointment NEXT_WEEK = new Appointment(new AppointmentDatetime("2025-03-17T10:00"), CARL);
+
+    private final TimeFrameScheduler scheduler = new TimeFrameScheduler();
+
+    @Test
+    public void advance_firstTime_returnsNothing() {
+        scheduler.add(NOON);
+        assertEquals(LocalDateTime.MIN, scheduler.getNextChange());
+        assertEquals(List.of(), scheduler.advance(MORNING));
+    }
+
+    @Test
+    public void getNextChange_appointmentsLaterToday_returnsJustAfterNextAppointment() {
+        scheduler.add(YESTERDAY);
+        scheduler.add(AFTERNOON);
+        scheduler.add(NOON);
+        scheduler.advance(MORNING);
+        assertEquals(LocalDateTime.of(2025, 3, 10, 12, 0).plusNanos(1), scheduler.getNextChange());
+
+        scheduler.advance(LocalDateTime.of(2025, 3, 10, 13, 0));
+        assertEquals(LocalDateTime.of(2025, 3, 10, 15, 30).plusNanos(1), scheduler.getNextChange());
+    }
+
+    @Test
+    public void getNextChange_noAppointmentsLaterToday_returnsMidnight() {
+        scheduler.add(YESTERDAY);
+        scheduler.add(TOMORROW);
+        scheduler.advance(MORNING);
+        assertEquals(LocalDateTime.of(2025, 3, 11, 0, 0), scheduler.getNextChange());
+    }
+
+    @Test
+    public void advance_pastAppointments_returnsOnlyAppointmentsPassed() {
+        scheduler.add(YESTERDAY);
+        scheduler.add(NOON);
+        scheduler.add(AFTERNOON);
+        scheduler.add(TOMORROW);
+        scheduler.advance(MORNING);
+
+        assertEquals(List.of(), scheduler.advance(LocalDateTime.of(2025, 3, 10, 11, 0)));
+        assertEquals(List.of(NOON), scheduler.advance(LocalDateTime.of(2025, 3, 10, 12, 5)));
+
+        scheduler.remove(AFTERNOON);
+        assertEquals(List.of(), scheduler.advance(LocalDateTime.of(2025, 3, 10, 16, 0)));
+    }
+
+    @Test
+    public void advance_pastMidnight_returnsAppointmentsOfBothDays() {
+        scheduler.add(YESTERDAY);
+        scheduler.add(NOON);
+        scheduler.add(AFTERNOON);
+        scheduler.add(TOMORROW);
+        scheduler.add(NEXT_WEEK);
+        scheduler.advance(LocalDateTime.of(2025, 3, 10, 16, 0));
+
+        // Today's appointments stop being today's, and tomorrow's become today's
+        assertEquals(Set.of(NOON, AFTERNOON, TOMORROW),
+                new HashSet<>(scheduler.advance(LocalDateTime.of(2025, 3, 11, 0, 0))));
+    }
+
+    @Test
+    public void advance_clockSetBack_returnsAppointmentsMovedBack() {
+        scheduler.add(NOON);
+        scheduler.add(AFTERNOON);
+        scheduler.advance(LocalDateTime.of(2025, 3, 10, 13, 0));
+        assertEquals(List.of(NOON), scheduler.advance(MORNING));
+    }
+
+    @Test
+    public void findNext_appointmentsAfterTime_returnsEarliestMatchingFirst() {
+        scheduler.add(NEXT_WEEK);
+        scheduler.add(TOMORROW);
+        scheduler.add(YESTERDAY);
+        scheduler.add(AFTERNOON);
+        scheduler.add(NOON);
+
+        assertEquals(List.of(NOON, AFTERNOON), scheduler.findNext(MORNING, unused -> true, 2));
+        assertEquals(List.of(TOMORROW, NEXT_WEEK), scheduler.findNext(NOON.getAppointmentDatetime().datetime,
+                appointment -> appointment != AFTERNOON, 5));
+        assertEquals(List.of(), scheduler.findNext(MORNING, unused -> true, 0));
+    }
+
+    @Test
+    public void findNext_limitReached_stopsTestingAppointments() {
+        scheduler.add(NOON);
+        scheduler.add(AFTERNOON);
+        scheduler.add(TOMORROW);
+        List<Appointment> tested = new ArrayList<>();
+        scheduler.findNext(MORNING, appointment -> tested.add(appointment), 1);
+        assertEquals(List.of(NOON), tested);
+    }
+
+    @Test
+    public void findNext_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> scheduler.findNext(MORNING, unused -> true, -1));
+    }
+
+    @Test
+    public void findBefore_returnsEarlierAppointmentsInOrder() {
+        scheduler.add(TOMORROW);
+        scheduler.add(NOON);
+        scheduler.add(YESTERDAY);
+
+        assertEquals(List.of(YESTERDAY, NOON), scheduler.findBefore(TOMORROW.getAppointmentDatetime().datetime));
+        assertEquals(List.of(YESTERDAY), scheduler.findBefore(NOON.getAppointmentDatetime().datetime));
+        assertEquals(List.of(), scheduler.findBefore(MORNING.minusDays(2)));
+    }
+
+    @Test
+    public void clear_removesAllAppointments() {
+        scheduler.add(NOON);
+        scheduler.advance(MORNING);
+        scheduler.clear();
+        assertEquals(List.of(), scheduler.advance(LocalDateTime.of(2025, 3, 10, 13, 0)));
+    }
+}
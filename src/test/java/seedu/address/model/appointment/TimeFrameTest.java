@@ -0,0 +1,38 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeFrameTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    private final List<Appointment> appointments = Arrays.asList(
+            new Appointment(new AppointmentDatetime("2025-03-09T12:00"), FIONA),
+            new Appointment(new AppointmentDatetime("2025-03-12T09:00"), FIONA),
+            new Appointment(new AppointmentDatetime("2025-03-10T15:30"), FIONA));
+
+    @Test
+    public void matches_givenTime_matchesAtThatTime() {
+        Appointment yesterday = appointments.get(0);
+        Appointment laterToday = appointments.get(2);
+        assertTrue(TimeFrame.PAST.matches(yesterday, NOW));
+        assertTrue(TimeFrame.UPCOMING.matches(laterToday, NOW));
+        assertTrue(TimeFrame.TODAY.matches(laterToday, NOW));
+        assertFalse(TimeFrame.TODAY.matches(yesterday, NOW));
+
+        // later the same day
+        assertTrue(TimeFrame.PAST.matches(laterToday, NOW.plusHours(4)));
+        assertFalse(TimeFrame.UPCOMING.matches(laterToday, NOW.plusHours(4)));
+
+        // the next day
+        assertFalse(TimeFrame.TODAY.matches(laterToday, NOW.plusDays(1)));
+    }
+}
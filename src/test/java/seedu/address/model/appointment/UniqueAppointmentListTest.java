@@ -1,25 +1,32 @@
 package seedu.address.model.appointment;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.CARL_ELLE_UPCOMING;
+import static seedu.address.testutil.TypicalAppointments.FIONA_BENSON_TODAY;
 import static seedu.address.testutil.TypicalAppointments.FIONA_DANIEL_PAST;
 import static seedu.address.testutil.TypicalAppointments.FIONA_ELLE_PAST;
-import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalAppointments.FIONA_NOBUYER_PAST;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.DANIEL_EDITED;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
-import static seedu.address.testutil.TypicalPersons.FIONA_EDITED;
-import static seedu.address.testutil.TypicalPersons.GEORGE;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.UniquePersonList;
 
 public class UniqueAppointmentListTest {
 
@@ -72,49 +79,166 @@ public class UniqueAppointmentListTest {
     }
 
     @Test
-    public void updateAppointmentsWithPerson_updateBuyer_success() {
-        AppointmentDatetime datetime = new AppointmentDatetime("2025-01-01T00:00");
-        Appointment fionaDaniel = new Appointment(datetime, FIONA, DANIEL);
-        Appointment fionaDanielEdited = new Appointment(datetime, FIONA, DANIEL_EDITED);
+    public void add_listWithPersonLookup_resolvesPersonsThroughLookup() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(FIONA, DANIEL));
+        UniqueAppointmentList appointments = new UniqueAppointmentList(persons);
+        appointments.add(FIONA_DANIEL_PAST);
 
-        uniqueAppointmentList.add(fionaDaniel);
-        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
-        expectedUniqueAppointmentList.add(fionaDanielEdited);
-        uniqueAppointmentList.updateAppointmentsWithEditedPerson(DANIEL, DANIEL_EDITED);
-        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+        persons.setPerson(DANIEL, DANIEL_EDITED);
+
+        Appointment appointment = appointments.asUnmodifiableObservableList().get(0);
+        assertEquals(FIONA_DANIEL_PAST, appointment);
+        assertEquals(FIONA, appointment.getSeller());
+        assertEquals(DANIEL_EDITED, appointment.getBuyer().get());
     }
 
     @Test
-    public void updateAppointmentsWithPerson_updateSeller_success() {
-        AppointmentDatetime datetime = new AppointmentDatetime("2025-01-01T00:00");
-        Appointment fionaDaniel = new Appointment(datetime, FIONA, DANIEL);
-        Appointment fionaEditedDaniel = new Appointment(datetime, FIONA_EDITED, DANIEL);
+    public void findConflicts_afterChanges_findsCurrentAppointments() {
+        Appointment overlapping = new Appointment(new AppointmentDatetime(
+                FIONA_ELLE_PAST.getAppointmentDatetime().datetime.plusMinutes(30).toString()), FIONA);
+        uniqueAppointmentList.add(FIONA_ELLE_PAST);
+        assertEquals(List.of(FIONA_ELLE_PAST), uniqueAppointmentList.findConflicts(overlapping));
 
-        uniqueAppointmentList.add(fionaDaniel);
-        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
-        expectedUniqueAppointmentList.add(fionaEditedDaniel);
-        uniqueAppointmentList.updateAppointmentsWithEditedPerson(FIONA, FIONA_EDITED);
-        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+        uniqueAppointmentList.setAppointment(FIONA_ELLE_PAST, FIONA_DANIEL_PAST);
+        assertEquals(List.of(), uniqueAppointmentList.findConflicts(overlapping));
+
+        uniqueAppointmentList.setAppointments(List.of(FIONA_ELLE_PAST, overlapping));
+        assertEquals(List.of(new AppointmentConflict(FIONA_ELLE_PAST, overlapping)),
+                uniqueAppointmentList.findAllConflicts());
+
+        uniqueAppointmentList.remove(FIONA_ELLE_PAST);
+        assertEquals(List.of(), uniqueAppointmentList.findAllConflicts());
+    }
+
+    @Test
+    public void countAppointments_afterChanges_countsCurrentAppointments() {
+        LocalDate date = FIONA_ELLE_PAST.getAppointmentDatetime().datetime.toLocalDate();
+        uniqueAppointmentList.add(FIONA_ELLE_PAST);
+        assertArrayEquals(new int[] {1}, uniqueAppointmentList.countAppointments(CalendarPeriod.DAY, date, 1));
+
+        uniqueAppointmentList.setAppointment(FIONA_ELLE_PAST, CARL_ELLE_UPCOMING);
+        assertArrayEquals(new int[] {0}, uniqueAppointmentList.countAppointments(CalendarPeriod.DAY, date, 1));
+
+        uniqueAppointmentList.setAppointments(List.of(FIONA_ELLE_PAST, FIONA_DANIEL_PAST));
+        uniqueAppointmentList.removeAppointmentsWithPerson(DANIEL.getId());
+        assertArrayEquals(new int[] {1}, uniqueAppointmentList.countAppointments(CalendarPeriod.DAY, date, 1));
+
+        uniqueAppointmentList.remove(FIONA_ELLE_PAST);
+        assertArrayEquals(new int[] {0}, uniqueAppointmentList.countAppointments(CalendarPeriod.DAY, date, 1));
+    }
+
+    @Test
+    public void setAppointments_someAppointmentsKept_findsCurrentAppointments() {
+        Appointment overlapping = new Appointment(new AppointmentDatetime(
+                FIONA_ELLE_PAST.getAppointmentDatetime().datetime.plusMinutes(30).toString()), FIONA);
+        uniqueAppointmentList.setAppointments(List.of(FIONA_ELLE_PAST, CARL_ELLE_UPCOMING));
+
+        uniqueAppointmentList.setAppointments(List.of(CARL_ELLE_UPCOMING, overlapping));
+        assertEquals(List.of(), uniqueAppointmentList.findAllConflicts());
+
+        uniqueAppointmentList.setAppointments(List.of(overlapping, FIONA_ELLE_PAST, CARL_ELLE_UPCOMING));
+        assertEquals(List.of(new AppointmentConflict(FIONA_ELLE_PAST, overlapping)),
+                uniqueAppointmentList.findAllConflicts());
+
+        // positions of kept appointments follow their new places
+        uniqueAppointmentList.remove(overlapping);
+        uniqueAppointmentList.remove(CARL_ELLE_UPCOMING);
+        assertEquals(List.of(FIONA_ELLE_PAST), uniqueAppointmentList.asUnmodifiableObservableList());
     }
 
     @Test
-    public void updateAppointmentsWithPerson_updateNone_success() {
-        AppointmentDatetime datetime = new AppointmentDatetime("2025-01-01T00:00");
-        Appointment georgeBenson = new Appointment(datetime, GEORGE, BENSON);
+    public void updateAppointments_someAppointmentsReplaced_findsCurrentAppointments() {
+        Appointment overlapping = new Appointment(new AppointmentDatetime(
+                FIONA_ELLE_PAST.getAppointmentDatetime().datetime.plusMinutes(30).toString()), FIONA);
+        LocalDate date = FIONA_ELLE_PAST.getAppointmentDatetime().datetime.toLocalDate();
+        uniqueAppointmentList.setAppointments(List.of(FIONA_ELLE_PAST, CARL_ELLE_UPCOMING));
+
+        uniqueAppointmentList.updateAppointments(appointment ->
+                appointment.equals(FIONA_ELLE_PAST) ? FIONA_DANIEL_PAST : appointment);
+
+        assertEquals(List.of(FIONA_DANIEL_PAST, CARL_ELLE_UPCOMING),
+                uniqueAppointmentList.asUnmodifiableObservableList());
+        assertFalse(uniqueAppointmentList.contains(FIONA_ELLE_PAST));
+        assertEquals(List.of(), uniqueAppointmentList.findConflicts(overlapping));
+        assertArrayEquals(new int[] {0}, uniqueAppointmentList.countAppointments(CalendarPeriod.DAY, date, 1));
+        assertArrayEquals(new int[] {1}, uniqueAppointmentList.countAppointments(CalendarPeriod.DAY,
+                FIONA_DANIEL_PAST.getAppointmentDatetime().datetime.toLocalDate(), 1));
+
+        uniqueAppointmentList.remove(FIONA_DANIEL_PAST);
+        assertEquals(List.of(CARL_ELLE_UPCOMING), uniqueAppointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAppointments_someAppointments_othersKeptInOrder() {
+        uniqueAppointmentList.setAppointments(
+                Arrays.asList(FIONA_ELLE_PAST, FIONA_NOBUYER_PAST, CARL_ELLE_UPCOMING, FIONA_BENSON_TODAY));
+
+        uniqueAppointmentList.removeAppointmentsWithPerson(ELLE.getId());
+
+        assertEquals(Arrays.asList(FIONA_NOBUYER_PAST, FIONA_BENSON_TODAY),
+                uniqueAppointmentList.asUnmodifiableObservableList());
+        assertArrayEquals(new int[] {0}, uniqueAppointmentList.countAppointments(CalendarPeriod.DAY,
+                CARL_ELLE_UPCOMING.getAppointmentDatetime().datetime.toLocalDate(), 1));
+
+        // positions of the appointments after those removed follow their new places
+        uniqueAppointmentList.remove(FIONA_BENSON_TODAY);
+        assertEquals(Arrays.asList(FIONA_NOBUYER_PAST), uniqueAppointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void refreshAppointmentsWithPerson_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueAppointmentList.refreshAppointmentsWithPerson(null));
+    }
+
+    @Test
+    public void refreshAppointmentsWithPerson_manyAppointments_notifiesListenersOnce() {
+        List<Appointment> appointments =
+                Arrays.asList(FIONA_ELLE_PAST, CARL_ELLE_UPCOMING, FIONA_NOBUYER_PAST, FIONA_BENSON_TODAY);
+        uniqueAppointmentList.setAppointments(appointments);
+        AtomicInteger changeCount = new AtomicInteger();
+        AtomicInteger updatedCount = new AtomicInteger();
+        uniqueAppointmentList.asUnmodifiableObservableList().addListener((ListChangeListener<Appointment>) change -> {
+            changeCount.incrementAndGet();
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updatedCount.addAndGet(change.getTo() - change.getFrom());
+                }
+            }
+        });
+
+        uniqueAppointmentList.refreshAppointmentsWithPerson(FIONA.getId());
+
+        assertEquals(appointments, uniqueAppointmentList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.get());
+        assertEquals(3, updatedCount.get());
+    }
+
+    @Test
+    public void updateAppointments_resultHasDuplicates_throwsDuplicateAppointmentException() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(FIONA_ELLE_PAST, FIONA_DANIEL_PAST));
+        assertThrows(DuplicateAppointmentException.class, () ->
+                uniqueAppointmentList.updateAppointments(appointment -> FIONA_ELLE_PAST));
 
-        uniqueAppointmentList.add(georgeBenson);
         UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
-        expectedUniqueAppointmentList.add(georgeBenson);
-        uniqueAppointmentList.updateAppointmentsWithEditedPerson(FIONA, FIONA_EDITED);
+        expectedUniqueAppointmentList.setAppointments(Arrays.asList(FIONA_ELLE_PAST, FIONA_DANIEL_PAST));
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
     @Test
-    public void updateAppointmentsWithPerson_nullPerson_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () ->
-                uniqueAppointmentList.updateAppointmentsWithEditedPerson(null, FIONA_EDITED));
-        assertThrows(NullPointerException.class, () ->
-                uniqueAppointmentList.updateAppointmentsWithEditedPerson(FIONA, null));
+    public void removeAppointmentsWithPerson_manyAppointments_notifiesListenersOnce() {
+        uniqueAppointmentList.setAppointments(
+                Arrays.asList(FIONA_ELLE_PAST, CARL_ELLE_UPCOMING, FIONA_NOBUYER_PAST, FIONA_BENSON_TODAY));
+        AtomicInteger changeCount = new AtomicInteger();
+        uniqueAppointmentList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Appointment>) change -> changeCount.incrementAndGet());
+
+        uniqueAppointmentList.removeAppointmentsWithPerson(ELLE.getId());
+
+        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
+        expectedUniqueAppointmentList.setAppointments(Arrays.asList(FIONA_NOBUYER_PAST, FIONA_BENSON_TODAY));
+        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+        assertEquals(1, changeCount.get());
     }
 
     @Test
@@ -135,6 +259,51 @@ public class UniqueAppointmentListTest {
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
+    @Test
+    public void remove_firstOfManyAppointments_lastAppointmentTakesItsPlace() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(FIONA_ELLE_PAST, CARL_ELLE_UPCOMING, FIONA_BENSON_TODAY));
+        uniqueAppointmentList.remove(FIONA_ELLE_PAST);
+        assertEquals(Arrays.asList(FIONA_BENSON_TODAY, CARL_ELLE_UPCOMING),
+                uniqueAppointmentList.asUnmodifiableObservableList());
+        assertFalse(uniqueAppointmentList.contains(FIONA_ELLE_PAST));
+
+        // the moved appointment can still be found
+        uniqueAppointmentList.remove(FIONA_BENSON_TODAY);
+        assertEquals(Arrays.asList(CARL_ELLE_UPCOMING), uniqueAppointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAppointment_targetNotInList_throwsAppointmentNotFoundException() {
+        assertThrows(AppointmentNotFoundException.class, () ->
+                uniqueAppointmentList.setAppointment(FIONA_DANIEL_PAST, FIONA_DANIEL_PAST));
+    }
+
+    @Test
+    public void setAppointment_editedAppointmentInList_throwsDuplicateAppointmentException() {
+        uniqueAppointmentList.add(FIONA_DANIEL_PAST);
+        uniqueAppointmentList.add(FIONA_ELLE_PAST);
+        assertThrows(DuplicateAppointmentException.class, () ->
+                uniqueAppointmentList.setAppointment(FIONA_DANIEL_PAST, FIONA_ELLE_PAST));
+    }
+
+    @Test
+    public void setAppointment_uniqueEditedAppointment_replacesAppointmentInPlace() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(FIONA_ELLE_PAST, CARL_ELLE_UPCOMING));
+        uniqueAppointmentList.setAppointment(FIONA_ELLE_PAST, FIONA_DANIEL_PAST);
+        assertEquals(Arrays.asList(FIONA_DANIEL_PAST, CARL_ELLE_UPCOMING),
+                uniqueAppointmentList.asUnmodifiableObservableList());
+        assertFalse(uniqueAppointmentList.contains(FIONA_ELLE_PAST));
+        assertTrue(uniqueAppointmentList.contains(FIONA_DANIEL_PAST));
+    }
+
+    @Test
+    public void removeAppointmentsWithPerson_thenRemove_findsRemainingAppointments() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(FIONA_ELLE_PAST, CARL_ELLE_UPCOMING, FIONA_BENSON_TODAY));
+        uniqueAppointmentList.removeAppointmentsWithPerson(ELLE.getId());
+        uniqueAppointmentList.remove(FIONA_BENSON_TODAY);
+        assertEquals(new UniqueAppointmentList(), uniqueAppointmentList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.address.PropertyType;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonBucketsTest {
+
+    private static final Role BUYER = Role.of(Role.BUYER);
+    private static final Role SELLER = Role.of(Role.SELLER);
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonBuckets buckets = addressBook.getPersonBuckets();
+
+    @Test
+    public void getPersons_typicalPersons_returnsPersonsInBucket() {
+        assertEquals(Set.of(ALICE, BENSON), buckets.getPersons(PropertyType.HDB_2, BUYER));
+        assertEquals(Set.of(), buckets.getPersons(PropertyType.HDB_2, SELLER));
+        assertEquals(Set.of(ALICE, BENSON), buckets.getPersons(PropertyType.HDB_2));
+        assertEquals(Set.of(CARL), buckets.getPersons(PropertyType.HDB_3));
+        assertEquals(3, buckets.getPersons(SELLER).size());
+    }
+
+    @Test
+    public void count_typicalPersons_returnsBucketSizes() {
+        assertEquals(2, buckets.count(PropertyType.HDB_2, BUYER));
+        assertEquals(1, buckets.count(PropertyType.HDB_3, SELLER));
+        assertEquals(0, buckets.count(PropertyType.CONDO_5));
+        assertEquals(4, buckets.count(BUYER));
+        assertEquals(3, buckets.count(SELLER));
+    }
+
+    @Test
+    public void count_afterChanges_updatesBuckets() {
+        addressBook.removePerson(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withRole(Role.BUYER).withAddress("wall street", "HDB_2").build();
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.addPerson(new PersonBuilder().withPhone("61234567").withRole(Role.SELLER)
+                .withAddress("Bishan Street 22", "CONDO_5").build());
+
+        assertEquals(Set.of(BENSON, editedCarl), buckets.getPersons(PropertyType.HDB_2, BUYER));
+        assertEquals(0, buckets.count(PropertyType.HDB_3));
+        assertEquals(1, buckets.count(PropertyType.CONDO_5, SELLER));
+        assertEquals(4, buckets.count(BUYER));
+        assertEquals(3, buckets.count(SELLER));
+    }
+}
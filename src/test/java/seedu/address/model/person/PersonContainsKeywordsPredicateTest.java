@@ -81,4 +81,13 @@ public class PersonContainsKeywordsPredicateTest {
         String expected = PersonContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void normalize() {
+        PersonContainsKeywordsPredicate predicate =
+                new PersonContainsKeywordsPredicate(Arrays.asList("Bob", "alice", "BOB"));
+        PersonContainsKeywordsPredicate expected = new PersonContainsKeywordsPredicate(Arrays.asList("alice", "bob"));
+        assertEquals(expected, predicate.normalize());
+        assertEquals(expected.hashCode(), predicate.normalize().hashCode());
+    }
 }
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.address.PropertyType;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonFacetsTest {
+
+    private static final Role BUYER = Role.of(Role.BUYER);
+    private static final Role SELLER = Role.of(Role.SELLER);
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final FilteredList<Person> filteredPersons = new FilteredList<>(addressBook.getPersonList());
+    private final PersonFacets facets = new PersonFacets(filteredPersons);
+
+    @Test
+    public void count_allPersons_countsEveryBucket() {
+        assertEquals(2, facets.count(PropertyType.HDB_2, BUYER));
+        assertEquals(0, facets.count(PropertyType.HDB_2, SELLER));
+        assertEquals(1, facets.count(PropertyType.EC));
+        assertEquals(4, facets.count(BUYER));
+        assertEquals(3, facets.count(SELLER));
+    }
+
+    @Test
+    public void count_filterChanged_countsShownPersonsOnly() {
+        filteredPersons.setPredicate(Person::isSeller);
+        assertEquals(0, facets.count(PropertyType.HDB_2));
+        assertEquals(0, facets.count(BUYER));
+        assertEquals(3, facets.count(SELLER));
+
+        filteredPersons.setPredicate(person -> true);
+        assertEquals(4, facets.count(BUYER));
+    }
+
+    @Test
+    public void count_personsChanged_updatesCountsAndNotifiesListeners() {
+        int[] notifications = {0};
+        InvalidationListener listener = unused -> notifications[0]++;
+        facets.addListener(listener);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(new PersonBuilder().withPhone("61234567").withRole(Role.SELLER)
+                .withAddress("Bishan Street 22", "HDB_2").build());
+        assertEquals(1, facets.count(PropertyType.HDB_2, BUYER));
+        assertEquals(1, facets.count(PropertyType.HDB_2, SELLER));
+        assertEquals(2, notifications[0]);
+
+        facets.removeListener(listener);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertEquals(2, notifications[0]);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.address.Address;
+import seedu.address.model.person.address.AddressType;
+import seedu.address.model.person.address.PropertyType;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the heap retained by a large address book, to follow the savings from sharing
+ * {@code Tag}, {@code Role} and {@code AddressType} instances and from compact tag sets.
+ * Run with {@code gradlew benchmark}; the footprint depends on the JVM, so it is reported rather than checked.
+ */
+@org.junit.jupiter.api.Tag("benchmark")
+public class PersonFootprintTest {
+
+    private static final Logger logger = LogsCenter.getLogger(PersonFootprintTest.class);
+    private static final int PERSON_COUNT = 1_000_000;
+
+    private static final List<Set<Tag>> TAG_SETS = List.of(Set.of(), Set.of(new Tag("friends")),
+            Set.of(new Tag("colleagues"), new Tag("friends")), Set.of(new Tag("neighbours")));
+
+    @Test
+    public void footprint_millionPersons() {
+        long usedBefore = usedHeap();
+
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(createPerson(i));
+        }
+
+        long bytesPerPerson = (usedHeap() - usedBefore) / persons.size();
+        logger.info("Heap footprint: " + bytesPerPerson + " bytes per person at " + persons.size() + " persons");
+    }
+
+    private static Person createPerson(int i) {
+        PropertyType[] propertyTypes = PropertyType.values();
+        AddressType addressType = AddressType.of(propertyTypes[i % propertyTypes.length].name());
+        return new Person(new Name("Person " + i), new Phone(String.valueOf(80000000 + i)),
+                new Email("person" + i + "@example.com"), Role.of(i % 2 == 0 ? Role.BUYER : Role.SELLER),
+                new Address("Blk " + i + " Example Street", addressType), TAG_SETS.get(i % TAG_SETS.size()));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    @Test
+    public void isValidId() {
+        assertFalse(PersonId.isValidId(0));
+        assertFalse(PersonId.isValidId(-1));
+        assertTrue(PersonId.isValidId(1));
+        assertTrue(PersonId.isValidId(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void of_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersonId.of(0));
+        assertThrows(IllegalArgumentException.class, () -> PersonId.lookup(-1));
+    }
+
+    @Test
+    public void generate_afterIdLoaded_generatesLargerId() {
+        long loaded = PersonId.generate().value + 100;
+        assertEquals(loaded, PersonId.of(loaded).value);
+        assertTrue(PersonId.generate().value > loaded);
+    }
+
+    @Test
+    public void generate_afterIdLookedUp_unaffected() {
+        long lookedUp = Long.MAX_VALUE - 1;
+        assertEquals(lookedUp, PersonId.lookup(lookedUp).value);
+
+        PersonId generated = PersonId.generate();
+        assertTrue(generated.value < lookedUp);
+        assertTrue(PersonId.generate().value > generated.value);
+    }
+
+    @Test
+    public void generate_holdsTimeMade() {
+        long before = System.currentTimeMillis() - PersonId.EPOCH_MILLIS;
+        PersonId generated = PersonId.generate();
+
+        // Not the next number after the IDs loaded, which others sharing the data file would generate too
+        assertTrue(generated.value >> PersonId.RANDOM_BITS >= before);
+    }
+
+    @Test
+    public void equals() {
+        PersonId id = PersonId.lookup(5);
+
+        assertTrue(id.equals(id));
+        assertTrue(id.equals(PersonId.lookup(5)));
+        assertEquals(id.hashCode(), PersonId.lookup(5).hashCode());
+        assertFalse(id.equals(null));
+        assertFalse(id.equals(5L));
+        assertNotEquals(id, PersonId.lookup(6));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -59,6 +60,14 @@ public class RoleTest {
         assertTrue(new Role("SELLER").isSeller());
     }
 
+    @Test
+    public void of_sameRoleIgnoringCase_returnsSameInstance() {
+        assertSame(Role.of("buyer"), Role.of("BUYER"));
+        assertSame(Role.of("Seller"), Role.of("seller"));
+        assertEquals(new Role("seller"), Role.of("seller"));
+        assertThrows(IllegalArgumentException.class, () -> Role.of("agent"));
+    }
+
     @Test
     public void equals() {
         Role role = new Role("seller");
@@ -13,9 +13,11 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -164,6 +166,33 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void updatePersons_manyPersons_notifiesListenersOnce() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        AtomicInteger changeCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+
+        uniquePersonList.updatePersons(person -> new PersonBuilder(person).withTags(VALID_TAG_HUSBAND).build());
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(
+                new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build(),
+                new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build()));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(1, changeCount.get());
+    }
+
+    @Test
+    public void updatePersons_resultHasDuplicates_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.updatePersons(person -> ALICE));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -2,6 +2,7 @@ package seedu.address.model.person.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -84,6 +85,13 @@ public class AddressTest {
         assertTrue(AddressType.isValidType("COMMERCIAL_FH"));
     }
 
+    @Test
+    public void addressTypeOf_sameTypeIgnoringCase_returnsSameInstance() {
+        assertSame(AddressType.of("HDB_4"), AddressType.of("hdb_4"));
+        assertEquals(new AddressType(VALID_TYPE), AddressType.of(VALID_TYPE));
+        assertThrows(IllegalArgumentException.class, () -> AddressType.of(INVALID_TYPE));
+    }
+
     @Test
     public void equals() {
         AddressType type1 = new AddressType("HDB_4");
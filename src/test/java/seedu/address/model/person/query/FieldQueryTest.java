@@ -0,0 +1,66 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FieldQueryTest {
+
+    private static final Person PERSON = new PersonBuilder().withName("Alex Tan").withPhone("91234567")
+            .withRole("seller").withAddress("Blk 123 Bishan Street 11", "HDB_4").withTags("vip").build();
+
+    @Test
+    public void constructor_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FieldQuery(QueryField.NAME, ""));
+        assertThrows(IllegalArgumentException.class, () -> new FieldQuery(QueryField.NAME, "alex tan"));
+    }
+
+    @Test
+    public void test_matchingValue_returnsTrue() {
+        assertTrue(new FieldQuery(QueryField.NAME, "TAN").test(PERSON));
+        assertTrue(new FieldQuery(QueryField.PHONE, "91234567").test(PERSON));
+        assertTrue(new FieldQuery(QueryField.ROLE, "Seller").test(PERSON));
+        assertTrue(new FieldQuery(QueryField.PROPERTY_TYPE, "hdb_4").test(PERSON));
+        assertTrue(new FieldQuery(QueryField.TAG, "VIP").test(PERSON));
+        assertTrue(new FieldQuery(QueryField.ADDRESS, "bishan").test(PERSON));
+        assertTrue(new FieldQuery(QueryField.ANY, "vip").test(PERSON));
+        assertTrue(new FieldQuery(QueryField.ANY, "bishan").test(PERSON));
+    }
+
+    @Test
+    public void test_nonMatchingValue_returnsFalse() {
+        // value in another field
+        assertFalse(new FieldQuery(QueryField.NAME, "bishan").test(PERSON));
+        assertFalse(new FieldQuery(QueryField.ADDRESS, "alex").test(PERSON));
+
+        // only part of a word or number
+        assertFalse(new FieldQuery(QueryField.NAME, "Ale").test(PERSON));
+        assertFalse(new FieldQuery(QueryField.PHONE, "9123").test(PERSON));
+    }
+
+    @Test
+    public void test_combinedQueries() {
+        FieldQuery tagVip = new FieldQuery(QueryField.TAG, "vip");
+        FieldQuery roleBuyer = new FieldQuery(QueryField.ROLE, "buyer");
+        assertFalse(new AndQuery(List.of(tagVip, roleBuyer)).test(PERSON));
+        assertTrue(new OrQuery(List.of(tagVip, roleBuyer)).test(PERSON));
+        assertTrue(new AndQuery(List.of(tagVip, new NotQuery(roleBuyer))).test(PERSON));
+    }
+
+    @Test
+    public void equals() {
+        FieldQuery query = new FieldQuery(QueryField.NAME, "alex");
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(new FieldQuery(QueryField.NAME, "alex")));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(new FieldQuery(QueryField.ANY, "alex")));
+        assertFalse(query.equals(new FieldQuery(QueryField.NAME, "bob")));
+    }
+}
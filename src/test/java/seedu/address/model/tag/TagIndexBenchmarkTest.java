@@ -0,0 +1,78 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Times counting the persons matching a combination of tags in an address book of half a million persons,
+ * with the bitmaps of the tag index and by testing every person.
+ * Run with {@code gradlew benchmark}.
+ */
+@org.junit.jupiter.api.Tag("benchmark")
+public class TagIndexBenchmarkTest {
+
+    private static final Logger logger = LogsCenter.getLogger(TagIndexBenchmarkTest.class);
+
+    private static final int PERSON_COUNT = 500_000;
+    private static final int REPETITIONS = 20;
+    private static final String[] TAGS = {"friends", "family", "investor", "vip", "hdb", "condo", "landed",
+        "upgrader", "firstTimer", "urgent"};
+
+    @Test
+    public void count_halfMillionPersons() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(createPersons());
+        TagIndex index = addressBook.getTagIndex();
+
+        // (t/vip OR t/investor) AND NOT t/urgent
+        PersonQuery query = new AndQuery(List.of(
+                new OrQuery(List.of(new FieldQuery(QueryField.TAG, "vip"), new FieldQuery(QueryField.TAG, "investor"))),
+                new NotQuery(new FieldQuery(QueryField.TAG, "urgent"))));
+
+        int bitmapCount = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < REPETITIONS; i++) {
+            bitmapCount = index.count(query);
+        }
+        long bitmapElapsed = System.nanoTime() - start;
+
+        long scanCount = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < REPETITIONS; i++) {
+            scanCount = addressBook.getPersonList().stream().filter(query).count();
+        }
+        long scanElapsed = System.nanoTime() - start;
+
+        logger.info(String.format("Tag queries over %d persons: bitmaps %.1f us, scan %.1f us",
+                PERSON_COUNT, bitmapElapsed / 1000.0 / REPETITIONS, scanElapsed / 1000.0 / REPETITIONS));
+        assertEquals(scanCount, bitmapCount);
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Client " + i)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withTags(TAGS[i % TAGS.length], TAGS[i / TAGS.length % TAGS.length])
+                    .build());
+        }
+        return persons;
+    }
+}
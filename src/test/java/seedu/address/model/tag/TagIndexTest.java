@@ -0,0 +1,91 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final FieldQuery FRIENDS = new FieldQuery(QueryField.TAG, "friends");
+    private static final FieldQuery OWES_MONEY = new FieldQuery(QueryField.TAG, "OWESMONEY");
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final TagIndex index = addressBook.getTagIndex();
+
+    @Test
+    public void isTagQuery() {
+        assertTrue(TagIndex.isTagQuery(FRIENDS));
+        assertTrue(TagIndex.isTagQuery(new AndQuery(List.of(FRIENDS, new NotQuery(OWES_MONEY)))));
+        assertFalse(TagIndex.isTagQuery(new FieldQuery(QueryField.NAME, "friends")));
+        assertFalse(TagIndex.isTagQuery(new OrQuery(List.of(FRIENDS, new FieldQuery(QueryField.ANY, "friends")))));
+    }
+
+    @Test
+    public void findPersons_nonTagQuery_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findPersons(new FieldQuery(QueryField.NAME, "x")));
+        assertThrows(IllegalArgumentException.class, () -> index.count(new FieldQuery(QueryField.NAME, "x")));
+    }
+
+    @Test
+    public void findPersons_tagQueries_returnsMatchingPersons() {
+        assertMatches(FRIENDS, ALICE, BENSON, DANIEL);
+        assertMatches(OWES_MONEY, BENSON);
+        assertMatches(new AndQuery(List.of(FRIENDS, new NotQuery(OWES_MONEY))), ALICE, DANIEL);
+        assertMatches(new OrQuery(List.of(OWES_MONEY, new NotQuery(FRIENDS))), BENSON, CARL, ELLE, FIONA, GEORGE);
+        assertMatches(new FieldQuery(QueryField.TAG, "vip"));
+    }
+
+    @Test
+    public void count() {
+        assertEquals(3, index.count(Tag.of("friends")));
+        assertEquals(0, index.count(Tag.of("vip")));
+        assertEquals(4, index.count(new NotQuery(FRIENDS)));
+    }
+
+    @Test
+    public void findPersons_afterChanges_reflectsChanges() {
+        addressBook.removePerson(ALICE);
+        Person vip = new PersonBuilder().withPhone("61234567").withTags("vip", "friends").build();
+        addressBook.addPerson(vip);
+        Person editedCarl = new PersonBuilder(CARL).withTags("vip").build();
+        addressBook.setPerson(CARL, editedCarl);
+
+        assertMatches(FRIENDS, BENSON, DANIEL, vip);
+        assertMatches(new FieldQuery(QueryField.TAG, "vip"), editedCarl, vip);
+        assertEquals(5, index.count(new NotQuery(new FieldQuery(QueryField.TAG, "vip"))));
+
+        addressBook.setPersons(List.of());
+        assertEquals(0, index.count(new NotQuery(FRIENDS)));
+    }
+
+    private void assertMatches(PersonQuery query, Person... expectedPersons) {
+        Set<Person> expected = new HashSet<>(List.of(expectedPersons));
+        assertEquals(expected, new HashSet<>(index.findPersons(query)));
+        assertEquals(expected.size(), index.count(query));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final Set<Tag> hashSet = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues")));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_duplicateTags_keepsDistinctTags() {
+        TagSet tagSet = TagSet.of(Arrays.asList(new Tag("friends"), new Tag("friends"), new Tag("colleagues")));
+        assertEquals(2, tagSet.size());
+        assertEquals(List.of(Tag.of("colleagues"), Tag.of("friends")), List.copyOf(tagSet));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsSharedEmptySet() {
+        assertTrue(TagSet.of(new HashSet<>()).isEmpty());
+        assertSame(TagSet.of(new HashSet<>()), TagSet.of(List.of()));
+    }
+
+    @Test
+    public void of_tags_usesCanonicalInstances() {
+        TagSet tagSet = TagSet.of(hashSet);
+        for (Tag tag : tagSet) {
+            assertSame(Tag.of(tag.tagName), tag);
+        }
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(hashSet);
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(new Tag("family")));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(tagSet.contains(null));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(hashSet);
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+    }
+
+    @Test
+    public void equals() {
+        TagSet tagSet = TagSet.of(hashSet);
+
+        // same tags as a hash set -> returns true, both ways
+        assertTrue(tagSet.equals(hashSet));
+        assertTrue(hashSet.equals(tagSet));
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+
+        // different tags -> returns false
+        assertFalse(tagSet.equals(TagSet.of(List.of(new Tag("friends")))));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +20,18 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not alnum"));
+    }
+
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        assertSame(Tag.of("friend"), Tag.of("friend"));
+        assertSame(Tag.of("friend"), Tag.of(new String("friend")));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -2,22 +2,34 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -107,4 +119,159 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_fileNotSavedAgain() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, readFileVersion(filePath));
+        assertTrue(Files.exists(storage.getLockFilePath()));
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, readFileVersion(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherRecordsChangedByOthers_changesMerged() throws Exception {
+        Path filePath = testFolder.resolve("SharedAddressBook.json");
+        JsonAddressBookStorage first = new JsonAddressBookStorage(filePath);
+        first.saveAddressBook(getTypicalAddressBook());
+        JsonAddressBookStorage second = new JsonAddressBookStorage(filePath);
+        AddressBook secondBook = new AddressBook(second.readAddressBook().get());
+
+        AddressBook firstBook = new AddressBook(first.readAddressBook().get());
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        firstBook.setPerson(firstBook.findPerson(ALICE.getId()), editedAlice);
+        first.saveAddressBook(firstBook);
+
+        secondBook.addPerson(HOON);
+        ModelManager secondModel = new ModelManager(secondBook, new UserPrefs());
+        AddressBookChanges changes = second.saveAddressBook(secondBook);
+
+        assertEquals(List.of(editedAlice), changes.getUpdatedPersons());
+        assertEquals(0, changes.getRejectedCount());
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(saved.getPersonList().contains(editedAlice));
+        assertTrue(saved.getPersonList().contains(HOON));
+
+        secondModel.applyAddressBookChanges(changes);
+        assertEquals(new AddressBook(saved), secondModel.getAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_sameRecordChangedByOthers_changeRejected() throws Exception {
+        Path filePath = testFolder.resolve("SharedAddressBook.json");
+        JsonAddressBookStorage first = new JsonAddressBookStorage(filePath);
+        first.saveAddressBook(getTypicalAddressBook());
+        JsonAddressBookStorage second = new JsonAddressBookStorage(filePath);
+        AddressBook secondBook = new AddressBook(second.readAddressBook().get());
+
+        AddressBook firstBook = new AddressBook(first.readAddressBook().get());
+        Person aliceByFirst = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        firstBook.setPerson(firstBook.findPerson(ALICE.getId()), aliceByFirst);
+        first.saveAddressBook(firstBook);
+
+        Person aliceBySecond = new PersonBuilder(ALICE).withName("Alice Lim").build();
+        secondBook.setPerson(secondBook.findPerson(ALICE.getId()), aliceBySecond);
+        AddressBookChanges changes = second.saveAddressBook(secondBook);
+
+        assertEquals(1, changes.getRejectedCount());
+        assertEquals(List.of(aliceByFirst), changes.getUpdatedPersons());
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(firstBook), new AddressBook(saved));
+    }
+
+    @Test
+    public void saveAddressBook_personDeletedAfterOthersAddedAppointment_deletionRejected() throws Exception {
+        Path filePath = testFolder.resolve("SharedAddressBook.json");
+        JsonAddressBookStorage first = new JsonAddressBookStorage(filePath);
+        first.saveAddressBook(getTypicalAddressBook());
+        JsonAddressBookStorage second = new JsonAddressBookStorage(filePath);
+        AddressBook secondBook = new AddressBook(second.readAddressBook().get());
+
+        AddressBook firstBook = new AddressBook(first.readAddressBook().get());
+        Appointment appointment = new Appointment(new AppointmentDatetime("2030-01-01T10:00"), ALICE, BENSON);
+        firstBook.addAppointment(appointment);
+        first.saveAddressBook(firstBook);
+
+        secondBook.removePerson(secondBook.findPerson(ALICE.getId()));
+        AddressBookChanges changes = second.saveAddressBook(secondBook);
+
+        assertEquals(1, changes.getRejectedCount());
+        assertEquals(List.of(ALICE), changes.getUpdatedPersons());
+        assertTrue(changes.getAddedAppointments().contains(appointment));
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(saved.getPersonList().contains(ALICE));
+        assertEquals(firstBook.getAppointmentList().size(), saved.getAppointmentList().size());
+    }
+
+    @Test
+    public void saveAddressBook_differentPersonsAddedByBoth_bothKept() throws Exception {
+        Path filePath = testFolder.resolve("SharedAddressBook.json");
+        JsonAddressBookStorage first = new JsonAddressBookStorage(filePath);
+        first.saveAddressBook(getTypicalAddressBook());
+        JsonAddressBookStorage second = new JsonAddressBookStorage(filePath);
+        AddressBook secondBook = new AddressBook(second.readAddressBook().get());
+
+        AddressBook firstBook = new AddressBook(first.readAddressBook().get());
+        Person addedByFirst = new PersonBuilder().withName("Ken Ong").withPhone("81110001").build();
+        Appointment firstAppointment = new Appointment(new AppointmentDatetime("2030-01-01T10:00"), ALICE,
+                addedByFirst);
+        firstBook.addPerson(addedByFirst);
+        firstBook.addAppointment(firstAppointment);
+        first.saveAddressBook(firstBook);
+
+        Person addedBySecond = new PersonBuilder().withName("Lim Wei").withPhone("81110002").build();
+        Appointment secondAppointment = new Appointment(new AppointmentDatetime("2030-01-02T10:00"), ALICE,
+                addedBySecond);
+        secondBook.addPerson(addedBySecond);
+        secondBook.addAppointment(secondAppointment);
+        AddressBookChanges changes = second.saveAddressBook(secondBook);
+
+        assertEquals(0, changes.getRejectedCount());
+        assertEquals(List.of(addedByFirst), changes.getUpdatedPersons());
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(saved.getPersonList().containsAll(List.of(addedByFirst, addedBySecond)));
+        List<Appointment> savedAppointments = saved.getAppointmentList();
+        Appointment savedFirst = savedAppointments.get(savedAppointments.indexOf(firstAppointment));
+        Appointment savedSecond = savedAppointments.get(savedAppointments.indexOf(secondAppointment));
+        assertEquals(addedByFirst, savedFirst.getBuyer(saved.getPersonLookup()).get());
+        assertEquals(addedBySecond, savedSecond.getBuyer(saved.getPersonLookup()).get());
+    }
+
+    @Test
+    public void saveAddressBook_fileUnreadable_notSavedOver() throws Exception {
+        Path filePath = testFolder.resolve("SharedAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(filePath, "not json");
+
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        assertEquals("not json", Files.readString(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changesByOthersUnreadable_notSavedOver() throws Exception {
+        Path filePath = testFolder.resolve("SharedAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        String unreadable = "{ \"version\": 5, \"persons\": [ { \"name\": \"Alice\" } ] }";
+        Files.writeString(filePath, unreadable);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        assertEquals(unreadable, Files.readString(filePath));
+    }
+
+    private static long readFileVersion(Path filePath) throws IOException {
+        return JsonUtil.readJsonField(filePath, "version").get().asLong();
+    }
 }
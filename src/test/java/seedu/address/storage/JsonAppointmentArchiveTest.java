@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.appointment.ArchiveSummary;
+
+public class JsonAppointmentArchiveTest {
+
+    private static final Appointment ALICE_2022 =
+            new Appointment(new AppointmentDatetime("2022-04-01T10:00"), ALICE, BENSON);
+    private static final Appointment CARL_2021 = new Appointment(new AppointmentDatetime("2021-11-20T09:30"), CARL);
+    private static final Appointment BENSON_2023 =
+            new Appointment(new AppointmentDatetime("2023-02-14T16:00"), BENSON, CARL);
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void constructor_keepsFilesNextToDataFile() {
+        JsonAppointmentArchive archive = new JsonAppointmentArchive(testFolder.resolve("ClientSquare.json"));
+        assertEquals(testFolder.resolve("ClientSquare.archive.gz"), archive.getArchiveFilePath());
+        assertEquals(testFolder.resolve("ClientSquare.archive.json"), archive.getSummaryFilePath());
+    }
+
+    @Test
+    public void getSummary_noArchiveFile_returnsEmptySummary() {
+        JsonAppointmentArchive archive = new JsonAppointmentArchive(testFolder.resolve("ClientSquare.json"));
+        assertEquals(ArchiveSummary.EMPTY, archive.getSummary());
+    }
+
+    @Test
+    public void find_noArchiveFile_returnsEmptyList() throws Exception {
+        JsonAppointmentArchive archive = new JsonAppointmentArchive(testFolder.resolve("ClientSquare.json"));
+        assertEquals(List.of(), archive.find(addressBook::findPerson, unused -> true));
+    }
+
+    @Test
+    public void append_severalTimes_findsAllInOrder() throws Exception {
+        JsonAppointmentArchive archive = new JsonAppointmentArchive(testFolder.resolve("ClientSquare.json"));
+        archive.append(List.of(ALICE_2022, BENSON_2023));
+        archive.append(List.of(CARL_2021));
+
+        assertEquals(List.of(CARL_2021, ALICE_2022, BENSON_2023),
+                archive.find(addressBook::findPerson, unused -> true));
+        assertEquals(List.of(ALICE_2022), archive.find(addressBook::findPerson, a -> a.isPersonSeller(ALICE)));
+        assertEquals(new ArchiveSummary(3, CARL_2021.getAppointmentDatetime().datetime,
+                BENSON_2023.getAppointmentDatetime().datetime), archive.getSummary());
+    }
+
+    @Test
+    public void find_personNoLongerExists_skipsAppointment() throws Exception {
+        JsonAppointmentArchive archive = new JsonAppointmentArchive(testFolder.resolve("ClientSquare.json"));
+        archive.append(List.of(ALICE_2022, CARL_2021, BENSON_2023));
+        addressBook.removePerson(CARL);
+
+        assertEquals(List.of(ALICE_2022), archive.find(addressBook::findPerson, unused -> true));
+    }
+
+    @Test
+    public void getSummary_reopened_readsSavedSummary() throws Exception {
+        Path dataFile = testFolder.resolve("ClientSquare.json");
+        JsonAppointmentArchive archive = new JsonAppointmentArchive(dataFile);
+        archive.append(List.of(ALICE_2022, CARL_2021));
+        assertTrue(Files.exists(archive.getSummaryFilePath()));
+
+        assertEquals(archive.getSummary(), new JsonAppointmentArchive(dataFile).getSummary());
+    }
+
+    @Test
+    public void getSummary_summaryFileMissingOrStale_summarisesArchive() throws Exception {
+        Path dataFile = testFolder.resolve("ClientSquare.json");
+        JsonAppointmentArchive archive = new JsonAppointmentArchive(dataFile);
+        archive.append(List.of(ALICE_2022));
+        Path staleSummary = testFolder.resolve("stale.json");
+        Files.copy(archive.getSummaryFilePath(), staleSummary);
+        archive.append(List.of(CARL_2021));
+        ArchiveSummary expectedSummary = new ArchiveSummary(2, LocalDateTime.of(2021, 11, 20, 9, 30),
+                LocalDateTime.of(2022, 4, 1, 10, 0));
+
+        // summary written before the last append
+        Files.copy(staleSummary, archive.getSummaryFilePath(), StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(expectedSummary, new JsonAppointmentArchive(dataFile).getSummary());
+
+        // no summary
+        Files.delete(archive.getSummaryFilePath());
+        assertEquals(expectedSummary, new JsonAppointmentArchive(dataFile).getSummary());
+        assertTrue(Files.exists(archive.getSummaryFilePath()));
+    }
+
+    @Test
+    public void find_corruptArchive_throwsDataLoadingException() throws Exception {
+        JsonAppointmentArchive archive = new JsonAppointmentArchive(testFolder.resolve("ClientSquare.json"));
+        Files.writeString(archive.getArchiveFilePath(), "not compressed");
+
+        assertThrows(DataLoadingException.class, () -> archive.find(addressBook::findPerson, unused -> true));
+        assertTrue(archive.getSummary().isEmpty());
+        assertFalse(Files.exists(archive.getSummaryFilePath()));
+    }
+}
@@ -69,7 +69,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Role} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withRole(String role) {
-        descriptor.setRole(new Role(role));
+        descriptor.setRole(Role.of(role));
         return this;
     }
 
@@ -77,7 +77,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Address} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withAddress(String address, String addressType) {
-        descriptor.setAddress(new Address(address, new AddressType(addressType)));
+        descriptor.setAddress(new Address(address, AddressType.of(addressType)));
         return this;
     }
 
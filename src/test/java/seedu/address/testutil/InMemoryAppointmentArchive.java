@@ -0,0 +1,60 @@
+package seedu.address.testutil;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.model.appointment.ArchiveSummary;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * An {@code AppointmentArchive} that keeps the archived appointments in memory, for testing code that archives
+ * appointments without touching the file system.
+ */
+public class InMemoryAppointmentArchive implements AppointmentArchive {
+
+    private final List<Appointment> appointments = new ArrayList<>();
+    private ArchiveSummary summary = ArchiveSummary.EMPTY;
+
+    /**
+     * Returns the archived appointments, in the order they were archived.
+     */
+    public List<Appointment> getAppointments() {
+        return Collections.unmodifiableList(appointments);
+    }
+
+    @Override
+    public ArchiveSummary getSummary() {
+        return summary;
+    }
+
+    @Override
+    public void append(List<Appointment> toAppend) {
+        requireNonNull(toAppend);
+        appointments.addAll(toAppend);
+        summary = summary.with(toAppend);
+    }
+
+    @Override
+    public List<Appointment> find(Function<PersonId, Person> findPerson, Predicate<Appointment> predicate) {
+        requireNonNull(findPerson);
+        requireNonNull(predicate);
+        List<Appointment> found = new ArrayList<>();
+        for (Appointment appointment : appointments) {
+            boolean hasPersons = findPerson.apply(appointment.getSellerId()) != null
+                    && appointment.getBuyerId().map(id -> findPerson.apply(id) != null).orElse(true);
+            if (hasPersons && predicate.test(appointment)) {
+                found.add(appointment);
+            }
+        }
+        Collections.sort(found);
+        return found;
+    }
+}
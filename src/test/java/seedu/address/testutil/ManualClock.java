@@ -0,0 +1,58 @@
+package seedu.address.testutil;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A {@code Clock} that stays at the time it is set to until it is moved on, for testing code that depends on the
+ * current time.
+ */
+public class ManualClock extends Clock {
+
+    private Instant instant;
+
+    /**
+     * Creates a clock in UTC that shows {@code dateTime}.
+     */
+    public ManualClock(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        this.instant = dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Moves the clock on by {@code duration}.
+     */
+    public void advance(Duration duration) {
+        requireNonNull(duration);
+        instant = instant.plus(duration);
+    }
+
+    /**
+     * Sets the clock to show {@code dateTime}.
+     */
+    public void set(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        instant = dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -39,8 +39,8 @@ public class PersonBuilder {
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
-        role = new Role(DEFAULT_ROLE);
-        address = new Address(DEFAULT_ADDRESS, new AddressType(DEFAULT_ADDRESS_TYPE));
+        role = Role.of(DEFAULT_ROLE);
+        address = new Address(DEFAULT_ADDRESS, AddressType.of(DEFAULT_ADDRESS_TYPE));
         tags = new HashSet<>();
     }
 
@@ -76,7 +76,7 @@ public class PersonBuilder {
      * Sets the {@code Address} of the {@code Person} that we are building.
      */
     public PersonBuilder withAddress(String address, String addressType) {
-        this.address = new Address(address, new AddressType(addressType));
+        this.address = new Address(address, AddressType.of(addressType));
         return this;
     }
 
@@ -92,7 +92,7 @@ public class PersonBuilder {
      * Sets the {@code Role} of the {@code Person} that we are building.
      */
     public PersonBuilder withRole(String role) {
-        this.role = new Role(role);
+        this.role = Role.of(role);
         return this;
     }
 
@@ -0,0 +1,26 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class AppointmentHeatStripTest {
+
+    @Test
+    public void getHeatLevel() {
+        // no appointments -> coldest
+        assertEquals(0, AppointmentHeatStrip.getHeatLevel(0, 0));
+        assertEquals(0, AppointmentHeatStrip.getHeatLevel(0, 10));
+
+        // any appointment -> warmer than none
+        assertEquals(1, AppointmentHeatStrip.getHeatLevel(1, 10));
+
+        // as busy as the busiest day -> hottest
+        assertEquals(AppointmentHeatStrip.HEAT_LEVELS, AppointmentHeatStrip.getHeatLevel(10, 10));
+        assertEquals(AppointmentHeatStrip.HEAT_LEVELS, AppointmentHeatStrip.getHeatLevel(1, 1));
+
+        // in between -> scaled up to the next level
+        assertEquals(2, AppointmentHeatStrip.getHeatLevel(5, 10));
+        assertEquals(3, AppointmentHeatStrip.getHeatLevel(6, 10));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandQueueTest {
+
+    private static final CommandResult RESULT = new CommandResult("done");
+
+    private final List<Runnable> commandTasks = new ArrayList<>();
+    private final List<Runnable> fxThreadTasks = new ArrayList<>();
+    private final List<Integer> pendingCounts = new ArrayList<>();
+    private final List<String> shown = new ArrayList<>();
+    private final CommandQueue commandQueue = new CommandQueue(this::runCommand, commandTasks::add,
+            fxThreadTasks::add, pendingCounts::add);
+
+    @Test
+    public void submit_successfulCommand_countBroughtDownWhenResultShown() {
+        CompletableFuture<CommandResult> future = submit("list");
+        assertEquals(1, commandQueue.getPendingCount());
+        assertEquals(List.of(1), pendingCounts);
+
+        // Still pending until the result is shown on the JavaFX application thread
+        runTasks(commandTasks);
+        assertEquals(1, commandQueue.getPendingCount());
+        assertFalse(future.isDone());
+
+        runTasks(fxThreadTasks);
+        assertEquals(0, commandQueue.getPendingCount());
+        assertEquals(List.of(1, 0), pendingCounts);
+        assertEquals(List.of("result: done"), shown);
+        assertSame(RESULT, future.join());
+    }
+
+    @Test
+    public void submit_failingCommands_countBroughtDownWhenErrorShown() {
+        CompletableFuture<CommandResult> invalidCommand = submit("invalid");
+        CompletableFuture<CommandResult> unexpectedError = submit("crash");
+        assertEquals(List.of(1, 2), pendingCounts);
+
+        runTasks(commandTasks);
+        runTasks(fxThreadTasks);
+        assertEquals(0, commandQueue.getPendingCount());
+        assertEquals(List.of(1, 2, 1, 0), pendingCounts);
+        assertEquals(List.of("failure: unknown command", "failure: crashed"), shown);
+        assertTrue(invalidCommand.isCompletedExceptionally());
+        assertTrue(unexpectedError.isCompletedExceptionally());
+    }
+
+    @Test
+    public void submit_commandsQueued_runInOrderEntered() {
+        submit("list");
+        submit("invalid");
+        submit("list");
+        assertEquals(3, commandQueue.getPendingCount());
+
+        runTasks(commandTasks);
+        runTasks(fxThreadTasks);
+        assertEquals(List.of(1, 2, 3, 2, 1, 0), pendingCounts);
+        assertEquals(List.of("result: done", "failure: unknown command", "result: done"), shown);
+    }
+
+    private CompletableFuture<CommandResult> submit(String commandText) {
+        return commandQueue.submit(commandText, result -> shown.add("result: " + result.getFeedbackToUser()),
+                e -> shown.add("failure: " + e.getMessage()));
+    }
+
+    private CommandResult runCommand(String commandText) throws CommandException, ParseException {
+        switch (commandText) {
+        case "list":
+            return RESULT;
+        case "invalid":
+            throw new ParseException("unknown command");
+        default:
+            throw new IllegalStateException("crashed");
+        }
+    }
+
+    private static void runTasks(List<Runnable> tasks) {
+        List<Runnable> toRun = new ArrayList<>(tasks);
+        tasks.clear();
+        toRun.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.util.BatchedObservableList;
+
+public class FxThreadListTest {
+
+    private final BatchedObservableList<String> source = new BatchedObservableList<>();
+    private final List<Runnable> fxThreadTasks = new ArrayList<>();
+
+    @Test
+    public void constructor_nonEmptySource_copiesSource() {
+        source.addAll(List.of("a", "b"));
+        FxThreadList<String> copy = new FxThreadList<>(source, fxThreadTasks::add);
+
+        assertEquals(List.of("a", "b"), copy.asUnmodifiableObservableList());
+        assertEquals(List.of(), fxThreadTasks);
+    }
+
+    @Test
+    public void sourceChanged_additionsAndRemovals_replayedOnlyOnFxThread() {
+        source.addAll(List.of("a", "b", "c"));
+        ObservableList<String> copy = new FxThreadList<>(source, fxThreadTasks::add).asUnmodifiableObservableList();
+
+        source.add("d");
+        source.remove("a");
+        source.add(1, "e");
+        assertEquals(List.of("a", "b", "c"), copy);
+
+        runFxThreadTasks();
+        assertEquals(source, copy);
+        assertEquals(List.of("b", "e", "c", "d"), copy);
+    }
+
+    @Test
+    public void sourceChanged_replacementsAndSingleChanges_replayed() {
+        source.addAll(List.of("a", "b", "c", "d"));
+        ObservableList<String> copy = new FxThreadList<>(source, fxThreadTasks::add).asUnmodifiableObservableList();
+
+        source.set(1, "x");
+        source.runAsSingleChange(() -> {
+            source.set(0, "d");
+            source.remove(3);
+            source.add("y");
+        });
+        source.clear();
+        source.addAll(List.of("p", "q"));
+
+        runFxThreadTasks();
+        assertEquals(List.of("p", "q"), copy);
+    }
+
+    @Test
+    public void sourceChanged_update_copiesWholeSource() {
+        source.addAll(List.of("a", "b"));
+        ObservableList<String> copy = new FxThreadList<>(source, fxThreadTasks::add).asUnmodifiableObservableList();
+
+        source.runAsSingleChange(() -> {
+            source.add("c");
+            source.update(0);
+        });
+
+        runFxThreadTasks();
+        assertEquals(List.of("a", "b", "c"), copy);
+    }
+
+    @Test
+    public void sourceChanged_mapper_mapsOnSourceThread() {
+        source.addAll(List.of("a", "b"));
+        List<String> mappedOnSourceThread = new ArrayList<>();
+        ObservableList<String> copy = new FxThreadList<String>(source, element -> {
+            mappedOnSourceThread.add(element);
+            return element.toUpperCase();
+        }, fxThreadTasks::add).asUnmodifiableObservableList();
+
+        source.add("c");
+        assertEquals(List.of("a", "b", "c"), mappedOnSourceThread);
+
+        runFxThreadTasks();
+        assertEquals(List.of("A", "B", "C"), copy);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        ObservableList<String> copy = new FxThreadList<>(source, fxThreadTasks::add).asUnmodifiableObservableList();
+        assertThrows(UnsupportedOperationException.class, () -> copy.add("a"));
+    }
+
+    private void runFxThreadTasks() {
+        List<Runnable> tasks = new ArrayList<>(fxThreadTasks);
+        fxThreadTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
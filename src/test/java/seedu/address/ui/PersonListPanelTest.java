@@ -0,0 +1,35 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFacets;
+import seedu.address.model.person.Role;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListPanelTest {
+
+    @Test
+    public void getFacetsSummary() {
+        ObservableList<Person> persons = FXCollections.observableArrayList();
+        PersonFacets personFacets = new PersonFacets(persons);
+
+        // no persons -> no property types
+        assertEquals(String.format(PersonListPanel.FACETS_SUMMARY_FORMAT, 0, 0),
+                PersonListPanel.getFacetsSummary(personFacets));
+
+        // property types in declaration order, those without persons left out
+        persons.add(new PersonBuilder().withPhone("80000001").withRole(Role.SELLER)
+                .withAddress("1 Main Street", "CONDO_3").build());
+        persons.add(new PersonBuilder().withPhone("80000002").withRole(Role.SELLER)
+                .withAddress("2 Main Street", "HDB_4").build());
+        persons.add(new PersonBuilder().withPhone("80000003").withRole(Role.BUYER)
+                .withAddress("3 Main Street", "HDB_4").build());
+        assertEquals(String.format(PersonListPanel.FACETS_SUMMARY_FORMAT, 2, 1) + " | HDB_4: 2, CONDO_3: 1",
+                PersonListPanel.getFacetsSummary(personFacets));
+    }
+}
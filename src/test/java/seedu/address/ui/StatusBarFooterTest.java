@@ -0,0 +1,21 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class StatusBarFooterTest {
+
+    @Test
+    public void getCommandStatus() {
+        // no commands pending -> idle
+        assertEquals(StatusBarFooter.IDLE_STATUS, StatusBarFooter.getCommandStatus(0));
+
+        // one command pending -> running it
+        assertEquals(StatusBarFooter.BUSY_STATUS, StatusBarFooter.getCommandStatus(1));
+
+        // more commands pending -> the others are queued
+        assertEquals(String.format(StatusBarFooter.BUSY_WITH_QUEUE_STATUS_FORMAT, 2),
+                StatusBarFooter.getCommandStatus(3));
+    }
+}